@@ -0,0 +1,108 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import oracle.kubernetes.operator.DomainStatusUpdater.DomainStatusUpdaterStep;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+
+/**
+ * Measures the computation of a domain's status from its server pods, server states and topology, and the
+ * comparison with its previous status which decides whether the status must be replaced. This is done at
+ * the end of every make-right and after every change in server health, and in the common case follows a change
+ * to a single server, such as a pod becoming ready.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainStatusBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  public int servers;
+
+  private final DomainStatusUpdaterStep statusUpdateStep
+      = (DomainStatusUpdaterStep) DomainStatusUpdater.createStatusUpdateStep(null);
+  private Packet packet;
+  private V1PodCondition changingReadyCondition;
+
+  /**
+   * Creates a domain of the specified size with all of its servers running, and records its status.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment.initialize();
+    final DomainFixtures fixtures = new DomainFixtures(servers);
+    final DomainPresenceInfo info = fixtures.createDomainPresenceInfo();
+    final WlsDomainConfig domainConfig = fixtures.createDomainConfig();
+    fixtures.createServerPods(info, domainConfig);
+
+    packet = DomainFixtures.createPacket(info, domainConfig);
+    packet.put(SERVER_STATE_MAP, fixtures.createServerStates(RUNNING_STATE));
+    packet.put(SERVER_HEALTH_MAP, createServerHealth(fixtures));
+    info.getDomain().setStatus(computeStatus());
+    changingReadyCondition = getReadyCondition(info.getServerPod(fixtures.getManagedServerNames().get(0)));
+  }
+
+  private Map<String, ServerHealth> createServerHealth(DomainFixtures fixtures) {
+    final Map<String, ServerHealth> health = new HashMap<>();
+    final OffsetDateTime activationTime = OffsetDateTime.now();
+    fixtures.createServerStates(RUNNING_STATE).keySet().forEach(name ->
+        health.put(name, new ServerHealth().withOverallHealth("ok").withActivationTime(activationTime)));
+    return health;
+  }
+
+  // the fixtures give each pod a single condition, which reports it ready
+  private V1PodCondition getReadyCondition(V1Pod pod) {
+    return pod.getStatus().getConditions().get(0);
+  }
+
+  @Benchmark
+  public DomainStatus computeStatus() {
+    return statusUpdateStep.createContext(packet).getNewStatus();
+  }
+
+  @Benchmark
+  public boolean isStatusUnchanged() {
+    return statusUpdateStep.createContext(packet).isStatusUnchanged();
+  }
+
+  /**
+   * Recomputes the status after the readiness of one server pod has changed.
+   */
+  @Benchmark
+  public DomainStatus computeStatusAfterPodChange() {
+    changingReadyCondition.setStatus("True".equals(changingReadyCondition.getStatus()) ? "False" : "True");
+    return computeStatus();
+  }
+}
@@ -0,0 +1,122 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two sets of JMH results, written with "-rf json", and reports the change in each score. A result
+ * is a regression if it is worse than the baseline by more than the threshold: slower for the time modes, or
+ * lower for throughput. Usage:
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar oracle.kubernetes.operator.benchmarks.BenchmarkComparison \
+ *       baseline.json current.json [threshold-percent]
+ * </pre>
+ *
+ * <p>Exits with status 1 if any benchmark regressed, so that the comparison may gate a build.
+ */
+public class BenchmarkComparison {
+
+  static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+  private static final String THROUGHPUT_MODE = "thrpt";
+
+  private final Map<String, Score> baseline;
+  private final Map<String, Score> current;
+  private final double thresholdPercent;
+
+  record Score(String mode, double value, String unit) {
+  }
+
+  BenchmarkComparison(Map<String, Score> baseline, Map<String, Score> current, double thresholdPercent) {
+    this.baseline = baseline;
+    this.current = current;
+    this.thresholdPercent = thresholdPercent;
+  }
+
+  /**
+   * Compares the JMH results in two files.
+   * @param args the baseline file, the current file, and optionally the regression threshold in percent
+   * @throws IOException if unable to read either file
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent]");
+      System.exit(2);
+    }
+
+    final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+    final BenchmarkComparison comparison
+        = new BenchmarkComparison(readScores(Path.of(args[0])), readScores(Path.of(args[1])), threshold);
+    if (comparison.report(System.out) > 0) {
+      System.exit(1);
+    }
+  }
+
+  static Map<String, Score> readScores(Path path) throws IOException {
+    return readScores(new ObjectMapper().readTree(path.toFile()));
+  }
+
+  static Map<String, Score> readScores(JsonNode results) {
+    final Map<String, Score> scores = new TreeMap<>();
+    for (JsonNode result : results) {
+      final JsonNode primaryMetric = result.get("primaryMetric");
+      scores.put(getKey(result), new Score(result.get("mode").asText(),
+          primaryMetric.get("score").asDouble(), primaryMetric.get("scoreUnit").asText()));
+    }
+    return scores;
+  }
+
+  // the benchmark name, qualified by its parameters, if any
+  private static String getKey(JsonNode result) {
+    final StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+    final JsonNode params = result.get("params");
+    if (params != null) {
+      final Map<String, String> sortedParams = new TreeMap<>();
+      params.fields().forEachRemaining(e -> sortedParams.put(e.getKey(), e.getValue().asText()));
+      sortedParams.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+    }
+    return key.toString();
+  }
+
+  /**
+   * Prints the change in each benchmark present in both sets of results, and returns the number of regressions.
+   * @param out the destination of the report
+   */
+  int report(PrintStream out) {
+    int regressions = 0;
+    for (Map.Entry<String, Score> entry : current.entrySet()) {
+      final Score before = baseline.get(entry.getKey());
+      final Score after = entry.getValue();
+      if (before == null) {
+        out.printf("%-80s %12.3f %-8s (new)%n", entry.getKey(), after.value(), after.unit());
+      } else {
+        final double change = getPercentChange(before, after);
+        final boolean regressed = isRegression(after.mode(), change);
+        if (regressed) {
+          regressions++;
+        }
+        out.printf("%-80s %12.3f %-8s %+7.1f%%%s%n",
+            entry.getKey(), after.value(), after.unit(), change, regressed ? "  REGRESSION" : "");
+      }
+    }
+    out.printf("%d regression(s) beyond %.1f%%%n", regressions, thresholdPercent);
+    return regressions;
+  }
+
+  private static double getPercentChange(Score before, Score after) {
+    return before.value() == 0 ? 0 : 100.0 * (after.value() - before.value()) / before.value();
+  }
+
+  private boolean isRegression(String mode, double percentChange) {
+    return THROUGHPUT_MODE.equals(mode) ? percentChange < -thresholdPercent : percentChange > thresholdPercent;
+  }
+}
@@ -0,0 +1,75 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * Prepares the process-wide state on which the operator code depends: the tuning parameters and the operator
+ * logger. Tuning parameters are read only once in a JVM, so benchmarks which compare different tuning values
+ * must rely on JMH running each parameter combination in its own fork (the default).
+ */
+public class BenchmarkEnvironment {
+
+  private static final String OPERATOR_LOGGER = "Operator";
+
+  // retained so that the logger configuration is not garbage-collected
+  private static final Logger operatorLogger = Logger.getLogger(OPERATOR_LOGGER);
+
+  private BenchmarkEnvironment() {
+  }
+
+  /**
+   * Initializes the tuning parameters with their default values.
+   */
+  public static void initialize() {
+    initialize(Map.of());
+  }
+
+  /**
+   * Initializes the tuning parameters with the specified values, and silences the operator logger so that
+   * logging does not distort the measurements. Has no effect on the tuning parameters if they were already
+   * initialized in this JVM.
+   * @param tuningValues a map of tuning parameter names to their values
+   */
+  public static synchronized void initialize(Map<String, String> tuningValues) {
+    operatorLogger.setLevel(Level.OFF);
+    if (TuningParameters.getInstance() == null) {
+      TuningParameters.initializeInstance(createScheduler(), createTuningDirectory(tuningValues));
+    }
+  }
+
+  private static ScheduledExecutorService createScheduler() {
+    return Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "benchmark-tuning");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static File createTuningDirectory(Map<String, String> tuningValues) {
+    try {
+      final Path directory = Files.createTempDirectory("benchmark-tuning");
+      directory.toFile().deleteOnExit();
+      for (Map.Entry<String, String> entry : tuningValues.entrySet()) {
+        final Path file = Files.writeString(directory.resolve(entry.getKey()), entry.getValue());
+        file.toFile().deleteOnExit();
+      }
+      return directory.toFile();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
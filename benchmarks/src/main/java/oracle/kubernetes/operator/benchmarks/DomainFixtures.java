@@ -0,0 +1,244 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Builds the domain resources, WebLogic topologies and packets used by the benchmarks. A domain of a given
+ * number of managed servers is divided into clusters of at most {@link #MAX_CLUSTER_SIZE} servers, each with
+ * its own cluster resource, so that the fixtures resemble the large domains seen in production.
+ */
+public class DomainFixtures {
+
+  public static final String NAMESPACE = "benchmark-ns";
+  public static final String DOMAIN_UID = "benchmark-domain";
+  public static final String ADMIN_SERVER = "admin-server";
+  public static final int ADMIN_PORT = 7001;
+  public static final int MANAGED_SERVER_PORT = 8001;
+  public static final int MAX_CLUSTER_SIZE = 50;
+  private static final String IMAGE = "container-registry.oracle.com/middleware/weblogic:14.1.1.0";
+  private static final int ENV_VARS_PER_SPEC = 10;
+
+  private final int numClusters;
+  private final int serversPerCluster;
+
+  /**
+   * Creates fixtures for a domain with the specified number of managed servers.
+   * @param numManagedServers the total number of managed servers in the domain's clusters
+   */
+  public DomainFixtures(int numManagedServers) {
+    this.numClusters = Math.max(1, (numManagedServers + MAX_CLUSTER_SIZE - 1) / MAX_CLUSTER_SIZE);
+    this.serversPerCluster = Math.max(1, numManagedServers / numClusters);
+  }
+
+  public int getNumClusters() {
+    return numClusters;
+  }
+
+  public int getServersPerCluster() {
+    return serversPerCluster;
+  }
+
+  public static String getClusterName(int clusterIndex) {
+    return "cluster-" + clusterIndex;
+  }
+
+  public static String getManagedServerName(int clusterIndex, int serverIndex) {
+    return getClusterName(clusterIndex) + "-ms-" + serverIndex;
+  }
+
+  /**
+   * Returns the names of all the managed servers in the domain.
+   */
+  public List<String> getManagedServerNames() {
+    final List<String> names = new ArrayList<>();
+    for (int c = 1; c <= numClusters; c++) {
+      for (int s = 1; s <= serversPerCluster; s++) {
+        names.add(getManagedServerName(c, s));
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Creates a domain resource which references a cluster resource for each cluster.
+   */
+  public DomainResource createDomain() {
+    final DomainSpec spec = new DomainSpec()
+        .withDomainUid(DOMAIN_UID)
+        .withImage(IMAGE)
+        .withIncludeServerOutInPodLog(true)
+        .withWebLogicCredentialsSecret(new V1LocalObjectReference().name(DOMAIN_UID + "-weblogic-credentials"));
+    spec.setEnv(createEnvironment("DOMAIN"));
+    for (int c = 1; c <= numClusters; c++) {
+      spec.withCluster(new V1LocalObjectReference().name(getClusterResourceName(c)));
+    }
+
+    return new DomainResource()
+        .withApiVersion(KubernetesConstants.DOMAIN_GROUP + "/" + KubernetesConstants.DOMAIN_VERSION)
+        .withKind(KubernetesConstants.DOMAIN)
+        .withMetadata(new V1ObjectMeta().name(DOMAIN_UID).namespace(NAMESPACE).generation(1L)
+            .creationTimestamp(OffsetDateTime.now()))
+        .withSpec(spec)
+        .withStatus(new DomainStatus());
+  }
+
+  private static String getClusterResourceName(int clusterIndex) {
+    return DOMAIN_UID + "-" + getClusterName(clusterIndex);
+  }
+
+  private List<V1EnvVar> createEnvironment(String prefix) {
+    final List<V1EnvVar> env = new ArrayList<>();
+    for (int i = 1; i <= ENV_VARS_PER_SPEC; i++) {
+      env.add(new V1EnvVar().name(prefix + "_VAR_" + i).value("value-" + i));
+    }
+    return env;
+  }
+
+  /**
+   * Creates the cluster resources referenced by the domain, each starting all of its servers.
+   */
+  public List<ClusterResource> createClusterResources() {
+    final List<ClusterResource> clusters = new ArrayList<>();
+    for (int c = 1; c <= numClusters; c++) {
+      final ClusterSpec spec = new ClusterSpec().withClusterName(getClusterName(c)).withReplicas(serversPerCluster);
+      spec.setEnv(createEnvironment("CLUSTER"));
+      clusters.add(new ClusterResource()
+          .withMetadata(new V1ObjectMeta().name(getClusterResourceName(c)).namespace(NAMESPACE)
+              .generation(1L).resourceVersion("1"))
+          .spec(spec));
+    }
+    return clusters;
+  }
+
+  /**
+   * Creates the WebLogic configuration of the domain, as reported by the introspector.
+   */
+  public WlsDomainConfig createDomainConfig() {
+    final WlsDomainConfig domainConfig = new WlsDomainConfig(DOMAIN_UID)
+        .withAdminServer(ADMIN_SERVER, ADMIN_SERVER + "-host", ADMIN_PORT);
+    for (int c = 1; c <= numClusters; c++) {
+      final WlsClusterConfig clusterConfig = new WlsClusterConfig(getClusterName(c));
+      for (int s = 1; s <= serversPerCluster; s++) {
+        final String serverName = getManagedServerName(c, s);
+        clusterConfig.addServerConfig(new WlsServerConfig(serverName, serverName + "-host", MANAGED_SERVER_PORT));
+      }
+      domainConfig.withCluster(clusterConfig);
+    }
+    return domainConfig;
+  }
+
+  /**
+   * Returns the topology YAML which the introspector would report for this domain.
+   * @throws JsonProcessingException if unable to convert the topology
+   */
+  public String createTopologyYaml() throws JsonProcessingException {
+    return new ObjectMapper(new YAMLFactory())
+        .writerWithDefaultPrettyPrinter()
+        .writeValueAsString(createDomainConfig().toTopology());
+  }
+
+  /**
+   * Creates a domain presence info for the domain and its cluster resources.
+   */
+  public DomainPresenceInfo createDomainPresenceInfo() {
+    final DomainPresenceInfo info = new DomainPresenceInfo(createDomain());
+    createClusterResources().forEach(info::addClusterResource);
+    return info;
+  }
+
+  /**
+   * Creates a packet describing a make-right of the domain, with the domain topology.
+   * @param info the domain presence info of the domain
+   * @param domainConfig the WebLogic configuration of the domain
+   */
+  public static Packet createPacket(DomainPresenceInfo info, WlsDomainConfig domainConfig) {
+    final Packet packet = new Packet();
+    packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
+    packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainConfig);
+    return packet;
+  }
+
+  /**
+   * Creates a packet from which the pod for the specified managed server may be created.
+   * @param info the domain presence info of the domain
+   * @param domainConfig the WebLogic configuration of the domain
+   * @param clusterName the cluster containing the server
+   * @param serverName the name of the server
+   */
+  public static Packet createServerPacket(
+      DomainPresenceInfo info, WlsDomainConfig domainConfig, String clusterName, String serverName) {
+    final Packet packet = createPacket(info, domainConfig);
+    packet.put(ProcessingConstants.CLUSTER_NAME, clusterName);
+    packet.put(ProcessingConstants.SERVER_SCAN, domainConfig.getClusterConfig(clusterName).getServerConfigs().stream()
+        .filter(serverConfig -> serverConfig.getName().equals(serverName))
+        .findFirst()
+        .orElseThrow());
+    return packet;
+  }
+
+  /**
+   * Creates the pods for all the managed servers, marked as ready, and records them in the domain presence info
+   * as the servers started by the last make-right.
+   * @param info the domain presence info of the domain
+   * @param domainConfig the WebLogic configuration of the domain
+   */
+  public void createServerPods(DomainPresenceInfo info, WlsDomainConfig domainConfig) {
+    final List<ServerStartupInfo> startupInfos = new ArrayList<>();
+    for (int c = 1; c <= numClusters; c++) {
+      final String clusterName = getClusterName(c);
+      for (int s = 1; s <= serversPerCluster; s++) {
+        final String serverName = getManagedServerName(c, s);
+        final Packet packet = createServerPacket(info, domainConfig, clusterName, serverName);
+        final V1Pod pod = PodHelper.createManagedServerPodModel(packet);
+        pod.status(new V1PodStatus().phase("Running")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+        info.setServerPod(serverName, pod);
+        startupInfos.add(new ServerStartupInfo(
+            packet.getValue(ProcessingConstants.SERVER_SCAN), clusterName, info.getServer(serverName, clusterName)));
+      }
+    }
+    info.setServerStartupInfo(startupInfos);
+  }
+
+  /**
+   * Returns a map of each managed server name to the specified WebLogic server state.
+   * @param state the state, such as RUNNING
+   */
+  public Map<String, String> createServerStates(String state) {
+    final Map<String, String> states = new HashMap<>();
+    states.put(ADMIN_SERVER, state);
+    getManagedServerNames().forEach(name -> states.put(name, state));
+    return states;
+  }
+}
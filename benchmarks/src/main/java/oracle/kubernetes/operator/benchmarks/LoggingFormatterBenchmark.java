@@ -0,0 +1,60 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import oracle.kubernetes.operator.logging.OperatorLoggingFormatter;
+import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the formatting of an operator log message as JSON, with and without a domain logging context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingFormatterBenchmark {
+
+  private final OperatorLoggingFormatter formatter = new OperatorLoggingFormatter();
+
+  @Benchmark
+  public String formatMessage() {
+    return formatter.format(createLogRecord());
+  }
+
+  /**
+   * Formats a message logged while processing a domain.
+   */
+  @Benchmark
+  @SuppressWarnings("try")
+  public String formatMessageInDomainContext() {
+    try (ThreadLoggingContext ignored = ThreadLoggingContext.setThreadContext()
+          .namespace(DomainFixtures.NAMESPACE).domainUid(DomainFixtures.DOMAIN_UID)) {
+      return formatter.format(createLogRecord());
+    }
+  }
+
+  private LogRecord createLogRecord() {
+    final LogRecord logRecord = new LogRecord(Level.INFO, "Server {0} of domain {1} is ready");
+    logRecord.setParameters(new Object[] {"managed-server1", DomainFixtures.DOMAIN_UID});
+    logRecord.setLoggerName("Operator");
+    logRecord.setSourceClassName(LoggingFormatterBenchmark.class.getName());
+    logRecord.setSourceMethodName("createLogRecord");
+    return logRecord;
+  }
+}
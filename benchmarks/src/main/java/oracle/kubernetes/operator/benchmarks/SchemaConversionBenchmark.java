@@ -0,0 +1,85 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.common.utils.SchemaConversionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of a v8 domain resource to the current schema, as done by the conversion webhook
+ * for every read of a domain stored in the old version. The domain defines its clusters and managed
+ * servers inline, as v8 domains do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaConversionBenchmark {
+
+  @Param({"2", "20"})
+  public int clusters;
+
+  private String domainYaml;
+
+  @Setup
+  public void setUp() {
+    domainYaml = createV8DomainYaml(clusters);
+  }
+
+  private static String createV8DomainYaml(int numClusters) {
+    final StringBuilder yaml = new StringBuilder()
+        .append("apiVersion: \"weblogic.oracle/v8\"\n")
+        .append("kind: Domain\n")
+        .append("metadata:\n")
+        .append("  name: ").append(DomainFixtures.DOMAIN_UID).append('\n')
+        .append("  namespace: ").append(DomainFixtures.NAMESPACE).append('\n')
+        .append("spec:\n")
+        .append("  domainHomeSourceType: FromModel\n")
+        .append("  image: \"container-registry.oracle.com/middleware/weblogic:12.2.1.4\"\n")
+        .append("  webLogicCredentialsSecret:\n")
+        .append("    name: ").append(DomainFixtures.DOMAIN_UID).append("-weblogic-credentials\n")
+        .append("  serverStartPolicy: IF_NEEDED\n")
+        .append("  serverPod:\n")
+        .append("    env:\n")
+        .append("    - name: JAVA_OPTIONS\n")
+        .append("      value: \"-Dweblogic.StdoutDebugEnabled=false\"\n")
+        .append("  adminServer:\n")
+        .append("    serverStartState: \"RUNNING\"\n")
+        .append("  managedServers:\n");
+    for (int c = 1; c <= numClusters; c++) {
+      yaml.append("  - serverName: ").append(DomainFixtures.getManagedServerName(c, 1)).append('\n')
+          .append("    serverStartPolicy: ALWAYS\n");
+    }
+    yaml.append("  clusters:\n");
+    for (int c = 1; c <= numClusters; c++) {
+      yaml.append("  - clusterName: ").append(DomainFixtures.getClusterName(c)).append('\n')
+          .append("    serverStartState: \"RUNNING\"\n")
+          .append("    replicas: 2\n")
+          .append("    serverPod:\n")
+          .append("      env:\n")
+          .append("      - name: CLUSTER_INDEX\n")
+          .append("        value: \"").append(c).append("\"\n");
+    }
+    return yaml.toString();
+  }
+
+  @Benchmark
+  public String convertDomain() {
+    return SchemaConversionUtils.create().convertDomainSchema(domainYaml);
+  }
+}
@@ -0,0 +1,5 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+/** JMH benchmarks of the operator's hot paths, and the fixtures and tools which support them. */
+package oracle.kubernetes.operator.benchmarks;
@@ -0,0 +1,178 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.lang.reflect.Type;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the decoding of pod watch events by the client's stock converter with the operator's selective watch
+ * decoding. Each event is a managed server pod as the API server reports it, with the managed-field entries of
+ * the operator, the kubelet and the scheduler. The reported score is events decoded per second; run with
+ * {@code -prof gc} to compare the memory allocated per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WatchDecodingBenchmark {
+
+  private static final int EVENTS = 1_000;
+  private static final String POD_HASH = "9c56cc51b374c3ba189210d5b6d4bf57790d351c96c47c02190ecf1e430635ab";
+  private static final Type POD_EVENT_TYPE = TypeToken.getParameterized(Watch.Response.class, V1Pod.class).getType();
+
+  private final List<String> events = new ArrayList<>();
+  private final JSON stockJson = new JSON();
+  private final JSON selectiveJson = new JSON();
+
+  /**
+   * Creates the pod events to be decoded, and the two converters.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment.initialize();
+    selectiveJson.setGson(WatchDecoding.createGson(selectiveJson.getGson()));
+    for (int i = 0; i < EVENTS; i++) {
+      events.add(stockJson.serialize(new Watch.Response<>("MODIFIED", createPod(i))));
+    }
+  }
+
+  private V1Pod createPod(int i) {
+    final String serverName = DomainFixtures.getManagedServerName(i / DomainFixtures.MAX_CLUSTER_SIZE,
+          i % DomainFixtures.MAX_CLUSTER_SIZE);
+    return new V1Pod()
+          .metadata(new V1ObjectMeta()
+                .name(DomainFixtures.DOMAIN_UID + "-" + serverName)
+                .namespace(DomainFixtures.NAMESPACE)
+                .uid("3f2c9a6e-0000-4000-8000-" + String.format("%012d", i))
+                .resourceVersion(Integer.toString(100_000 + i))
+                .putLabelsItem(LabelConstants.DOMAINUID_LABEL, DomainFixtures.DOMAIN_UID)
+                .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName)
+                .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, DomainFixtures.getClusterName(0))
+                .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+                .putAnnotationsItem("weblogic.sha256", POD_HASH)
+                .managedFields(List.of(
+                      createManagedFields("weblogic-operator", "Apply", null),
+                      createManagedFields("kube-scheduler", "Update", "status"),
+                      createManagedFields("kubelet", "Update", "status"))))
+          .spec(new V1PodSpec()
+                .nodeName("worker-" + (i % 20))
+                .containers(List.of(new V1Container()
+                      .name("weblogic-server")
+                      .image("container-registry.oracle.com/middleware/weblogic:14.1.1.0-11")
+                      .env(createEnv(serverName))
+                      .volumeMounts(List.of(
+                            new V1VolumeMount().name("weblogic-scripts-cm-volume")
+                                  .mountPath("/weblogic-operator/scripts"),
+                            new V1VolumeMount().name("weblogic-domain-debug-cm-volume")
+                                  .mountPath("/weblogic-operator/debug")))))
+                .volumes(List.of(
+                      new V1Volume().name("weblogic-scripts-cm-volume"),
+                      new V1Volume().name("weblogic-domain-debug-cm-volume"))))
+          .status(new V1PodStatus()
+                .phase("Running")
+                .startTime(OffsetDateTime.parse("2024-05-01T10:15:30Z"))
+                .conditions(List.of(
+                      new V1PodCondition().type("Ready").status("True"),
+                      new V1PodCondition().type("ContainersReady").status("True"),
+                      new V1PodCondition().type("PodScheduled").status("True")))
+                .containerStatuses(List.of(new V1ContainerStatus()
+                      .name("weblogic-server").ready(true).restartCount(0)
+                      .image("container-registry.oracle.com/middleware/weblogic:14.1.1.0-11"))));
+  }
+
+  private V1ManagedFieldsEntry createManagedFields(String manager, String operation, String subresource) {
+    return new V1ManagedFieldsEntry()
+          .manager(manager)
+          .operation(operation)
+          .subresource(subresource)
+          .apiVersion("v1")
+          .fieldsType("FieldsV1")
+          .time(OffsetDateTime.parse("2024-05-01T10:15:30Z"))
+          .fieldsV1(createFieldSet());
+  }
+
+  // the field sets recorded by server-side apply mirror the structure of the fields they own
+  private Object createFieldSet() {
+    return stockJson.deserialize("""
+          {"f:metadata":{"f:labels":{"f:weblogic.domainUID":{},"f:weblogic.serverName":{},
+          "f:weblogic.clusterName":{},"f:weblogic.createdByOperator":{}},"f:annotations":{"f:weblogic.sha256":{}}},
+          "f:spec":{"f:containers":{"k:{\\"name\\":\\"weblogic-server\\"}":{".":{},"f:env":{},"f:image":{},
+          "f:name":{},"f:volumeMounts":{}}},"f:volumes":{}},
+          "f:status":{"f:conditions":{"k:{\\"type\\":\\"Ready\\"}":{".":{},"f:status":{},"f:type":{}}}}}
+          """, Object.class);
+  }
+
+  private List<V1EnvVar> createEnv(String serverName) {
+    final List<V1EnvVar> env = new ArrayList<>();
+    env.add(new V1EnvVar().name("DOMAIN_NAME").value("base_domain"));
+    env.add(new V1EnvVar().name("DOMAIN_HOME").value("/u01/oracle/user_projects/domains/base_domain"));
+    env.add(new V1EnvVar().name("DOMAIN_UID").value(DomainFixtures.DOMAIN_UID));
+    env.add(new V1EnvVar().name("SERVER_NAME").value(serverName));
+    env.add(new V1EnvVar().name("ADMIN_NAME").value(DomainFixtures.ADMIN_SERVER));
+    env.add(new V1EnvVar().name("ADMIN_PORT").value(Integer.toString(DomainFixtures.ADMIN_PORT)));
+    env.add(new V1EnvVar().name("LOG_HOME").value("/shared/logs/" + DomainFixtures.DOMAIN_UID));
+    env.add(new V1EnvVar().name("USER_MEM_ARGS").value("-Djava.security.egd=file:/dev/./urandom"));
+    return env;
+  }
+
+  /**
+   * Decodes the events with the client's stock converter.
+   * @param blackhole the destination of the decoded events
+   */
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void stockDecoding(Blackhole blackhole) {
+    for (String event : events) {
+      blackhole.consume(stockJson.<Watch.Response<V1Pod>>deserialize(event, POD_EVENT_TYPE));
+    }
+  }
+
+  /**
+   * Decodes the events with selective watch decoding.
+   * @param blackhole the destination of the decoded events
+   */
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void selectiveDecoding(Blackhole blackhole) {
+    for (String event : events) {
+      blackhole.consume(selectiveJson.<Watch.Response<V1Pod>>deserialize(event, POD_EVENT_TYPE));
+    }
+  }
+}
@@ -0,0 +1,204 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+
+/**
+ * Reports the heap retained by the server pods which the operator caches, without and with the compaction applied
+ * by {@link DomainPresenceInfo}. Each pod is decoded separately from the JSON which the API server would return,
+ * so that, as in a running operator, no two pods share a string. Heap use is a retained size rather than a rate,
+ * so this is a tool rather than a JMH benchmark. Usage:
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar oracle.kubernetes.operator.helpers.CachedPodHeapUsage [pods...]
+ * </pre>
+ *
+ * <p>The pod counts default to 10000 and 50000. Run with a fixed heap, such as {@code -Xms4g -Xmx4g}, for stable
+ * results.
+ */
+public class CachedPodHeapUsage {
+
+  private static final int[] DEFAULT_POD_COUNTS = {10_000, 50_000};
+  private static final int PODS_PER_DOMAIN = 1_000;
+  private static final String IMAGE = "container-registry.oracle.com/middleware/weblogic:14.1.1.0-11";
+  private static final double MEGABYTE = 1024.0 * 1024.0;
+  private static final String SERVER_NAME = "@server-name@";
+
+  private final JSON json = new JSON();
+
+  /**
+   * Reports the heap retained by the cached pods for each pod count.
+   * @param args the pod counts
+   */
+  public static void main(String[] args) {
+    BenchmarkEnvironment.initialize();
+    final int[] podCounts = args.length == 0
+          ? DEFAULT_POD_COUNTS : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+    new CachedPodHeapUsage().report(System.out, podCounts);
+  }
+
+  void report(PrintStream out, int[] podCounts) {
+    out.printf("%10s %16s %16s %8s%n", "pods", "uncompacted (MB)", "compacted (MB)", "change");
+    for (int podCount : podCounts) {
+      final double uncompacted = measureRetainedHeap(() -> cacheUncompacted(podCount));
+      final double compacted = measureRetainedHeap(() -> cacheCompacted(podCount));
+      out.printf("%10d %16.1f %16.1f %7.1f%%%n",
+            podCount, uncompacted, compacted, 100.0 * (compacted - uncompacted) / uncompacted);
+    }
+  }
+
+  // Returns the megabytes of heap retained by the cache created by the specified supplier.
+  private double measureRetainedHeap(Supplier<Object> cacheSupplier) {
+    final long before = getUsedHeapAfterGc();
+    final Object cache = cacheSupplier.get();
+    final long after = getUsedHeapAfterGc();
+    if (cache == null) {
+      throw new IllegalStateException("no cache created");
+    }
+    return (after - before) / MEGABYTE;
+  }
+
+  private static long getUsedHeapAfterGc() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private List<V1Pod> cacheUncompacted(int podCount) {
+    final String podJson = json.serialize(createPod());
+    final List<V1Pod> pods = new ArrayList<>(podCount);
+    for (int i = 0; i < podCount; i++) {
+      pods.add(decodePod(podJson, i));
+    }
+    return pods;
+  }
+
+  private List<DomainPresenceInfo> cacheCompacted(int podCount) {
+    final String podJson = json.serialize(createPod());
+    final List<DomainPresenceInfo> domains = new ArrayList<>();
+    for (int i = 0; i < podCount; i++) {
+      if (i % PODS_PER_DOMAIN == 0) {
+        domains.add(new DomainPresenceInfo(DomainFixtures.NAMESPACE, DomainFixtures.DOMAIN_UID + domains.size()));
+      }
+      domains.get(domains.size() - 1).setServerPod(getServerName(i), decodePod(podJson, i));
+    }
+    return domains;
+  }
+
+  private V1Pod decodePod(String podJson, int i) {
+    return json.deserialize(podJson.replace(SERVER_NAME, getServerName(i)), V1Pod.class);
+  }
+
+  private static String getServerName(int i) {
+    return DomainFixtures.getManagedServerName(i / DomainFixtures.MAX_CLUSTER_SIZE,
+          i % DomainFixtures.MAX_CLUSTER_SIZE);
+  }
+
+  // A managed server pod as the API server reports it, with the managed fields of each manager which updated it,
+  // and a placeholder for the server name.
+  private V1Pod createPod() {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta()
+                .name(DomainFixtures.DOMAIN_UID + "-" + SERVER_NAME)
+                .namespace(DomainFixtures.NAMESPACE)
+                .uid("3f2c9a6e-0000-4000-8000-000000000000")
+                .resourceVersion("100000")
+                .putLabelsItem(LabelConstants.DOMAINUID_LABEL, DomainFixtures.DOMAIN_UID)
+                .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, "base_domain")
+                .putLabelsItem(LabelConstants.SERVERNAME_LABEL, SERVER_NAME)
+                .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, DomainFixtures.getClusterName(0))
+                .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+                .putAnnotationsItem("weblogic.sha256",
+                      "9c56cc51b374c3ba189210d5b6d4bf57790d351c96c47c02190ecf1e430635ab")
+                .managedFields(List.of(
+                      createManagedFields("weblogic-operator", "Apply", null),
+                      createManagedFields("kube-scheduler", "Update", "status"),
+                      createManagedFields("kubelet", "Update", "status"))))
+          .spec(new V1PodSpec()
+                .nodeName("worker-1")
+                .containers(List.of(new V1Container()
+                      .name("weblogic-server")
+                      .image(IMAGE)
+                      .imagePullPolicy("IfNotPresent")
+                      .command(List.of("/weblogic-operator/scripts/startServer.sh"))
+                      .env(createEnv(SERVER_NAME))
+                      .volumeMounts(List.of(
+                            new V1VolumeMount().name("weblogic-scripts-cm-volume")
+                                  .mountPath("/weblogic-operator/scripts").readOnly(true),
+                            new V1VolumeMount().name("weblogic-domain-debug-cm-volume")
+                                  .mountPath("/weblogic-operator/debug").readOnly(true),
+                            new V1VolumeMount().name("weblogic-credentials-volume")
+                                  .mountPath("/weblogic-operator/secrets").readOnly(true)))))
+                .volumes(List.of(
+                      new V1Volume().name("weblogic-scripts-cm-volume"),
+                      new V1Volume().name("weblogic-domain-debug-cm-volume"),
+                      new V1Volume().name("weblogic-credentials-volume"))))
+          .status(new V1PodStatus()
+                .phase("Running")
+                .hostIP("10.0.0.1")
+                .podIP("10.244.1.1")
+                .startTime(OffsetDateTime.parse("2024-05-01T10:15:30Z"))
+                .conditions(List.of(
+                      new V1PodCondition().type("Ready").status("True"),
+                      new V1PodCondition().type("ContainersReady").status("True"),
+                      new V1PodCondition().type("PodScheduled").status("True"))));
+  }
+
+  private V1ManagedFieldsEntry createManagedFields(String manager, String operation, String subresource) {
+    return new V1ManagedFieldsEntry()
+          .manager(manager)
+          .operation(operation)
+          .subresource(subresource)
+          .apiVersion("v1")
+          .fieldsType("FieldsV1")
+          .time(OffsetDateTime.parse("2024-05-01T10:15:30Z"))
+          .fieldsV1(json.deserialize("""
+                {"f:metadata":{"f:labels":{"f:weblogic.domainUID":{},"f:weblogic.serverName":{},
+                "f:weblogic.clusterName":{},"f:weblogic.createdByOperator":{}},
+                "f:annotations":{"f:weblogic.sha256":{}}},
+                "f:spec":{"f:containers":{"k:{\\"name\\":\\"weblogic-server\\"}":{".":{},"f:env":{},"f:image":{},
+                "f:name":{},"f:volumeMounts":{}}},"f:volumes":{}},
+                "f:status":{"f:conditions":{"k:{\\"type\\":\\"Ready\\"}":{".":{},"f:status":{},"f:type":{}}}}}
+                """, Object.class));
+  }
+
+  private List<V1EnvVar> createEnv(String serverName) {
+    final List<V1EnvVar> env = new ArrayList<>();
+    env.add(new V1EnvVar().name("DOMAIN_NAME").value("base_domain"));
+    env.add(new V1EnvVar().name("DOMAIN_HOME").value("/u01/oracle/user_projects/domains/base_domain"));
+    env.add(new V1EnvVar().name("DOMAIN_UID").value(DomainFixtures.DOMAIN_UID));
+    env.add(new V1EnvVar().name("SERVER_NAME").value(serverName));
+    env.add(new V1EnvVar().name("ADMIN_NAME").value(DomainFixtures.ADMIN_SERVER));
+    env.add(new V1EnvVar().name("ADMIN_PORT").value(Integer.toString(DomainFixtures.ADMIN_PORT)));
+    env.add(new V1EnvVar().name("LOG_HOME").value("/shared/logs/" + DomainFixtures.DOMAIN_UID));
+    env.add(new V1EnvVar().name("SERVER_OUT_IN_POD_LOG").value("true"));
+    env.add(new V1EnvVar().name("USER_MEM_ARGS").value("-Djava.security.egd=file:/dev/./urandom"));
+    env.add(new V1EnvVar().name("JAVA_OPTIONS").value("-Dweblogic.StdoutDebugEnabled=false"));
+    return env;
+  }
+}
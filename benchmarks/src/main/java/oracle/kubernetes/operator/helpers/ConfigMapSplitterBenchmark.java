@@ -0,0 +1,81 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the splitting of introspector results into config maps small enough for Kubernetes. The data
+ * resembles an introspection of a domain with many model files: a few large entries and many small ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigMapSplitterBenchmark {
+
+  private static final int LARGE_ENTRY_SIZE = 400_000;
+  private static final int SMALL_ENTRY_SIZE = 2_000;
+
+  @Param({"100", "1000"})
+  public int entries;
+
+  private final Map<String, String> data = new HashMap<>();
+
+  /**
+   * Creates the data to split: four large entries, and the specified number of small ones.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < 4; i++) {
+      data.put("large-" + i, "x".repeat(LARGE_ENTRY_SIZE));
+    }
+    for (int i = 0; i < entries; i++) {
+      data.put("small-" + i, "y".repeat(SMALL_ENTRY_SIZE));
+    }
+  }
+
+  @Benchmark
+  public List<Target> split() {
+    return new ConfigMapSplitter<>(Target::new).split(data);
+  }
+
+  public static class Target implements SplitterTarget {
+    private final Map<String, String> data;
+    private final int index;
+    private int numTargets;
+
+    Target(Map<String, String> data, int index) {
+      this.data = data;
+      this.index = index;
+    }
+
+    @Override
+    public void recordNumTargets(int numTargets) {
+      this.numTargets = numTargets;
+    }
+
+    @Override
+    public String toString() {
+      return "Target " + index + " of " + numTargets + " with " + data.size() + " entries";
+    }
+  }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.DOMAIN_TOPOLOGY_CACHE_SIZE;
+
+/**
+ * Measures obtaining the domain topology from the introspector config map, as done on every make-right.
+ * With a cache size of zero, the YAML is parsed on every call; otherwise, it is parsed once and the cached
+ * topology is returned. Each cache size runs in its own fork, since the tuning parameters are read only once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainTopologyBenchmark {
+
+  @Param({"100", "500"})
+  public int servers;
+
+  @Param({"0", "100"})
+  public int cacheSize;
+
+  private String topologyYaml;
+
+  /**
+   * Creates the topology YAML for a domain of the specified size, and sets the topology cache size.
+   * @throws JsonProcessingException if unable to create the YAML
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    BenchmarkEnvironment.initialize(Map.of(DOMAIN_TOPOLOGY_CACHE_SIZE, Integer.toString(cacheSize)));
+    topologyYaml = new DomainFixtures(servers).createTopologyYaml();
+  }
+
+  @Benchmark
+  public WlsDomainConfig parseTopology() {
+    return DomainTopology.parseDomainTopologyYaml(topologyYaml).getDomain();
+  }
+}
@@ -0,0 +1,74 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the lookup of the effective configuration of every server in a domain, as done while deciding
+ * which servers to start. The "warm" benchmark reuses the configuration snapshot held by the domain presence
+ * info; the "cold" benchmark discards it first, as happens when a domain or cluster resource changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EffectiveConfigurationBenchmark {
+
+  @Param({"50", "500"})
+  public int servers;
+
+  private DomainFixtures fixtures;
+  private DomainPresenceInfo info;
+
+  /**
+   * Creates a domain of the specified size.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment.initialize();
+    fixtures = new DomainFixtures(servers);
+    info = fixtures.createDomainPresenceInfo();
+  }
+
+  @Benchmark
+  public void lookUpAllServersWarm(Blackhole blackhole) {
+    lookUpAllServers(blackhole);
+  }
+
+  @Benchmark
+  public void lookUpAllServersCold(Blackhole blackhole) {
+    info.invalidateEffectiveConfiguration();
+    lookUpAllServers(blackhole);
+  }
+
+  private void lookUpAllServers(Blackhole blackhole) {
+    for (int c = 1; c <= fixtures.getNumClusters(); c++) {
+      final String clusterName = DomainFixtures.getClusterName(c);
+      blackhole.consume(info.getReplicaCount(clusterName));
+      for (int s = 1; s <= fixtures.getServersPerCluster(); s++) {
+        final EffectiveServerSpec spec = info.getServer(DomainFixtures.getManagedServerName(c, s), clusterName);
+        blackhole.consume(spec.getEnvironmentVariables());
+      }
+    }
+  }
+}
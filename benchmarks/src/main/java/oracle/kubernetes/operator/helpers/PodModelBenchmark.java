@@ -0,0 +1,80 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Packet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.benchmarks.DomainFixtures.getClusterName;
+import static oracle.kubernetes.operator.benchmarks.DomainFixtures.getManagedServerName;
+
+/**
+ * Measures the work done for each managed server pod on every make-right: building the desired pod model,
+ * hashing it, and comparing that hash with the hash recorded on the existing pod.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodModelBenchmark {
+
+  @Param({"10", "100", "500"})
+  public int servers;
+
+  private Packet serverPacket;
+  private V1Pod podModel;
+  private V1Pod existingPod;
+
+  /**
+   * Creates a domain of the specified size, and the packet and pod for its last managed server.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment.initialize();
+    final DomainFixtures fixtures = new DomainFixtures(servers);
+    final DomainPresenceInfo info = fixtures.createDomainPresenceInfo();
+    final WlsDomainConfig domainConfig = fixtures.createDomainConfig();
+    final int cluster = fixtures.getNumClusters();
+    final int server = fixtures.getServersPerCluster();
+
+    serverPacket = DomainFixtures.createServerPacket(
+        info, domainConfig, getClusterName(cluster), getManagedServerName(cluster, server));
+    podModel = PodHelper.createManagedServerPodModel(serverPacket);
+    existingPod = PodHelper.createManagedServerPodModel(serverPacket);
+  }
+
+  @Benchmark
+  public V1Pod createPodModel() {
+    return PodHelper.createManagedServerPodModel(serverPacket);
+  }
+
+  @Benchmark
+  public String hashPodModel() {
+    return AnnotationHelper.createHash(podModel);
+  }
+
+  @Benchmark
+  public boolean compareWithExistingPod() {
+    return AnnotationHelper.getHash(PodHelper.createManagedServerPodModel(serverPacket))
+        .equals(AnnotationHelper.getHash(existingPod));
+  }
+}
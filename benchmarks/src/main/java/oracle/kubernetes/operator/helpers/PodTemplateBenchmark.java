@@ -0,0 +1,87 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Packet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.benchmarks.DomainFixtures.getClusterName;
+import static oracle.kubernetes.operator.benchmarks.DomainFixtures.getManagedServerName;
+
+/**
+ * Measures building the hashed pod models of every managed server in a domain, as one make-right does: once with
+ * each model built in full, and once with the models derived from the pod templates shared by each cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodTemplateBenchmark {
+
+  @Param({"100", "1000"})
+  public int servers;
+
+  private final List<Packet> serverPackets = new ArrayList<>();
+
+  /**
+   * Creates a domain of the specified size, and the packet for each of its managed servers.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment.initialize();
+    final DomainFixtures fixtures = new DomainFixtures(servers);
+    final DomainPresenceInfo info = fixtures.createDomainPresenceInfo();
+    final WlsDomainConfig domainConfig = fixtures.createDomainConfig();
+
+    serverPackets.clear();
+    for (int cluster = 1; cluster <= fixtures.getNumClusters(); cluster++) {
+      for (int server = 1; server <= fixtures.getServersPerCluster(); server++) {
+        serverPackets.add(DomainFixtures.createServerPacket(
+            info, domainConfig, getClusterName(cluster), getManagedServerName(cluster, server)));
+      }
+    }
+  }
+
+  @Benchmark
+  public List<V1Pod> createPodModelsInFull() {
+    final List<V1Pod> pods = new ArrayList<>(serverPackets.size());
+    for (Packet packet : serverPackets) {
+      packet.remove(ProcessingConstants.POD_TEMPLATES);
+      pods.add(PodHelper.createManagedServerPodModel(packet));
+    }
+    return pods;
+  }
+
+  @Benchmark
+  public List<V1Pod> createPodModelsFromTemplates() {
+    final PodTemplates templates = new PodTemplates();
+    final List<V1Pod> pods = new ArrayList<>(serverPackets.size());
+    for (Packet packet : serverPackets) {
+      packet.put(ProcessingConstants.POD_TEMPLATES, templates);
+      pods.add(PodHelper.createManagedServerPodModel(packet));
+    }
+    return pods;
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the dispatch of watch events, from the watch response to the listener, including the tracking of
+ * resource versions and the setting of the logging context. Each invocation runs a watch which delivers a fixed
+ * number of pod events and then stops; the reported time is per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WatcherBenchmark {
+
+  private static final int EVENTS = 10_000;
+
+  private final List<Watch.Response<V1Pod>> events = new ArrayList<>();
+  private final ThreadFactory threadFactory = Thread.ofPlatform().daemon().factory();
+
+  /**
+   * Creates the pod events to be delivered by each watch.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment.initialize();
+    for (int i = 0; i < EVENTS; i++) {
+      events.add(new Watch.Response<>("MODIFIED", createPod(i)));
+    }
+  }
+
+  private V1Pod createPod(int i) {
+    return new V1Pod().metadata(new V1ObjectMeta()
+        .name(DomainFixtures.DOMAIN_UID + "-ms-" + i)
+        .namespace(DomainFixtures.NAMESPACE)
+        .resourceVersion(Integer.toString(i + 1))
+        .putLabelsItem(LabelConstants.DOMAINUID_LABEL, DomainFixtures.DOMAIN_UID));
+  }
+
+  /**
+   * Runs a watch which delivers all the pod events to a listener.
+   * @param blackhole the destination of the events
+   */
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void dispatchEvents(Blackhole blackhole) {
+    final BenchmarkWatcher watcher = new BenchmarkWatcher(blackhole);
+    watcher.start(threadFactory);
+    watcher.waitForExit();
+  }
+
+  class BenchmarkWatcher extends Watcher<V1Pod> {
+
+    BenchmarkWatcher(Blackhole blackhole) {
+      super("0", TuningParameters.getInstance().getWatchTuning(), new AtomicBoolean(false), blackhole::consume);
+    }
+
+    @Override
+    public Watchable<V1Pod> initiateWatch(ListOptions options) {
+      return new ListWatchable(this);
+    }
+
+    @Override
+    public String getNamespace() {
+      return DomainFixtures.NAMESPACE;
+    }
+
+    @Override
+    public String getDomainUid(Watch.Response<V1Pod> item) {
+      return KubernetesUtils.getDomainUidLabel(item.object.getMetadata());
+    }
+  }
+
+  // delivers the events, then stops the watcher
+  class ListWatchable implements Watchable<V1Pod> {
+    private final Watcher<V1Pod> watcher;
+    private final Iterator<Watch.Response<V1Pod>> iterator = events.iterator();
+
+    ListWatchable(Watcher<V1Pod> watcher) {
+      this.watcher = watcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (iterator.hasNext()) {
+        return true;
+      }
+      watcher.pause();
+      return false;
+    }
+
+    @Override
+    public Watch.Response<V1Pod> next() {
+      return iterator.next();
+    }
+
+    @Override
+    public Iterator<Watch.Response<V1Pod>> iterator() {
+      return this;
+    }
+
+    @Override
+    public void close() {
+      // no resources to release
+    }
+  }
+}
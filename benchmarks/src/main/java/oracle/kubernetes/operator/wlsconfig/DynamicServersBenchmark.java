@@ -0,0 +1,82 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the configurations of the servers in a large dynamic cluster: deriving them from the server
+ * template, visiting all of them, and finding one by name. Run with "-prof gc" to see the memory allocated
+ * for each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DynamicServersBenchmark {
+
+  private static final String DOMAIN_NAME = "benchmark-domain";
+  private static final String CLUSTER_NAME = "dynamic-cluster";
+  private static final String SERVER_NAME_PREFIX = "ms-";
+
+  @Param({"1000", "10000"})
+  public int clusterSize;
+
+  private WlsServerConfig serverTemplate;
+  private WlsDynamicServersConfig dynamicServers;
+  private String lastServerName;
+
+  /**
+   * Creates the template and the dynamic servers configuration for a cluster of the specified size.
+   */
+  @Setup
+  public void setUp() {
+    serverTemplate = new WlsServerConfig("server-template", "ms-${id}-host", 8001);
+    dynamicServers = createDynamicServersConfig();
+    lastServerName = SERVER_NAME_PREFIX + clusterSize;
+  }
+
+  private WlsDynamicServersConfig createDynamicServersConfig() {
+    final WlsDynamicServersConfig config = new WlsDynamicServersConfig(
+        clusterSize, clusterSize, 0, SERVER_NAME_PREFIX, true, null, serverTemplate, null);
+    config.generateDynamicServerConfigs(serverTemplate, CLUSTER_NAME, DOMAIN_NAME);
+    return config;
+  }
+
+  @Benchmark
+  public WlsDynamicServersConfig generateServerConfigs() {
+    return createDynamicServersConfig();
+  }
+
+  /**
+   * Visits the configuration of every server in the cluster.
+   * @param blackhole the destination of the listen ports
+   */
+  @Benchmark
+  public void visitAllServerConfigs(Blackhole blackhole) {
+    for (WlsServerConfig serverConfig : dynamicServers.getServerConfigs()) {
+      blackhole.consume(serverConfig.getListenPort());
+    }
+  }
+
+  @Benchmark
+  public WlsServerConfig findServerConfigByName() {
+    return dynamicServers.getServerConfig(lastServerName);
+  }
+}
@@ -0,0 +1,97 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.operator.benchmarks.BenchmarkEnvironment;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the packet copies and fork-joins with which the operator processes each server
+ * of a domain in parallel. Each forked step does only a trivial amount of work, so the measurements
+ * show the overhead of the mechanism itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketBenchmark {
+
+  private static final String SERVER_NAME = "serverName";
+
+  @Param({"10", "100"})
+  public int servers;
+
+  @Param({"1", "8"})
+  public int maxConcurrency;
+
+  private Packet packet;
+  private List<String> serverNames;
+
+  /**
+   * Creates a packet like the one used to make-right a domain of the specified size.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment.initialize();
+    final DomainFixtures fixtures = new DomainFixtures(servers);
+    final DomainPresenceInfo info = fixtures.createDomainPresenceInfo();
+    final WlsDomainConfig domainConfig = fixtures.createDomainConfig();
+    packet = DomainFixtures.createPacket(info, domainConfig);
+    serverNames = fixtures.getManagedServerNames();
+  }
+
+  @Benchmark
+  public Packet copyPacket() {
+    return packet.copy();
+  }
+
+  @Benchmark
+  public Result forkJoinServers() {
+    return new ForkJoinStep().apply(packet.copy());
+  }
+
+  class ForkJoinStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final List<Fiber.StepAndPacket> startDetails = new ArrayList<>();
+      for (String serverName : serverNames) {
+        final Packet serverPacket = packet.copy();
+        serverPacket.put(SERVER_NAME, serverName);
+        startDetails.add(new Fiber.StepAndPacket(new ServerStep(), serverPacket));
+      }
+      return doForkJoin(null, packet, startDetails, maxConcurrency);
+    }
+  }
+
+  static class ServerStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      packet.put(SERVER_NAME + ".processed", Boolean.TRUE);
+      return doNext(packet);
+    }
+  }
+}
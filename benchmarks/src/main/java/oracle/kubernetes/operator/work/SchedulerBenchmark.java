@@ -0,0 +1,87 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the scheduler used for fiber requeues, retry delays, status updates and recheck timers, with
+ * 100,000 timers pending at once, as in a large deployment. One benchmark schedules the timers and cancels them
+ * before they are due, as happens to most retry and backstop timers; the other waits for them all to fire. The
+ * reported times are per timer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark {
+
+  private static final int TIMERS = 100_000;
+  private static final long MAX_FIRE_DELAY_MILLIS = 50;
+
+  private VirtualScheduledExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    executor = new VirtualScheduledExecutorService();
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Schedules timers far in the future, so that all are pending at once, and then cancels them.
+   */
+  @Benchmark
+  @OperationsPerInvocation(TIMERS)
+  public int scheduleAndCancel() {
+    final List<ScheduledFuture<?>> futures = new ArrayList<>(TIMERS);
+    for (int i = 0; i < TIMERS; i++) {
+      futures.add(executor.schedule(this::doNothing, 10 + i % 600, TimeUnit.SECONDS));
+    }
+    futures.forEach(future -> future.cancel(true));
+    return executor.getPendingTaskCount();
+  }
+
+  private void doNothing() {
+    // the task is not expected to run
+  }
+
+  /**
+   * Schedules timers with short random delays and waits until all have fired.
+   * @throws InterruptedException if interrupted while waiting
+   */
+  @Benchmark
+  @OperationsPerInvocation(TIMERS)
+  public void scheduleAndFire() throws InterruptedException {
+    final CountDownLatch fired = new CountDownLatch(TIMERS);
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < TIMERS; i++) {
+      executor.schedule(fired::countDown, random.nextLong(MAX_FIRE_DELAY_MILLIS), TimeUnit.MILLISECONDS);
+    }
+    fired.await();
+  }
+}
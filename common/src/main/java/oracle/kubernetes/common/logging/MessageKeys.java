@@ -161,6 +161,9 @@ public class MessageKeys {
   public static final String PVC_NOT_BOUND_ERROR = "WLSKO-0239";
   public static final String FLUENTBIT_CONFIGMAP_CREATED = "WLSKO-0240";
   public static final String FLUENTBIT_CONFIGMAP_REPLACED = "WLSKO-0241";
+  public static final String OPERATOR_LEADER_ELECTED = "WLSKO-0242";
+  public static final String OPERATOR_STANDING_BY = "WLSKO-0243";
+  public static final String OPERATOR_LEADERSHIP_LOST = "WLSKO-0244";
 
   // domain status messages
   public static final String MAKE_RIGHT_WILL_RETRY = "WLSDO-0000";
@@ -39,6 +39,12 @@ data:
   {{- if .featureGates }}
   featureGates: {{ .featureGates | quote }}
   {{- end }}
+  {{- if .namespaceShardingEnabled }}
+  namespaceShardingEnabled: {{ .namespaceShardingEnabled | quote }}
+  {{- end }}
+  {{- if .hotStandbyEnabled }}
+  hotStandbyEnabled: {{ .hotStandbyEnabled | quote }}
+  {{- end }}
   {{- if .introspectorJobNameSuffix }}
   introspectorJobNameSuffix: {{ .introspectorJobNameSuffix | quote }}
   {{- end }}
@@ -56,6 +56,12 @@
 {{-   fail "enableClusterRoleBinding must be true when webHookOnly is true." }}
 {{- end -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "mockWLS") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "namespaceShardingEnabled") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "hotStandbyEnabled") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "operatorReplicas") -}}
+{{- if and (gt (int (default 1 $scope.operatorReplicas)) 1) (not $scope.hotStandbyEnabled) (not $scope.namespaceShardingEnabled) -}}
+{{-   fail "operatorReplicas greater than 1 requires hotStandbyEnabled or namespaceShardingEnabled." }}
+{{- end -}}
 {{- $ignore := include "utils.verifyIntrospectorJobNameSuffix" (list $scope "introspectorJobNameSuffix" 25) -}}
 {{- $ignore := include "utils.verifyExternalServiceNameSuffix" (list $scope "externalServiceNameSuffix" 10) -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "clusterSizePaddingValidationEnabled") -}}
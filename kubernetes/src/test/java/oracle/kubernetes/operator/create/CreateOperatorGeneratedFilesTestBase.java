@@ -726,7 +726,12 @@ abstract class CreateOperatorGeneratedFilesTestBase {
                         "delete",
                         "deletecollection")))
         .addRulesItem(
-            newPolicyRuleForValidatingWebhookConfiguration());
+            newPolicyRuleForValidatingWebhookConfiguration())
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("coordination.k8s.io")
+                .resources(singletonList("leases"))
+                .verbs(asList("get", "list", "watch", "create", "update", "patch", "delete")));
   }
 
   private V1PolicyRule newPolicyRuleForValidatingWebhookConfiguration() {
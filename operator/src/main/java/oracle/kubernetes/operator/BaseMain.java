@@ -16,6 +16,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.security.spec.InvalidKeySpecException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.Properties;
@@ -41,6 +42,8 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.VirtualScheduledExecutorService;
 import oracle.kubernetes.utils.SystemClock;
 
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.STARTUP_PHASE_DURATION;
+
 /** An abstract base main class for the operator and the webhook. */
 public abstract class BaseMain {
   static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -59,6 +62,7 @@ public abstract class BaseMain {
   static final File deploymentHome;
   static final File probesHome;
   final CoreDelegate delegate;
+  private final OffsetDateTime startTime = SystemClock.now();
 
   private final AtomicReference<BaseServer> restServer = new AtomicReference<>();
   private final AtomicReference<BaseServer> metricsServer = new AtomicReference<>();
@@ -119,6 +123,11 @@ public abstract class BaseMain {
     }
   }
 
+  // Records the time from the start of this process until it reached the specified startup phase.
+  void recordStartupPhase(String phase) {
+    STARTUP_PHASE_DURATION.labels(phase).set(Duration.between(startTime, SystemClock.now()).toMillis() / 1000.0);
+  }
+
   void stopDeployment(Runnable completionAction) {
     Step shutdownSteps = createShutdownSteps();
     if (shutdownSteps != null) {
@@ -222,7 +231,7 @@ public abstract class BaseMain {
     }
   }
 
-  private void releaseShutdownSignal() {
+  void releaseShutdownSignal() {
     shutdownSignal.release();
   }
 
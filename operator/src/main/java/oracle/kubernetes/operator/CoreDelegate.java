@@ -11,6 +11,7 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.http.metrics.MetricsServer;
 import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
@@ -53,11 +54,15 @@ public interface CoreDelegate {
   }
 
   default void runSteps(Packet packet, Step firstStep, Runnable completionAction) {
+    runStepsWithCallback(packet, firstStep, new BaseMain.NullCompletionCallback(completionAction));
+  }
+
+  default void runStepsWithCallback(Packet packet, Step firstStep, CompletionCallback callback) {
     packet.put(DELEGATE_COMPONENT_NAME, this);
-    runStepsInternal(packet, firstStep, completionAction);
+    runStepsInternal(packet, firstStep, callback);
   }
 
-  void runStepsInternal(Packet packet, Step firstStep, Runnable completionAction);
+  void runStepsInternal(Packet packet, Step firstStep, CompletionCallback callback);
 
   Cancellable schedule(Runnable command, long delay, TimeUnit unit);
 
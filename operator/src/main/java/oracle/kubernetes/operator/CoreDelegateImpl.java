@@ -17,6 +17,7 @@ import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
@@ -113,15 +114,11 @@ public class CoreDelegateImpl implements CoreDelegate {
   }
 
   @Override
-  public void runStepsInternal(Packet packet, Step firstStep, Runnable completionAction) {
-    Fiber f = new Fiber(scheduledExecutorService, firstStep, packet, andThenDo(completionAction));
+  public void runStepsInternal(Packet packet, Step firstStep, CompletionCallback callback) {
+    Fiber f = new Fiber(scheduledExecutorService, firstStep, packet, callback);
     f.start();
   }
 
-  private static BaseMain.NullCompletionCallback andThenDo(Runnable completionAction) {
-    return new BaseMain.NullCompletionCallback(completionAction);
-  }
-
   @Override
   public Cancellable schedule(Runnable command, long delay, TimeUnit unit) {
     ScheduledFuture<?> future = scheduledExecutorService.schedule(command, delay, unit);
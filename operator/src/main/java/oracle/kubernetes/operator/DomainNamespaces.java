@@ -24,10 +24,14 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.ResourceNameIndex;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.helpers.ServerSideApply;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.watcher.ClusterWatcher;
 import oracle.kubernetes.operator.watcher.ConfigMapWatcher;
@@ -36,6 +40,7 @@ import oracle.kubernetes.operator.watcher.EventWatcher;
 import oracle.kubernetes.operator.watcher.JobWatcher;
 import oracle.kubernetes.operator.watcher.OperatorEventWatcher;
 import oracle.kubernetes.operator.watcher.PodWatcher;
+import oracle.kubernetes.operator.watcher.SecretWatcher;
 import oracle.kubernetes.operator.watcher.ServiceWatcher;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.watcher.Watcher;
@@ -46,6 +51,8 @@ import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
+import static oracle.kubernetes.operator.KubernetesConstants.CONFIG_MAP;
+import static oracle.kubernetes.operator.KubernetesConstants.POD_DISRUPTION_BUDGET;
 import static oracle.kubernetes.operator.helpers.KubernetesUtils.getResourceVersion;
 
 /**
@@ -73,6 +80,8 @@ public class DomainNamespaces {
         = new WatcherControl<>(JobWatcher::create, d -> d::dispatchJobWatch);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
         = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+  private final WatcherControl<V1Secret, SecretWatcher> secretWatchers
+        = new WatcherControl<>(SecretWatcher::create, d -> d::dispatchSecretWatch);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
         = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
   private final WatcherControl<V1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
@@ -135,8 +144,10 @@ public class DomainNamespaces {
     podDisruptionBudgetWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
+    secretWatchers.removeWatcher(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
+    NamespaceShards.getInstance().release(ns);
   }
 
   ConfigMapWatcher getConfigMapWatcher(String namespace) {
@@ -203,7 +214,16 @@ public class DomainNamespaces {
     NamespacedResources resources = new NamespacedResources(ns, null, this);
     resources.addProcessing(new DomainResourcesValidation(ns, processor).getProcessors());
     resources.addProcessing(createWatcherStartupProcessing(ns, processor));
-    return Step.chain(ConfigMapHelper.createScriptConfigMapStep(ns, productVersion), resources.createListSteps());
+    return resources.createListSteps(createScriptConfigMapStep(ns));
+  }
+
+  // The script config map is written only by the leader, so that standby replicas do not duplicate the writes.
+  // It is applied once the config maps have been listed, so that the apply can tell whether the map already existed,
+  // and before any domain processing starts.
+  private Step createScriptConfigMapStep(String ns) {
+    return OperatorLeadership.getInstance().isLeader()
+        ? ConfigMapHelper.createScriptConfigMapStep(ns, productVersion)
+        : null;
   }
 
   public boolean shouldStartNamespace(String ns) {
@@ -269,7 +289,10 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        indexConfigMaps(ns, l);
+        configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
@@ -299,7 +322,18 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
-      return l -> podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        recordPodDisruptionBudgets(l);
+        podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
+    }
+
+    @Override
+    public Consumer<V1SecretList> getSecretListProcessing() {
+      return l -> {
+        ResourceNameIndex.getInstance().indexSecrets(ns, l);
+        secretWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
@@ -326,8 +360,11 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> Optional.ofNullable(configMapWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> {
+        indexConfigMaps(ns, l);
+        Optional.ofNullable(configMapWatchers.getWatcher(ns))
+            .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      };
     }
 
     @Override
@@ -362,8 +399,11 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
-      return l -> Optional.ofNullable(podDisruptionBudgetWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> {
+        recordPodDisruptionBudgets(l);
+        Optional.ofNullable(podDisruptionBudgetWatchers.getWatcher(ns))
+            .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      };
     }
 
     @Override
@@ -378,4 +418,14 @@ public class DomainNamespaces {
           .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
     }
   }
+
+  private static void indexConfigMaps(String ns, V1ConfigMapList list) {
+    ResourceNameIndex.getInstance().indexConfigMaps(ns, list);
+    ServerSideApply.getInstance().onListed(CONFIG_MAP, list.getItems().stream().map(V1ConfigMap::getMetadata).toList());
+  }
+
+  private static void recordPodDisruptionBudgets(V1PodDisruptionBudgetList list) {
+    ServerSideApply.getInstance().onListed(POD_DISRUPTION_BUDGET,
+        list.getItems().stream().map(V1PodDisruptionBudget::getMetadata).toList());
+  }
 }
@@ -14,6 +14,7 @@ import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watch.Response;
@@ -84,6 +85,12 @@ public interface DomainProcessor {
    */
   void dispatchPodWatch(Watch.Response<V1Pod> item);
 
+  /**
+   * Handles a watch event for secrets in the managed namespaces.
+   * @param item a Kubernetes watch event
+   */
+  void dispatchSecretWatch(Watch.Response<V1Secret> item);
+
   /**
    * Handles a watch event for services in the managed namespaces.
    * @param item a Kubernetes watch event
@@ -115,6 +122,14 @@ public interface DomainProcessor {
     // no-op
   }
 
+  /**
+   * Reconciles every domain in the cache. Used by an operator which has just become the leader, and which has
+   * kept its cached domain presence current while standing by.
+   */
+  default void makeRightCachedDomains() {
+    // no-op
+  }
+
   /**
    * Get the map of domain presence infos for a given namespace.
    *
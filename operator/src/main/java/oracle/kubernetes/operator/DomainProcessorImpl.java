@@ -28,13 +28,16 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.common.logging.LoggingFilter;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.common.logging.OncePerMessageLoggingFilter;
 import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
+import oracle.kubernetes.operator.helpers.ConditionWaiters;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.CredentialsCache;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
@@ -44,8 +47,10 @@ import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.NamespaceHelper;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceNameIndex;
 import oracle.kubernetes.operator.helpers.ResourcePresenceInfo;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.helpers.ServerSideApply;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -72,6 +77,8 @@ import static oracle.kubernetes.common.logging.MessageKeys.POD_UNSCHEDULABLE;
 import static oracle.kubernetes.common.logging.MessageKeys.PVC_NOT_BOUND_ERROR;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createInternalFailureSteps;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createIntrospectionFailureSteps;
+import static oracle.kubernetes.operator.KubernetesConstants.CONFIG_MAP;
+import static oracle.kubernetes.operator.KubernetesConstants.POD_DISRUPTION_BUDGET;
 import static oracle.kubernetes.operator.KubernetesConstants.POD_SCHEDULED;
 import static oracle.kubernetes.operator.KubernetesConstants.UNSCHEDULABLE_REASON;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
@@ -168,6 +175,14 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     return domains.get(namespace);
   }
 
+  @Override
+  public void makeRightCachedDomains() {
+    domains.values().stream()
+          .flatMap(m -> m.values().stream())
+          .filter(info -> info.getDomain() != null)
+          .forEach(info -> createMakeRightOperation(info).withExplicitRecheck().execute());
+  }
+
   @Override
   public Map<String, Map<String,ClusterPresenceInfo>>  getClusterPresenceInfoMap() {
     return clusters;
@@ -192,6 +207,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
     statusUpdaters.remove((namespace));
+    CredentialsCache.getInstance().evictNamespace(namespace);
+    ResourceNameIndex.getInstance().evictNamespace(namespace);
+    ServerSideApply.getInstance().evictNamespace(namespace);
   }
 
   private static void registerStatusUpdater(
@@ -359,7 +377,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     final DomainPresenceInfo liveInfo = operation.getPresenceInfo();
     if (delegate.isNamespaceRunning(liveInfo.getNamespace())) {
       try (ThreadLoggingContext ignored = setThreadContext().presenceInfo(liveInfo)) {
-        if (shouldContinue(operation, liveInfo)) {
+        if (!OperatorLeadership.getInstance().isLeader()) {
+          recordWithoutReconciling(operation, liveInfo);
+        } else if (shouldContinue(operation, liveInfo)) {
           logStartingDomain(liveInfo);
           new DomainPlan(operation, delegate).execute();
         } else {
@@ -373,7 +393,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings("try")
   public void runMakeRight(MakeRightClusterOperation operation) {
     final ClusterPresenceInfo liveInfo = operation.getPresenceInfo();
-    if (delegate.isNamespaceRunning(liveInfo.getNamespace())) {
+    if (delegate.isNamespaceRunning(liveInfo.getNamespace()) && OperatorLeadership.getInstance().isLeader()) {
       try (ThreadLoggingContext ignored = setThreadContext().presenceInfo(liveInfo)) {
         if (shouldContinue(operation, liveInfo)) {
           new ClusterPlan(operation, delegate).execute();
@@ -382,6 +402,18 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
   }
 
+  // A standby operator keeps its cached domain presence current, so that it can reconcile at once if elected.
+  private void recordWithoutReconciling(MakeRightDomainOperation operation, DomainPresenceInfo liveInfo) {
+    final DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(liveInfo);
+    if (isDeleting(operation)) {
+      unregisterDomainPresenceInfo(liveInfo);
+    } else if (isNewDomain(cachedInfo)) {
+      registerDomainPresenceInfo(liveInfo);
+    } else if (!liveInfo.isFromOutOfDateEvent(operation, cachedInfo)) {
+      cachedInfo.setDomain(liveInfo.getDomain());
+    }
+  }
+
   private boolean shouldContinue(MakeRightDomainOperation operation, DomainPresenceInfo liveInfo) {
     final DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(liveInfo);
     if (isNewDomain(cachedInfo)) {
@@ -564,7 +596,8 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
     switch (item.type) {
       case MODIFIED:
-        if (JobWatcher.isComplete(job) || JobWatcher.isFailed(job)) {
+        if (!ConditionWaiters.JOBS.notifyWaiters(item.type, job)
+            && (JobWatcher.isComplete(job) || JobWatcher.isFailed(job))) {
           createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
         }
         break;
@@ -606,6 +639,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
 
     String serverName = getPodLabel(pod, LabelConstants.SERVERNAME_LABEL);
+    boolean resumed;
     switch (watchType) {
       case ADDED:
         info.setServerPodFromEvent(serverName, pod);
@@ -622,7 +656,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         }
         boolean isReady = PodHelper.isReady(pod);
         boolean isLabeledForShutdown = PodHelper.isPodAlreadyAnnotatedForShutdown(pod);
-        if ((isEvicted || isReady != isLabeledForShutdown || PodHelper.isFailed(pod)) && !PodHelper.isDeleting(pod)) {
+        resumed = ConditionWaiters.PODS.notifyWaiters(watchType, pod);
+        if ((isEvicted || isReady != isLabeledForShutdown || PodHelper.isFailed(pod)) && !PodHelper.isDeleting(pod)
+            && !resumed) {
           createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
         }
         boolean isUnschedulable = PodHelper.hasUnSchedulableCondition(pod);
@@ -635,7 +671,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         if (removed && isNotDeleting(info) && Boolean.FALSE.equals(info.isServerPodBeingDeleted(serverName))) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getPodNamespace(pod), serverName);
         }
-        createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+        resumed = ConditionWaiters.PODS.notifyWaiters(watchType, pod);
+        if (!resumed) {
+          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+        }
         break;
 
       case ERROR:
@@ -690,6 +729,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   @Override
   public void updateDomainStatus(@Nonnull V1Pod pod, DomainPresenceInfo info) {
+    if (!OperatorLeadership.getInstance().isLeader()) {
+      return;
+    }
     Packet packet = new Packet();
     packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
     Optional.ofNullable(IntrospectionStatus.createStatusUpdateSteps(pod))
@@ -698,6 +740,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   @Override
   public void updateDomainStatus(@Nonnull V1PersistentVolumeClaim pvc, DomainPresenceInfo info) {
+    if (!OperatorLeadership.getInstance().isLeader()) {
+      return;
+    }
     Packet packet = new Packet();
     packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
     if (!ProcessingConstants.BOUND.equals(getPhase(pvc))) {
@@ -725,6 +770,15 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
    * a MODIFIED event for an object that has already had subsequent modifications.
    */
 
+  /**
+   * Dispatch secret watch event.
+   * @param item watch event
+   */
+  public void dispatchSecretWatch(Watch.Response<V1Secret> item) {
+    CredentialsCache.getInstance().onWatchEvent(item.type, item.object);
+    ResourceNameIndex.getInstance().onSecretWatchEvent(item.type, item.object);
+  }
+
   /**
    * Dispatch service watch event.
    * @param item watch event
@@ -763,6 +817,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
    */
   public void dispatchPodDisruptionBudgetWatch(Watch.Response<V1PodDisruptionBudget> item) {
     V1PodDisruptionBudget pdb = item.object;
+    ServerSideApply.getInstance().onWatchEvent(POD_DISRUPTION_BUDGET, item.type, pdb.getMetadata());
     String domainUid = PodDisruptionBudgetHelper.getDomainUid(pdb);
     if (domainUid == null) {
       return;
@@ -803,7 +858,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
    */
   public void dispatchConfigMapWatch(Watch.Response<V1ConfigMap> item) {
     V1ConfigMap c = item.object;
-    if (c.getMetadata() != null) {
+    ResourceNameIndex.getInstance().onConfigMapWatchEvent(item.type, c);
+    ServerSideApply.getInstance().onWatchEvent(CONFIG_MAP, item.type, c.getMetadata());
+    if (c.getMetadata() != null && KubernetesUtils.isOperatorCreated(c.getMetadata())
+        && OperatorLeadership.getInstance().isLeader()) {
       switch (item.type) {
         case MODIFIED, DELETED:
           delegate.runSteps(
@@ -1078,6 +1136,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
       @Override
       public void onCompletion(Packet packet) {
+        OperatorLeadership.getInstance().recordReconciled();
         retryIfNeeded(packet);
       }
 
@@ -3,13 +3,18 @@
 
 package oracle.kubernetes.operator;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -23,6 +28,7 @@ import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
@@ -31,16 +37,24 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE_WATCHING_STARTED;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.NAMESPACE_STARTUP_DURATION;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
 
 class DomainRecheck {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String NAMESPACE_STARTUP_TIME = "namespaceStartupTime";
 
   private final DomainProcessor domainProcessor;
   private final DomainNamespaces domainNamespaces;
@@ -157,7 +171,7 @@ class DomainRecheck {
     @Override
     protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1NamespaceList> callResponse) {
       return useBackupStrategy(callResponse)
-            ? doNext(createStartNamespacesStep(Namespaces.getConfiguredDomainNamespaces()), packet)
+            ? doNext(createStartNamespacesStep(getAssignedConfiguredNamespaces()), packet)
             : super.onFailureNoRetry(packet, callResponse);
     }
 
@@ -168,8 +182,9 @@ class DomainRecheck {
 
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<V1NamespaceList> callResponse) {
-      final Set<String> namespacesToStart = getNamespacesToStart(callResponse.getObject());
-      Namespaces.getFoundDomainNamespaces(packet).addAll(namespacesToStart);
+      final Set<String> foundNamespaces = getDomainNamespaces(callResponse.getObject());
+      Namespaces.getFoundDomainNamespaces(packet).addAll(foundNamespaces);
+      final Set<String> namespacesToStart = getNamespacesToStart(foundNamespaces);
 
       return doContinueListOrNext(callResponse, packet, createNextSteps(namespacesToStart));
     }
@@ -191,11 +206,17 @@ class DomainRecheck {
       return RunInParallel.perNamespace(namespacesToStartNow, DomainRecheck.this::createNamespaceReview);
     }
 
+    private List<String> getAssignedConfiguredNamespaces() {
+      return Namespaces.getConfiguredDomainNamespaces().stream()
+          .filter(NamespaceShards.getInstance()::isAssigned)
+          .toList();
+    }
+
     private boolean haveExplicitlyConfiguredNamespacesToManage() {
       return Namespaces.getConfiguredDomainNamespaces() != null;
     }
 
-    private Set<String> getNamespacesToStart(V1NamespaceList namespaces) {
+    private Set<String> getDomainNamespaces(V1NamespaceList namespaces) {
       return namespaces.getItems().stream()
           .filter(Namespaces::isDomainNamespace)
           .map(V1Namespace::getMetadata)
@@ -203,10 +224,130 @@ class DomainRecheck {
           .map(V1ObjectMeta::getName)
           .collect(Collectors.toSet());
     }
+
+    // Only those domain namespaces assigned to this operator replica are started.
+    private Set<String> getNamespacesToStart(Set<String> foundNamespaces) {
+      return foundNamespaces.stream()
+          .filter(NamespaceShards.getInstance()::isAssigned)
+          .collect(Collectors.toSet());
+    }
   }
 
   Step createStartNamespacesStep(Collection<String> domainNamespaces) {
-    return RunInParallel.perNamespace(domainNamespaces, this::startNamespaceSteps);
+    if (isColdStart(domainNamespaces)) {
+      return createRankedStartNamespacesStep(domainNamespaces);
+    }
+    return new RunInParallel(prioritize(domainNamespaces), this::startNamespaceSteps, getNamespaceStartupConcurrency());
+  }
+
+  // Until the first make-right, no presence info is known for any of the namespaces being started,
+  // so there is nothing yet from which to rank them.
+  private boolean isColdStart(Collection<String> namespaces) {
+    return namespaces != null && namespaces.size() > 1
+        && namespaces.stream().map(domainProcessor::getDomainPresenceInfoMapForNS).allMatch(this::isEmpty);
+  }
+
+  private boolean isEmpty(Map<String, DomainPresenceInfo> presenceInfoMap) {
+    return presenceInfoMap == null || presenceInfoMap.isEmpty();
+  }
+
+  // Lists the domains in each namespace to find their persisted status, and then starts the namespaces
+  // in the order of their most recent domain condition changes.
+  private Step createRankedStartNamespacesStep(Collection<String> namespaces) {
+    Map<String, OffsetDateTime> latestActivity = new ConcurrentHashMap<>();
+    return Step.chain(
+        new RunInParallel(namespaces, ns -> createListDomainActivityStep(ns, latestActivity),
+            getNamespaceStartupConcurrency()),
+        new StartRankedNamespacesStep(namespaces, latestActivity));
+  }
+
+  private Step createListDomainActivityStep(String ns, Map<String, OffsetDateTime> latestActivity) {
+    return RequestBuilder.DOMAIN.list(ns, new DomainActivityResponseStep(ns, latestActivity));
+  }
+
+  // Records the latest condition change across the listed domains in a namespace. A namespace whose domains
+  // cannot be listed is simply not ranked; its startup will report the failure.
+  private static class DomainActivityResponseStep extends DefaultResponseStep<DomainList> {
+    private final String ns;
+    private final Map<String, OffsetDateTime> latestActivity;
+
+    DomainActivityResponseStep(String ns, Map<String, OffsetDateTime> latestActivity) {
+      this.ns = ns;
+      this.latestActivity = latestActivity;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<DomainList> callResponse) {
+      Optional.ofNullable(callResponse.getObject()).map(DomainList::getItems).orElse(Collections.emptyList())
+          .stream()
+          .map(DomainRecheck::getLatestConditionChange)
+          .filter(Objects::nonNull)
+          .forEach(time -> latestActivity.merge(ns, time, (t1, t2) -> t1.isAfter(t2) ? t1 : t2));
+      return doContinueListOrNext(callResponse, packet);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<DomainList> callResponse) {
+      return doNext(packet);
+    }
+  }
+
+  private class StartRankedNamespacesStep extends Step {
+    private final Collection<String> namespaces;
+    private final Map<String, OffsetDateTime> latestActivity;
+
+    StartRankedNamespacesStep(Collection<String> namespaces, Map<String, OffsetDateTime> latestActivity) {
+      this.namespaces = namespaces;
+      this.latestActivity = latestActivity;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doNext(Step.chain(
+          new RunInParallel(prioritize(namespaces, latestActivity::get), DomainRecheck.this::startNamespaceSteps,
+              getNamespaceStartupConcurrency()),
+          getNext()), packet);
+    }
+  }
+
+  private static int getNamespaceStartupConcurrency() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getNamespaceStartupConcurrency)
+        .orElse(1);
+  }
+
+  // Orders the namespaces so that those whose domains have changed most recently are started first.
+  // Namespaces with no known domains keep their original order, after all others.
+  List<String> prioritize(Collection<String> namespaces) {
+    return prioritize(namespaces, this::getLatestDomainActivity);
+  }
+
+  private List<String> prioritize(Collection<String> namespaces, Function<String, OffsetDateTime> latestActivity) {
+    return Optional.ofNullable(namespaces).orElse(Collections.emptyList()).stream()
+        .sorted(Comparator.comparing(latestActivity, Comparator.nullsLast(Comparator.reverseOrder())))
+        .toList();
+  }
+
+  private OffsetDateTime getLatestDomainActivity(String ns) {
+    return Optional.ofNullable(domainProcessor.getDomainPresenceInfoMapForNS(ns))
+        .map(Map::values)
+        .orElse(Collections.emptyList()).stream()
+        .map(DomainPresenceInfo::getDomain)
+        .map(DomainRecheck::getLatestConditionChange)
+        .filter(Objects::nonNull)
+        .max(Comparator.naturalOrder())
+        .orElse(null);
+  }
+
+  private static OffsetDateTime getLatestConditionChange(DomainResource domain) {
+    return Optional.ofNullable(domain)
+        .map(DomainResource::getStatus)
+        .map(DomainStatus::getConditions)
+        .orElse(Collections.emptyList()).stream()
+        .map(DomainCondition::getLastTransitionTime)
+        .filter(Objects::nonNull)
+        .max(Comparator.naturalOrder())
+        .orElse(null);
   }
 
   @SuppressWarnings("try")
@@ -215,8 +356,10 @@ class DomainRecheck {
              setThreadContext().namespace(ns)) {
       return Step.chain(
           createNamespaceReview(ns),
+          NamespaceShards.getInstance().createClaimStep(ns),
           new StartNamespaceBeforeStep(ns),
-          domainNamespaces.readExistingResources(ns, domainProcessor));
+          domainNamespaces.readExistingResources(ns, domainProcessor),
+          new NamespaceStartedStep());
     }
   }
 
@@ -236,6 +379,7 @@ class DomainRecheck {
     @Override
     public @Nonnull Result apply(Packet packet) {
       if (domainNamespaces.shouldStartNamespace(ns)) {
+        packet.put(NAMESPACE_STARTUP_TIME, SystemClock.now());
         return doNext(addNSWatchingStartingEventsStep(), packet);
       }
       if (fullRecheck) {
@@ -245,7 +389,11 @@ class DomainRecheck {
       }
     }
 
+    // Only the leader reports that a namespace is managed, so that standby replicas do not repeat it.
     private Step addNSWatchingStartingEventsStep() {
+      if (!OperatorLeadership.getInstance().isLeader()) {
+        return getNext();
+      }
       return Step.chain(
           EventHelper.createEventStep(
               domainNamespaces, new EventData(NAMESPACE_WATCHING_STARTED).namespace(ns).resourceName(ns), null),
@@ -256,19 +404,37 @@ class DomainRecheck {
     }
   }
 
+  // Records the time taken to start a namespace, if it was started rather than simply rechecked.
+  private static class NamespaceStartedStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      Optional.ofNullable((OffsetDateTime) packet.remove(NAMESPACE_STARTUP_TIME))
+          .map(start -> Duration.between(start, SystemClock.now()).toMillis() / 1000.0)
+          .ifPresent(NAMESPACE_STARTUP_DURATION::observe);
+      return doNext(packet);
+    }
+  }
+
   /**
    * Given a list of namespace names and a method that creates steps for the namespace,
    * will create the appropriate steps and run them in parallel, waiting for all to complete
-   * before proceeding.
+   * before proceeding. At most the specified number of namespaces are processed at the same time.
    */
   static class RunInParallel extends Step {
 
     final Function<String, Step> stepFactory;
     private final Collection<String> domainNamespaces;
+    private final int maxConcurrency;
 
     RunInParallel(Collection<String> domainNamespaces, Function<String, Step> stepFactory) {
+      this(domainNamespaces, stepFactory, 1);
+    }
+
+    RunInParallel(Collection<String> domainNamespaces, Function<String, Step> stepFactory, int maxConcurrency) {
       this.domainNamespaces = domainNamespaces;
       this.stepFactory = stepFactory;
+      this.maxConcurrency = maxConcurrency;
     }
 
     static Step perNamespace(Collection<String> domainNamespaces, Function<String, Step> stepFactory) {
@@ -293,7 +459,7 @@ class DomainRecheck {
             startDetails.add(new Fiber.StepAndPacket(stepFactory.apply(ns), packet.copy()));
           }
         }
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, startDetails, maxConcurrency);
       }
     }
   }
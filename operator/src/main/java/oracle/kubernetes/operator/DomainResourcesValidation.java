@@ -28,6 +28,7 @@ import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.EventHelper.EventItem;
+import oracle.kubernetes.operator.helpers.ObjectCompaction;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
@@ -171,7 +172,7 @@ class DomainResourcesValidation {
   }
 
   private void setServerPodFromEvent(DomainPresenceInfo info, String serverName, V1Pod pod) {
-    Optional.ofNullable(info).ifPresent(i -> i.setServerPodFromEvent(serverName, pod));
+    Optional.ofNullable(info).ifPresent(i -> i.setServerPodFromEvent(serverName, ObjectCompaction.compact(pod)));
   }
 
   private DomainPresenceInfo getOrComputeDomainPresenceInfo(String domainUid) {
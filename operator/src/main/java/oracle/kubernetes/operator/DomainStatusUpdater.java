@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -197,6 +198,32 @@ public class DomainStatusUpdater {
 
   }
 
+  /**
+   * Creates an asynchronous step to record the place of the domain in the queue of introspections waiting to start.
+   * @param position the position of the domain in the queue, or null if its introspection is no longer waiting
+   * @param estimatedWaitSeconds the estimated number of seconds until the introspection starts, or null
+   * @param next the next step
+   */
+  public static Step createIntrospectionQueueStep(Integer position, Integer estimatedWaitSeconds, Step next) {
+    return new IntrospectionQueueStep(position, estimatedWaitSeconds, next);
+  }
+
+  private static class IntrospectionQueueStep extends DomainStatusUpdaterStep {
+    private final Integer position;
+    private final Integer estimatedWaitSeconds;
+
+    private IntrospectionQueueStep(Integer position, Integer estimatedWaitSeconds, Step next) {
+      super(next);
+      this.position = position;
+      this.estimatedWaitSeconds = estimatedWaitSeconds;
+    }
+
+    @Override
+    void modifyStatus(DomainStatus status) {
+      status.setIntrospectionQueue(position, estimatedWaitSeconds);
+    }
+  }
+
   /**
    * Creates an asynchronous step to initialize the domain status, if needed, to indicate that the operator has
    * seen the domain and is now working on it.
@@ -662,12 +689,20 @@ public class DomainStatusUpdater {
       return info == null || info.getDomain() == null;
     }
 
+    /**
+     * Computes the domain status from the contributions of its servers. Each server's contribution is derived from
+     * its pod and reported state the first time that it is needed, and then shared by all the server, cluster and
+     * domain level computations of the update, so that an update takes time linear in the number of servers.
+     */
     static class StatusUpdateContext extends DomainStatusUpdaterContext {
       private final WlsDomainConfig config;
       private final Set<String> expectedRunningServers;
       private final Map<String, String> serverState;
       private final Map<String, ServerHealth> serverHealth;
       private final Packet packet;
+      private final Map<String, ServerContribution> contributions = new HashMap<>();
+      private final Map<String, Optional<String>> configuredClusterNames = new HashMap<>();
+      private Set<String> clustersWithServersMarkedForRoll;
 
       StatusUpdateContext(Packet packet, StatusUpdateStep statusUpdateStep) {
         super(packet, statusUpdateStep);
@@ -787,12 +822,14 @@ public class DomainStatusUpdater {
       class Conditions {
 
         private final DomainStatus status;
+        private final Set<String> adminServerNames;
         private final ClusterCheck[] clusterChecks;
         private final List<DomainCondition> conditionList = new ArrayList<>();
         private final DomainStatus oldStatus;
 
         public Conditions(DomainStatus status) {
           this.status = status != null ? status : new DomainStatus();
+          this.adminServerNames = getAdminServerNames();
           this.clusterChecks = createClusterChecks();
           boolean isCompleted = isProcessingCompleted() && !this.status.hasConditionWithType(FAILED);
           conditionList.add(new DomainCondition(COMPLETED).withStatus(isCompleted));
@@ -843,13 +880,26 @@ public class DomainStatusUpdater {
               && failureReasonMatch(c, condition) && "True".equals(c.getStatus());
         }
 
+        private Set<String> getAdminServerNames() {
+          return status.getServers().stream()
+              .filter(ServerStatus::isAdminServer)
+              .map(ServerStatus::getServerName)
+              .collect(Collectors.toSet());
+        }
+
         @Nonnull
         private ClusterCheck[] createClusterChecks() {
-          return status.getClusters().stream().map(this::createFrom).toArray(ClusterCheck[]::new);
+          final Map<String, List<String>> serversByCluster = getServerNamesByCluster();
+          return status.getClusters().stream()
+              .map(c -> new ClusterCheck(c, serversByCluster.getOrDefault(c.getClusterName(), List.of())))
+              .toArray(ClusterCheck[]::new);
         }
 
-        private ClusterCheck createFrom(ClusterStatus clusterStatus) {
-          return new ClusterCheck(status, clusterStatus);
+        private Map<String, List<String>> getServerNamesByCluster() {
+          return status.getServers().stream()
+              .filter(s -> s.getClusterName() != null)
+              .collect(Collectors.groupingBy(ServerStatus::getClusterName,
+                  Collectors.mapping(ServerStatus::getServerName, Collectors.toList())));
         }
 
         private boolean isProcessingCompleted() {
@@ -983,9 +1033,7 @@ public class DomainStatusUpdater {
         }
 
         private boolean isAdminServer(String serverName) {
-          return status.getServers().stream()
-              .filter(s -> s.getServerName().equals(serverName))
-              .anyMatch(ServerStatus::isAdminServer);
+          return adminServerNames.contains(serverName);
         }
       }
 
@@ -998,29 +1046,13 @@ public class DomainStatusUpdater {
         private final List<String> nonStartedServers;
         private final ClusterStatus clusterStatus;
 
-        ClusterCheck(DomainStatus domainStatus, ClusterStatus clusterStatus) {
+        ClusterCheck(ClusterStatus clusterStatus, List<String> clusteredServers) {
           this.clusterStatus = clusterStatus;
           clusterName = clusterStatus.getClusterName();
           maxReplicaCount = clusterStatus.getMaximumReplicas();
           specifiedReplicaCount = clusterStatus.getReplicasGoal();
-          startedServers = getStartedServersInCluster(domainStatus, clusterName);
-          nonStartedServers = getNonStartedClusteredServers(domainStatus, clusterName);
-        }
-
-        private List<String> getStartedServersInCluster(DomainStatus domainStatus, String clusterName) {
-          return domainStatus.getServers().stream()
-              .filter(s -> clusterName.equals(s.getClusterName()))
-              .map(ServerStatus::getServerName)
-              .filter(expectedRunningServers::contains)
-              .toList();
-        }
-
-        private List<String> getNonStartedClusteredServers(DomainStatus domainStatus, String clusterName) {
-          return domainStatus.getServers().stream()
-              .filter(s -> clusterName.equals(s.getClusterName()))
-              .map(ServerStatus::getServerName)
-              .filter(name -> !expectedRunningServers.contains(name))
-              .toList();
+          startedServers = clusteredServers.stream().filter(expectedRunningServers::contains).toList();
+          nonStartedServers = clusteredServers.stream().filter(name -> !expectedRunningServers.contains(name)).toList();
         }
 
         boolean isAvailable() {
@@ -1048,7 +1080,7 @@ public class DomainStatusUpdater {
         private boolean isClusterStartupCompleted() {
           return allStartedClusterServersAreComplete()
               && allNonStartedClusterServersAreShutdown()
-              && clusteredServersMarkedForRoll().isEmpty();
+              && !getClustersWithServersMarkedForRoll().contains(clusterName);
         }
 
         private boolean allStartedClusterServersAreComplete() {
@@ -1060,16 +1092,6 @@ public class DomainStatusUpdater {
           return nonStartedServers.stream().allMatch(StatusUpdateContext.this::isShutDown);
         }
 
-        private Set<String> clusteredServersMarkedForRoll() {
-          return serversMarkedForRoll().stream()
-              .filter(this::isServerInThisCluster)
-              .collect(Collectors.toSet());
-        }
-
-        private boolean isServerInThisCluster(String serverName) {
-          return clusterName.equals(getClusterName(serverName));
-        }
-
         private boolean isClusterIntentionallyShutDown() {
           return getInfo().getServerStartupInfo() != null && startedServers.isEmpty();
         }
@@ -1138,7 +1160,7 @@ public class DomainStatusUpdater {
 
         private void updateServerStatus(ServerStatus status) {
           final String serverName = status.getServerName();
-          status.withState(getRunningState(serverName));
+          status.withState(getContribution(serverName).runningState);
           status.withHealth(serverHealth == null ? null : serverHealth.get(serverName));
           status.withNodeName(getNodeName(serverName));
           Optional.ofNullable(info).map(i -> i.getServerPod(serverName))
@@ -1165,20 +1187,21 @@ public class DomainStatusUpdater {
           return "Running".equals(status.getPhase());
         }
 
-        private void updateClusterStatus(ClusterStatus clusterStatus) {
+        private void updateClusterStatus(ClusterStatus clusterStatus, Map<String, Long> replicas,
+                                         Map<String, Long> readyReplicas) {
           final String clusterName = clusterStatus.getClusterName();
           clusterStatus
-              .withReplicas(getNumReplicas(clusterName, this::hasServerPod))
-              .withReadyReplicas(getNumReplicas(clusterName, this::hasReadyServerPod));
+              .withReplicas(getNumReplicas(replicas, clusterName))
+              .withReadyReplicas(getNumReplicas(readyReplicas, clusterName));
         }
 
         @Nullable
-        private Integer getNumReplicas(String clusterName, Predicate<String> serverFilter) {
-          return Optional.ofNullable(getClusterCounts(serverFilter).get(clusterName)).map(Long::intValue).orElse(null);
+        private Integer getNumReplicas(Map<String, Long> clusterCounts, String clusterName) {
+          return Optional.ofNullable(clusterCounts.get(clusterName)).map(Long::intValue).orElse(null);
         }
 
-        Integer getReplicaSetting() {
-          Collection<Long> values = getClusterCounts(this::hasServerPod).values();
+        Integer getReplicaSetting(Map<String, Long> replicas) {
+          Collection<Long> values = replicas.values();
           if (values.size() == 1) {
             return values.iterator().next().intValue();
           } else {
@@ -1186,35 +1209,23 @@ public class DomainStatusUpdater {
           }
         }
 
-        private Map<String, Long> getClusterCounts(Predicate<String> serverFilter) {
-          return status.getServers().stream()
+        private Map<String, Long> getClusterCounts(List<ServerStatus> servers, Predicate<ServerContribution> filter) {
+          return servers.stream()
               .map(ServerStatus::getServerName)
-              .filter(serverFilter)
-              .map(this::getClusterNameFromPod)
+              .map(StatusUpdateContext.this::getContribution)
+              .filter(filter)
+              .map(c -> c.clusterNameFromPod)
               .filter(Objects::nonNull)
               .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
         }
 
-        private boolean hasServerPod(String serverName) {
-          return Optional.ofNullable(getInfo().getServerPod(serverName)).isPresent();
-        }
-
-        private boolean hasReadyServerPod(String serverName) {
-          return Optional.ofNullable(getInfo().getServerPod(serverName)).filter(PodHelper::hasReadyStatus).isPresent();
-        }
-
-        private String getClusterNameFromPod(String serverName) {
-          return Optional.ofNullable(getInfo().getServerPod(serverName))
-              .map(V1Pod::getMetadata)
-              .map(V1ObjectMeta::getLabels)
-              .map(l -> l.get(CLUSTERNAME_LABEL))
-              .orElse(null);
-        }
-
         private void updateStatusDetails() {
-          status.getServers().forEach(this::updateServerStatus);
-          status.getClusters().forEach(this::updateClusterStatus);
-          status.setReplicas(getReplicaSetting());
+          final List<ServerStatus> servers = status.getServers();
+          servers.forEach(this::updateServerStatus);
+          final Map<String, Long> replicas = getClusterCounts(servers, ServerContribution::hasPod);
+          final Map<String, Long> readyReplicas = getClusterCounts(servers, c -> c.podReady);
+          status.getClusters().forEach(c -> updateClusterStatus(c, replicas, readyReplicas));
+          status.setReplicas(getReplicaSetting(replicas));
         }
       }
 
@@ -1286,28 +1297,15 @@ public class DomainStatusUpdater {
       }
 
       private boolean isServerReady(@Nonnull String serverName) {
-        return RUNNING_STATE.equals(getRunningState(serverName))
-              && PodHelper.hasReadyStatus(getInfo().getServerPod(serverName));
+        return getContribution(serverName).isReady();
       }
 
-      // A server is complete if it is ready, is in the WLS running state and
-      // does not need to roll to accommodate changes to the domain.
       private boolean isServerComplete(@Nonnull String serverName) {
-        return isServerReady(serverName)
-            && isNotMarkedForRoll(serverName);
-      }
-
-      // returns true if the server pod does not have an annotation indicating that it needs to be rolled
-      private boolean isNotMarkedForRoll(String serverName) {
-        return Optional.ofNullable(getInfo().getServerPod(serverName))
-            .map(V1Pod::getMetadata)
-            .map(V1ObjectMeta::getAnnotations)
-            .map(Map::keySet).orElse(Collections.emptySet()).stream()
-            .noneMatch(k -> k.equals(TO_BE_ROLLED_LABEL));
+        return getContribution(serverName).isComplete();
       }
 
       private boolean isShutDown(@Nonnull String serverName) {
-        return SHUTDOWN_STATE.equals(getRunningState(serverName));
+        return SHUTDOWN_STATE.equals(getContribution(serverName).runningState);
       }
 
       private Set<String> serversMarkedForRoll() {
@@ -1317,6 +1315,60 @@ public class DomainStatusUpdater {
             .orElse(Collections.emptySet());
       }
 
+      private Set<String> getClustersWithServersMarkedForRoll() {
+        if (clustersWithServersMarkedForRoll == null) {
+          clustersWithServersMarkedForRoll = serversMarkedForRoll().stream()
+              .map(this::getClusterName)
+              .filter(Objects::nonNull)
+              .collect(Collectors.toSet());
+        }
+        return clustersWithServersMarkedForRoll;
+      }
+
+      private ServerContribution getContribution(String serverName) {
+        return contributions.computeIfAbsent(serverName, ServerContribution::new);
+      }
+
+      /**
+       * The state of a single server, and of its pod, as used to compute the domain status.
+       */
+      private class ServerContribution {
+        private final V1Pod pod;
+        private final String runningState;
+        private final boolean podReady;
+        private final String clusterNameFromPod;
+
+        ServerContribution(String serverName) {
+          pod = getInfo().getServerPod(serverName);
+          runningState = getRunningState(serverName, pod);
+          podReady = PodHelper.hasReadyStatus(pod);
+          clusterNameFromPod = getClusterNameFromPod(pod);
+        }
+
+        boolean hasPod() {
+          return pod != null;
+        }
+
+        boolean isReady() {
+          return RUNNING_STATE.equals(runningState) && podReady;
+        }
+
+        // A server is complete if it is ready, is in the WLS running state and
+        // does not need to roll to accommodate changes to the domain.
+        boolean isComplete() {
+          return isReady() && isNotMarkedForRoll();
+        }
+
+        // returns true if the server pod does not have an annotation indicating that it needs to be rolled
+        private boolean isNotMarkedForRoll() {
+          return Optional.ofNullable(pod)
+              .map(V1Pod::getMetadata)
+              .map(V1ObjectMeta::getAnnotations)
+              .map(Map::keySet).orElse(Collections.emptySet()).stream()
+              .noneMatch(k -> k.equals(TO_BE_ROLLED_LABEL));
+        }
+      }
+
       private boolean isHasFailedPod() {
         return getInfo().getServerPodsNotBeingDeleted().anyMatch(PodHelper::isFailed);
       }
@@ -1391,10 +1443,10 @@ public class DomainStatusUpdater {
         return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getName).orElse("");
       }
 
-      private String getRunningState(String serverName) {
-        if (!getInfo().getServerNames().contains(serverName)) {
+      private String getRunningState(String serverName, V1Pod pod) {
+        if (pod == null) {
           return SHUTDOWN_STATE;
-        } else if (isDeleting(serverName)) {
+        } else if (PodHelper.isDeleting(pod)) {
           return SHUTTING_DOWN_STATE;
         } else {
           return Optional.ofNullable(getInfo().getLastKnownServerStatus(serverName))
@@ -1406,22 +1458,20 @@ public class DomainStatusUpdater {
         return Optional.ofNullable(serverState).map(m -> m.get(serverName)).orElse(null);
       }
 
-      private boolean isDeleting(String serverName) {
-        return Optional.ofNullable(getInfo().getServerPod(serverName)).map(PodHelper::isDeleting).orElse(false);
-      }
-
       private boolean isStartedServer(String serverName) {
         return expectedRunningServers.contains(serverName);
       }
 
       private String getClusterName(String serverName) {
-        return getDomainConfig()
-            .map(c -> c.getClusterName(serverName))
-            .orElse(getClusterNameFromPod(serverName));
+        return getConfiguredClusterName(serverName)
+            .orElseGet(() -> getContribution(serverName).clusterNameFromPod);
       }
 
-      private String getClusterNameFromPod(String serverName) {
-        return getClusterNameFromPod(getInfo().getServerPod(serverName));
+      // Looked up only for the servers in the status, and only once for each, so that the servers
+      // of a dynamic cluster are not all derived on each update.
+      private Optional<String> getConfiguredClusterName(String serverName) {
+        return configuredClusterNames.computeIfAbsent(serverName,
+            name -> getDomainConfig().map(c -> c.getClusterName(name)));
       }
 
       private String getClusterNameFromPod(V1Pod pod) {
@@ -30,6 +30,9 @@ public interface LabelConstants {
   String DOMAIN_OBSERVED_GENERATION_LABEL = "weblogic.domainObservedGeneration";
   String CLUSTER_OBSERVED_GENERATION_LABEL = "weblogic.clusterObservedGeneration";
   String SERVICE_TYPE_LABEL = "serviceType";
+  String INTROSPECTOR_POOL_LABEL = "weblogic.introspectorPool";
+  String EXPORTER_CONFIGURATION_HASH = "weblogic.exporterConfigurationHash";
+  String OPERATOR_SHARD_LABEL = "weblogic.operatorShard";
 
   static String forDomainUidSelector(String uid) {
     return String.format("%s=%s", DOMAINUID_LABEL, uid);
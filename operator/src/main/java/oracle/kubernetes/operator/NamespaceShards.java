@@ -0,0 +1,515 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import io.kubernetes.client.util.generic.options.PatchOptions;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.ServerSideApply;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import static oracle.kubernetes.operator.LabelConstants.OPERATOR_SHARD_LABEL;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorPodName;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.DOMAINS;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.NAMESPACES;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.NAMESPACE_SHARD_LOAD;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.NAMESPACE_SHARD_MEMBERS;
+
+/**
+ * Divides the domain namespaces among several active operator replicas, when namespace sharding is enabled.
+ * Each replica keeps a Lease in the operator namespace, renewed each time that the operator rechecks its
+ * namespaces, which shows that the replica is alive, lists the namespaces that it has claimed and reports
+ * its load. The namespaces are assigned to the live replicas by consistent hashing, so that a replica
+ * joining or leaving moves only the namespaces assigned to or from that replica.
+ *
+ * <p>A namespace is handed off without ever being managed by two replicas at once. A replica which loses a
+ * namespace stops managing it before withdrawing its claim, and a replica starts managing a namespace only
+ * after publishing its own claim and then finding that no other live replica claims it. If two replicas claim
+ * a namespace at the same time, at least one of them sees the other's claim and withdraws.
+ *
+ * <p>Each write of the lease is built from the claims as they are when it is sent, and is made only if the lease
+ * has not changed since this replica last wrote it, so that a write built earlier cannot replace a later one.
+ */
+public class NamespaceShards {
+
+  static final String CLAIMED_NAMESPACES_ANNOTATION = "weblogic.shardNamespaces";
+  static final String DOMAIN_COUNT_ANNOTATION = "weblogic.shardDomains";
+  static final int VIRTUAL_NODES_PER_REPLICA = 64;
+
+  private static final String LEASE_NAME_PREFIX = "weblogic-operator-shard-";
+  private static final String DEFAULT_REPLICA_NAME = "weblogic-operator";
+  private static final JSON json = new JSON();
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static NamespaceShards instance = new NamespaceShards();
+
+  private final String replicaName;
+  private final Set<String> claims = ConcurrentHashMap.newKeySet();
+  private volatile ShardView view;
+  private volatile OffsetDateTime lastRenewal;
+  private volatile String leaseVersion;
+  private volatile int domainCount;
+
+  public static NamespaceShards getInstance() {
+    return instance;
+  }
+
+  private NamespaceShards() {
+    this(Optional.ofNullable(getOperatorPodName()).filter(name -> !name.isEmpty()).orElse(DEFAULT_REPLICA_NAME));
+  }
+
+  NamespaceShards(String replicaName) {
+    this.replicaName = replicaName;
+    this.view = new ShardView(replicaName, Collections.emptyList());
+  }
+
+  /**
+   * Returns true if this operator shares the domain namespaces with other replicas.
+   */
+  public boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::isNamespaceShardingEnabled)
+          .orElse(false)
+        && !OperatorMain.isDedicated();
+  }
+
+  /**
+   * Returns true if this replica should manage the specified domain namespace. Every namespace is assigned
+   * when sharding is disabled. Otherwise, a namespace is assigned if this replica's lease is current and the
+   * namespace hashes to this replica, provided that this replica already holds it or no other replica does.
+   * @param namespace a domain namespace
+   */
+  public boolean isAssigned(String namespace) {
+    if (!isEnabled()) {
+      return true;
+    } else if (!isLeaseCurrent()) {
+      return false;
+    }
+
+    final ShardView current = view;
+    return current.isOwner(namespace) && (claims.contains(namespace) || !current.isClaimedByOther(namespace));
+  }
+
+  private boolean isLeaseCurrent() {
+    return Optional.ofNullable(lastRenewal)
+          .map(renewal -> renewal.plusSeconds(getLeaseDurationSeconds()).isAfter(SystemClock.now()))
+          .orElse(false);
+  }
+
+  /**
+   * Withdraws this replica's claim to a namespace which it has stopped managing. The withdrawal is published
+   * when the lease is next renewed.
+   * @param namespace a domain namespace
+   */
+  public void release(String namespace) {
+    claims.remove(namespace);
+  }
+
+  /**
+   * Creates a step which renews this replica's lease, reporting its claims and load, and then updates its
+   * view of the live replicas. Does nothing if sharding is disabled.
+   * @param domainProcessor the processor whose domains are counted for the load report
+   * @return the created step
+   */
+  public Step createRenewStep(DomainProcessor domainProcessor) {
+    return new RenewStep(domainProcessor);
+  }
+
+  /**
+   * Creates a step which claims a namespace for this replica before it starts managing it. The remaining steps
+   * are skipped if another replica already claims the namespace. Does nothing if sharding is disabled or
+   * this replica already holds the claim.
+   * @param namespace the namespace to claim
+   * @return the created step
+   */
+  public Step createClaimStep(String namespace) {
+    return new ClaimStep(namespace);
+  }
+
+  /**
+   * Creates a step which deletes this replica's lease, so that its namespaces are reassigned at once, rather than
+   * when the lease expires. Returns null if sharding is disabled.
+   */
+  public Step createReleaseStep() {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    claims.clear();
+    leaseVersion = null;
+    return RequestBuilder.LEASE.delete(getOperatorNamespace(), getLeaseName(), new ReleaseResponseStep());
+  }
+
+  private static class ReleaseResponseStep extends ResponseStep<V1Lease> {
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      return doNext(packet);
+    }
+
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      return doNext(packet);
+    }
+  }
+
+  /**
+   * Returns the names of the live replicas, as last seen by this one.
+   */
+  Collection<String> getMembers() {
+    return view.getMembers();
+  }
+
+  /**
+   * Returns the name of the replica to which the specified namespace hashes, as last seen by this one.
+   */
+  String getOwner(String namespace) {
+    return view.getOwner(namespace);
+  }
+
+  private String getLeaseName() {
+    return LEASE_NAME_PREFIX + replicaName;
+  }
+
+  private static int getLeaseDurationSeconds() {
+    return TuningParameters.getInstance().getNamespaceShardLeaseDurationSeconds();
+  }
+
+  private Step createWriteLeaseStep(Step next) {
+    return createWriteLeaseStep(new WriteLeaseResponseStep(next));
+  }
+
+  private Step createWriteLeaseStep(WriteLeaseResponseStep responseStep) {
+    return new WriteLeaseStep(responseStep);
+  }
+
+  // Builds the lease when the request is sent, rather than when the step is created.
+  private class WriteLeaseStep extends Step {
+    private final WriteLeaseResponseStep responseStep;
+
+    WriteLeaseStep(WriteLeaseResponseStep responseStep) {
+      this.responseStep = responseStep;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final PatchOptions options = new PatchOptions().fieldManager(ServerSideApply.FIELD_MANAGER).force(true);
+      final V1Patch patch = new V1Patch(json.serialize(createLease(responseStep.renewTime)));
+      return doNext(RequestBuilder.LEASE.patch(getOperatorNamespace(), getLeaseName(),
+            V1Patch.PATCH_FORMAT_APPLY_YAML, patch, options, responseStep), packet);
+    }
+  }
+
+  private V1Lease createLease(OffsetDateTime renewTime) {
+    return new V1Lease().apiVersion("coordination.k8s.io/v1").kind("Lease")
+          .metadata(new V1ObjectMeta().namespace(getOperatorNamespace()).name(getLeaseName())
+                .resourceVersion(leaseVersion)
+                .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, getOperatorNamespace())
+                .putLabelsItem(OPERATOR_SHARD_LABEL, "true")
+                .putAnnotationsItem(CLAIMED_NAMESPACES_ANNOTATION, String.join(",", new TreeSet<>(claims)))
+                .putAnnotationsItem(DOMAIN_COUNT_ANNOTATION, Integer.toString(domainCount)))
+          .spec(new V1LeaseSpec().holderIdentity(replicaName).renewTime(renewTime)
+                .leaseDurationSeconds(getLeaseDurationSeconds()));
+  }
+
+  private class WriteLeaseResponseStep extends ResponseStep<V1Lease> {
+    private final OffsetDateTime renewTime = SystemClock.now();
+
+    WriteLeaseResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      leaseVersion = getResourceVersion(callResponse.getObject());
+      lastRenewal = renewTime;
+      return doNext(packet);
+    }
+
+    // The lease was changed by a write which was sent concurrently. Builds the write again from the current claims.
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      return onFailure(createRefreshLeaseVersionStep(new WriteLeaseStep(this)), packet, callResponse);
+    }
+
+    // A replica which cannot renew its lease continues, and stops its namespaces once the lease has expired.
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      leaseVersion = null;
+      return doNext(packet);
+    }
+  }
+
+  private static String getResourceVersion(V1Lease lease) {
+    return Optional.ofNullable(lease).map(V1Lease::getMetadata).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  private Step createRefreshLeaseVersionStep(Step next) {
+    return RequestBuilder.LEASE.get(getOperatorNamespace(), getLeaseName(), new ReadLeaseVersionResponseStep(next));
+  }
+
+  private class ReadLeaseVersionResponseStep extends ResponseStep<V1Lease> {
+
+    ReadLeaseVersionResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      leaseVersion = getResourceVersion(callResponse.getObject());
+      return doNext(packet);
+    }
+
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      leaseVersion = null;
+      return doNext(packet);
+    }
+  }
+
+  private Step createReadLeasesStep(ReadLeasesResponseStep responseStep) {
+    return RequestBuilder.LEASE.list(getOperatorNamespace(),
+          new ListOptions().labelSelector(OPERATOR_SHARD_LABEL + "=true"), responseStep);
+  }
+
+  private class ReadLeasesResponseStep extends ResponseStep<V1LeaseList> {
+
+    ReadLeasesResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1LeaseList> callResponse) {
+      view = new ShardView(replicaName, getLiveMembers(callResponse.getObject()));
+      recordLoad(view);
+      return doNext(packet);
+    }
+
+    List<Member> getLiveMembers(V1LeaseList leases) {
+      final OffsetDateTime now = SystemClock.now();
+      return Optional.ofNullable(leases).map(V1LeaseList::getItems).orElse(Collections.emptyList()).stream()
+            .map(Member::fromLease)
+            .filter(Objects::nonNull)
+            .filter(member -> member.isLive(now))
+            .toList();
+    }
+  }
+
+  private static void recordLoad(ShardView view) {
+    NAMESPACE_SHARD_MEMBERS.set(view.members.size());
+    NAMESPACE_SHARD_LOAD.clear();
+    for (Member member : view.members.values()) {
+      NAMESPACE_SHARD_LOAD.labels(member.name, NAMESPACES).set(member.claims.size());
+      NAMESPACE_SHARD_LOAD.labels(member.name, DOMAINS).set(member.domainCount);
+    }
+  }
+
+  private class RenewStep extends Step {
+    private final DomainProcessor domainProcessor;
+
+    RenewStep(DomainProcessor domainProcessor) {
+      this.domainProcessor = domainProcessor;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (!isEnabled()) {
+        return doNext(packet);
+      }
+
+      domainCount = countDomains();
+      return doNext(createWriteLeaseStep(createReadLeasesStep(new ReadLeasesResponseStep(getNext()))), packet);
+    }
+
+    private int countDomains() {
+      return claims.stream()
+            .map(domainProcessor::getDomainPresenceInfoMapForNS)
+            .filter(Objects::nonNull)
+            .mapToInt(Map::size)
+            .sum();
+    }
+  }
+
+  private class ClaimStep extends Step {
+    private final String namespace;
+
+    ClaimStep(String namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (!isEnabled() || claims.contains(namespace)) {
+        return doNext(packet);
+      }
+
+      claims.add(namespace);
+      return doNext(createWriteLeaseStep(new PublishClaimResponseStep(namespace, getNext())), packet);
+    }
+  }
+
+  // Withdraws a claim and publishes the withdrawal, skipping any further steps.
+  private Step createWithdrawClaimStep(String namespace) {
+    claims.remove(namespace);
+    return createWriteLeaseStep(new WriteLeaseResponseStep(null));
+  }
+
+  // Once the claim is published, reads the leases again to verify it.
+  private class PublishClaimResponseStep extends WriteLeaseResponseStep {
+    private final String namespace;
+
+    PublishClaimResponseStep(String namespace, Step next) {
+      super(createReadLeasesStep(new VerifyClaimResponseStep(namespace, next)));
+      this.namespace = namespace;
+    }
+
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      return doNext(createWithdrawClaimStep(namespace), packet);
+    }
+  }
+
+  // Checks that this replica's lease still shows a namespace which it has just claimed, and that no other live
+  // replica claims it. Otherwise, withdraws the claim at once and skips the remaining steps.
+  private class VerifyClaimResponseStep extends ReadLeasesResponseStep {
+    private final String namespace;
+
+    VerifyClaimResponseStep(String namespace, Step next) {
+      super(next);
+      this.namespace = namespace;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1LeaseList> callResponse) {
+      final ShardView verified = new ShardView(replicaName, getLiveMembers(callResponse.getObject()));
+      view = verified;
+      if (claims.contains(namespace) && verified.isClaimedBySelf(namespace)
+          && verified.isOwner(namespace) && !verified.isClaimedByOther(namespace)) {
+        return doNext(packet);
+      }
+      return doNext(createWithdrawClaimStep(namespace), packet);
+    }
+
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1LeaseList> callResponse) {
+      return doNext(createWithdrawClaimStep(namespace), packet);
+    }
+  }
+
+  private record Member(String name, Set<String> claims, int domainCount, OffsetDateTime expiration) {
+
+    static Member fromLease(V1Lease lease) {
+      final V1LeaseSpec spec = lease.getSpec();
+      if (spec == null || spec.getHolderIdentity() == null || spec.getRenewTime() == null) {
+        return null;
+      }
+
+      final Map<String, String> annotations = Optional.ofNullable(lease.getMetadata())
+            .map(V1ObjectMeta::getAnnotations).orElse(Collections.emptyMap());
+      return new Member(spec.getHolderIdentity(),
+            parseClaims(annotations.get(CLAIMED_NAMESPACES_ANNOTATION)),
+            parseCount(annotations.get(DOMAIN_COUNT_ANNOTATION)),
+            spec.getRenewTime().plusSeconds(Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(0)));
+    }
+
+    private static Set<String> parseClaims(String value) {
+      return Optional.ofNullable(value).stream()
+            .flatMap(v -> Arrays.stream(v.split(",")))
+            .filter(ns -> !ns.isEmpty())
+            .collect(Collectors.toSet());
+    }
+
+    private static int parseCount(String value) {
+      try {
+        return Optional.ofNullable(value).map(Integer::parseInt).orElse(0);
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+
+    boolean isLive(OffsetDateTime now) {
+      return expiration.isAfter(now);
+    }
+  }
+
+  /**
+   * The live replicas as seen from one of them: a consistent-hash ring on which each replica has a number of
+   * virtual nodes, and the namespaces claimed by the other replicas.
+   */
+  private static class ShardView {
+    private final String replicaName;
+    private final Map<String, Member> members = new HashMap<>();
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+    private final Map<String, String> otherClaims = new HashMap<>();
+
+    ShardView(String replicaName, List<Member> liveMembers) {
+      this.replicaName = replicaName;
+      liveMembers.forEach(member -> members.put(member.name, member));
+      members.putIfAbsent(replicaName, new Member(replicaName, Set.of(), 0, OffsetDateTime.MAX));
+
+      for (String name : members.keySet()) {
+        for (int i = 0; i < VIRTUAL_NODES_PER_REPLICA; i++) {
+          ring.put(hash(name + "#" + i), name);
+        }
+      }
+      members.values().stream()
+            .filter(member -> !member.name.equals(replicaName))
+            .forEach(member -> member.claims.forEach(ns -> otherClaims.put(ns, member.name)));
+    }
+
+    Collection<String> getMembers() {
+      return new TreeSet<>(members.keySet());
+    }
+
+    boolean isOwner(String namespace) {
+      return replicaName.equals(getOwner(namespace));
+    }
+
+    String getOwner(String namespace) {
+      return Optional.ofNullable(ring.ceilingEntry(hash(namespace))).orElse(ring.firstEntry()).getValue();
+    }
+
+    boolean isClaimedBySelf(String namespace) {
+      return members.get(replicaName).claims.contains(namespace);
+    }
+
+    boolean isClaimedByOther(String namespace) {
+      return otherClaims.containsKey(namespace);
+    }
+
+    private static long hash(String key) {
+      return ByteBuffer.wrap(DigestUtils.sha256(key)).getLong();
+    }
+  }
+}
@@ -18,9 +18,11 @@ import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1JobList;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.calls.MetadataOnly;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.watcher.ClusterWatcher;
@@ -60,6 +62,11 @@ class NamespacedResources {
   }
 
   Step createListSteps() {
+    return createListSteps(null);
+  }
+
+  // The step before completion, if any, runs once every resource has been listed, before its processing completes.
+  Step createListSteps(Step beforeCompletion) {
     return Step.chain(
           getConfigMapListSteps(),
           getPodEventListSteps(),
@@ -68,8 +75,10 @@ class NamespacedResources {
           getPodListSteps(),
           getServiceListSteps(),
           getPodDisruptionBudgetListSteps(),
+          getSecretListSteps(),
           getDomainListSteps(),
           getClusterListSteps(),
+          beforeCompletion,
           new CompletionStep()
     );
   }
@@ -84,7 +93,7 @@ class NamespacedResources {
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
     return Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
-        RequestBuilder.CM.list(namespace, new ListResponseStep<>(processing)));
+        RequestBuilder.CM.list(namespace, new ListOptions(), new ListResponseStep<>(processing), MetadataOnly.LISTS));
   }
 
   private ConfigMapWatcher getConfigMapWatcher() {
@@ -188,6 +197,17 @@ class NamespacedResources {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getServiceWatcher(namespace)).orElse(null);
   }
 
+  // Secrets are listed only to start their watcher and index their names, so the watcher is not paused during
+  // the list, and only their metadata is requested.
+  private Step getSecretListSteps() {
+    return getListProcessing(Processors::getSecretListProcessing).map(this::createSecretListStep).orElse(null);
+  }
+
+  private Step createSecretListStep(List<Consumer<V1SecretList>> processing) {
+    return RequestBuilder.SECRET.list(namespace, new ListOptions(), new ListResponseStep<>(processing),
+        MetadataOnly.LISTS);
+  }
+
   private Step getClusterListSteps() {
     return getListProcessing(Processors::getClusterListProcessing).map(this::createClusterListSteps).orElse(null);
   }
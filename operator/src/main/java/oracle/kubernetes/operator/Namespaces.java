@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.WeakHashMap;
 import java.util.regex.Pattern;
@@ -283,11 +284,17 @@ public class Namespaces {
                                                                 NamespaceValidationContext validationContext) {
       return domainNamespaces.getNamespaces().stream()
           .filter(validationContext::isNotManaged)
-          .map(n -> createNSStopEventDetails(packet, n)).toList();
+          .map(n -> createNSStopEventDetails(packet, n))
+          .filter(Objects::nonNull)
+          .toList();
     }
 
+    // Only the leader reports that a namespace is no longer managed, so that standby replicas do not repeat it.
     private Fiber.StepAndPacket createNSStopEventDetails(Packet packet, String namespace) {
       LOGGER.info(MessageKeys.END_MANAGING_NAMESPACE, namespace);
+      if (!OperatorLeadership.getInstance().isLeader()) {
+        return null;
+      }
       return new Fiber.StepAndPacket(getSteps(namespace), packet.copy());
     }
 
@@ -328,10 +335,11 @@ public class Namespaces {
     }
 
     // Halts processing of any managed namespaces that are no longer to be managed, either because
-    // they have been deleted from the Kubernetes cluster or because the operator is no longer configured for them.
+    // they have been deleted from the Kubernetes cluster, because the operator is no longer configured for them,
+    // or because they have been assigned to another operator replica.
     private void stopRemovedNamespaces(NamespaceValidationContext validationContext) {
       domainNamespaces.getNamespaces().stream()
-            .filter(validationContext::isNoLongerActiveDomainNamespace)
+            .filter(validationContext::isNoLongerManagedHere)
             .forEach(domainNamespaces::stopNamespace);
     }
   }
@@ -348,7 +356,11 @@ public class Namespaces {
     }
 
     private boolean isNotManaged(String ns) {
-      return isNoLongerActiveDomainNamespace(ns) || domainNamespaces.isStopping(ns).get();
+      return isNoLongerManagedHere(ns) || domainNamespaces.isStopping(ns).get();
+    }
+
+    private boolean isNoLongerManagedHere(String ns) {
+      return isNoLongerActiveDomainNamespace(ns) || !NamespaceShards.getInstance().isAssigned(ns);
     }
 
     private boolean isNoLongerActiveDomainNamespace(String ns) {
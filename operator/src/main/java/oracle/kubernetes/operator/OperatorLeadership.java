@@ -0,0 +1,332 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorPodName;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.LEADER_FIRST_RECONCILE;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.OPERATOR_LEADER;
+
+/**
+ * Elects one of several operator replicas as the leader, when hot standby is enabled. Every replica starts its
+ * domain namespaces, watches their resources and keeps its domain presence information current, but only the
+ * leader reconciles domains. The leader holds a Lease in the operator namespace, which it renews each time that
+ * the operator rechecks its namespaces. A standby replica takes over once the lease has gone unrenewed for its
+ * full duration, as measured by the standby's own clock, or at once if the leader released it when shutting down.
+ * Because its watches are already running and its caches are warm, a new leader starts reconciling its cached
+ * domains immediately, without listing their resources again.
+ *
+ * <p>A leader which finds that another replica has taken the lease, or which has been unable to renew it for its
+ * full duration, shuts down so that it restarts as a standby.
+ */
+public class OperatorLeadership {
+
+  static final String LEASE_NAME = "weblogic-operator-leader";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String DEFAULT_REPLICA_NAME = "weblogic-operator";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static OperatorLeadership instance = new OperatorLeadership();
+
+  private final String replicaName;
+  private volatile boolean leader;
+  private volatile OffsetDateTime lastRenewal;
+  private volatile OffsetDateTime electedAt;
+  private volatile String observedRecord;
+  private volatile OffsetDateTime observedTime;
+  private volatile String observedHolder;
+
+  public static OperatorLeadership getInstance() {
+    return instance;
+  }
+
+  private OperatorLeadership() {
+    this(Optional.ofNullable(getOperatorPodName()).filter(name -> !name.isEmpty()).orElse(DEFAULT_REPLICA_NAME));
+  }
+
+  OperatorLeadership(String replicaName) {
+    this.replicaName = replicaName;
+  }
+
+  /**
+   * Returns true if operator replicas elect a leader. Namespace sharding, in which all replicas are active,
+   * takes precedence.
+   */
+  public boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::isHotStandbyEnabled)
+          .orElse(false)
+        && !NamespaceShards.getInstance().isEnabled();
+  }
+
+  /**
+   * Returns true if this operator should reconcile domains: either it holds the leader lease, or hot standby is
+   * not enabled.
+   */
+  public boolean isLeader() {
+    return leader || !isEnabled();
+  }
+
+  /**
+   * Records that a domain reconciliation has completed. The first completion after this replica becomes the
+   * leader is reported as the time taken to take over.
+   */
+  public void recordReconciled() {
+    final OffsetDateTime elected = electedAt;
+    if (elected != null && leader) {
+      electedAt = null;
+      LEADER_FIRST_RECONCILE.set(Duration.between(elected, SystemClock.now()).toMillis() / 1000.0);
+    }
+  }
+
+  /**
+   * Creates a step which acquires or renews the leader lease. Does nothing if hot standby is not enabled.
+   * @param onElected run when this replica becomes the leader
+   * @param onLost run when this replica was the leader, but no longer holds the lease
+   * @return the created step
+   */
+  public Step createElectionStep(Runnable onElected, Runnable onLost) {
+    return new ElectionStep(onElected, onLost);
+  }
+
+  /**
+   * Creates a step which gives up the leader lease, so that a standby replica takes over at once rather than
+   * when the lease expires. Returns null if this replica is not the leader.
+   */
+  public Step createReleaseStep() {
+    if (!isEnabled() || !leader) {
+      return null;
+    }
+
+    leader = false;
+    OPERATOR_LEADER.set(0);
+    return RequestBuilder.LEASE.get(getOperatorNamespace(), LEASE_NAME, new ReleaseLeaseResponseStep());
+  }
+
+  private class ReleaseLeaseResponseStep extends DefaultResponseStep<V1Lease> {
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      final V1Lease lease = callResponse.getObject();
+      if (lease == null || !replicaName.equals(getHolder(lease))) {
+        return doNext(packet);
+      }
+      return doNext(RequestBuilder.LEASE.update(createReleasedLease(lease), new DefaultResponseStep<>()), packet);
+    }
+
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      return doNext(packet);
+    }
+  }
+
+  private V1Lease createReleasedLease(V1Lease current) {
+    return new V1Lease()
+          .metadata(copyMetadata(current))
+          .spec(copySpec(current).holderIdentity(null));
+  }
+
+  private static String getHolder(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getHolderIdentity).orElse(null);
+  }
+
+  private static V1ObjectMeta copyMetadata(V1Lease lease) {
+    return new V1ObjectMeta().namespace(lease.getMetadata().getNamespace()).name(lease.getMetadata().getName())
+          .resourceVersion(lease.getMetadata().getResourceVersion())
+          .labels(lease.getMetadata().getLabels());
+  }
+
+  private static V1LeaseSpec copySpec(V1Lease lease) {
+    final V1LeaseSpec spec = Optional.ofNullable(lease.getSpec()).orElse(new V1LeaseSpec());
+    return new V1LeaseSpec().holderIdentity(spec.getHolderIdentity()).acquireTime(spec.getAcquireTime())
+          .renewTime(spec.getRenewTime()).leaseDurationSeconds(spec.getLeaseDurationSeconds())
+          .leaseTransitions(spec.getLeaseTransitions());
+  }
+
+  private static int getLeaseDurationSeconds() {
+    return TuningParameters.getInstance().getLeaderLeaseDurationSeconds();
+  }
+
+  private class ElectionStep extends Step {
+    private final Runnable onElected;
+    private final Runnable onLost;
+
+    ElectionStep(Runnable onElected, Runnable onLost) {
+      this.onElected = onElected;
+      this.onLost = onLost;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (!isEnabled()) {
+        return doNext(packet);
+      }
+      return doNext(RequestBuilder.LEASE.get(getOperatorNamespace(), LEASE_NAME,
+            new ReadLeaseResponseStep(this, getNext())), packet);
+    }
+
+    private void becomeLeader() {
+      leader = true;
+      electedAt = SystemClock.now();
+      OPERATOR_LEADER.set(1);
+      LOGGER.info(MessageKeys.OPERATOR_LEADER_ELECTED, replicaName);
+      Optional.ofNullable(onElected).ifPresent(Runnable::run);
+    }
+
+    private void loseLeadership() {
+      leader = false;
+      OPERATOR_LEADER.set(0);
+      LOGGER.warning(MessageKeys.OPERATOR_LEADERSHIP_LOST, replicaName);
+      Optional.ofNullable(onLost).ifPresent(Runnable::run);
+    }
+
+    // A leader which has been unable to renew its lease for its full duration must assume that another has taken it.
+    private void checkRenewalCurrent() {
+      if (leader && lastRenewal.plusSeconds(getLeaseDurationSeconds()).isBefore(SystemClock.now())) {
+        loseLeadership();
+      }
+    }
+  }
+
+  private class ReadLeaseResponseStep extends DefaultResponseStep<V1Lease> {
+    private final ElectionStep election;
+
+    ReadLeaseResponseStep(ElectionStep election, Step next) {
+      super(next);
+      this.election = election;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      final V1Lease lease = callResponse.getObject();
+      final OffsetDateTime now = SystemClock.now();
+      if (lease == null) {
+        return doNext(RequestBuilder.LEASE.create(createNewLease(now), createWriteStep(now)), packet);
+      } else if (replicaName.equals(getHolder(lease))) {
+        return doNext(RequestBuilder.LEASE.update(createRenewedLease(lease, now), createWriteStep(now)), packet);
+      }
+
+      observe(lease, now);
+      if (isUnheldOrExpired(lease, now)) {
+        return doNext(RequestBuilder.LEASE.update(createAcquiredLease(lease, now), createWriteStep(now)), packet);
+      } else if (leader) {
+        election.loseLeadership();
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      election.checkRenewalCurrent();
+      return doNext(packet);
+    }
+
+    private WriteLeaseResponseStep createWriteStep(OffsetDateTime renewTime) {
+      return new WriteLeaseResponseStep(election, renewTime, getNext());
+    }
+
+    // Expiration is judged by when this replica saw the lease change, so that the replicas' clocks need not agree.
+    private void observe(V1Lease lease, OffsetDateTime now) {
+      final String holder = getHolder(lease);
+      final String record = holder + '/' + lease.getSpec().getRenewTime() + '/'
+            + lease.getMetadata().getResourceVersion();
+      if (!Objects.equals(record, observedRecord)) {
+        observedRecord = record;
+        observedTime = now;
+      }
+      if (holder != null && !holder.equals(observedHolder)) {
+        observedHolder = holder;
+        LOGGER.info(MessageKeys.OPERATOR_STANDING_BY, replicaName, holder);
+      }
+    }
+
+    private boolean isUnheldOrExpired(V1Lease lease, OffsetDateTime now) {
+      final V1LeaseSpec spec = lease.getSpec();
+      return spec.getHolderIdentity() == null || spec.getHolderIdentity().isEmpty()
+          || !observedTime.plusSeconds(getDuration(spec)).isAfter(now);
+    }
+
+    private int getDuration(V1LeaseSpec spec) {
+      return Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(getLeaseDurationSeconds());
+    }
+  }
+
+  private V1Lease createNewLease(OffsetDateTime now) {
+    return new V1Lease()
+          .metadata(new V1ObjectMeta().namespace(getOperatorNamespace()).name(LEASE_NAME)
+                .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, getOperatorNamespace()))
+          .spec(new V1LeaseSpec().holderIdentity(replicaName).acquireTime(now).renewTime(now)
+                .leaseDurationSeconds(getLeaseDurationSeconds()).leaseTransitions(0));
+  }
+
+  private V1Lease createRenewedLease(V1Lease current, OffsetDateTime now) {
+    return new V1Lease()
+          .metadata(copyMetadata(current))
+          .spec(copySpec(current).renewTime(now).leaseDurationSeconds(getLeaseDurationSeconds()));
+  }
+
+  private V1Lease createAcquiredLease(V1Lease current, OffsetDateTime now) {
+    final int transitions = Optional.ofNullable(current.getSpec().getLeaseTransitions()).orElse(0);
+    return new V1Lease()
+          .metadata(copyMetadata(current))
+          .spec(copySpec(current).holderIdentity(replicaName).acquireTime(now).renewTime(now)
+                .leaseDurationSeconds(getLeaseDurationSeconds()).leaseTransitions(transitions + 1));
+  }
+
+  // The update is made with the resource version that was read, so that if two standby replicas try to acquire
+  // an expired lease at the same time, only one succeeds.
+  private class WriteLeaseResponseStep extends ResponseStep<V1Lease> {
+    private final ElectionStep election;
+    private final OffsetDateTime renewTime;
+
+    WriteLeaseResponseStep(ElectionStep election, OffsetDateTime renewTime, Step next) {
+      super(next);
+      this.election = election;
+      this.renewTime = renewTime;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      lastRenewal = renewTime;
+      if (!leader) {
+        election.becomeLeader();
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      return hasConflict(callResponse) ? onFailureNoRetry(packet, callResponse) : super.onFailure(packet, callResponse);
+    }
+
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      election.checkRenewalCurrent();
+      return doNext(packet);
+    }
+  }
+}
@@ -13,8 +13,10 @@ import java.security.spec.InvalidKeySpecException;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -36,6 +38,9 @@ import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.EventAggregator;
+import oracle.kubernetes.operator.helpers.EventAggregator.DeferredRepeats;
+import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.HelmAccess;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -49,6 +54,7 @@ import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.watcher.NamespaceWatcher;
 import oracle.kubernetes.operator.watcher.OperatorEventWatcher;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -56,7 +62,11 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_ENABLE_REST_ENDPOINT_ENV;
 import static oracle.kubernetes.operator.ProcessingConstants.WEBHOOK;
+import static oracle.kubernetes.operator.helpers.EventAggregator.FLUSH_INTERVAL_SECONDS;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.IDENTITY_INITIALIZED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.NAMESPACES_STARTED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.READY;
 
 /** A Kubernetes Operator for WebLogic. */
 public class OperatorMain extends BaseMain {
@@ -64,6 +74,8 @@ public class OperatorMain extends BaseMain {
   private final MainDelegate mainDelegate;
   private final StuckPodProcessing stuckPodProcessing;
   private NamespaceWatcher namespaceWatcher;
+  private final AtomicBoolean serversStarted = new AtomicBoolean(false);
+  private final CompletableFuture<Void> internalIdentity = new CompletableFuture<>();
   protected OperatorEventWatcher operatorNamespaceEventWatcher;
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static NextStepFactory nextStepFactory = OperatorMain::createInitializeInternalIdentityStep;
@@ -73,6 +85,11 @@ public class OperatorMain extends BaseMain {
    */
   private static final long CRD_DETECTION_DELAY = 10;
 
+  /**
+   * The maximum time in sec that the REST server will wait for the operator's internal identity.
+   */
+  private static final long INTERNAL_IDENTITY_TIMEOUT_SECONDS = 300;
+
   Object getOperatorNamespaceEventWatcher() {
     return operatorNamespaceEventWatcher;
   }
@@ -195,9 +212,57 @@ public class OperatorMain extends BaseMain {
 
   @Override
   Step createStartupSteps() {
+    return Step.chain(
+        new StartInternalIdentityInitializationStep(),
+        Namespaces.getSelection(new StartupStepsVisitor()));
+  }
+
+  /**
+   * Initializes the operator's internal identity on its own fiber, so that generating its key does not delay
+   * the discovery of domain namespaces. Only the REST server needs the identity, and it waits for it.
+   */
+  class StartInternalIdentityInitializationStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      mainDelegate.runStepsWithCallback(new Packet(), createInternalIdentitySteps(),
+          new InternalIdentityFailureCallback());
+      return doNext(packet);
+    }
+
+    private Step createInternalIdentitySteps() {
+      return nextStepFactory.createInternalInitializationStep(mainDelegate, new InternalIdentityInitializedStep());
+    }
+  }
 
-    return nextStepFactory.createInternalInitializationStep(
-        mainDelegate, Namespaces.getSelection(new StartupStepsVisitor()));
+  // Should the identity steps end with an unhandled failure, releases whatever waits for the identity.
+  class InternalIdentityFailureCallback implements CompletionCallback {
+
+    @Override
+    public void onCompletion(Packet packet) {
+      // the identity is completed by InternalIdentityInitializedStep
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+      internalIdentity.completeExceptionally(throwable);
+    }
+  }
+
+  class InternalIdentityInitializedStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      Throwable failure = (Throwable) packet.get(InitializeInternalIdentityStep.EXCEPTION);
+      if (failure != null) {
+        internalIdentity.completeExceptionally(failure);
+      } else {
+        recordStartupPhase(IDENTITY_INITIALIZED);
+        internalIdentity.complete(null);
+      }
+      return doNext(packet);
+    }
   }
 
   private static Step createInitializeInternalIdentityStep(MainDelegate delegate, Step next) {
@@ -229,7 +294,7 @@ public class OperatorMain extends BaseMain {
 
     @Override
     public Step getDedicatedStrategySelection() {
-      return createDomainRecheckSteps();
+      return createStartupRecheckSteps();
     }
 
     private Step createOperatorNamespaceEventListStep() {
@@ -243,7 +308,7 @@ public class OperatorMain extends BaseMain {
       return Step.chain(
           RequestBuilder.NAMESPACE.list(new StartNamespaceWatcherStep()),
           createOperatorNamespaceEventListStep(),
-          createDomainRecheckSteps());
+          createStartupRecheckSteps());
     }
   }
 
@@ -267,32 +332,85 @@ public class OperatorMain extends BaseMain {
 
   void completeBegin() {
     try {
-      startMetricsServer();
-      startRestServer();
+      startServersAndMarkReady();
 
       // start periodic retry and recheck
       int recheckInterval = TuningParameters.getInstance().getDomainNamespaceRecheckIntervalSeconds();
       int stuckPodInterval = TuningParameters.getInstance().getStuckPodRecheckSeconds();
       mainDelegate.scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
       mainDelegate.scheduleWithFixedDelay(checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
+      mainDelegate.scheduleWithFixedDelay(flushDeferredEventRepeats(),
+          FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
 
-      markReadyAndStartLivenessThread();
-
+      recordStartupPhase(NAMESPACES_STARTED);
     } catch (Throwable e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
     }
   }
 
+  // Starts the metrics and REST servers and reports the operator ready, unless that has already been done.
+  // Should a server fail to start, any server already started is stopped, so that a later call may try again.
+  private void startServersAndMarkReady() throws UnrecoverableKeyException, CertificateException, IOException,
+      NoSuchAlgorithmException, KeyStoreException, InvalidKeySpecException, KeyManagementException {
+    if (!serversStarted.getAndSet(true)) {
+      try {
+        startMetricsServer();
+        startRestServer();
+        markReadyAndStartLivenessThread();
+      } catch (Exception | Error e) {
+        stopRestServer();
+        stopMetricsServer();
+        serversStarted.set(false);
+        throw e;
+      }
+      recordStartupPhase(READY);
+    }
+  }
+
+  /**
+   * When so configured, reports the operator ready once it has verified its own namespace and the domain CRD,
+   * so that it does not have to wait for every domain namespace to be started. Each namespace is reconciled
+   * as soon as its own resources have been read.
+   */
+  class ReadyBeforeNamespaceStartupStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (isReadyBeforeNamespaceStartup()) {
+        try {
+          startServersAndMarkReady();
+        } catch (Throwable e) {
+          LOGGER.warning(MessageKeys.EXCEPTION, e);
+        }
+      }
+      return doNext(packet);
+    }
+
+    private boolean isReadyBeforeNamespaceStartup() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::isReadyBeforeNamespaceStartup)
+          .orElse(false);
+    }
+  }
+
   @Override
   void startRestServer()
       throws UnrecoverableKeyException, CertificateException, IOException, NoSuchAlgorithmException,
       KeyStoreException, InvalidKeySpecException, KeyManagementException {
     if (Optional.ofNullable(HelmAccess.getHelmVariable(OPERATOR_ENABLE_REST_ENDPOINT_ENV))
         .map(Boolean::valueOf).orElse(Boolean.FALSE)) {
+      internalIdentity.orTimeout(INTERNAL_IDENTITY_TIMEOUT_SECONDS, TimeUnit.SECONDS).join();
       super.startRestServer();
     }
   }
 
+  @Override
+  Step createShutdownSteps() {
+    final Step releaseShard = NamespaceShards.getInstance().createReleaseStep();
+    final Step releaseLeadership = OperatorLeadership.getInstance().createReleaseStep();
+    return releaseShard == null && releaseLeadership == null ? null : Step.chain(releaseShard, releaseLeadership);
+  }
+
   void completeStop() {
     stopRestServer();
     stopMetricsServer();
@@ -306,8 +424,25 @@ public class OperatorMain extends BaseMain {
     return () -> mainDelegate.runSteps(createDomainRecheckSteps());
   }
 
+  Runnable flushDeferredEventRepeats() {
+    return () -> {
+      final List<DeferredRepeats> dueRepeats = EventAggregator.getInstance().takeDueRepeats();
+      if (!dueRepeats.isEmpty()) {
+        mainDelegate.runSteps(EventHelper.createFlushDeferredRepeatsStep(dueRepeats));
+      }
+    };
+  }
+
   Runnable checkStuckPods() {
-    return () -> getDomainNamespaces().getNamespaces().forEach(stuckPodProcessing::checkStuckPods);
+    return () -> {
+      if (OperatorLeadership.getInstance().isLeader()) {
+        getDomainNamespaces().getNamespaces().forEach(stuckPodProcessing::checkStuckPods);
+      }
+    };
+  }
+
+  private Step createStartupRecheckSteps() {
+    return createDomainRecheckSteps(OffsetDateTime.now(), new ReadyBeforeNamespaceStartupStep());
   }
 
   Step createDomainRecheckSteps() {
@@ -315,6 +450,10 @@ public class OperatorMain extends BaseMain {
   }
 
   private Step createDomainRecheckSteps(OffsetDateTime now) {
+    return createDomainRecheckSteps(now, null);
+  }
+
+  private Step createDomainRecheckSteps(OffsetDateTime now, Step beforeNamespacesStep) {
     int recheckInterval = TuningParameters.getInstance().getDomainPresenceRecheckIntervalSeconds();
     boolean isFullRecheck = false;
     if (lastFullRecheck.get().plusSeconds(recheckInterval).isBefore(now)) {
@@ -327,9 +466,19 @@ public class OperatorMain extends BaseMain {
     return Step.chain(
         domainRecheck.createOperatorNamespaceReview(),
         createCRDPresenceCheck(),
+        beforeNamespacesStep,
+        OperatorLeadership.getInstance().createElectionStep(this::takeOverAsLeader, this::releaseShutdownSignal),
+        NamespaceShards.getInstance().createRenewStep(mainDelegate.getDomainProcessor()),
         domainRecheck.createReadNamespacesStep());
   }
 
+  // Standby replicas skip namespace events and the script config maps, so a new leader forces the next recheck
+  // to be a full one, which writes them for every namespace.
+  private void takeOverAsLeader() {
+    lastFullRecheck.set(OffsetDateTime.MIN);
+    mainDelegate.getDomainProcessor().makeRightCachedDomains();
+  }
+
   // Returns a step that verifies the presence of an installed domain CRD. It does this by attempting to list the
   // domains in the operator's namespace. That should succeed (although usually returning an empty list)
   // if the CRD is present.
@@ -443,7 +592,7 @@ public class OperatorMain extends BaseMain {
 
     switch (item.type) {
       case "ADDED":
-        if (!Namespaces.isDomainNamespace(item.object)) {
+        if (!Namespaces.isDomainNamespace(item.object) || !NamespaceShards.getInstance().isAssigned(ns)) {
           return;
         }
 
@@ -19,8 +19,8 @@ public interface ProcessingConstants {
   String CLUSTER_NAME = "clusterName";
 
   String SERVERS_TO_ROLL = "roll";
+  String POD_TEMPLATES = "podTemplates";
 
-  String SCRIPT_CONFIG_MAP = "scriptConfigMap";
   String SERVER_STATE_MAP = "serverStateMap";
   String SERVER_HEALTH_MAP = "serverHealthMap";
 
@@ -35,6 +35,7 @@ public interface ProcessingConstants {
   String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
   String DOMAIN_INTROSPECT_REQUESTED = "domainIntrospectRequested";
   String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
+  String SERVERS_HEALTH_TO_READ = "serversHealthToRead";
   String MII_DYNAMIC_UPDATE = "miiDynamicUpdate";
   String MII_DYNAMIC_UPDATE_WDTROLLBACKFILE = "miiDynamicUpdateRollbackFile";
   String MII_DYNAMIC_UPDATE_SUCCESS = "0";
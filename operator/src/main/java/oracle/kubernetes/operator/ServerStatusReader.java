@@ -7,7 +7,9 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -53,6 +55,9 @@ public class ServerStatusReader {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Function<Step, Step> stepFactory = ReadHealthStep::createReadHealthStep;
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Function<Step, Step> domainStepFactory = ReadHealthStep::createReadDomainHealthStep;
+
   @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
   private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
 
@@ -101,10 +106,18 @@ public class ServerStatusReader {
         return doNext(packet);
       } else {
         remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
+        packet.put(ProcessingConstants.SERVERS_HEALTH_TO_READ, getServerNames());
+        return doNext(domainStepFactory.apply(new ServerStatusReadersStep(startDetails, getNext())), packet);
       }
     }
 
+    // The names of the servers counted by REMAINING_SERVERS_HEALTH_TO_READ.
+    private Set<String> getServerNames() {
+      final Set<String> serverNames = ConcurrentHashMap.newKeySet();
+      info.getServerPods().map(PodHelper::getPodServerName).forEach(serverNames::add);
+      return serverNames;
+    }
+
     /**
      * Creates asynchronous step to read WebLogic server state from a particular pod.
      *
@@ -124,6 +137,27 @@ public class ServerStatusReader {
     }
   }
 
+  // Reads the status of each server whose health was not reported for the domain as a whole.
+  private static class ServerStatusReadersStep extends Step {
+    private final Collection<Fiber.StepAndPacket> startDetails;
+
+    ServerStatusReadersStep(Collection<Fiber.StepAndPacket> startDetails, Step next) {
+      super(next);
+      this.startDetails = startDetails;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+
+  private static boolean isHealthAlreadyRead(Packet packet, String serverName) {
+    return Optional.ofNullable(packet.<Map<String, ServerHealth>>getValue(SERVER_HEALTH_MAP))
+        .map(m -> m.containsKey(serverName))
+        .orElse(false);
+  }
+
   private static class ServerStatusReaderStep extends Step {
     private final String serverName;
     private final long timeoutSeconds;
@@ -147,6 +181,10 @@ public class ServerStatusReader {
       final LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
       final V1Pod currentPod = info.getServerPod(serverName);
 
+      if (isHealthAlreadyRead(packet, serverName)) {
+        return doNext(packet);
+      }
+
       if (lastKnownStatus != null
           && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
           && lastKnownStatus.getUnchangedCount() >= unchangedCountToDelayStatusRecheck
@@ -269,6 +307,10 @@ public class ServerStatusReader {
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
       String state = serverStateMap.get(serverName);
 
+      if (isHealthAlreadyRead(packet, serverName)) {
+        return doNext(packet);
+      }
+
       if (PodHelper.hasReadyStatus(pod)
           || WebLogicConstants.STATES_SUPPORTING_REST.contains(state)) {
         packet.put(ProcessingConstants.SERVER_NAME, serverName);
@@ -44,6 +44,8 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.WEBHOOK_S
 import static oracle.kubernetes.operator.helpers.EventHelper.createConversionWebhookEvent;
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getWebhookNamespace;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.IDENTITY_INITIALIZED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.READY;
 import static oracle.kubernetes.operator.steps.InitializeWebhookIdentityStep.EXCEPTION;
 
 /** A Domain Custom Resource Conversion Webhook for WebLogic Kubernetes Operator. */
@@ -115,11 +117,12 @@ public class WebhookMain extends BaseMain {
   protected Step createStartupSteps() {
     Certificates certs = new Certificates(delegate);
     return nextStepFactory.createInitializationStep(conversionWebhookMainDelegate,
-        Step.chain(
-            createDomainCrdStep(delegate.getProductVersion(), certs),
-            createClusterCrdStep(delegate.getProductVersion()),
-            new CheckFailureAndCreateEventStep(),
-            WebhookHelper.createValidatingWebhookConfigurationStep(certs)));
+        new IdentityInitializedStep(
+            Step.chain(
+                createDomainCrdStep(delegate.getProductVersion(), certs),
+                createClusterCrdStep(delegate.getProductVersion()),
+                new CheckFailureAndCreateEventStep(),
+                WebhookHelper.createValidatingWebhookConfigurationStep(certs))));
   }
 
   @Override
@@ -141,6 +144,7 @@ public class WebhookMain extends BaseMain {
       delegate.scheduleWithFixedDelay(recheckCrd(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
 
       markReadyAndStartLivenessThread();
+      recordStartupPhase(READY);
 
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
@@ -257,6 +261,22 @@ public class WebhookMain extends BaseMain {
     Step createInitializationStep(WebhookMainDelegate delegate, Step next);
   }
 
+  // Records the time taken to initialize the webhook's identity, unless that failed.
+  private class IdentityInitializedStep extends Step {
+
+    IdentityInitializedStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (packet.get(EXCEPTION) == null) {
+        recordStartupPhase(IDENTITY_INITIALIZED);
+      }
+      return doNext(packet);
+    }
+  }
+
   public static class CheckFailureAndCreateEventStep extends Step {
     @Override
     public @Nonnull Result apply(Packet packet) {
@@ -44,6 +44,7 @@ public class Client {
               .build());
         }
         Monitoring.installMetrics(client);
+        WatchDecoding.install(client);
         Configuration.setDefaultApiClient(client);
         return client;
       } catch (IOException e) {
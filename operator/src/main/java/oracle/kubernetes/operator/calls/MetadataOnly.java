@@ -0,0 +1,63 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.auth.ApiKeyAuth;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Client selectors which ask Kubernetes to return only the metadata of resources, as PartialObjectMetadata,
+ * rather than the full resources. The responses are read into the usual model classes, with only their metadata
+ * set, so that the data of secrets and config maps is not transferred. A server which cannot return metadata only
+ * returns the full resources instead. {@link #OBJECTS} is for reads and watches, and {@link #LISTS} is for lists.
+ */
+public class MetadataOnly implements UnaryOperator<ApiClient> {
+
+  private static final String ACCEPT = "Accept";
+  private static final String BEARER_TOKEN = "BearerToken";
+
+  public static final UnaryOperator<ApiClient> OBJECTS
+        = new MetadataOnly("application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json");
+  public static final UnaryOperator<ApiClient> LISTS
+        = new MetadataOnly("application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json");
+
+  private final String mediaType;
+  private ApiClient client;
+  private ApiClient metadataOnlyClient;
+
+  private MetadataOnly(String mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  @Override
+  public synchronized ApiClient apply(ApiClient client) {
+    if (client != this.client) {
+      this.client = client;
+      this.metadataOnlyClient = createMetadataOnlyClient(client);
+    }
+    return metadataOnlyClient;
+  }
+
+  // The copy shares the connection pool, TLS configuration and interceptors of the original client.
+  private ApiClient createMetadataOnlyClient(ApiClient client) {
+    final ApiClient copy = new ApiClient()
+          .setHttpClient(client.getHttpClient().newBuilder().addInterceptor(this::requestMetadataOnly).build())
+          .setBasePath(client.getBasePath())
+          .setJSON(client.getJSON());
+    if (client.getAuthentication(BEARER_TOKEN) instanceof ApiKeyAuth auth) {
+      copy.setApiKeyPrefix(auth.getApiKeyPrefix());
+      copy.setApiKey(auth.getApiKey());
+    }
+    return copy;
+  }
+
+  private Response requestMetadataOnly(Interceptor.Chain chain) throws IOException {
+    return chain.proceed(chain.request().newBuilder().header(ACCEPT, mediaType).build());
+  }
+}
@@ -23,6 +23,8 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -81,8 +83,10 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
 
   public static <X extends KubernetesObject, Y extends KubernetesListObject>
       WatchApi<X> createWatchApi(Class<X> apiTypeClass, Class<Y> apiListTypeClass,
-                                 String apiGroup, String apiVersion, String resourcePlural) {
-    return watchApiFactory.create(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural);
+                                 String apiGroup, String apiVersion, String resourcePlural,
+                                 UnaryOperator<ApiClient> clientSelector) {
+    return watchApiFactory.create(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+            clientSelector);
   }
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
@@ -140,6 +144,8 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
   public static final RequestBuilder<V1PodDisruptionBudget, V1PodDisruptionBudgetList> PDB =
       new RequestBuilder<>(V1PodDisruptionBudget.class, V1PodDisruptionBudgetList.class,
           "policy", "v1", "poddisruptionbudgets", "poddisruptionbudget");
+  public static final RequestBuilder<V1Lease, V1LeaseList> LEASE =
+      new RequestBuilder<>(V1Lease.class, V1LeaseList.class, "coordination.k8s.io", "v1", "leases", "lease");
   public static final RequestBuilder<V1TokenReview, KubernetesListObject> TR =
       new RequestBuilder<>(V1TokenReview.class, KubernetesListObject.class,
           "authentication.k8s.io", "v1", "tokenreviews", "tokenreview");
@@ -1071,7 +1077,8 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
    * @throws ApiException thrown on failure
    */
   public Watchable<A> watch(final ListOptions listOptions) throws ApiException {
-    WatchApi<A> client = createWatchApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural);
+    WatchApi<A> client = createWatchApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+            CLIENT_SELECTOR);
     return client.watch(listOptions);
   }
 
@@ -1083,7 +1090,21 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
    * @throws ApiException thrown on failure
    */
   public Watchable<A> watch(String namespace, final ListOptions listOptions) throws ApiException {
-    WatchApi<A> client = createWatchApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural);
+    return watch(namespace, listOptions, CLIENT_SELECTOR);
+  }
+
+  /**
+   * Create watch.
+   * @param namespace the namespace
+   * @param listOptions the list options
+   * @param clientSelector Client selector
+   * @return the watchable
+   * @throws ApiException thrown on failure
+   */
+  public Watchable<A> watch(String namespace, final ListOptions listOptions,
+                            UnaryOperator<ApiClient> clientSelector) throws ApiException {
+    WatchApi<A> client = createWatchApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+            clientSelector);
     return client.watch(namespace, listOptions);
   }
 
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.calls;
 
+import java.util.function.UnaryOperator;
+
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiClient;
@@ -13,15 +15,18 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 public interface WatchApiFactory {
   default <A extends KubernetesObject, L extends KubernetesListObject>
       WatchApi<A> create(Class<A> apiTypeClass, Class<L> apiListTypeClass,
-                                 String apiGroup, String apiVersion, String resourcePlural) {
-    return new WatchApiImpl<>(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural);
+                                 String apiGroup, String apiVersion, String resourcePlural,
+                                 UnaryOperator<ApiClient> clientSelector) {
+    return new WatchApiImpl<>(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, clientSelector);
   }
 
   class WatchApiImpl<A extends KubernetesObject, L extends KubernetesListObject>
       extends GenericKubernetesApi<A, L> implements WatchApi<A> {
     public WatchApiImpl(Class<A> apiTypeClass, Class<L> apiListTypeClass,
-                             String apiGroup, String apiVersion, String resourcePlural) {
-      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, getWatchClient(Client.getInstance()));
+                             String apiGroup, String apiVersion, String resourcePlural,
+                             UnaryOperator<ApiClient> clientSelector) {
+      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+            getWatchClient(clientSelector.apply(Client.getInstance())));
     }
 
     private static ApiClient getWatchClient(ApiClient client) {
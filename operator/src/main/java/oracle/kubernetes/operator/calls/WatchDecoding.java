@@ -0,0 +1,126 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1JobSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.helpers.StringInterner;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * Decodes watch events more cheaply than the client's general-purpose deserialization. Watch events for pods,
+ * services, jobs and events arrive far more often than any other response, and much of each is never read:
+ * the managed-field entries written by every field manager, and the pod template of each job, which the operator
+ * only ever checks for completion. Those fields are skipped while the event is parsed, without building objects
+ * for them, and the strings which remain are shared through the {@link StringInterner}.
+ *
+ * <p>Only the decoding of watch events changes; the client decodes every other response as before, so resources
+ * which the operator reads in order to update them are complete.
+ */
+public class WatchDecoding {
+
+  // The Java names of the fields which the operator never reads from a watched resource, by declaring class.
+  private static final Map<Class<?>, Set<String>> SKIPPED_FIELDS = Map.of(
+        V1ObjectMeta.class, Set.of("managedFields"),
+        V1JobSpec.class, Set.of("template"));
+
+  private WatchDecoding() {
+    // no instances
+  }
+
+  /**
+   * Installs selective decoding of watch events into the JSON converter of the specified client, unless disabled
+   * by the tuning parameters.
+   * @param client a Kubernetes client
+   */
+  public static void install(ApiClient client) {
+    if (isEnabled()) {
+      final JSON json = client.getJSON();
+      json.setGson(createGson(json.getGson()));
+    }
+  }
+
+  /**
+   * Returns true if watch events are decoded selectively, so that objects taken from them already share their strings
+   * and omit their managed fields.
+   */
+  public static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::isSelectiveWatchDecodingEnabled)
+          .orElse(true);
+  }
+
+  /**
+   * Returns a converter which behaves like the specified one, except when decoding watch events.
+   * @param base the client's converter
+   */
+  public static Gson createGson(Gson base) {
+    final Gson watchGson = base.newBuilder()
+          .addDeserializationExclusionStrategy(new UnreadFieldsExclusionStrategy())
+          .registerTypeAdapter(String.class, new InterningStringAdapter())
+          .create();
+    return base.newBuilder().registerTypeAdapterFactory(new WatchResponseAdapterFactory(watchGson)).create();
+  }
+
+  private record WatchResponseAdapterFactory(Gson watchGson) implements TypeAdapterFactory {
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      return type.getRawType() == Watch.Response.class ? watchGson.getAdapter(type) : null;
+    }
+  }
+
+  // A field excluded from deserialization is skipped by the parser, which does not decode its value.
+  private static class UnreadFieldsExclusionStrategy implements ExclusionStrategy {
+
+    @Override
+    public boolean shouldSkipField(FieldAttributes f) {
+      return SKIPPED_FIELDS.getOrDefault(f.getDeclaringClass(), Set.of()).contains(f.getName());
+    }
+
+    @Override
+    public boolean shouldSkipClass(Class<?> clazz) {
+      return false;
+    }
+  }
+
+  // Also used for the keys of string maps, such as labels and annotations.
+  private static class InterningStringAdapter extends TypeAdapter<String> {
+
+    @Override
+    public void write(JsonWriter out, String value) throws IOException {
+      out.value(value);
+    }
+
+    @Override
+    public String read(JsonReader in) throws IOException {
+      final JsonToken token = in.peek();
+      if (token == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      } else if (token == JsonToken.BOOLEAN) {
+        return Boolean.toString(in.nextBoolean());
+      } else {
+        return StringInterner.intern(in.nextString());
+      }
+    }
+  }
+}
@@ -25,8 +25,10 @@ public class AnnotationHelper {
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
 
+  private static final Function<Object, String> YAML_HASH_FUNCTION = o -> createHashOfYaml(Yaml.dump(o));
+
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> hashFunction = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> hashFunction = YAML_HASH_FUNCTION;
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -55,6 +57,11 @@ public class AnnotationHelper {
     return addHash(kubernetesObject, objectToHash);
   }
 
+  static <K extends KubernetesObject> K withPrecomputedSha256Hash(K kubernetesObject, String hash) {
+    kubernetesObject.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, hash);
+    return kubernetesObject;
+  }
+
   private static V1Pod addHashAndDebug(V1Pod pod) {
     String dump = Yaml.dump(pod);
     addHash(pod);
@@ -75,6 +82,19 @@ public class AnnotationHelper {
     return hashFunction.apply(objectToHash);
   }
 
+  /**
+   * Returns the YAML from which the hash of the specified object would be computed, or null if hashes are not
+   * computed from YAML, as when unit tests replace the hash function.
+   * @param objectToHash the object to be hashed
+   */
+  static String getHashedYaml(Object objectToHash) {
+    return hashFunction == YAML_HASH_FUNCTION ? Yaml.dump(objectToHash) : null;
+  }
+
+  static String createHashOfYaml(String yaml) {
+    return DigestUtils.sha256Hex(yaml);
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
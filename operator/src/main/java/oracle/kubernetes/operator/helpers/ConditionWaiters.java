@@ -0,0 +1,226 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.JobWatcher;
+import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.operator.work.Fiber;
+
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.NOTIFIED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.RESOURCE_WAIT_DURATION;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.TIMED_OUT;
+
+/**
+ * Allows processing to wait for a watch event which reports that a resource has reached some condition, rather
+ * than requeuing and rechecking the resource after a delay. Waits are made only on virtual threads, on which
+ * the operator runs its fibers; there a blocked fiber costs little, and continues from the step which waited
+ * rather than replaying its processing from the start. The wait is limited by the
+ * {@link TuningParameters#getResourceWaitTimeoutSeconds() resource wait timeout}, after which the caller
+ * is expected to fall back to a requeue; waits are not made unless that timeout is set. A wait ends early if
+ * the fiber which made it is cancelled. Fork-joins whose steps may wait should run them concurrently, as
+ * given by {@link #getForkJoinConcurrency(int)}, so that the waits overlap rather than add up.
+ */
+public class ConditionWaiters<T extends KubernetesObject> {
+
+  private static final String DELETED_EVENT = "DELETED";
+
+  public static final ConditionWaiters<V1Pod> PODS = new ConditionWaiters<>("pod");
+  public static final ConditionWaiters<V1Job> JOBS = new ConditionWaiters<>("job");
+
+  public static final Condition<KubernetesObject> DELETED
+      = new Condition<>("deleted", (type, resource) -> DELETED_EVENT.equals(type));
+  public static final Condition<V1Pod> POD_READY
+      = Condition.of("ready", pod -> PodHelper.isReady(pod) && !PodHelper.isDeleting(pod));
+  public static final Condition<V1Pod> POD_UNSCHEDULABLE
+      = Condition.of("unschedulable", PodHelper::hasUnSchedulableCondition);
+  public static final Condition<V1Job> JOB_FINISHED
+      = Condition.of("finished", job -> JobWatcher.isComplete(job) || JobWatcher.isFailed(job));
+
+  private final String kind;
+  private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+  private ConditionWaiters(String kind) {
+    this.kind = kind;
+  }
+
+  /**
+   * A condition for which processing may wait, tested against the type of a watch event and its resource.
+   * @param name the name of the condition, used to label metrics
+   * @param test a predicate which returns true if the event shows that the condition is satisfied
+   */
+  public record Condition<T>(String name, BiPredicate<String, T> test) {
+
+    /**
+     * Creates a condition which is satisfied by any event other than a deletion whose resource passes a test.
+     * @param name the name of the condition
+     * @param test the test to apply to the resource
+     */
+    public static <T> Condition<T> of(String name, Predicate<T> test) {
+      return new Condition<>(name, (type, resource) -> !DELETED_EVENT.equals(type) && test.test(resource));
+    }
+  }
+
+  /**
+   * Waits on the current thread for a watch event to report that the named resource satisfies a condition.
+   * The wait is registered before the current state is checked, so that an event which arrives during the
+   * check is not missed. On a platform thread, or if the timeout is zero, this only checks the current state.
+   *
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param condition the condition for which to wait
+   * @param isSatisfied returns true if the last known state of the resource already satisfies the condition
+   * @return true if the condition is satisfied, false if the wait timed out or was interrupted
+   */
+  public boolean await(String namespace, String name, Condition<? super T> condition, BooleanSupplier isSatisfied) {
+    if (!canWait()) {
+      return isSatisfied.getAsBoolean();
+    }
+
+    final Waiter waiter = new Waiter(condition);
+    final String key = toKey(namespace, name);
+    waiters.compute(key, (k, set) -> addWaiter(set, waiter));
+    final Cancellable cancelAction = waiter.wakeWhenCancelled();
+    try {
+      return isSatisfied.getAsBoolean() || waiter.await(getTimeoutSeconds());
+    } finally {
+      cancelAction.cancel();
+      waiters.computeIfPresent(key, (k, set) -> removeWaiter(set, waiter));
+    }
+  }
+
+  /**
+   * Returns the number of steps of a fork-join to run at the same time. If waits are made, that is all of them,
+   * so that steps which wait for watch events wait together rather than one after another. Otherwise, the steps
+   * do not wait, and run one at a time.
+   * @param numSteps the number of steps to be run by the fork-join
+   */
+  public static int getForkJoinConcurrency(int numSteps) {
+    return canWait() ? numSteps : 1;
+  }
+
+  private static boolean canWait() {
+    return getTimeoutSeconds() > 0 && Thread.currentThread().isVirtual();
+  }
+
+  private static long getTimeoutSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getResourceWaitTimeoutSeconds)
+        .orElse(0);
+  }
+
+  private Set<Waiter> addWaiter(Set<Waiter> set, Waiter waiter) {
+    final Set<Waiter> result = Optional.ofNullable(set).orElseGet(ConcurrentHashMap::newKeySet);
+    result.add(waiter);
+    return result;
+  }
+
+  private Set<Waiter> removeWaiter(Set<Waiter> set, Waiter waiter) {
+    set.remove(waiter);
+    return set.isEmpty() ? null : set;
+  }
+
+  /**
+   * Wakes the processing waiting for conditions which a watch event shows to be satisfied. Waits made by
+   * fibers which have since been cancelled are also ended, as their processing is no longer needed.
+   *
+   * @param watchType the type of the watch event
+   * @param resource the resource reported by the event
+   * @return true if processing which is still current was woken to handle the event
+   */
+  public boolean notifyWaiters(String watchType, T resource) {
+    final Set<Waiter> set = waiters.get(toKey(resource));
+    if (set == null) {
+      return false;
+    }
+
+    boolean resumed = false;
+    for (Waiter waiter : set) {
+      if (waiter.isCancelled()) {
+        waiter.wake();
+      } else if (waiter.condition.test().test(watchType, resource) && waiter.wake()) {
+        resumed = true;
+      }
+    }
+    return resumed;
+  }
+
+  /**
+   * Returns the number of waits in progress for the named resource.
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   */
+  int getNumWaiters(String namespace, String name) {
+    return Optional.ofNullable(waiters.get(toKey(namespace, name))).map(Set::size).orElse(0);
+  }
+
+  private String toKey(T resource) {
+    return Optional.ofNullable(resource.getMetadata())
+        .map(metadata -> toKey(metadata.getNamespace(), metadata.getName()))
+        .orElse("");
+  }
+
+  private static String toKey(String namespace, String name) {
+    return namespace + "/" + name;
+  }
+
+  private class Waiter {
+    private final Condition<? super T> condition;
+    private final Fiber fiber = Fiber.getCurrentIfSet();
+    private final CompletableFuture<Boolean> signal = new CompletableFuture<>();
+
+    Waiter(Condition<? super T> condition) {
+      this.condition = condition;
+    }
+
+    boolean isCancelled() {
+      return fiber != null && fiber.isCancelled();
+    }
+
+    Cancellable wakeWhenCancelled() {
+      return fiber == null ? () -> false : fiber.whenCancelled(this::wake);
+    }
+
+    boolean wake() {
+      return signal.complete(Boolean.TRUE);
+    }
+
+    boolean await(long timeoutSeconds) {
+      final long startTime = System.nanoTime();
+      try {
+        signal.get(timeoutSeconds, TimeUnit.SECONDS);
+        recordWait(NOTIFIED, startTime);
+        return !isCancelled();
+      } catch (TimeoutException e) {
+        recordWait(TIMED_OUT, startTime);
+        return false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } catch (ExecutionException e) {
+        return false;
+      }
+    }
+
+    private void recordWait(String outcome, long startTime) {
+      RESOURCE_WAIT_DURATION.labels(kind, condition.name(), outcome)
+          .observe((System.nanoTime() - startTime) / 1_000_000_000.0);
+    }
+  }
+}
@@ -37,6 +37,7 @@ import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.ServerSideApply.Outcome;
 import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -65,9 +66,7 @@ import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_TIME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIGMAP_NAME_SUFFIX;
-import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIG_DATA_NAME;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIGMAP_NAME_SUFFIX;
-import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIG_DATA_NAME;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.OLD_FLUENTD_CONFIGMAP_NAME;
 
 public class ConfigMapHelper {
@@ -168,44 +167,47 @@ public class ConfigMapHelper {
   }
 
   static class ConfigMapComparator {
-    boolean isOutdated(SemanticVersion productVersion, V1ConfigMap actual, V1ConfigMap expected) {
-      // Check product version label
-      if (productVersion != null) {
-        SemanticVersion currentVersion = KubernetesUtils.getProductVersionFromMetadata(actual.getMetadata());
-        if (currentVersion == null || productVersion.compareTo(currentVersion) > 0) {
-          return true;
-        }
-      }
-
+    boolean isOutdated(V1ConfigMap actual, V1ConfigMap expected) {
       return !AnnotationHelper.getHash(expected).equals(AnnotationHelper.getHash(actual));
     }
   }
 
   static class ScriptConfigMapStep extends Step {
-    final ConfigMapContext context;
+    private final String domainNamespace;
+    private final V1ConfigMap model;
 
     ScriptConfigMapStep(String domainNamespace, SemanticVersion productVersion) {
-      context = new ScriptConfigMapContext(this, domainNamespace, productVersion);
+      this.domainNamespace = domainNamespace;
+      this.model = createScriptConfigMap(domainNamespace, productVersion);
     }
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doNext(context.verifyConfigMap(getNext()), packet);
+      return doNext(
+          ServerSideApply.getInstance().createApplyStep(RequestBuilder.CM, model, this::logApplied, getNext()),
+          packet);
     }
-  }
-
-  static class ScriptConfigMapContext extends ConfigMapContext {
-    ScriptConfigMapContext(Step conflictStep, String domainNamespace, SemanticVersion productVersion) {
-      super(conflictStep, SCRIPT_CONFIG_MAP_NAME, domainNamespace,
-          loadScriptsFromClasspath(domainNamespace), null, productVersion);
 
-      addLabel(LabelConstants.OPERATORNAME_LABEL, getOperatorNamespace());
+    private void logApplied(V1ConfigMap configMap, Outcome outcome) {
+      switch (outcome) {
+        case CREATED -> LOGGER.info(MessageKeys.CM_CREATED, SCRIPT_CONFIG_MAP_NAME, domainNamespace);
+        case UPDATED -> LOGGER.info(MessageKeys.CM_REPLACED, SCRIPT_CONFIG_MAP_NAME, domainNamespace);
+        default -> LOGGER.fine(MessageKeys.CM_EXISTS, SCRIPT_CONFIG_MAP_NAME, domainNamespace);
+      }
     }
+  }
 
-    @Override
-    void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
-      packet.put(ProcessingConstants.SCRIPT_CONFIG_MAP, configMap);
-    }
+  static V1ConfigMap createScriptConfigMap(String domainNamespace, SemanticVersion productVersion) {
+    Map<String, String> data = loadScriptsFromClasspath(domainNamespace);
+    V1ObjectMeta metadata = new V1ObjectMeta()
+        .name(SCRIPT_CONFIG_MAP_NAME)
+        .namespace(domainNamespace)
+        .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+        .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, getOperatorNamespace());
+    Optional.ofNullable(productVersion)
+        .ifPresent(version -> metadata.putLabelsItem(LabelConstants.OPERATOR_VERSION, version.toString()));
+    return AnnotationHelper.withSha256Hash(
+        new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(metadata).data(data), data);
   }
 
   static synchronized Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
@@ -222,34 +224,18 @@ public class ConfigMapHelper {
     private V1ConfigMap model;
     private Map<String, String> annotations;
     private Map<String, String> labels;
-    protected final SemanticVersion productVersion;
 
     ConfigMapContext(Step conflictStep, String name, String namespace, Map<String, String> contents,
                      DomainPresenceInfo info) {
-      this(conflictStep, name, namespace, contents, info, null);
-    }
-
-    ConfigMapContext(Step conflictStep, String name, String namespace, Map<String, String> contents,
-                     DomainPresenceInfo info, SemanticVersion productVersion) {
       super(info);
       this.conflictStep = conflictStep;
       this.name = name;
       this.namespace = namespace;
       this.contents = contents;
-      this.productVersion = productVersion;
 
       addLabel(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
     }
 
-    /**
-     * This method is invoked after all config map processing is done. Subclasses may override
-     * it to record the config map in a packet.
-     * @param packet the packet
-     * @param configMap the final config map
-     */
-    void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
-    }
-
     @SuppressWarnings("SameParameterValue")
     void setContentValue(String key, String value) {
       contents.put(key, value);
@@ -272,18 +258,12 @@ public class ConfigMapHelper {
     }
 
     private V1ObjectMeta createMetadata() {
-      V1ObjectMeta metadata = updateForOwnerReference(
+      return updateForOwnerReference(
           new V1ObjectMeta()
           .name(name)
           .namespace(namespace)
           .annotations(annotations)
           .labels(labels));
-
-      if (productVersion != null) {
-        metadata.putLabelsItem(LabelConstants.OPERATOR_VERSION, productVersion.toString());
-      }
-
-      return metadata;
     }
 
     @SuppressWarnings("SameParameterValue")
@@ -314,7 +294,7 @@ public class ConfigMapHelper {
     }
 
     boolean isOutdated(V1ConfigMap existingMap) {
-      return COMPARATOR.isOutdated(productVersion, existingMap, getModel());
+      return COMPARATOR.isOutdated(existingMap, getModel());
     }
 
     V1ConfigMap withoutTransientData(V1ConfigMap originalMap) {
@@ -358,7 +338,6 @@ public class ConfigMapHelper {
           return doNext(patchImageHashInCurrentMap(existingMap, packet, getNext()), packet);
         } else {
           logConfigMapExists();
-          recordCurrentMap(packet, existingMap);
           return doNext(packet);
         }
       }
@@ -451,7 +430,6 @@ public class ConfigMapHelper {
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
         LOGGER.info(MessageKeys.CM_CREATED, getResourceName(), namespace);
-        recordCurrentMap(packet, callResponse.getObject());
         return doNext(packet);
       }
     }
@@ -469,7 +447,6 @@ public class ConfigMapHelper {
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
         LOGGER.info(MessageKeys.CM_REPLACED, getResourceName(), namespace);
-        recordCurrentMap(packet, callResponse.getObject());
         return doNext(packet);
       }
     }
@@ -1011,9 +988,16 @@ public class ConfigMapHelper {
     }
 
     private Step createNextStep(DomainPresenceInfo info) {
-      return RequestBuilder.CM.get(
-          info.getNamespace(), info.getDomainUid() + FLUENTD_CONFIGMAP_NAME_SUFFIX,
-          new ReadFluentdConfigMapResponseStep(getNext()));
+      return ServerSideApply.getInstance().createApplyStep(
+          RequestBuilder.CM, FluentdHelper.getFluentdConfigMap(info), this::logApplied, getNext());
+    }
+
+    private void logApplied(V1ConfigMap configMap, Outcome outcome) {
+      if (outcome == Outcome.CREATED) {
+        LOGGER.info(MessageKeys.FLUENTD_CONFIGMAP_CREATED);
+      } else if (outcome == Outcome.UPDATED) {
+        LOGGER.info(MessageKeys.FLUENTD_CONFIGMAP_REPLACED);
+      }
     }
   }
 
@@ -1037,70 +1021,6 @@ public class ConfigMapHelper {
     }
   }
 
-  private static class CreateFluentdConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
-
-    CreateFluentdConfigMapResponseStep(Step next) {
-      super(next);
-    }
-
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
-      LOGGER.info(MessageKeys.FLUENTD_CONFIGMAP_CREATED);
-      return doNext(packet);
-    }
-
-  }
-
-  private static class ReplaceFluentdConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
-
-    ReplaceFluentdConfigMapResponseStep(Step next) {
-      super(next);
-    }
-
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
-      LOGGER.info(MessageKeys.FLUENTD_CONFIGMAP_REPLACED);
-      return doNext(packet);
-    }
-
-  }
-
-  private static class ReadFluentdConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
-    ReadFluentdConfigMapResponseStep(Step next) {
-      super(next);
-    }
-
-    private static Step createFluentdConfigMap(DomainPresenceInfo info, Step next) {
-      return RequestBuilder.CM.create(
-          FluentdHelper.getFluentdConfigMap(info), new CreateFluentdConfigMapResponseStep(next));
-    }
-
-    private static Step replaceFluentdConfigMap(DomainPresenceInfo info, Step next) {
-      return RequestBuilder.CM.update(
-          FluentdHelper.getFluentdConfigMap(info), new ReplaceFluentdConfigMapResponseStep(next));
-    }
-
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
-      DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
-      String existingConfigMapData = Optional.ofNullable(callResponse.getObject())
-              .map(V1ConfigMap::getData)
-              .map(c -> c.get(FLUENTD_CONFIG_DATA_NAME))
-              .orElse(null);
-
-      if (existingConfigMapData == null) {
-        return doNext(createFluentdConfigMap(info, getNext()), packet);
-      } else if (isOutdated(info, existingConfigMapData)) {
-        return doNext(replaceFluentdConfigMap(info, getNext()), packet);
-      }
-      return doNext(packet);
-    }
-
-    private boolean isOutdated(DomainPresenceInfo info, String existingConfigData) {
-      return !existingConfigData.equals(info.getDomain().getFluentdSpecification().getFluentdConfiguration());
-    }
-  }
-
   /**
    * Create or replace fluentbit configuration map.
    * @return next step
@@ -1128,73 +1048,16 @@ public class ConfigMapHelper {
     }
 
     private Step createNextStep(DomainPresenceInfo info) {
-      return RequestBuilder.CM.get(info.getNamespace(),
-          info.getDomainUid() + FLUENTBIT_CONFIGMAP_NAME_SUFFIX,
-          new ReadFluentbitConfigMapResponseStep(getNext()));
+      return ServerSideApply.getInstance().createApplyStep(
+          RequestBuilder.CM, FluentbitHelper.getFluentbitConfigMap(info), this::logApplied, getNext());
     }
-  }
-
-  private static class CreateFluentbitConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
-
-    CreateFluentbitConfigMapResponseStep(Step next) {
-      super(next);
-    }
-
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
-      LOGGER.info(MessageKeys.FLUENTBIT_CONFIGMAP_CREATED);
-      return doNext(packet);
-    }
-
-  }
 
-  private static class ReplaceFluentbitConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
-
-    ReplaceFluentbitConfigMapResponseStep(Step next) {
-      super(next);
-    }
-
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
-      LOGGER.info(MessageKeys.FLUENTBIT_CONFIGMAP_REPLACED);
-      return doNext(packet);
-    }
-
-  }
-
-  private static class ReadFluentbitConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
-    ReadFluentbitConfigMapResponseStep(Step next) {
-      super(next);
-    }
-
-    private static Step createFluentbitConfigMap(DomainPresenceInfo info, Step next) {
-      return RequestBuilder.CM.create(FluentbitHelper.getFluentbitConfigMap(info),
-          new CreateFluentbitConfigMapResponseStep(next));
-    }
-
-    private static Step replaceFluentbitConfigMap(DomainPresenceInfo info, Step next) {
-      return RequestBuilder.CM.update(FluentbitHelper.getFluentbitConfigMap(info),
-          new ReplaceFluentbitConfigMapResponseStep(next));
-    }
-
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
-      DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
-      String existingConfigMapData = Optional.ofNullable(callResponse.getObject())
-              .map(V1ConfigMap::getData)
-              .map(c -> c.get(FLUENTBIT_CONFIG_DATA_NAME))
-              .orElse(null);
-
-      if (existingConfigMapData == null) {
-        return doNext(createFluentbitConfigMap(info, getNext()), packet);
-      } else if (isOutdated(info, existingConfigMapData)) {
-        return doNext(replaceFluentbitConfigMap(info, getNext()), packet);
+    private void logApplied(V1ConfigMap configMap, Outcome outcome) {
+      if (outcome == Outcome.CREATED) {
+        LOGGER.info(MessageKeys.FLUENTBIT_CONFIGMAP_CREATED);
+      } else if (outcome == Outcome.UPDATED) {
+        LOGGER.info(MessageKeys.FLUENTBIT_CONFIGMAP_REPLACED);
       }
-      return doNext(packet);
-    }
-
-    private boolean isOutdated(DomainPresenceInfo info, String existingConfigData) {
-      return !existingConfigData.equals(info.getDomain().getFluentbitSpecification().getFluentbitConfiguration());
     }
   }
 
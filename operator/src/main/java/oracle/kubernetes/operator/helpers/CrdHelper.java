@@ -10,13 +10,14 @@ import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -85,6 +86,9 @@ public class CrdHelper {
   public static final String VERSION_V1 = "v1";
   public static final String WEBHOOK_PATH = "/webhook";
 
+  // The schemas of the current CRD versions, keyed by CRD prefix. Each is loaded or generated at most once.
+  private static final Map<String, CrdSchemaResource> currentSchemas = new ConcurrentHashMap<>();
+
   private enum CrdType {
     DOMAIN {
       @Override
@@ -119,7 +123,14 @@ public class CrdHelper {
   static void writeCrdFiles(String... filenames) throws URISyntaxException {
     for (CrdType type : CrdType.values()) {
       final URI outputFile = asFileURI(filenames[type.ordinal()]);
-      writeAsYaml(outputFile, type.createContext().model);
+      writeAsYaml(outputFile, type.createContext().getModel());
+    }
+  }
+
+  static void writeCrdSchemaResources(Path directory) throws IOException {
+    for (CrdType type : CrdType.values()) {
+      final CrdContext context = type.createContext();
+      context.generateSchemaResource().write(directory, context.getPrefix());
     }
   }
 
@@ -225,7 +236,7 @@ public class CrdHelper {
   @SuppressWarnings("ConstantConditions")
   abstract static class CrdContext {
     private final Step conflictStep;
-    private final V1CustomResourceDefinition model;
+    private V1CustomResourceDefinition model;
 
     private final SemanticVersion productVersion;
     private final Certificates certificates;
@@ -238,7 +249,13 @@ public class CrdHelper {
       this.productVersion = productVersion;
       this.conflictStep = conflictStep;
       this.certificates = certificates;
-      this.model = createModel(productVersion, certificates);
+    }
+
+    synchronized V1CustomResourceDefinition getModel() {
+      if (model == null) {
+        model = createModel(productVersion, certificates);
+      }
+      return model;
     }
 
     /**
@@ -297,9 +314,7 @@ public class CrdHelper {
           .kind("CustomResourceDefinition")
           .metadata(createMetadata(productVersion))
           .spec(createSpec(certificates));
-      return AnnotationHelper.withSha256Hash(result,
-          Objects.requireNonNull(
-              result.getSpec().getVersions().stream().findFirst().orElseThrow().getSchema()).getOpenAPIV3Schema());
+      return AnnotationHelper.withPrecomputedSha256Hash(result, getCurrentSchema().getHash());
     }
 
     V1ObjectMeta createMetadata(SemanticVersion productVersion) {
@@ -420,7 +435,18 @@ public class CrdHelper {
     }
 
     V1CustomResourceValidation createSchemaValidation() {
-      return new V1CustomResourceValidation().openAPIV3Schema(createOpenApiV3Schema());
+      return new V1CustomResourceValidation().openAPIV3Schema(getCurrentSchema().getSchema());
+    }
+
+    // Uses the schema precomputed by the build, if available, rather than deriving it from the resource classes.
+    private CrdSchemaResource getCurrentSchema() {
+      return currentSchemas.computeIfAbsent(getPrefix(),
+          prefix -> CrdSchemaResource.load(prefix).orElseGet(this::generateSchemaResource));
+    }
+
+    CrdSchemaResource generateSchemaResource() {
+      final V1JSONSchemaProps schema = createOpenApiV3Schema();
+      return new CrdSchemaResource(schema, AnnotationHelper.createHash(schema));
     }
 
     private V1JSONSchemaProps createOpenApiV3Schema() {
@@ -444,7 +470,7 @@ public class CrdHelper {
     }
 
     Step verifyCrd(Step next) {
-      return RequestBuilder.CRD.get(model.getMetadata().getName(), createReadResponseStep(next));
+      return RequestBuilder.CRD.get(getCrdName(), createReadResponseStep(next));
     }
 
     ResponseStep<V1CustomResourceDefinition> createReadResponseStep(Step next) {
@@ -452,7 +478,7 @@ public class CrdHelper {
     }
 
     Step createCrd(Step next) {
-      return RequestBuilder.CRD.create(model, createCreateResponseStep(next));
+      return RequestBuilder.CRD.create(getModel(), createCreateResponseStep(next));
     }
 
     ResponseStep<V1CustomResourceDefinition> createCreateResponseStep(Step next) {
@@ -481,9 +507,9 @@ public class CrdHelper {
     }
 
     Step updateCrd(Step next, V1CustomResourceDefinition existingCrd) {
-      model.getMetadata().setResourceVersion(existingCrd.getMetadata().getResourceVersion());
+      getModel().getMetadata().setResourceVersion(existingCrd.getMetadata().getResourceVersion());
 
-      return RequestBuilder.CRD.update(model, createReplaceResponseStep(next));
+      return RequestBuilder.CRD.update(getModel(), createReplaceResponseStep(next));
     }
 
     ResponseStep<V1CustomResourceDefinition> createReplaceResponseStep(Step next) {
@@ -533,7 +559,7 @@ public class CrdHelper {
       }
 
       private boolean isOutdatedCrd(V1CustomResourceDefinition existingCrd) {
-        return COMPARATOR.isOutdatedCrd(productVersion, getVersionString(), existingCrd, CrdContext.this.model);
+        return COMPARATOR.isOutdatedCrd(productVersion, getVersionString(), existingCrd, getModel());
       }
 
       private boolean existingCrdContainsVersion(V1CustomResourceDefinition existingCrd) {
@@ -0,0 +1,106 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.annotations.SerializedName;
+import io.kubernetes.client.openapi.models.V1JSONSchemaProps;
+
+/**
+ * The OpenAPI v3 schema of the current version of one of the operator's CRDs, together with its hash.
+ * Deriving the schema from the resource classes requires extensive reflection, so the build generates
+ * these resources into the operator's classpath, and the operator uses them in preference to generating them.
+ */
+public class CrdSchemaResource {
+
+  static final String RESOURCE_LOCATION = "/crd-schema/";
+
+  @SerializedName("sha256")
+  private final String hash;
+
+  @SerializedName("openAPIV3Schema")
+  private final V1JSONSchemaProps schema;
+
+  CrdSchemaResource(@Nonnull V1JSONSchemaProps schema, @Nonnull String hash) {
+    this.schema = schema;
+    this.hash = hash;
+  }
+
+  /**
+   * Used by the build to generate the CRD schema resources.
+   * @param args Arguments that must be one value, giving the directory in which to create the resources
+   */
+  public static void main(String... args) throws IOException {
+    if (args == null || args.length != 1) {
+      throw new IllegalArgumentException();
+    }
+
+    CrdHelper.writeCrdSchemaResources(Path.of(args[0]));
+  }
+
+  V1JSONSchemaProps getSchema() {
+    return schema;
+  }
+
+  String getHash() {
+    return hash;
+  }
+
+  static String getResourceName(String prefix) {
+    return prefix + "-schema.json";
+  }
+
+  /**
+   * Loads the schema resource with the specified prefix from the classpath, if present.
+   * @param prefix a prefix which identifies the CRD schema
+   */
+  static Optional<CrdSchemaResource> load(String prefix) {
+    return Optional.ofNullable(getResourceAsStream(RESOURCE_LOCATION + getResourceName(prefix)))
+        .map(CrdSchemaResource::read);
+  }
+
+  private static InputStream getResourceAsStream(String resourceName) {
+    return CrdSchemaResource.class.getResourceAsStream(resourceName);
+  }
+
+  private static CrdSchemaResource read(InputStream inputStream) {
+    try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+      return Optional.ofNullable(createGson().fromJson(reader, CrdSchemaResource.class))
+          .filter(CrdSchemaResource::isComplete)
+          .orElse(null);
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private boolean isComplete() {
+    return schema != null && hash != null;
+  }
+
+  void write(Path directory, String prefix) throws IOException {
+    Files.createDirectories(directory);
+    try (Writer writer = Files.newBufferedWriter(directory.resolve(getResourceName(prefix)))) {
+      createGson().toJson(this, writer);
+    }
+  }
+
+  // Uses the same number policy as the schema generation, so that a schema read from the resource
+  // is identical to the one from which it was written.
+  private static Gson createGson() {
+    return new GsonBuilder().setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE).create();
+  }
+}
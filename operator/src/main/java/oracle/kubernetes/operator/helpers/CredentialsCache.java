@@ -0,0 +1,159 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+
+/**
+ * A cache, by namespace, of the WebLogic credentials read from the secrets referenced by domains. Each entry
+ * holds its own copy of the user name and password, and the basic authorization header built from them, so
+ * that requests to WebLogic servers neither re-read the secret nor rebuild the header. Entries are evicted when
+ * secret watch events report that their secrets have changed, and their copies of the credentials are zeroed when
+ * they are replaced or evicted.
+ */
+public class CredentialsCache {
+
+  private static final String DELETED = "DELETED";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static CredentialsCache instance = new CredentialsCache();
+
+  private final Map<String, Map<String, Credentials>> namespaces = new ConcurrentHashMap<>();
+
+  public static CredentialsCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the cached credentials from the specified secret, or null if they are not cached.
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   */
+  public AuthorizationSource get(String namespace, String secretName) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(secrets -> secrets.get(secretName)).orElse(null);
+  }
+
+  /**
+   * Caches credentials read from the specified secret, replacing any already cached for it.
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @param secret the secret
+   * @param userName the user name read from the secret
+   * @param password the password read from the secret
+   * @return the cached credentials
+   */
+  AuthorizationSource put(String namespace, String secretName, V1Secret secret, byte[] userName, byte[] password) {
+    final Credentials credentials = new Credentials(namespace, secretName, getResourceVersion(secret),
+        userName, password);
+    Optional.ofNullable(namespaces.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>())
+        .put(secretName, credentials)).ifPresent(Credentials::clear);
+    return credentials;
+  }
+
+  private static String getResourceVersion(V1Secret secret) {
+    return Optional.ofNullable(secret).map(V1Secret::getMetadata).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  /**
+   * Updates the cache from a secret watch event. Credentials from a secret which has been deleted or changed
+   * are evicted, and will be read again from the secret when next needed. As secret watches request only
+   * metadata, the event does not include the secret's new data. Secrets whose credentials are not cached are ignored.
+   * @param watchType the type of the watch event
+   * @param secret the secret reported by the event, which may contain only its metadata
+   */
+  public void onWatchEvent(String watchType, V1Secret secret) {
+    final V1ObjectMeta metadata = Optional.ofNullable(secret).map(V1Secret::getMetadata).orElse(null);
+    final Credentials cached = Optional.ofNullable(metadata).map(m -> getCached(m.getNamespace(), m.getName()))
+        .orElse(null);
+    if (cached == null) {
+      return;
+    }
+
+    if (DELETED.equals(watchType) || !Objects.equals(cached.resourceVersion, metadata.getResourceVersion())) {
+      cached.evict();
+    }
+  }
+
+  private Credentials getCached(String namespace, String secretName) {
+    return (Credentials) get(namespace, secretName);
+  }
+
+  /**
+   * Evicts all the credentials cached for the specified namespace.
+   * @param namespace the namespace
+   */
+  public void evictNamespace(String namespace) {
+    Optional.ofNullable(namespaces.remove(namespace)).map(Map::values).ifPresent(c -> c.forEach(Credentials::clear));
+  }
+
+  private class Credentials implements AuthorizationSource {
+    private final String namespace;
+    private final String secretName;
+    private final String resourceVersion;
+    private final byte[] userName;
+    private final byte[] password;
+    private final String basicAuthorization;
+
+    Credentials(String namespace, String secretName, String resourceVersion, byte[] userName, byte[] password) {
+      this.namespace = namespace;
+      this.secretName = secretName;
+      this.resourceVersion = resourceVersion;
+      this.userName = Arrays.copyOf(userName, userName.length);
+      this.password = Arrays.copyOf(password, password.length);
+      this.basicAuthorization = "Basic " + encode(userName, password);
+    }
+
+    private static String encode(byte[] userName, byte[] password) {
+      final byte[] userNameAndPassword = new byte[userName.length + password.length + 1];
+      System.arraycopy(userName, 0, userNameAndPassword, 0, userName.length);
+      userNameAndPassword[userName.length] = (byte) ':';
+      System.arraycopy(password, 0, userNameAndPassword, userName.length + 1, password.length);
+      try {
+        return Base64.getEncoder().encodeToString(userNameAndPassword);
+      } finally {
+        Arrays.fill(userNameAndPassword, (byte) 0);
+      }
+    }
+
+    @Override
+    public byte[] getUserName() {
+      return userName;
+    }
+
+    @Override
+    public byte[] getPassword() {
+      return password;
+    }
+
+    @Override
+    public String createBasicAuthorizationString() {
+      return basicAuthorization;
+    }
+
+    // The credentials were rejected, so they are evicted and will be read again from the secret.
+    @Override
+    public void onFailure() {
+      evict();
+    }
+
+    void evict() {
+      Optional.ofNullable(namespaces.get(namespace))
+          .filter(secrets -> secrets.remove(secretName, this))
+          .ifPresent(secrets -> clear());
+    }
+
+    void clear() {
+      Arrays.fill(userName, (byte) 0);
+      Arrays.fill(password, (byte) 0);
+    }
+  }
+}
@@ -3,7 +3,6 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,8 +17,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,19 +29,17 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
-import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.calls.WatchDecoding;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
-import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
-import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
@@ -75,12 +70,10 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, ClusterResource> clusters = new ConcurrentHashMap<>();
+  private final AtomicReference<EffectiveConfigurationSnapshot> effectiveConfiguration = new AtomicReference<>();
   private final ConcurrentMap<String, V1Service> clusterServices = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1PodDisruptionBudget> podDisruptionBudgets = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1PersistentVolumeClaim> persistentVolumeClaims = new ConcurrentHashMap<>();
-  private final ReadWriteLock webLogicCredentialsSecretLock = new ReentrantReadWriteLock();
-  private V1Secret webLogicCredentialsSecret;
-  private OffsetDateTime webLogicCredentialsSecretLastSet;
   private String adminServerName;
 
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
@@ -310,7 +303,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   public void setServerService(String serverName, V1Service service) {
-    getSko(serverName).getService().set(service);
+    getSko(serverName).getService().set(ObjectCompaction.compact(service));
   }
 
   private ServerKubernetesObjects getSko(String serverName) {
@@ -344,7 +337,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @param pod the pod
    */
   public void setServerPod(String serverName, V1Pod pod) {
-    getSko(serverName).getPod().set(pod);
+    getSko(serverName).getPod().set(ObjectCompaction.compact(pod));
   }
 
   /**
@@ -443,7 +436,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
-    getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    getSko(serverName).getPod().accumulateAndGet(compactUndecoded(event), this::getNewerPod);
   }
 
   /**
@@ -457,7 +450,14 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public boolean setServerPodFromEvent(String serverName, V1Pod event, @Nonnull Predicate<V1Pod> podPredicate) {
     updateStatus(serverName, event);
-    return podPredicate.test(getSko(serverName).getPod().getAndAccumulate(event, this::getNewerPod));
+    return podPredicate.test(
+        getSko(serverName).getPod().getAndAccumulate(compactUndecoded(event), this::getNewerPod));
+  }
+
+  // Objects from watch events are compacted as they are decoded, unless selective decoding is disabled.
+  // Callers which pass objects from a list response must compact them first.
+  private static <T> T compactUndecoded(T event) {
+    return WatchDecoding.isEnabled() ? event : ObjectCompaction.compact(event);
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -573,7 +573,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @param event the service associated with the event
    */
   void setServerServiceFromEvent(String serverName, V1Service event) {
-    getSko(serverName).getService().accumulateAndGet(event, this::getNewerService);
+    getSko(serverName).getService().accumulateAndGet(compactUndecoded(event), this::getNewerService);
   }
 
   /**
@@ -602,11 +602,11 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   void setClusterService(String clusterName, V1Service service) {
-    clusterServices.put(clusterName, service);
+    clusterServices.put(clusterName, ObjectCompaction.compact(service));
   }
 
   void setPodDisruptionBudget(String clusterName, V1PodDisruptionBudget pdb) {
-    podDisruptionBudgets.put(clusterName, pdb);
+    podDisruptionBudgets.put(clusterName, ObjectCompaction.compact(pdb));
   }
 
   public V1PodDisruptionBudget getPodDisruptionBudget(String clusterName) {
@@ -628,7 +628,8 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     if (clusterName == null) {
       return;
     }
-    podDisruptionBudgets.compute(clusterName, (k, s) -> getNewerPDB(s, event));
+    final V1PodDisruptionBudget compacted = compactUndecoded(event);
+    podDisruptionBudgets.compute(clusterName, (k, s) -> getNewerPDB(s, compacted));
   }
 
   /**
@@ -661,46 +662,6 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
         s -> !KubernetesUtils.isFirstNewer(getMetadata(s), getMetadata(event)));
   }
 
-  /**
-   * Retrieve the WebLogic credentials secret, if cached. This cached value will be automatically cleared
-   * after a configured time period.
-   * @return Cached secret value
-   */
-  public V1Secret getWebLogicCredentialsSecret() {
-    webLogicCredentialsSecretLock.readLock().lock();
-    try {
-      if (webLogicCredentialsSecretLastSet == null
-          || webLogicCredentialsSecretLastSet.isAfter(
-              SystemClock.now().minusSeconds(getWebLogicCredentialsSecretRereadIntervalSeconds()))) {
-        return webLogicCredentialsSecret;
-      }
-    } finally {
-      webLogicCredentialsSecretLock.readLock().unlock();
-    }
-
-    // time to clear
-    setWebLogicCredentialsSecret(null);
-    return null;
-  }
-
-  private int getWebLogicCredentialsSecretRereadIntervalSeconds() {
-    return TuningParameters.getInstance().getCredentialsSecretRereadIntervalSeconds();
-  }
-
-  /**
-   * Cache the WebLogic credentials secret.
-   * @param webLogicCredentialsSecret Secret value
-   */
-  public void setWebLogicCredentialsSecret(V1Secret webLogicCredentialsSecret) {
-    webLogicCredentialsSecretLock.writeLock().lock();
-    try {
-      webLogicCredentialsSecretLastSet = (webLogicCredentialsSecret != null) ? SystemClock.now() : null;
-      this.webLogicCredentialsSecret = webLogicCredentialsSecret;
-    } finally {
-      webLogicCredentialsSecretLock.writeLock().unlock();
-    }
-  }
-
   private V1Service getNewerService(V1Service first, V1Service second) {
     return KubernetesUtils.isFirstNewer(getMetadata(first), getMetadata(second)) ? first : second;
   }
@@ -714,11 +675,11 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   public void setExternalService(String serverName, V1Service service) {
-    getSko(serverName).getExternalService().set(service);
+    getSko(serverName).getExternalService().set(ObjectCompaction.compact(service));
   }
 
   void setExternalServiceFromEvent(String serverName, V1Service event) {
-    getSko(serverName).getExternalService().accumulateAndGet(event, this::getNewerService);
+    getSko(serverName).getExternalService().accumulateAndGet(compactUndecoded(event), this::getNewerService);
   }
 
   boolean deleteExternalServiceFromEvent(String serverName, V1Service event) {
@@ -764,6 +725,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public void setDomain(DomainResource domain) {
     this.domain.set(domain);
+    invalidateEffectiveConfiguration();
   }
 
   /**
@@ -991,6 +953,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     Optional.ofNullable(clusterResource)
         .map(ClusterResource::getClusterName)
         .ifPresent(name -> clusters.put(name, clusterResource));
+    invalidateEffectiveConfiguration();
   }
 
   /**
@@ -998,6 +961,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @param clusterName the name of the resource to remove.
    */
   public ClusterResource removeClusterResource(String clusterName) {
+    invalidateEffectiveConfiguration();
     return Optional.ofNullable(clusterName).map(clusters::remove).orElse(null);
   }
 
@@ -1010,6 +974,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     resources.forEach(cr -> updated.put(cr.getClusterName(), cr));
     clusters.keySet().retainAll(updated.keySet());
     clusters.putAll(updated);
+    invalidateEffectiveConfiguration();
   }
 
   /**
@@ -1027,7 +992,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     Optional.ofNullable(pvc)
         .map(V1PersistentVolumeClaim::getMetadata)
         .map(V1ObjectMeta::getName)
-        .ifPresent(name -> persistentVolumeClaims.put(name, pvc));
+        .ifPresent(name -> persistentVolumeClaims.put(name, ObjectCompaction.compact(pvc)));
   }
 
   /**
@@ -1049,8 +1014,28 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return the effective server spec.
    */
   public EffectiveServerSpec getServer(@Nonnull String serverName, @Nullable String clusterName) {
-    final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getServer(serverName, clusterName, clusterSpec);
+    return getEffectiveConfiguration().getServer(serverName, clusterName);
+  }
+
+  // Returns the effective configuration for the current domain and cluster resources, reusing the last one computed
+  // if neither the domain generation nor any cluster resource version has changed since.
+  private EffectiveConfigurationSnapshot getEffectiveConfiguration() {
+    final EffectiveConfigurationSnapshot current = effectiveConfiguration.get();
+    if (current != null && current.isValidFor(getDomain(), clusters)) {
+      return current;
+    }
+
+    final EffectiveConfigurationSnapshot snapshot = new EffectiveConfigurationSnapshot(getDomain(), clusters);
+    effectiveConfiguration.compareAndSet(current, snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Discards any cached effective configuration, so that it will be recomputed from the domain and cluster resources.
+   * This is needed only if one of those resources is updated in place.
+   */
+  public void invalidateEffectiveConfiguration() {
+    effectiveConfiguration.set(null);
   }
 
   private PrivateDomainApi getDomainApi() {
@@ -1063,8 +1048,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return the effective cluster spec.
    */
   public EffectiveClusterSpec getCluster(@Nonnull String clusterName) {
-    final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getCluster(clusterSpec);
+    return getEffectiveConfiguration().getCluster(clusterName);
   }
 
   @Nullable
@@ -1082,13 +1066,20 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return replicas
    */
   public int getReplicaCount(@Nonnull String clusterName) {
-    final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getReplicaCount(clusterSpec);
+    return getEffectiveConfiguration().getReplicaCount(clusterName);
   }
 
+  /**
+   * Sets the desired number of running managed servers in the specified cluster. This updates the domain or cluster
+   * resource in place, so any cached effective configuration is discarded.
+   *
+   * @param clusterName the name of the cluster
+   * @param replicaLimit the new number of replicas
+   */
   public void setReplicaCount(@Nonnull String clusterName, int replicaLimit) {
     final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
     getDomainApi().setReplicaCount(clusterName, clusterSpec, replicaLimit);
+    invalidateEffectiveConfiguration();
   }
 
   /**
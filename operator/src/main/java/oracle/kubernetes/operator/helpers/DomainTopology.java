@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class DomainTopology {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
 
   private boolean domainValid;
   private WlsDomainConfig domain;
@@ -53,15 +54,18 @@ public class DomainTopology {
   }
 
   /**
-   * parse domain topology yaml.
+   * parse domain topology yaml. If the domain topology cache is enabled, a previously parsed topology
+   * for the same yaml will be returned, and must not be modified.
    * @param topologyYaml topology yaml.
    * @return parsed object hierarchy
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml) {
-    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+    return DomainTopologyCache.getInstance().getTopology(topologyYaml, DomainTopology::parse);
+  }
 
+  private static DomainTopology parse(String topologyYaml) {
     try {
-      DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
+      DomainTopology domainTopology = YAML_MAPPER.readValue(topologyYaml, DomainTopology.class);
 
       LOGGER.fine(
           ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
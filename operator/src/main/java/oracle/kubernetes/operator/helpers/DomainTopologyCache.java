@@ -0,0 +1,90 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.HIT;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.MISS;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.TOPOLOGY_CACHE_REQUESTS;
+
+/**
+ * A process-wide cache of parsed domain topologies, keyed by a hash of the topology YAML. The introspector
+ * config map is read on every make-right, but its topology only changes when the domain is introspected,
+ * so each distinct topology need only be parsed once. The cache holds at most the number of entries
+ * specified by the tuning parameter "domainTopologyCacheSize", discarding the least recently used;
+ * when that is zero (the default), every topology is parsed.
+ */
+class DomainTopologyCache {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static DomainTopologyCache instance = new DomainTopologyCache();
+
+  private final Map<String, DomainTopology> topologies = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, DomainTopology> eldest) {
+      return size() > getMaxSize();
+    }
+  };
+
+  static DomainTopologyCache getInstance() {
+    return instance;
+  }
+
+  static int getMaxSize() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getDomainTopologyCacheSize)
+        .orElse(0);
+  }
+
+  /**
+   * Returns the parsed topology for the specified YAML, parsing it only if it is not already cached.
+   * A topology which cannot be parsed is not cached.
+   * @param topologyYaml the YAML to parse
+   * @param parser a function to parse the YAML
+   */
+  DomainTopology getTopology(String topologyYaml, Function<String, DomainTopology> parser) {
+    if (getMaxSize() <= 0) {
+      return parser.apply(topologyYaml);
+    }
+
+    final String key = DigestUtils.sha256Hex(topologyYaml);
+    DomainTopology topology = getCachedTopology(key);
+    if (topology != null) {
+      TOPOLOGY_CACHE_REQUESTS.labels(HIT).inc();
+    } else {
+      TOPOLOGY_CACHE_REQUESTS.labels(MISS).inc();
+      topology = parser.apply(topologyYaml);
+      Optional.ofNullable(topology).ifPresent(t -> cacheTopology(key, t));
+    }
+    return topology;
+  }
+
+  private synchronized DomainTopology getCachedTopology(String key) {
+    return topologies.get(key);
+  }
+
+  private void cacheTopology(String key, DomainTopology topology) {
+    if (topology.getDomainValid()) {
+      topology.getDomain();  // completes processing before the topology is shared
+    }
+    synchronized (this) {
+      topologies.put(key, topology);
+    }
+  }
+
+  synchronized int size() {
+    return topologies.size();
+  }
+
+  synchronized void clear() {
+    topologies.clear();
+  }
+}
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -12,22 +14,23 @@ import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
-import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Secret;
-import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.GetOptions;
 import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.calls.MetadataOnly;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -38,6 +41,10 @@ import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_VALIDATION_FAI
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveSelectedFailuresStep;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createStatusUpdateStep;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_DOMAIN_INVALID_ERROR;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.DOMAIN_VALIDATION_DURATION;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.DOMAIN_VALIDATION_LOOKUPS;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INDEX;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.READ;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.DOMAIN_INVALID;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.REPLICAS_TOO_HIGH;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.TOPOLOGY_MISMATCH;
@@ -48,6 +55,9 @@ public class DomainValidationSteps {
   private static final String SECRETS = "secrets";
   private static final String CONFIGMAPS = "configmaps";
   private static final String CLUSTERS = "clusters";
+  private static final String VALIDATION_START_TIME = "validationStartTime";
+  private static final String SECRET = "secret";
+  private static final String CONFIGMAP = "configmap";
 
   private DomainValidationSteps() {
   }
@@ -58,8 +68,7 @@ public class DomainValidationSteps {
    */
   public static Step createDomainValidationSteps(String namespace) {
     return Step.chain(
-          createListSecretsStep(namespace),
-          createListConfigMapsStep(namespace),
+          new LookupReferencedResourcesStep(namespace),
           createListClustersStep(namespace),
           new DomainValidationStep());
   }
@@ -72,43 +81,89 @@ public class DomainValidationSteps {
     return createStatusUpdateStep(new ValidateDomainTopologyStep(next));
   }
 
-  private static Step createListSecretsStep(String domainNamespace) {
-    return RequestBuilder.SECRET.list(domainNamespace, new ListSecretsResponseStep());
-  }
+  // Secrets and config maps are listed when their namespace starts, and their names kept current by watches,
+  // so only those referenced by the domain are looked up, and only those missing from the index are read.
+  static class LookupReferencedResourcesStep extends Step {
+    private final String namespace;
 
-  static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
+    LookupReferencedResourcesStep(String namespace) {
+      this.namespace = namespace;
+    }
 
     @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1SecretList> callResponse) {
-      List<V1Secret> list = getSecrets(packet);
-      list.addAll(callResponse.getObject().getItems());
-      packet.put(SECRETS, list);
+    public @Nonnull Result apply(Packet packet) {
+      packet.put(VALIDATION_START_TIME, SystemClock.now());
+      packet.put(SECRETS, new ArrayList<V1Secret>());
+      packet.put(CONFIGMAPS, new ArrayList<V1ConfigMap>());
 
-      return doContinueListOrNext(callResponse, packet);
+      final DomainResource domain = DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomain)
+          .orElse(null);
+      if (domain == null) {
+        return doNext(packet);
+      }
+
+      final List<Step> reads = new ArrayList<>();
+      domain.getReferencedSecretNames().forEach(name -> lookupSecret(packet, domain, name, reads));
+      domain.getReferencedConfigMapNames().forEach(name -> lookupConfigMap(packet, name, reads));
+      return reads.isEmpty() ? doNext(packet) : doNext(Step.chain(Step.chain(reads), getNext()), packet);
     }
 
-    static List<V1Secret> getSecrets(Packet packet) {
-      return Optional.ofNullable(packet.<List<V1Secret>>getValue(SECRETS)).orElse(new ArrayList<>());
+    // Validation reads the data of the OPSS wallet password secret, so it is always read in full.
+    private void lookupSecret(Packet packet, DomainResource domain, String name, List<Step> reads) {
+      if (name.equals(domain.getOpssWalletPasswordSecret())) {
+        reads.add(recordRead(SECRET, RequestBuilder.SECRET.get(namespace, name, new ReadSecretResponseStep())));
+      } else if (ResourceNameIndex.getInstance().hasSecret(namespace, name)) {
+        getFoundSecrets(packet).add(new V1Secret().metadata(createMetadata(name)));
+        DOMAIN_VALIDATION_LOOKUPS.labels(SECRET, INDEX).inc();
+      } else {
+        reads.add(recordRead(SECRET, RequestBuilder.SECRET.get(namespace, name, new GetOptions(),
+            new ReadSecretResponseStep(), MetadataOnly.OBJECTS)));
+      }
+    }
+
+    private void lookupConfigMap(Packet packet, String name, List<Step> reads) {
+      if (ResourceNameIndex.getInstance().hasConfigMap(namespace, name)) {
+        getFoundConfigMaps(packet).add(new V1ConfigMap().metadata(createMetadata(name)));
+        DOMAIN_VALIDATION_LOOKUPS.labels(CONFIGMAP, INDEX).inc();
+      } else {
+        reads.add(recordRead(CONFIGMAP, RequestBuilder.CM.get(namespace, name, new GetOptions(),
+            new ReadConfigMapResponseStep(), MetadataOnly.OBJECTS)));
+      }
+    }
+
+    private Step recordRead(String kind, Step read) {
+      DOMAIN_VALIDATION_LOOKUPS.labels(kind, READ).inc();
+      return read;
+    }
+
+    private V1ObjectMeta createMetadata(String name) {
+      return new V1ObjectMeta().namespace(namespace).name(name);
     }
   }
 
-  private static Step createListConfigMapsStep(String domainNamespace) {
-    return RequestBuilder.CM.list(domainNamespace, new ListConfigMapsResponseStep());
+  private static List<V1Secret> getFoundSecrets(Packet packet) {
+    return packet.getValue(SECRETS);
   }
 
-  static class ListConfigMapsResponseStep extends DefaultResponseStep<V1ConfigMapList> {
+  private static List<V1ConfigMap> getFoundConfigMaps(Packet packet) {
+    return packet.getValue(CONFIGMAPS);
+  }
 
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMapList> callResponse) {
-      List<V1ConfigMap> list = getConfigMaps(packet);
-      list.addAll(callResponse.getObject().getItems());
-      packet.put(CONFIGMAPS, list);
+  static class ReadSecretResponseStep extends DefaultResponseStep<V1Secret> {
 
-      return doContinueListOrNext(callResponse, packet);
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Secret> callResponse) {
+      Optional.ofNullable(callResponse.getObject()).ifPresent(getFoundSecrets(packet)::add);
+      return doNext(packet);
     }
+  }
+
+  static class ReadConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
 
-    static List<V1ConfigMap> getConfigMaps(Packet packet) {
-      return Optional.ofNullable(packet.<List<V1ConfigMap>>getValue(CONFIGMAPS)).orElse(new ArrayList<>());
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMap> callResponse) {
+      Optional.ofNullable(callResponse.getObject()).ifPresent(getFoundConfigMaps(packet)::add);
+      return doNext(packet);
     }
   }
 
@@ -141,6 +196,7 @@ public class DomainValidationSteps {
       List<String> fatalValidationFailures = domain.getFatalValidationFailures();
       DomainResource.ValidationResult validationResult
           = domain.getValidationFailures(new KubernetesResourceLookupImpl(packet));
+      recordValidationDuration(packet);
       if (validationResult.isDelay()) {
         return doRequeue(packet);
       } else if (validationResult.failures().isEmpty()) {
@@ -152,6 +208,12 @@ public class DomainValidationSteps {
       }
     }
 
+    private void recordValidationDuration(Packet packet) {
+      Optional.ofNullable((OffsetDateTime) packet.remove(VALIDATION_START_TIME))
+          .map(start -> Duration.between(start, SystemClock.now()).toMillis() / 1000.0)
+          .ifPresent(DOMAIN_VALIDATION_DURATION::observe);
+    }
+
     @Nonnull
     private String getErrorMessage(List<String> fatalValidationFailures, List<String> validationFailures) {
       String errorMsg;
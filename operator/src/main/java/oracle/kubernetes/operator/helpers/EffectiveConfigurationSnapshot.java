@@ -0,0 +1,107 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
+import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.PrivateDomainApi;
+
+/**
+ * The effective configuration of the servers and clusters of a domain, as computed from a particular generation
+ * of the domain resource and particular versions of its cluster resources. Computing an effective server spec
+ * merges the domain, cluster and server configurations, so each value is computed at most once per snapshot
+ * and then shared by all callers. A snapshot is never updated; once the domain or any of its cluster resources
+ * changes, a new one must be created.
+ */
+class EffectiveConfigurationSnapshot {
+
+  private final DomainResource domain;
+  private final Long generation;
+  private final Map<String, ClusterVersion> clusterVersions = new HashMap<>();
+  private final Map<ServerKey, EffectiveServerSpec> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<String, EffectiveClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+  private final Map<String, Integer> replicaCounts = new ConcurrentHashMap<>();
+
+  EffectiveConfigurationSnapshot(@Nonnull DomainResource domain, Map<String, ClusterResource> clusters) {
+    this.domain = domain;
+    this.generation = getGeneration(domain);
+    clusters.forEach((name, resource) -> clusterVersions.put(name, new ClusterVersion(resource)));
+  }
+
+  private static Long getGeneration(DomainResource domain) {
+    return Optional.ofNullable(domain.getMetadata()).map(V1ObjectMeta::getGeneration).orElse(null);
+  }
+
+  private static String getResourceVersion(ClusterResource resource) {
+    return Optional.ofNullable(resource.getMetadata()).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  /**
+   * Returns true if this snapshot was computed from the specified domain and cluster resources.
+   * @param domain the current domain resource
+   * @param clusters the current cluster resources, keyed by cluster name
+   */
+  boolean isValidFor(DomainResource domain, Map<String, ClusterResource> clusters) {
+    return this.domain == domain
+        && Objects.equals(generation, getGeneration(domain))
+        && clusterVersions.size() == clusters.size()
+        && clusters.entrySet().stream().allMatch(e -> matchesClusterVersion(e.getKey(), e.getValue()));
+  }
+
+  private boolean matchesClusterVersion(String clusterName, ClusterResource resource) {
+    return Optional.ofNullable(clusterVersions.get(clusterName)).map(v -> v.matches(resource)).orElse(false);
+  }
+
+  EffectiveServerSpec getServer(@Nonnull String serverName, @Nullable String clusterName) {
+    return serverSpecs.computeIfAbsent(new ServerKey(serverName, clusterName),
+        k -> getDomainApi().getServer(serverName, clusterName, getClusterSpec(clusterName)));
+  }
+
+  EffectiveClusterSpec getCluster(@Nonnull String clusterName) {
+    return clusterSpecs.computeIfAbsent(clusterName, k -> getDomainApi().getCluster(getClusterSpec(clusterName)));
+  }
+
+  int getReplicaCount(@Nonnull String clusterName) {
+    return replicaCounts.computeIfAbsent(clusterName, k -> getDomainApi().getReplicaCount(getClusterSpec(clusterName)));
+  }
+
+  private PrivateDomainApi getDomainApi() {
+    return domain.getPrivateApi();
+  }
+
+  @Nullable
+  private ClusterSpec getClusterSpec(@Nullable String clusterName) {
+    return Optional.ofNullable(clusterName)
+        .map(clusterVersions::get)
+        .map(ClusterVersion::resource)
+        .map(ClusterResource::getSpec)
+        .orElse(null);
+  }
+
+  private record ServerKey(String serverName, String clusterName) {
+  }
+
+  private record ClusterVersion(ClusterResource resource, String resourceVersion) {
+
+    ClusterVersion(ClusterResource resource) {
+      this(resource, getResourceVersion(resource));
+    }
+
+    boolean matches(ClusterResource resource) {
+      return this.resource == resource && Objects.equals(resourceVersion, getResourceVersion(resource));
+    }
+  }
+}
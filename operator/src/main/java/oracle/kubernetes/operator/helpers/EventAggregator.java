@@ -0,0 +1,216 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.EventConstants.EVENT_WARNING;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.AGGREGATED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.EVENTS_EMITTED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.EVENTS_SUPPRESSED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.PRESSURE;
+
+/**
+ * Limits the rate at which the operator updates existing events. When the same failure recurs rapidly, as with
+ * probe failures, crash loops or repeated introspection failures, each repeat would otherwise be a separate
+ * API call competing with the operator's real work. Instead, a repeat which arrives within the aggregation window
+ * of the last write of its event is only counted, and the count is added to the event with the next write.
+ * While the operator is writing events faster than the configured limit, repeats of normal events are deferred
+ * in the same way, so that warnings take precedence.
+ *
+ * <p>Only repeats are ever deferred; the first occurrence of an event is always written. Deferred repeats which are
+ * not followed by another repeat are written by a periodic flush, once their window has expired or the pressure has
+ * eased, or as soon as their event is no longer tracked.
+ */
+public class EventAggregator {
+
+  static final int MAX_TRACKED_EVENTS = 1000;
+  public static final long FLUSH_INTERVAL_SECONDS = 1;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static EventAggregator instance = new EventAggregator();
+
+  private final Map<String, TrackedEvent> trackedEvents = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, TrackedEvent> eldest) {
+      if (size() <= MAX_TRACKED_EVENTS) {
+        return false;
+      }
+      Optional.ofNullable(eldest.getValue().toDeferredRepeats()).ifPresent(evictedRepeats::add);
+      return true;
+    }
+  };
+  private final Deque<OffsetDateTime> recentWrites = new ArrayDeque<>();
+  private final List<DeferredRepeats> evictedRepeats = new ArrayList<>();
+
+  public static EventAggregator getInstance() {
+    return instance;
+  }
+
+  static long getWindowSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getEventAggregationWindowSeconds)
+        .orElse(0L);
+  }
+
+  static int getWriteLimitPerSecond() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getEventWriteLimitPerSecond)
+        .orElse(0);
+  }
+
+  /**
+   * Returns true if a repeat of the specified existing event should not be written now. In that case,
+   * the repeat is counted, and the count will be returned by the next call to {@link #recordWrite(CoreV1Event)}.
+   * @param existingEvent the event which is repeated
+   */
+  synchronized boolean deferRepeat(CoreV1Event existingEvent) {
+    final TrackedEvent trackedEvent = trackedEvents.get(getKey(existingEvent));
+    if (trackedEvent != null && trackedEvent.isWithinWindow()) {
+      trackedEvent.addRepeat(existingEvent);
+      EVENTS_SUPPRESSED.labels(AGGREGATED).inc();
+      return true;
+    } else if (!isWarning(existingEvent) && isUnderPressure()) {
+      trackedEvents.computeIfAbsent(getKey(existingEvent), k -> new TrackedEvent(null)).addRepeat(existingEvent);
+      EVENTS_SUPPRESSED.labels(PRESSURE).inc();
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Records that the specified event is being written.
+   * @param event the event to be created or updated
+   * @return the number of repeats of the event which were deferred since it was last written
+   */
+  synchronized int recordWrite(CoreV1Event event) {
+    return Optional.ofNullable(trackedEvents.put(getKey(event), new TrackedEvent(countWrite(event))))
+        .map(TrackedEvent::getPendingRepeats)
+        .orElse(0);
+  }
+
+  private OffsetDateTime countWrite(CoreV1Event event) {
+    final OffsetDateTime now = SystemClock.now();
+    if (getWriteLimitPerSecond() > 0) {
+      removeWritesBefore(now.minusSeconds(1));
+      recentWrites.addLast(now);
+    }
+    EVENTS_EMITTED.labels(Optional.ofNullable(event.getType()).orElse("")).inc();
+    return now;
+  }
+
+  /**
+   * Returns the deferred repeats which should now be written, because the aggregation window of their event has
+   * expired without another repeat, because the write limit no longer defers them, or because their event is no
+   * longer tracked. Each returned event is recorded as written.
+   */
+  public synchronized List<DeferredRepeats> takeDueRepeats() {
+    final List<DeferredRepeats> dueRepeats = new ArrayList<>(evictedRepeats);
+    evictedRepeats.clear();
+
+    final Map<String, TrackedEvent> written = new LinkedHashMap<>();
+    for (Iterator<Map.Entry<String, TrackedEvent>> it = trackedEvents.entrySet().iterator(); it.hasNext(); ) {
+      final Map.Entry<String, TrackedEvent> entry = it.next();
+      if (entry.getValue().isDue()) {
+        it.remove();
+        dueRepeats.add(entry.getValue().toDeferredRepeats());
+        written.put(entry.getKey(), new TrackedEvent(countWrite(entry.getValue().deferredEvent)));
+      }
+    }
+    trackedEvents.putAll(written);
+    return dueRepeats;
+  }
+
+  /**
+   * Returns the number of deferred repeats of the specified event.
+   * @param event an event
+   */
+  synchronized int getPendingRepeats(CoreV1Event event) {
+    return Optional.ofNullable(trackedEvents.get(getKey(event))).map(TrackedEvent::getPendingRepeats).orElse(0);
+  }
+
+  private boolean isUnderPressure() {
+    final int limit = getWriteLimitPerSecond();
+    if (limit <= 0) {
+      return false;
+    }
+
+    removeWritesBefore(SystemClock.now().minusSeconds(1));
+    return recentWrites.size() >= limit;
+  }
+
+  private void removeWritesBefore(OffsetDateTime time) {
+    while (!recentWrites.isEmpty() && !recentWrites.peekFirst().isAfter(time)) {
+      recentWrites.removeFirst();
+    }
+  }
+
+  private static boolean isWarning(CoreV1Event event) {
+    return EVENT_WARNING.equals(event.getType());
+  }
+
+  private static String getKey(CoreV1Event event) {
+    return Optional.ofNullable(event.getMetadata()).map(EventAggregator::getKey).orElse("");
+  }
+
+  private static String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+
+  /**
+   * Repeats of an existing event which were deferred, and have not been written.
+   * @param event the existing event, as last read
+   * @param count the number of deferred repeats
+   * @param lastTimestamp the time of the last deferred repeat
+   */
+  public record DeferredRepeats(CoreV1Event event, int count, OffsetDateTime lastTimestamp) {
+  }
+
+  private class TrackedEvent {
+    private final OffsetDateTime lastWritten;
+    private int pendingRepeats;
+    private CoreV1Event deferredEvent;
+    private OffsetDateTime lastRepeat;
+
+    TrackedEvent(OffsetDateTime lastWritten) {
+      this.lastWritten = lastWritten;
+    }
+
+    void addRepeat(CoreV1Event existingEvent) {
+      pendingRepeats++;
+      deferredEvent = existingEvent;
+      lastRepeat = SystemClock.now();
+    }
+
+    int getPendingRepeats() {
+      return pendingRepeats;
+    }
+
+    boolean isWithinWindow() {
+      return lastWritten != null && SystemClock.now().isBefore(lastWritten.plusSeconds(getWindowSeconds()));
+    }
+
+    boolean isDue() {
+      return pendingRepeats > 0 && !isWithinWindow() && (isWarning(deferredEvent) || !isUnderPressure());
+    }
+
+    DeferredRepeats toDeferredRepeats() {
+      return pendingRepeats > 0 ? new DeferredRepeats(deferredEvent, pendingRepeats, lastRepeat) : null;
+    }
+  }
+}
@@ -4,15 +4,20 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import jakarta.json.Json;
+import jakarta.json.JsonPatchBuilder;
 import jakarta.validation.constraints.NotNull;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.DomainNamespaces;
@@ -207,15 +212,19 @@ public class EventHelper {
     private Step createCreateEventCall(CoreV1Event event) {
       LOGGER.fine(MessageKeys.CREATING_EVENT, eventData.eventItem);
       event.firstTimestamp(event.getLastTimestamp());
+      EventAggregator.getInstance().recordWrite(event);
       return RequestBuilder.EVENT.create(event, new CreateEventResponseStep(getNext()));
     }
 
     private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
+      if (EventAggregator.getInstance().deferRepeat(existingEvent)) {
+        return getNext();
+      }
+
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
-      existingEvent.lastTimestamp(event.getLastTimestamp());
-      return RequestBuilder.EVENT.update(existingEvent,
-          new ReplaceEventResponseStep(this, existingEvent, getNext()));
+      final int increment = addRepeats(existingEvent, event.getLastTimestamp());
+      return createPatchEventCall(existingEvent,
+          new ReplaceEventResponseStep(this, existingEvent, increment, getNext()));
     }
 
     private CoreV1Event getExistingEvent(CoreV1Event event) {
@@ -271,10 +280,12 @@ public class EventHelper {
     private class ReplaceEventResponseStep extends ResponseStep<CoreV1Event> {
       final Step replaceEventStep;
       final CoreV1Event existingEvent;
+      final int increment;
 
-      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, Step next) {
+      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, int increment, Step next) {
         super(next);
         this.existingEvent = existingEvent;
+        this.increment = increment;
         this.replaceEventStep = replaceEventStep;
       }
 
@@ -302,7 +313,7 @@ public class EventHelper {
         if (existingEvent == null || existingEvent.getCount() == null) {
           return;
         }
-        existingEvent.count(existingEvent.getCount() - 1);
+        existingEvent.count(existingEvent.getCount() - increment);
       }
 
       Step createRetry(CoreV1Event event) {
@@ -342,6 +353,62 @@ public class EventHelper {
     }
   }
 
+  // Adds the current repeat, and any deferred ones, to the count of the specified existing event,
+  // and returns the number added.
+  private static int addRepeats(@Nonnull CoreV1Event existingEvent, OffsetDateTime lastTimestamp) {
+    final int increment = 1 + EventAggregator.getInstance().recordWrite(existingEvent);
+    existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + increment).orElse(increment));
+    existingEvent.lastTimestamp(lastTimestamp);
+    return increment;
+  }
+
+  /**
+   * Creates a step which writes repeats of existing events which were deferred, and have not been followed by
+   * another repeat.
+   * @param deferredRepeats the repeats to write
+   * @return Step for updating the events
+   */
+  public static Step createFlushDeferredRepeatsStep(List<EventAggregator.DeferredRepeats> deferredRepeats) {
+    return Step.chain(deferredRepeats.stream().map(EventHelper::createFlushDeferredRepeatsCall).toList());
+  }
+
+  private static Step createFlushDeferredRepeatsCall(EventAggregator.DeferredRepeats deferredRepeats) {
+    final CoreV1Event existingEvent = deferredRepeats.event();
+    existingEvent.count(Optional.ofNullable(existingEvent.getCount())
+        .map(c -> c + deferredRepeats.count()).orElse(deferredRepeats.count()));
+    existingEvent.lastTimestamp(deferredRepeats.lastTimestamp());
+    return createPatchEventCall(existingEvent, new FlushDeferredRepeatsResponseStep(deferredRepeats));
+  }
+
+  // The repeats are not retried: a failure means that the event has been deleted or replaced.
+  private static class FlushDeferredRepeatsResponseStep extends ResponseStep<CoreV1Event> {
+    private final EventAggregator.DeferredRepeats deferredRepeats;
+
+    FlushDeferredRepeatsResponseStep(EventAggregator.DeferredRepeats deferredRepeats) {
+      this.deferredRepeats = deferredRepeats;
+    }
+
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<CoreV1Event> callResponse) {
+      final CoreV1Event existingEvent = deferredRepeats.event();
+      Optional.ofNullable(existingEvent.getCount()).ifPresent(c -> existingEvent.count(c - deferredRepeats.count()));
+      return doNext(packet);
+    }
+  }
+
+  // Patches only the count and last timestamp of an existing event, rather than replacing the entire event.
+  private static Step createPatchEventCall(@Nonnull CoreV1Event existingEvent,
+                                           ResponseStep<CoreV1Event> responseStep) {
+    final JsonPatchBuilder patchBuilder = Json.createPatchBuilder()
+        .add("/count", existingEvent.getCount());
+    Optional.ofNullable(existingEvent.getLastTimestamp())
+        .ifPresent(t -> patchBuilder.add("/lastTimestamp", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(t)));
+
+    final V1ObjectMeta metadata = existingEvent.getMetadata();
+    return RequestBuilder.EVENT.patch(metadata.getNamespace(), metadata.getName(),
+        V1Patch.PATCH_FORMAT_JSON_PATCH, new V1Patch(patchBuilder.build().toString()), responseStep);
+  }
+
   private static long generateRandomLong() {
     return (long) (Math.random() * Long.MAX_VALUE);
   }
@@ -1186,15 +1253,19 @@ public class EventHelper {
     private Step createCreateEventCall(CoreV1Event event) {
       LOGGER.fine(MessageKeys.CREATING_EVENT, eventData.eventItem);
       event.firstTimestamp(event.getLastTimestamp());
+      EventAggregator.getInstance().recordWrite(event);
       return RequestBuilder.EVENT.create(event, new CreateClusterResourceEventResponseStep(getNext()));
     }
 
     private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
+      if (EventAggregator.getInstance().deferRepeat(existingEvent)) {
+        return getNext();
+      }
+
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
-      existingEvent.lastTimestamp(event.getLastTimestamp());
-      return RequestBuilder.EVENT.update(
-          existingEvent, new ReplaceClusterResourceEventResponseStep(this, existingEvent, getNext()));
+      final int increment = addRepeats(existingEvent, event.getLastTimestamp());
+      return createPatchEventCall(existingEvent,
+          new ReplaceClusterResourceEventResponseStep(this, existingEvent, increment, getNext()));
     }
 
     private CoreV1Event getExistingClusterEvent(CoreV1Event event) {
@@ -1216,11 +1287,13 @@ public class EventHelper {
     private class ReplaceClusterResourceEventResponseStep extends ResponseStep<CoreV1Event> {
       final Step replaceClusterEventStep;
       final CoreV1Event existingClusterEvent;
+      final int increment;
 
       ReplaceClusterResourceEventResponseStep(Step replaceClusterEventStep, CoreV1Event existingClusterEvent,
-          Step next) {
+          int increment, Step next) {
         super(next);
         this.existingClusterEvent = existingClusterEvent;
+        this.increment = increment;
         this.replaceClusterEventStep = replaceClusterEventStep;
       }
 
@@ -1245,7 +1318,7 @@ public class EventHelper {
         if (existingClusterEvent == null || existingClusterEvent.getCount() == null) {
           return;
         }
-        existingClusterEvent.count(existingClusterEvent.getCount() - 1);
+        existingClusterEvent.count(existingClusterEvent.getCount() - increment);
       }
 
       Step createClusterEventRetryStep(CoreV1Event event) {
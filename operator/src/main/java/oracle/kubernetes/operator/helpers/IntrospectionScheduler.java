@@ -0,0 +1,361 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.EXPIRED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.FINISHED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INTROSPECTIONS_FINISHED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INTROSPECTIONS_RUNNING;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INTROSPECTION_QUEUE_LENGTH;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INTROSPECTION_QUEUE_WAIT;
+
+/**
+ * Limits the number of introspector jobs which run at the same time, across all domains and on each node, so that
+ * a burst of introspections, such as after an operator upgrade or the rollout of a shared image, does not overwhelm
+ * the nodes, the image registry and the API server. An introspection which may not start joins a queue, ordered
+ * by {@link Priority} and then by the time at which it joined; it starts once the introspections ahead of it have
+ * left room under both limits. A queued introspection which is held back only by the limit on its own node does
+ * not hold back those behind it. Each domain holds at most one place, whether queued or running.
+ *
+ * <p>A domain keeps its place in the queue while its processing waits, or requeues and asks again. A place which
+ * is not renewed for some minutes is dropped, as its domain is no longer waiting. An admitted introspection counts
+ * against the limits until its job is deleted, or, should that not be seen, until the active deadline of the job
+ * has passed, after which Kubernetes will have ended it.
+ */
+public class IntrospectionScheduler {
+
+  /** The order in which queued introspections are admitted. */
+  public enum Priority {
+    /** A domain which has not been introspected or has no running servers, or which has failed. */
+    NEW_OR_FAILED,
+    /** A domain whose specification or model has changed. */
+    UPDATE,
+    /** A routine introspection of a running domain, such as one requested through its introspect version. */
+    ROUTINE;
+
+    String getLabel() {
+      return name().toLowerCase();
+    }
+  }
+
+  // the time for which a queued introspection keeps its place without being renewed by its domain's processing
+  private static final Duration TICKET_LIFETIME = Duration.ofMinutes(5);
+
+  // the time allowed beyond the active deadline of a job for it to be created, and for its deletion to be seen
+  private static final long DEADLINE_GRACE_SECONDS = 60;
+
+  // the weight given to each newly finished introspection in the average duration
+  private static final double DURATION_SMOOTHING = 0.2;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static IntrospectionScheduler instance = new IntrospectionScheduler();
+
+  private final Map<String, Ticket> tickets = new HashMap<>();
+  private final Map<String, Slot> running = new HashMap<>();
+  private final Set<CompletableFuture<Boolean>> waiters = new HashSet<>();
+  private Double averageDurationSeconds;
+
+  public static IntrospectionScheduler getInstance() {
+    return instance;
+  }
+
+  /**
+   * A request to run the introspector job of a domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param priority the priority of the introspection
+   * @param nodeName the name of the node to which the job pod is assigned, or null if it may run on any node
+   * @param activeDeadlineSeconds the active deadline of the job
+   */
+  public record Request(String namespace, String domainUid, Priority priority, @Nullable String nodeName,
+                        long activeDeadlineSeconds) {
+
+    String key() {
+      return namespace + "/" + domainUid;
+    }
+  }
+
+  /**
+   * The result of asking to start an introspection.
+   * @param admitted true if the introspection may start
+   * @param position the one-based position of the domain in the queue, if not admitted
+   * @param estimatedWaitSeconds the estimated number of seconds until the introspection is admitted, or null
+   *                             if not queued, or if no introspection has yet finished
+   */
+  public record Admission(boolean admitted, Integer position, Integer estimatedWaitSeconds) {
+
+    static final Admission ADMITTED = new Admission(true, null, null);
+  }
+
+  /**
+   * Admits the requested introspection if the limits leave room for it after the introspections queued ahead of it;
+   * otherwise, places it in the queue, or renews its place.
+   * @param request the introspection to start
+   * @return a description of the result
+   */
+  public synchronized Admission tryAdmit(Request request) {
+    final OffsetDateTime now = SystemClock.now();
+    removeExpired(now);
+    if (running.containsKey(request.key())) {
+      return Admission.ADMITTED;
+    }
+
+    final Ticket ticket = tickets.merge(request.key(), new Ticket(request, now, now), Ticket::renew);
+    final List<Ticket> ahead = tickets.values().stream().filter(t -> t.isAhead(ticket)).toList();
+    try {
+      if (hasRoom(ticket, ahead)) {
+        admit(ticket, now);
+        return Admission.ADMITTED;
+      } else {
+        return new Admission(false, ahead.size() + 1, estimateWaitSeconds(ahead.size() + 1));
+      }
+    } finally {
+      updateMetrics();
+    }
+  }
+
+  // The introspections ahead are taken in queue order, and each which could start now takes its room first. One held
+  // back only by the limit on its node therefore does not hold back those behind it which would run on other nodes.
+  private boolean hasRoom(Ticket ticket, List<Ticket> ahead) {
+    final Capacity capacity = new Capacity(running.values());
+    for (Ticket queued : ahead.stream().sorted(Ticket.ORDER).toList()) {
+      if (capacity.hasRoom(queued.nodeName())) {
+        capacity.reserve(queued.nodeName());
+      }
+    }
+    return capacity.hasRoom(ticket.nodeName());
+  }
+
+  private static boolean isBelowLimit(int count, int limit) {
+    return limit <= 0 || count < limit;
+  }
+
+  private void admit(Ticket ticket, OffsetDateTime now) {
+    tickets.remove(ticket.key());
+    running.put(ticket.key(), new Slot(ticket.nodeName(), now, now.plusSeconds(ticket.activeDeadlineSeconds())));
+    INTROSPECTION_QUEUE_WAIT.labels(ticket.priority().getLabel()).observe(getSecondsBetween(ticket.queued(), now));
+  }
+
+  // Each batch of introspections, up to the concurrency limit, is assumed to take the average duration.
+  private Integer estimateWaitSeconds(int position) {
+    final int capacity = getMaxConcurrent() > 0 ? getMaxConcurrent() : getMaxPerNode();
+    return Optional.ofNullable(averageDurationSeconds)
+        .map(average -> (int) Math.ceil((double) ((position + capacity - 1) / Math.max(1, capacity)) * average))
+        .orElse(null);
+  }
+
+  /**
+   * Records that the introspector job of a domain has finished, allowing queued introspections to start.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public synchronized void release(String namespace, String domainUid) {
+    final Slot slot = running.remove(namespace + "/" + domainUid);
+    if (slot != null) {
+      recordDuration(getSecondsBetween(slot.admitted(), SystemClock.now()));
+      INTROSPECTIONS_FINISHED.labels(FINISHED).inc();
+      updateMetrics();
+      wakeWaiters();
+    }
+  }
+
+  private void recordDuration(double seconds) {
+    averageDurationSeconds = Optional.ofNullable(averageDurationSeconds)
+        .map(average -> average + DURATION_SMOOTHING * (seconds - average))
+        .orElse(seconds);
+  }
+
+  private void removeExpired(OffsetDateTime now) {
+    final int numRunning = running.size();
+    running.values().removeIf(slot -> slot.isExpired(now));
+    tickets.values().removeIf(ticket -> ticket.isExpired(now));
+    if (running.size() < numRunning) {
+      INTROSPECTIONS_FINISHED.labels(EXPIRED).inc(numRunning - (double) running.size());
+      wakeWaiters();
+    }
+  }
+
+  private void wakeWaiters() {
+    waiters.forEach(waiter -> waiter.complete(Boolean.TRUE));
+  }
+
+  private void updateMetrics() {
+    INTROSPECTIONS_RUNNING.set(running.size());
+    for (Priority priority : Priority.values()) {
+      INTROSPECTION_QUEUE_LENGTH.labels(priority.getLabel())
+          .set(tickets.values().stream().filter(t -> t.priority() == priority).count());
+    }
+  }
+
+  /**
+   * Returns true if the current thread may wait to be admitted. As with {@link ConditionWaiters}, waits are made
+   * only on virtual threads, and are limited by the resource wait timeout; otherwise processing should requeue.
+   */
+  public static boolean canWait() {
+    return getWaitTimeoutSeconds() > 0 && Thread.currentThread().isVirtual();
+  }
+
+  /**
+   * Waits on the current thread, for up to the resource wait timeout, for the requested introspection to be admitted.
+   * Any admission made to a fiber which has since been cancelled is kept for the next processing of its domain.
+   * @param request the introspection to start
+   * @return true if the introspection was admitted, false if the wait timed out or the fiber was cancelled
+   */
+  public boolean await(Request request) {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(getWaitTimeoutSeconds());
+    final Fiber fiber = Fiber.getCurrentIfSet();
+    while (!isCancelled(fiber)) {
+      final CompletableFuture<Boolean> signal = addWaiter();
+      try {
+        if (tryAdmit(request).admitted()) {
+          return true;
+        }
+        signal.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException | ExecutionException e) {
+        return false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        removeWaiter(signal);
+      }
+    }
+    return false;
+  }
+
+  private static boolean isCancelled(Fiber fiber) {
+    return fiber != null && fiber.isCancelled();
+  }
+
+  private synchronized CompletableFuture<Boolean> addWaiter() {
+    final CompletableFuture<Boolean> signal = new CompletableFuture<>();
+    waiters.add(signal);
+    return signal;
+  }
+
+  private synchronized void removeWaiter(CompletableFuture<Boolean> signal) {
+    waiters.remove(signal);
+  }
+
+  /**
+   * Returns the number of introspections waiting in the queue.
+   */
+  synchronized int getQueueLength() {
+    return tickets.size();
+  }
+
+  /**
+   * Returns the number of admitted introspections which have not finished.
+   */
+  synchronized int getNumRunning() {
+    return running.size();
+  }
+
+  private static int getMaxConcurrent() {
+    return TuningParameters.getInstance().getIntrospectionMaxConcurrent();
+  }
+
+  private static int getMaxPerNode() {
+    return TuningParameters.getInstance().getIntrospectionMaxConcurrentPerNode();
+  }
+
+  private static int getWaitTimeoutSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getResourceWaitTimeoutSeconds)
+        .orElse(0);
+  }
+
+  private static double getSecondsBetween(OffsetDateTime start, OffsetDateTime end) {
+    return Duration.between(start, end).toMillis() / 1000.0;
+  }
+
+  // The place of a domain in the queue. A domain asking again keeps the time at which it first joined, and the
+  // more urgent of its priorities.
+  private record Ticket(Request request, OffsetDateTime queued, OffsetDateTime renewed) {
+
+    private static final Comparator<Ticket> ORDER = Comparator.comparing(Ticket::priority)
+        .thenComparing(Ticket::queued)
+        .thenComparing(Ticket::key);
+
+    Ticket renew(Ticket newer) {
+      final Priority priority = newer.priority().compareTo(priority()) < 0 ? newer.priority() : priority();
+      final Request request = newer.request();
+      return new Ticket(new Request(request.namespace(), request.domainUid(), priority, request.nodeName(),
+          request.activeDeadlineSeconds()), queued, newer.renewed());
+    }
+
+    boolean isAhead(Ticket other) {
+      return !Objects.equals(key(), other.key()) && ORDER.compare(this, other) < 0;
+    }
+
+    boolean isExpired(OffsetDateTime now) {
+      return !now.isBefore(renewed.plus(TICKET_LIFETIME));
+    }
+
+    String key() {
+      return request.key();
+    }
+
+    Priority priority() {
+      return request.priority();
+    }
+
+    String nodeName() {
+      return request.nodeName();
+    }
+
+    long activeDeadlineSeconds() {
+      return request.activeDeadlineSeconds();
+    }
+  }
+
+  // The room left under the limits, as introspections are assigned places in turn.
+  private static class Capacity {
+    private final Map<String, Integer> numOnNode = new HashMap<>();
+    private int numReserved;
+
+    Capacity(Collection<Slot> slots) {
+      slots.forEach(slot -> reserve(slot.nodeName()));
+    }
+
+    boolean hasRoom(@Nullable String nodeName) {
+      return isBelowLimit(numReserved, getMaxConcurrent())
+          && (nodeName == null || isBelowLimit(numOnNode.getOrDefault(nodeName, 0), getMaxPerNode()));
+    }
+
+    void reserve(@Nullable String nodeName) {
+      numReserved++;
+      Optional.ofNullable(nodeName).ifPresent(node -> numOnNode.merge(node, 1, Integer::sum));
+    }
+  }
+
+  // An admitted introspection, which counts against the limits until its job is deleted or its deadline passes.
+  private record Slot(String nodeName, OffsetDateTime admitted, OffsetDateTime deadline) {
+
+    boolean isExpired(OffsetDateTime now) {
+      return now.isAfter(deadline.plusSeconds(DEADLINE_GRACE_SECONDS));
+    }
+  }
+}
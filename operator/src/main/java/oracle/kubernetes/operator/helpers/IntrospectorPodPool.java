@@ -0,0 +1,198 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INTROSPECTOR_POOL_IDLE_PODS;
+
+/**
+ * Tracks pre-started introspector pods which are waiting to run an introspection. A warm pod is created with exactly
+ * the pod specification that the introspector job would have used, but with a main container that simply waits;
+ * an introspection is then run in it with an exec of the introspector script, which avoids the cost of creating a job,
+ * scheduling its pod, pulling images and running init containers. Each warm pod is used at most once, so that
+ * no state from one introspection can leak into another.
+ *
+ * <p>Pods are grouped by a key which combines the namespace and a hash of the introspector pod specification,
+ * so a pod may only be used for an introspection whose job would have been identical.
+ */
+public class IntrospectorPodPool {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static IntrospectorPodPool instance = new IntrospectorPodPool();
+
+  private final Map<String, Deque<WarmPod>> idlePods = new HashMap<>();
+
+  public static IntrospectorPodPool getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns true if the operator is configured to keep warm introspector pods.
+   */
+  public static boolean isEnabled() {
+    return getMaxSize() > 0;
+  }
+
+  static int getMaxSize() {
+    return TuningParameters.getInstance().getIntrospectorPodPoolMaxSize();
+  }
+
+  static long getIdleTimeoutSeconds() {
+    return TuningParameters.getInstance().getIntrospectorPodPoolIdleTimeoutSeconds();
+  }
+
+  /**
+   * Creates the key used to select warm pods.
+   * @param namespace the namespace of the domain
+   * @param podSpecHash a hash of the introspector pod specification
+   */
+  static String createKey(String namespace, String podSpecHash) {
+    return namespace + "/" + podSpecHash;
+  }
+
+  /**
+   * Records a newly created warm pod as available for use.
+   * @param warmPod a description of the pod
+   */
+  synchronized void add(WarmPod warmPod) {
+    idlePods.computeIfAbsent(warmPod.key(), k -> new ArrayDeque<>()).addLast(warmPod);
+    updateIdleCount();
+  }
+
+  /**
+   * Removes and returns the newest warm pod with the specified key which can still complete an introspection
+   * before its idle timeout expires.
+   * @param key the key describing the required introspector pod
+   * @param requiredSeconds the number of seconds which the introspection may take
+   * @return a usable pod or null, if none is available
+   */
+  synchronized WarmPod acquire(String key, long requiredSeconds) {
+    final Deque<WarmPod> pods = idlePods.getOrDefault(key, new ArrayDeque<>());
+    WarmPod result = null;
+    while (result == null && !pods.isEmpty()) {
+      final WarmPod candidate = pods.removeLast();
+      if (candidate.hasRemainingLifetime(requiredSeconds)) {
+        result = candidate;
+      }
+    }
+    removeIfEmpty(key);
+    updateIdleCount();
+    return result;
+  }
+
+  /**
+   * Returns the number of idle pods with the specified key.
+   * @param key the key describing the required introspector pod
+   */
+  synchronized int getIdleCount(String key) {
+    return Optional.ofNullable(idlePods.get(key)).map(Deque::size).orElse(0);
+  }
+
+  /**
+   * Returns true if the pool has room for another warm pod with the specified key.
+   * @param key the key describing the required introspector pod
+   */
+  boolean hasCapacity(String key) {
+    return getIdleCount(key) < getMaxSize();
+  }
+
+  /**
+   * Returns true if the pool is tracking an idle pod with the specified namespace and name.
+   * @param namespace the namespace of the pod
+   * @param podName the name of the pod
+   */
+  synchronized boolean isTracked(String namespace, String podName) {
+    return idlePods.values().stream()
+          .flatMap(Deque::stream)
+          .anyMatch(p -> p.namespace().equals(namespace) && p.podName().equals(podName));
+  }
+
+  /**
+   * Stops tracking all idle pods for the specified domain which do not match the specified key,
+   * or which have expired.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param key the key of the pods to retain
+   * @return the names of the pods no longer tracked
+   */
+  synchronized List<String> releaseObsolete(String namespace, String domainUid, String key) {
+    return removeMatching(p -> p.isForDomain(namespace, domainUid) && (!p.key().equals(key) || p.isExpired()));
+  }
+
+  /**
+   * Stops tracking all idle pods for the specified domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @return the names of the pods no longer tracked
+   */
+  synchronized List<String> releaseAll(String namespace, String domainUid) {
+    return removeMatching(p -> p.isForDomain(namespace, domainUid));
+  }
+
+  private List<String> removeMatching(Predicate<WarmPod> predicate) {
+    final List<String> result = new ArrayList<>();
+    for (Deque<WarmPod> pods : idlePods.values()) {
+      pods.stream().filter(predicate).map(WarmPod::podName).forEach(result::add);
+      pods.removeIf(predicate);
+    }
+    idlePods.values().removeIf(Deque::isEmpty);
+    updateIdleCount();
+    return result;
+  }
+
+  private void removeIfEmpty(String key) {
+    Optional.ofNullable(idlePods.get(key)).filter(Deque::isEmpty).ifPresent(d -> idlePods.remove(key));
+  }
+
+  private void updateIdleCount() {
+    INTROSPECTOR_POOL_IDLE_PODS.set(idlePods.values().stream().mapToInt(Deque::size).sum());
+  }
+
+  /**
+   * A pre-started introspector pod.
+   * @param key the key describing the pod specification
+   * @param namespace the namespace of the pod
+   * @param domainUid the UID of the domain for which the pod was created
+   * @param podName the name of the pod
+   * @param created the time at which the pod was requested
+   */
+  record WarmPod(String key, String namespace, String domainUid, String podName, OffsetDateTime created) {
+
+    WarmPod(String key, String namespace, String domainUid, String podName) {
+      this(key, namespace, domainUid, podName, SystemClock.now());
+    }
+
+    boolean isForDomain(String namespace, String domainUid) {
+      return this.namespace.equals(namespace) && this.domainUid.equals(domainUid);
+    }
+
+    // The main container of a warm pod exits once its idle timeout has elapsed, so an introspection
+    // may only be dispatched to it if it can complete before then.
+    boolean hasRemainingLifetime(long requiredSeconds) {
+      return SystemClock.now().plusSeconds(requiredSeconds).isBefore(getExpirationTime());
+    }
+
+    boolean isExpired() {
+      return !SystemClock.now().isBefore(getExpirationTime());
+    }
+
+    @Nonnull
+    private OffsetDateTime getExpirationTime() {
+      return created.plusSeconds(getIdleTimeoutSeconds());
+    }
+  }
+}
@@ -3,6 +3,10 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -10,6 +14,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -17,6 +23,7 @@ import javax.annotation.Nullable;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1ContainerState;
 import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
@@ -40,20 +47,29 @@ import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.ServerStartPolicy;
+import oracle.kubernetes.operator.calls.Client;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler.Admission;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority;
+import oracle.kubernetes.operator.helpers.IntrospectorPodPool.WarmPod;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.utils.KubernetesExec;
+import oracle.kubernetes.operator.utils.KubernetesExecFactory;
+import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
 import oracle.kubernetes.operator.watcher.JobWatcher;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.OperatorUtils;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.Server;
 
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_INTROSPECTION_INCOMPLETE;
@@ -62,6 +78,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.INTROSPECTOR_JOB_FAIL
 import static oracle.kubernetes.common.logging.MessageKeys.INTROSPECTOR_JOB_FAILED_DETAIL;
 import static oracle.kubernetes.operator.DomainSourceType.FROM_MODEL;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createIntrospectionFailureSteps;
+import static oracle.kubernetes.operator.DomainStatusUpdater.createIntrospectionQueueStep;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveFailuresStep;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveSelectedFailuresStep;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
@@ -75,7 +92,12 @@ import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_FLUENTD_CON
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED_MARKER;
 import static oracle.kubernetes.operator.helpers.ConfigMapHelper.readExistingIntrospectorConfigMap;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.COLD;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INTROSPECTION_DURATION;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.INTROSPECTOR_POOL_REQUESTS;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.WARM;
 import static oracle.kubernetes.operator.watcher.JobWatcher.getFailedReason;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.INTROSPECTION;
 
 public class JobHelper {
@@ -84,6 +106,11 @@ public class JobHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   public static final String INTROSPECTOR_LOG_PREFIX = "Introspector Job Log: ";
   private static final String EOL_PATTERN = "\\r?\\n";
+  private static final Random RANDOM = new Random();
+  private static final String HOSTNAME_LABEL = "kubernetes.io/hostname";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit test
+  private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
 
   private JobHelper() {
   }
@@ -409,8 +436,302 @@ public class JobHelper {
     private Step createIntrospectionSteps(Step next) {
       return Step.chain(
               readExistingIntrospectorConfigMap(),
-              createNewJob(),
-              processExistingIntrospectorJob(next));
+              IntrospectorPodPool.isEnabled() ? new WarmIntrospectionStep(next) : createJobIntrospectionSteps(next));
+    }
+
+    // Returns a chain of steps which create an introspector job and process its results.
+    private Step createJobIntrospectionSteps(Step next) {
+      return Step.chain(new ScheduleIntrospectionStep(), createNewJob(), processExistingIntrospectorJob(next));
+    }
+
+    // Admits the introspection if the concurrent introspection limits allow it; otherwise, records the place
+    // of the domain in the queue and waits.
+    private class ScheduleIntrospectionStep extends Step {
+
+      ScheduleIntrospectionStep() {
+        super();
+      }
+
+      ScheduleIntrospectionStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        final IntrospectionScheduler.Request request = createIntrospectionRequest(packet);
+        final Admission admission = IntrospectionScheduler.getInstance().tryAdmit(request);
+        if (admission.admitted()) {
+          return doNext(clearIntrospectionQueueStatus(getNext()), packet);
+        }
+
+        LOGGER.fine("Introspection of domain " + getDomainUid() + " is queued at position " + admission.position());
+        return doNext(createIntrospectionQueueStep(admission.position(), admission.estimatedWaitSeconds(),
+            new AwaitIntrospectionStep(request, getNext())), packet);
+      }
+    }
+
+    // Waits for a queued introspection to be admitted. If the wait times out, the place of the domain in the
+    // queue is updated and the wait resumes; if processing may not wait, it is requeued.
+    private class AwaitIntrospectionStep extends Step {
+      private final IntrospectionScheduler.Request request;
+
+      AwaitIntrospectionStep(IntrospectionScheduler.Request request, Step next) {
+        super(next);
+        this.request = request;
+      }
+
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        if (!IntrospectionScheduler.canWait()) {
+          return doRequeue(packet);
+        } else if (IntrospectionScheduler.getInstance().await(request)) {
+          return doNext(clearIntrospectionQueueStatus(getNext()), packet);
+        } else {
+          return doNext(new ScheduleIntrospectionStep(getNext()), packet);
+        }
+      }
+    }
+
+    private Step clearIntrospectionQueueStatus(Step next) {
+      return Optional.ofNullable(getDomain().getStatus())
+          .map(DomainStatus::getIntrospectionQueuePosition)
+          .map(position -> createIntrospectionQueueStep(null, null, next))
+          .orElse(next);
+    }
+
+    private IntrospectionScheduler.Request createIntrospectionRequest(Packet packet) {
+      return new IntrospectionScheduler.Request(getNamespace(), getDomainUid(), getIntrospectionPriority(packet),
+          getIntrospectionNodeName(), getActiveDeadlineSeconds());
+    }
+
+    private Priority getIntrospectionPriority(Packet packet) {
+      if (getDomainTopology() == null || getNumRunningServers() == 0 || isDomainFailed()) {
+        return Priority.NEW_OR_FAILED;
+      } else if (isDomainGenerationChanged(packet) || isModelInImageUpdate(packet)) {
+        return Priority.UPDATE;
+      } else {
+        return Priority.ROUTINE;
+      }
+    }
+
+    private boolean isDomainFailed() {
+      return Optional.ofNullable(getDomain().getStatus()).map(s -> s.hasConditionWithType(FAILED)).orElse(false);
+    }
+
+    // The node to which the introspector pod is assigned, if the pod names one.
+    @Nullable
+    private String getIntrospectionNodeName() {
+      return Optional.ofNullable(getJobModelPodSpec())
+          .map(spec -> Optional.ofNullable(spec.getNodeName()).orElseGet(() -> getHostnameSelector(spec)))
+          .orElse(null);
+    }
+
+    @Nullable
+    private String getHostnameSelector(V1PodSpec spec) {
+      return Optional.ofNullable(spec.getNodeSelector()).map(selector -> selector.get(HOSTNAME_LABEL)).orElse(null);
+    }
+
+    private String getPoolKey() {
+      return IntrospectorPodPool.createKey(getNamespace(), getJobModelPodSpecHash());
+    }
+
+    // Runs the introspection in a pre-started introspector pod, if one is available; otherwise, creates a job.
+    private class WarmIntrospectionStep extends Step {
+
+      WarmIntrospectionStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        final WarmPod warmPod = IntrospectorPodPool.getInstance().acquire(getPoolKey(), getActiveDeadlineSeconds());
+        if (warmPod == null) {
+          INTROSPECTOR_POOL_REQUESTS.labels("miss").inc();
+          return doNext(createJobIntrospectionSteps(getNext()), packet);
+        } else {
+          return doNext(RequestBuilder.POD.get(getNamespace(), warmPod.podName(),
+              new ReadWarmPodResponseStep(warmPod, getNext())), packet);
+        }
+      }
+    }
+
+    private class ReadWarmPodResponseStep extends DefaultResponseStep<V1Pod> {
+      private final WarmPod warmPod;
+
+      ReadWarmPodResponseStep(WarmPod warmPod, Step next) {
+        super(next);
+        this.warmPod = warmPod;
+      }
+
+      @Override
+      public Result onSuccess(Packet packet, KubernetesApiResponse<V1Pod> callResponse) {
+        final V1Pod pod = callResponse.getObject();
+        if (pod == null) {
+          INTROSPECTOR_POOL_REQUESTS.labels("unavailable").inc();
+          return doNext(createJobIntrospectionSteps(getNext()), packet);
+        } else if (isReadyForIntrospection(pod)) {
+          return doNext(new WarmPodIntrospectionStep(pod, getNext()), packet);
+        } else if (isStarting(pod)) {
+          INTROSPECTOR_POOL_REQUESTS.labels("unavailable").inc();
+          IntrospectorPodPool.getInstance().add(warmPod);
+          return doNext(createJobIntrospectionSteps(getNext()), packet);
+        } else {
+          INTROSPECTOR_POOL_REQUESTS.labels("unavailable").inc();
+          return doNext(Step.chain(deleteWarmPod(warmPod.podName()), createJobIntrospectionSteps(getNext())), packet);
+        }
+      }
+
+      private boolean isStarting(V1Pod pod) {
+        return !PodHelper.isDeleting(pod) && PodHelper.isPending(pod);
+      }
+
+      private boolean isReadyForIntrospection(V1Pod pod) {
+        return !PodHelper.isDeleting(pod) && isMainContainerRunning(pod);
+      }
+
+      private boolean isMainContainerRunning(V1Pod pod) {
+        return Optional.ofNullable(pod.getStatus())
+              .map(V1PodStatus::getContainerStatuses).orElseGet(Collections::emptyList).stream()
+              .filter(status -> getContainerName().equals(status.getName()))
+              .map(V1ContainerStatus::getState)
+              .filter(Objects::nonNull)
+              .anyMatch(state -> state.getRunning() != null);
+      }
+    }
+
+    // Runs the introspector script in a warm pod, and processes its output exactly as it would the log of a job pod.
+    // If the introspection does not complete cleanly, falls back to running a job, which will report any failures.
+    private class WarmPodIntrospectionStep extends Step {
+      private final V1Pod pod;
+
+      WarmPodIntrospectionStep(V1Pod pod, Step next) {
+        super(next);
+        this.pod = pod;
+      }
+
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        final OffsetDateTime startTime = SystemClock.now();
+        final String result = runIntrospection();
+        final Step deletePod = deleteWarmPod(getName(pod));
+        if (!isCleanIntrospection(result)) {
+          INTROSPECTOR_POOL_REQUESTS.labels("failed").inc();
+          return doNext(Step.chain(deletePod, createJobIntrospectionSteps(getNext())), packet);
+        }
+
+        INTROSPECTOR_POOL_REQUESTS.labels("hit").inc();
+        INTROSPECTION_DURATION.labels(WARM).observe(getSecondsSince(startTime));
+        packet.put(INTROSPECTION_TIME, startTime.toString());
+        return new ReadPodLogResponseStep(
+              Step.chain(createIntrospectorConfigMap(), deletePod, replenishPodPool(), getNext()))
+              .processIntrospectorLog(packet, new RequestBuilder.StringObject(result));
+      }
+
+      private boolean isCleanIntrospection(String result) {
+        return result != null
+              && result.contains(DOMAIN_INTROSPECTION_COMPLETE)
+              && !result.toUpperCase().contains("[SEVERE]");
+      }
+
+      // Returns the output of the introspector script, or null if it failed.
+      @Nullable
+      private String runIntrospection() {
+        Process proc = null;
+        try {
+          KubernetesExec kubernetesExec = execFactory.create(Client.getInstance(), pod, getContainerName());
+          kubernetesExec.setStdin(false);
+          kubernetesExec.setTty(false);
+          proc = kubernetesExec.exec(getContainerCommand().toArray(new String[0]));
+
+          final String result;
+          try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
+            result = OperatorUtils.toString(reader);
+          }
+          return proc.waitFor(getActiveDeadlineSeconds(), TimeUnit.SECONDS) && proc.exitValue() == 0 ? result : null;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return null;
+        } catch (IOException | ApiException e) {
+          LOGGER.warning(MessageKeys.EXCEPTION, e);
+          return null;
+        } finally {
+          Optional.ofNullable(proc).ifPresent(Process::destroy);
+        }
+      }
+    }
+
+    private Step deleteWarmPod(String podName) {
+      return RequestBuilder.POD.delete(getNamespace(), podName, new DefaultResponseStep<>());
+    }
+
+    // Returns a step which ensures that the pool contains a warm pod for the current introspector configuration
+    // and removes any pods left over from earlier configurations, or from an earlier instance of the operator.
+    private Step replenishPodPool() {
+      return IntrospectorPodPool.isEnabled() ? new ReplenishPodPoolStep() : null;
+    }
+
+    // The introspector pod specification depends on the domain topology, which may have just been updated,
+    // so the warm pods are selected using a context created from the current packet.
+    private static class ReplenishPodPoolStep extends Step {
+
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        return doNext(new IntrospectorJobStepContext(packet).createReplenishSteps(getNext()), packet);
+      }
+    }
+
+    private Step createReplenishSteps(Step next) {
+      final List<Step> steps = new ArrayList<>();
+      IntrospectorPodPool.getInstance().releaseObsolete(getNamespace(), getDomainUid(), getPoolKey())
+            .forEach(name -> steps.add(deleteWarmPod(name)));
+      steps.add(RequestBuilder.POD.list(getNamespace(), new ListOptions().labelSelector(getWarmPodSelector()),
+            new WarmPodListResponseStep()));
+      return Step.chain(Step.chain(steps), next);
+    }
+
+    private String getWarmPodSelector() {
+      return LabelConstants.forDomainUidSelector(getDomainUid()) + "," + LabelConstants.INTROSPECTOR_POOL_LABEL;
+    }
+
+    private class WarmPodListResponseStep extends DefaultResponseStep<V1PodList> {
+
+      @Override
+      public Result onSuccess(Packet packet, KubernetesApiResponse<V1PodList> callResponse) {
+        final IntrospectorPodPool pool = IntrospectorPodPool.getInstance();
+        final List<Step> steps = new ArrayList<>();
+        Optional.ofNullable(callResponse.getObject()).map(V1PodList::getItems).orElseGet(Collections::emptyList)
+              .stream()
+              .filter(pod -> !PodHelper.isDeleting(pod))
+              .map(JobHelper::getName)
+              .filter(name -> !pool.isTracked(getNamespace(), name))
+              .forEach(name -> steps.add(deleteWarmPod(name)));
+        if (pool.hasCapacity(getPoolKey())) {
+          steps.add(createWarmPod());
+        }
+        return doNext(steps.isEmpty() ? getNext() : Step.chain(Step.chain(steps), getNext()), packet);
+      }
+    }
+
+    private Step createWarmPod() {
+      final String podName = getJobName() + "-warm-" + String.format("%05x", RANDOM.nextInt(0x100000));
+      return RequestBuilder.POD.create(createWarmIntrospectorPodModel(podName), new CreateWarmPodResponseStep());
+    }
+
+    private class CreateWarmPodResponseStep extends ResponseStep<V1Pod> {
+
+      @Override
+      public Result onSuccess(Packet packet, KubernetesApiResponse<V1Pod> callResponse) {
+        Optional.ofNullable(callResponse.getObject()).map(JobHelper::getName)
+              .map(name -> new WarmPod(getPoolKey(), getNamespace(), getDomainUid(), name))
+              .ifPresent(IntrospectorPodPool.getInstance()::add);
+        return doNext(packet);
+      }
+
+      // Failure to create a warm pod only means that the next introspection will need a job.
+      @Override
+      public Result onFailure(Packet packet, KubernetesApiResponse<V1Pod> callResponse) {
+        return doNext(packet);
+      }
     }
 
     // Returns a chain of steps which read the job pod and decide how to handle it.
@@ -447,6 +768,23 @@ public class JobHelper {
       return new ReadDomainIntrospectorPodStep();
     }
 
+    private Step createIntrospectorConfigMap() {
+      return ConfigMapHelper.createIntrospectorConfigMapStep(null);
+    }
+
+    // Records the time taken by a job-based introspection, measured from the creation of the job.
+    private static class RecordJobIntrospectionTimeStep extends Step {
+
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        Optional.ofNullable(packet.<V1Job>getValue(DOMAIN_INTROSPECTOR_JOB))
+              .map(V1Job::getMetadata)
+              .map(V1ObjectMeta::getCreationTimestamp)
+              .ifPresent(created -> INTROSPECTION_DURATION.labels(COLD).observe(getSecondsSince(created)));
+        return doNext(packet);
+      }
+    }
+
     private Step waitForJobPod() {
       return new WaitForJobPodStep();
     }
@@ -551,6 +889,7 @@ public class JobHelper {
       @Override
       public @Nonnull Result apply(Packet packet) {
         logJobDeleted(getDomainUid(), getNamespace(), getJobName(), packet);
+        IntrospectionScheduler.getInstance().release(getNamespace(), getDomainUid());
         DeleteOptions deleteOptions = (DeleteOptions) new DeleteOptions()
             .gracePeriodSeconds((long) JOB_DELETE_TIMEOUT_SECONDS).propagationPolicy("Foreground");
         return doNext(
@@ -570,16 +909,21 @@ public class JobHelper {
 
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<RequestBuilder.StringObject> callResponse) {
-        Optional.ofNullable(callResponse.getObject())
+        return processIntrospectorLog(packet, callResponse.getObject());
+      }
+
+      // Processes the output of the introspector script, whether read from a job pod log or from a warm pod.
+      Result processIntrospectorLog(Packet packet, RequestBuilder.StringObject log) {
+        Optional.ofNullable(log)
             .ifPresent(result -> processIntrospectionResult(packet, result.value()));
 
         addFluentdContainerLogAsSevereStatus(packet);
 
         final V1Job domainIntrospectorJob = packet.getValue(DOMAIN_INTROSPECTOR_JOB);
         if (severeStatuses.isEmpty()) {
-          if (!isDomainIntrospectionComplete(callResponse)) {
-            LOGGER.severe(DOMAIN_INTROSPECTION_INCOMPLETE, callResponse.getObject());
-            severeStatuses.add(LOGGER.formatMessage(DOMAIN_INTROSPECTION_INCOMPLETE, callResponse.getObject()));
+          if (!isDomainIntrospectionComplete(log)) {
+            LOGGER.severe(DOMAIN_INTROSPECTION_INCOMPLETE, log);
+            severeStatuses.add(LOGGER.formatMessage(DOMAIN_INTROSPECTION_INCOMPLETE, log));
             return handleFailure(packet, domainIntrospectorJob);
           }
           return doNext(createRemoveSelectedFailuresStep(getNext(), INTROSPECTION), packet);
@@ -589,8 +933,8 @@ public class JobHelper {
       }
 
       @Nonnull
-      private Boolean isDomainIntrospectionComplete(KubernetesApiResponse<RequestBuilder.StringObject> callResponse) {
-        return Optional.ofNullable(callResponse).map(KubernetesApiResponse::getObject)
+      private Boolean isDomainIntrospectionComplete(RequestBuilder.StringObject log) {
+        return Optional.ofNullable(log)
             .map(RequestBuilder.StringObject::value)
             .map(r -> r.contains(DOMAIN_INTROSPECTION_COMPLETE)).orElse(false);
       }
@@ -869,14 +1213,11 @@ public class JobHelper {
         return Optional.ofNullable(jobPod.getStatus()).map(V1PodStatus::getReason).orElse(null);
       }
 
-      private Step createIntrospectorConfigMap() {
-        return ConfigMapHelper.createIntrospectorConfigMapStep(null);
-      }
-
       // Returns a chain of steps which read the pod log and create a config map.
       private Step processIntrospectorPodLog(Step next) {
         return Step.chain(waitForJobPod(), readNamedPodLog(),
-            createIntrospectorConfigMap(), deleteIntrospectorJob(), next);
+            createIntrospectorConfigMap(), new RecordJobIntrospectionTimeStep(), deleteIntrospectorJob(),
+            replenishPodPool(), next);
       }
 
       private String getName(V1Pod pod) {
@@ -962,6 +1303,10 @@ public class JobHelper {
     return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getName).orElse("");
   }
 
+  private static double getSecondsSince(OffsetDateTime startTime) {
+    return Duration.between(startTime, SystemClock.now()).toMillis() / 1000.0;
+  }
+
   static void logJobDeleted(String domainUid, String namespace, String jobName, Packet packet) {
     V1Job domainIntrospectorJob =
             (V1Job) packet.remove(DOMAIN_INTROSPECTOR_JOB);
@@ -22,6 +22,7 @@ import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobSpec;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSecurityContext;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
@@ -292,6 +293,39 @@ public class JobStepContext extends BasePodStepContext {
     return MessageKeys.JOB_CREATED;
   }
 
+  /**
+   * Returns a hash of the pod specification which the introspector job will use. Introspector pods with
+   * the same specification hash are interchangeable.
+   */
+  String getJobModelPodSpecHash() {
+    return AnnotationHelper.createHash(getJobModelPodSpec());
+  }
+
+  /**
+   * Creates a model for a pre-started introspector pod. It has the same specification as the pod which the
+   * introspector job would create, except that its main container simply waits until the idle timeout of the pod
+   * pool expires, so that an introspection may later be run in it.
+   *
+   * @param podName the name of the pod to create
+   * @return a pod model
+   */
+  V1Pod createWarmIntrospectorPodModel(String podName) {
+    final V1PodSpec podSpec = createJobModel().getSpec().getTemplate().getSpec();
+    podSpec.getContainers().stream()
+          .filter(c -> getContainerName().equals(c.getName()))
+          .forEach(c -> c.command(List.of("sleep", Long.toString(IntrospectorPodPool.getIdleTimeoutSeconds()))));
+
+    return new V1Pod()
+          .metadata(updateForOwnerReference(
+              new V1ObjectMeta()
+                  .name(podName)
+                  .namespace(getNamespace())
+                  .putLabelsItem(LabelConstants.DOMAINUID_LABEL, getDomainUid())
+                  .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+                  .putLabelsItem(LabelConstants.INTROSPECTOR_POOL_LABEL, "true")))
+          .spec(podSpec);
+  }
+
   String getNodeManagerHome() {
     return NODEMGR_HOME;
   }
@@ -390,7 +424,7 @@ public class JobStepContext extends BasePodStepContext {
           .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true"));
   }
 
-  private long getActiveDeadlineSeconds() {
+  long getActiveDeadlineSeconds() {
     return getIntrospectorJobActiveDeadlineSeconds()
           + (TuningParameters.getInstance().getActiveDeadlineIncrementSeconds() * getNumDeadlineIncreases());
   }
@@ -148,7 +148,7 @@ public class KubernetesUtils {
           .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true");
   }
 
-  static boolean isOperatorCreated(V1ObjectMeta metadata) {
+  public static boolean isOperatorCreated(V1ObjectMeta metadata) {
     return Boolean.parseBoolean(getOperatorCreatedLabel(metadata));
   }
 
@@ -0,0 +1,137 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+/**
+ * Replaces the strings held by a Kubernetes model object, including those in its nested objects, lists and maps,
+ * and the keys of its maps. Objects and lists are updated in place; a map whose keys change is replaced rather than
+ * modified, so that a concurrent reader never sees it partly rebuilt. Unmodifiable lists and maps are left as they
+ * are.
+ */
+class ModelStrings {
+
+  private static final String MODEL_PACKAGE = V1ObjectMeta.class.getPackageName();
+
+  private static final ClassValue<List<Field>> INSTANCE_FIELDS = new ClassValue<>() {
+    @Override
+    protected List<Field> computeValue(Class<?> type) {
+      final List<Field> fields = new ArrayList<>();
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            field.setAccessible(true);
+            fields.add(field);
+          }
+        }
+      }
+      return fields;
+    }
+  };
+
+  private final UnaryOperator<String> replacement;
+
+  private ModelStrings(UnaryOperator<String> replacement) {
+    this.replacement = replacement;
+  }
+
+  /**
+   * Replaces each string held by the specified object with the result of the replacement function.
+   * @param object a Kubernetes model object, possibly null
+   * @param replacement a function which returns the string to replace its argument
+   * @param <T> the type of the object
+   * @return the object
+   */
+  static <T> T replace(T object, UnaryOperator<String> replacement) {
+    if (isModelObject(object)) {
+      new ModelStrings(replacement).replaceInModelObject(object);
+    }
+    return object;
+  }
+
+  private static boolean isModelObject(Object value) {
+    return value != null && value.getClass().getPackageName().equals(MODEL_PACKAGE);
+  }
+
+  private void replaceInModelObject(Object object) {
+    for (Field field : INSTANCE_FIELDS.get(object.getClass())) {
+      replaceInField(object, field);
+    }
+  }
+
+  private void replaceInField(Object object, Field field) {
+    try {
+      final Object value = field.get(object);
+      final Object replaced = replaceInValue(value);
+      if (replaced != value) {
+        field.set(object, replaced);
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Object replaceInValue(Object value) {
+    if (value instanceof String s) {
+      return replacement.apply(s);
+    } else if (value instanceof List<?> list) {
+      replaceInList(list);
+    } else if (value instanceof Map<?, ?> map) {
+      return replaceInMap(map);
+    } else if (isModelObject(value)) {
+      replaceInModelObject(value);
+    }
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void replaceInList(List<?> list) {
+    try {
+      final ListIterator<Object> elements = (ListIterator<Object>) list.listIterator();
+      while (elements.hasNext()) {
+        final Object element = elements.next();
+        final Object replaced = replaceInValue(element);
+        if (replaced != element) {
+          elements.set(replaced);
+        }
+      }
+    } catch (UnsupportedOperationException e) {
+      // an unmodifiable list is left as it is
+    }
+  }
+
+  private Map<?, ?> replaceInMap(Map<?, ?> map) {
+    if (map.keySet().stream().allMatch(this::isUnchanged)) {
+      replaceValues(map);
+      return map;
+    }
+
+    final Map<Object, Object> replaced = new LinkedHashMap<>();
+    map.forEach((key, value) -> replaced.put(replaceInValue(key), replaceInValue(value)));
+    return replaced;
+  }
+
+  private boolean isUnchanged(Object key) {
+    return !(key instanceof String s) || replacement.apply(s) == s;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void replaceValues(Map<?, ?> map) {
+    try {
+      ((Map<Object, Object>) map).replaceAll((key, value) -> replaceInValue(value));
+    } catch (UnsupportedOperationException e) {
+      // an unmodifiable map is left as it is
+    }
+  }
+}
@@ -0,0 +1,36 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.common.KubernetesObject;
+
+/**
+ * Reduces the memory retained by the Kubernetes objects which the operator caches in its domain presence
+ * information. The pods of a domain hold largely the same strings: label and annotation keys, namespaces, image
+ * names, environment variables and volume paths. Compaction replaces each string in an object with the shared
+ * instance from the {@link StringInterner}, and drops the managed-field entries, which the operator never reads.
+ *
+ * <p>Only strings are shared among objects. The Kubernetes model classes are mutable, and the operator builds pod
+ * recipes which alias parts of the current pod, so sharing equal sub-objects among pods could let a change meant
+ * for one pod appear in another. An object is compacted in place, and keeps its identity.
+ */
+public class ObjectCompaction {
+
+  private ObjectCompaction() {
+    // no instances
+  }
+
+  /**
+   * Compacts the specified Kubernetes object in place.
+   * @param object a Kubernetes model object, possibly null
+   * @param <T> the type of the object
+   * @return the object
+   */
+  public static <T> T compact(T object) {
+    if (object instanceof KubernetesObject resource && resource.getMetadata() != null) {
+      resource.getMetadata().setManagedFields(null);
+    }
+    return ModelStrings.replace(object, StringInterner::intern);
+  }
+}
@@ -90,6 +90,8 @@ public class PersistentVolumeClaimHelper {
       return new PersistentVolumeClaimContext.ConflictStep();
     }
 
+    // The claim is read rather than applied: claims are neither listed nor watched, so this read is what refreshes
+    // the recorded claim that WaitForPvcToBind checks on each requeue, and what notices that the claim was deleted.
     Step readAndCreatePersistentVolumeClaimStep(Step next) {
       Step nextStep = next;
       if (Boolean.TRUE.equals(getWaitForPvcToBind())) {
@@ -9,33 +9,25 @@ import java.util.Optional;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.custom.IntOrString;
-import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1LabelSelector;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetSpec;
-import io.kubernetes.client.util.generic.KubernetesApiResponse;
-import jakarta.json.Json;
-import jakarta.json.JsonPatchBuilder;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.RequestBuilder;
-import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.ServerSideApply.Outcome;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
-import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_PDB_CREATED;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_PDB_EXISTS;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_PDB_PATCHED;
-import static oracle.kubernetes.operator.DomainStatusUpdater.createKubernetesFailureSteps;
-import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.POD_DISRUPTION_BUDGET;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
@@ -73,161 +65,42 @@ public class PodDisruptionBudgetHelper {
     }
 
     protected PodDisruptionBudgetHelper.PodDisruptionBudgetContext createContext(Packet packet) {
-      return new PodDisruptionBudgetHelper.PodDisruptionBudgetContext(this, packet);
+      return new PodDisruptionBudgetHelper.PodDisruptionBudgetContext(packet);
     }
   }
 
   static class PodDisruptionBudgetContext extends StepContextBase {
-    private final Step conflictStep;
     private final String clusterName;
 
-    PodDisruptionBudgetContext(Step conflictStep, Packet packet) {
+    PodDisruptionBudgetContext(Packet packet) {
       super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
-      this.conflictStep = conflictStep;
       this.clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
     }
 
-    Step getConflictStep() {
-      return new PodDisruptionBudgetHelper.PodDisruptionBudgetContext.ConflictStep();
-    }
-
-    private class CreateResponseStep extends ResponseStep<V1PodDisruptionBudget> {
-      private final String messageKey;
-
-      CreateResponseStep(String messageKey, Step next) {
-        super(next);
-        this.messageKey = messageKey;
-      }
-
-      @Override
-      public Result onFailure(Packet packet, KubernetesApiResponse<V1PodDisruptionBudget> callResponse) {
-        if (isUnrecoverable(callResponse)) {
-          return updateDomainStatus(packet, callResponse);
-        } else {
-          return onFailure(getConflictStep(), packet, callResponse);
-        }
-      }
-
-      private Result updateDomainStatus(Packet packet, KubernetesApiResponse<V1PodDisruptionBudget> callResponse) {
-        return doNext(createKubernetesFailureSteps(callResponse, createFailureMessage(callResponse)), packet);
-      }
-
-      @Override
-      public Result onSuccess(Packet packet, KubernetesApiResponse<V1PodDisruptionBudget> callResponse) {
-        logPodDisruptionBudgetCreated(messageKey);
-        addPodDisruptionBudgetToRecord(callResponse.getObject());
-        return doNext(packet);
-      }
-    }
-
-    private class ReadResponseStep extends DefaultResponseStep<V1PodDisruptionBudget> {
-      ReadResponseStep(Step next) {
-        super(next);
-      }
-
-      @Override
-      public Result onFailure(Packet packet, KubernetesApiResponse<V1PodDisruptionBudget> callResponse) {
-        return callResponse.getHttpStatusCode() == HTTP_NOT_FOUND
-                ? onSuccess(packet, callResponse)
-                : onFailure(getConflictStep(), packet, callResponse);
-      }
-
-      @Override
-      public Result onSuccess(Packet packet, KubernetesApiResponse<V1PodDisruptionBudget> callResponse) {
-        V1PodDisruptionBudget podDisruptionBudget = callResponse.getObject();
-        if (podDisruptionBudget == null) {
-          removePodDisruptionBudgetFromRecord();
-        } else {
-          addPodDisruptionBudgetToRecord(callResponse.getObject());
-        }
-        return doNext(packet);
-      }
-    }
-
-    private class PatchResponseStep extends ResponseStep<V1PodDisruptionBudget> {
-      PatchResponseStep(Step next) {
-        super(next);
-      }
-
-      @Override
-      public Result onFailure(Packet packet, KubernetesApiResponse<V1PodDisruptionBudget> callResponse) {
-        return callResponse.getHttpStatusCode() == HTTP_NOT_FOUND
-                ? onSuccess(packet, callResponse)
-                : onFailure(getConflictStep(), packet, callResponse);
-      }
-
-      @Override
-      public Result onSuccess(Packet packet, KubernetesApiResponse<V1PodDisruptionBudget> callResponse) {
-        logPodDisruptionBudgetPatched();
-        return doNext(packet);
-      }
-    }
-
-    private class ConflictStep extends Step {
-      @Override
-      public @Nonnull Result apply(Packet packet) {
-        return doNext(
-            RequestBuilder.PDB.get(info.getNamespace(), getPDBName(),
-                new PodDisruptionBudgetContext.ReadResponseStep(conflictStep)),
-            packet);
-      }
-
-      @Override
-      public boolean equals(Object other) {
-        if (other == this) {
-          return true;
-        }
-        if (!(other instanceof ConflictStep rhs)) {
-          return false;
-        }
-        return new EqualsBuilder().append(conflictStep, rhs.getConflictStep()).isEquals();
-      }
-
-      @Override
-      public int hashCode() {
-        HashCodeBuilder builder =
-            new HashCodeBuilder()
-                .appendSuper(super.hashCode())
-                .append(conflictStep);
-
-        return builder.toHashCode();
-      }
-
-      private Step getConflictStep() {
-        return conflictStep;
-      }
-    }
-
     Step verifyPodDisruptionBudget(Step next) {
       V1PodDisruptionBudget podDisruptionBudget = getPodDisruptionBudgetFromRecord();
-      if (podDisruptionBudget == null) {
-        return createNewPodDisruptionBudget(next);
-      } else if (mustPatch(podDisruptionBudget)) {
-        return patchPodDisruptionBudgetStep(next);
+      if (podDisruptionBudget == null || mustPatch(podDisruptionBudget)) {
+        return ServerSideApply.getInstance().createApplyStep(
+            RequestBuilder.PDB, createModel(), this::recordApplied, next);
       } else {
         logPodDisruptionBudgetExists();
         return next;
       }
     }
 
-    private Step patchPodDisruptionBudgetStep(Step next) {
-      return RequestBuilder.PDB.patch(
-          info.getNamespace(), getPDBName(),
-          V1Patch.PATCH_FORMAT_JSON_PATCH,
-          createPodDisruptionBudgetPatch(clusterName, info), new PatchResponseStep(next));
+    private void recordApplied(V1PodDisruptionBudget podDisruptionBudget, Outcome outcome) {
+      switch (outcome) {
+        case CREATED -> logPodDisruptionBudgetCreated(getPDBCreatedMessageKey());
+        case UPDATED -> logPodDisruptionBudgetPatched();
+        default -> logPodDisruptionBudgetExists();
+      }
+      addPodDisruptionBudgetToRecord(podDisruptionBudget);
     }
 
     private String getPDBName() {
       return getDomainUid() + "-" + clusterName;
     }
 
-    private V1Patch createPodDisruptionBudgetPatch(String clusterName, DomainPresenceInfo info) {
-      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
-      patchBuilder.replace("/spec/minAvailable", Math.max(0, info.getReplicaCount(clusterName)
-              - info.getMaxUnavailable(clusterName)));
-      return new V1Patch(patchBuilder.build().toString());
-    }
-
     private boolean mustPatch(V1PodDisruptionBudget existingPdb) {
       int minAvailable = Optional.ofNullable(existingPdb.getSpec())
               .map(V1PodDisruptionBudgetSpec::getMinAvailable).map(IntOrString::getIntValue).orElse(0);
@@ -239,19 +112,10 @@ public class PodDisruptionBudgetHelper {
               - info.getMaxUnavailable(clusterName));
     }
 
-    private Step createNewPodDisruptionBudget(Step next) {
-      return createPodDisruptionBudget(getPDBCreatedMessageKey(), next);
-    }
-
     protected String getPDBCreatedMessageKey() {
       return CLUSTER_PDB_CREATED;
     }
 
-    private Step createPodDisruptionBudget(String messageKey, Step next) {
-      return RequestBuilder.PDB.create(
-          createModel(), new PodDisruptionBudgetHelper.PodDisruptionBudgetContext.CreateResponseStep(messageKey, next));
-    }
-
     public V1PodDisruptionBudget createModel() {
       return withNonHashedElements(AnnotationHelper.withSha256Hash(createRecipe()));
     }
@@ -272,6 +136,7 @@ public class PodDisruptionBudgetHelper {
       return new V1PodDisruptionBudget()
               .metadata(new V1ObjectMeta().name(getPDBName()).namespace(info.getNamespace()).labels(labels))
               .apiVersion(PDB_API_VERSION)
+              .kind(POD_DISRUPTION_BUDGET)
               .spec(new V1PodDisruptionBudgetSpec().minAvailable(new IntOrString(minAvailable))
                       .selector(new V1LabelSelector().matchLabels(labels)));
     }
@@ -284,10 +149,6 @@ public class PodDisruptionBudgetHelper {
       info.setPodDisruptionBudget(clusterName, pdb);
     }
 
-    protected void removePodDisruptionBudgetFromRecord() {
-      info.removePodDisruptionBudget(clusterName);
-    }
-
     protected void logPodDisruptionBudgetCreated(String messageKey) {
       LOGGER.info(messageKey, getDomainUid(), clusterName);
     }
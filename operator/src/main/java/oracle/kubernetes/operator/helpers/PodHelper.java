@@ -34,13 +34,16 @@ import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.PodStepContext.PodRecipe;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.Certificates;
+import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -458,6 +461,32 @@ public class PodHelper {
     return patchPodAnnotation(pod, LabelConstants.TO_BE_SHUTDOWN_LABEL, value, next);
   }
 
+  /**
+   * Records on a pod the hash of the monitoring exporter configuration which its sidecar is known to be using,
+   * unless the pod already records that hash.
+   * @param pod Pod
+   * @param hash the hash of the configuration applied to the sidecar
+   * @param next Next step
+   * @return Step that will patch the annotation if it does not already have the specified value
+   */
+  public static Step annotatePodWithExporterConfigurationHash(V1Pod pod, String hash, Step next) {
+    if (hash.equals(getPodAnnotation(pod, LabelConstants.EXPORTER_CONFIGURATION_HASH))) {
+      return next;
+    }
+
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    V1ObjectMeta meta = pod.getMetadata();
+    if (meta.getAnnotations() == null) {
+      patchBuilder.add("/metadata/annotations",
+          Json.createObjectBuilder().add(LabelConstants.EXPORTER_CONFIGURATION_HASH, hash).build());
+    } else {
+      patchBuilder.add("/metadata/annotations/" + LabelConstants.EXPORTER_CONFIGURATION_HASH, hash);
+    }
+    return RequestBuilder.POD.patch(meta.getNamespace(), meta.getName(),
+            V1Patch.PATCH_FORMAT_JSON_PATCH,
+            new V1Patch(patchBuilder.build().toString()), patchResponse(next));
+  }
+
   /**
    * Check if the pod is already annotated for shut down.
    * @param pod Pod
@@ -685,9 +714,9 @@ public class PodHelper {
       DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
       WlsDomainConfig domainTopology =
               (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
-      V1Pod adminPod = info.getServerPod(domainTopology.getAdminServerName());
+      String adminServerName = domainTopology.getAdminServerName();
 
-      if (adminPod == null || !isPodReady(adminPod)) {
+      if (!awaitPodReady(info, adminServerName)) {
         // requeue to wait for admin pod to be ready
         return doRequeue(packet);
       }
@@ -695,6 +724,11 @@ public class PodHelper {
       return doNext(packet);
     }
 
+    private boolean awaitPodReady(DomainPresenceInfo info, String serverName) {
+      return ConditionWaiters.PODS.await(info.getNamespace(), LegalNames.toPodName(info.getDomainUid(), serverName),
+          ConditionWaiters.POD_READY, () -> isPodReady(info.getServerPod(serverName)));
+    }
+
     protected boolean isPodReady(V1Pod result) {
       return result != null && !PodHelper.isDeleting(result) && PodHelper.isReady(result);
     }
@@ -706,11 +740,60 @@ public class PodHelper {
     private final Packet packet;
 
     ManagedPodStepContext(Step conflictStep, Packet packet) {
+      this(conflictStep, packet, true);
+    }
+
+    private ManagedPodStepContext(Step conflictStep, Packet packet, boolean createPodModel) {
       super(conflictStep, packet);
       this.packet = packet;
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
 
-      init();
+      if (createPodModel) {
+        init();
+      }
+    }
+
+    @Override
+    PodRecipe createHashedPodRecipe() {
+      return Optional.ofNullable(getPodTemplates())
+          .filter(templates -> canShareTemplate())
+          .map(templates -> templates.getRecipe(
+              createTemplateKey(), getServerName(), this::createTemplate, super::createHashedPodRecipe))
+          .orElseGet(super::createHashedPodRecipe);
+    }
+
+    private PodTemplates getPodTemplates() {
+      return (PodTemplates) packet.get(ProcessingConstants.POD_TEMPLATES);
+    }
+
+    // A server configured individually in the domain resource has its own effective server spec.
+    private boolean canShareTemplate() {
+      return getClusterName() != null && scan != null
+          && getDomain().getSpec().getManagedServer(getServerName()) == null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TemplateKey createTemplateKey() {
+      return new TemplateKey(getClusterName(), scan.getListenPort(), scan.getSslListenPort(), scan.getAdminPort(),
+          scan.getNetworkAccessPoints(), (List<V1EnvVar>) packet.get(ProcessingConstants.ENVVARS));
+    }
+
+    private PodTemplate createTemplate() {
+      return new PodTemplate(new ManagedPodStepContext(null, createTemplatePacket(), false).createPodRecipe());
+    }
+
+    private Packet createTemplatePacket() {
+      final Packet templatePacket = packet.copy();
+      templatePacket.put(ProcessingConstants.SERVER_NAME, PodTemplate.SERVER_NAME_PLACEHOLDER);
+      templatePacket.put(ProcessingConstants.SERVER_SCAN, new WlsServerConfig(PodTemplate.SERVER_NAME_PLACEHOLDER,
+          null, null, scan.getListenPort(), scan.getSslListenPort(), scan.getAdminPort(),
+          scan.getNetworkAccessPoints()));
+      return templatePacket;
+    }
+
+    // The characteristics of a clustered server which, with the server name, determine its pod recipe.
+    private record TemplateKey(String clusterName, Integer listenPort, Integer sslListenPort, Integer adminPort,
+                               List<NetworkAccessPoint> networkAccessPoints, List<V1EnvVar> envVars) {
     }
 
     @Override
@@ -985,12 +1068,19 @@ public class PodHelper {
               info.setServerPod(serverName, null);
             } else if (isMustWait) {
               info.setServerPod(serverName, callResponse.getObject());
-              // requeue to wait for pod to be deleted and gone
-              return doRequeue(packet);
+              if (!awaitPodDeleted(info, name)) {
+                // requeue to wait for pod to be deleted and gone
+                return doRequeue(packet);
+              }
             }
             return doNext(packet);
           }
         });
     }
+
+    private boolean awaitPodDeleted(DomainPresenceInfo info, String podName) {
+      return ConditionWaiters.PODS.await(info.getNamespace(), podName,
+          ConditionWaiters.DELETED, () -> info.getServerPod(serverName) == null);
+    }
   }
 }
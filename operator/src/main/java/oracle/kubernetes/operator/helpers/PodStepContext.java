@@ -36,6 +36,7 @@ import io.kubernetes.client.openapi.models.V1Lifecycle;
 import io.kubernetes.client.openapi.models.V1LifecycleHandler;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodBuilder;
 import io.kubernetes.client.openapi.models.V1PodReadinessGate;
 import io.kubernetes.client.openapi.models.V1PodSecurityContext;
 import io.kubernetes.client.openapi.models.V1PodSpec;
@@ -529,9 +530,22 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   V1Pod createPodModel() {
+    final PodRecipe podRecipe = createHashedPodRecipe();
+    sha256Hash = podRecipe.hash();
+    return withNonHashedElements(podRecipe.pod());
+  }
+
+  PodRecipe createHashedPodRecipe() {
     final V1Pod podRecipe = createPodRecipe();
-    sha256Hash = AnnotationHelper.createHash(podRecipe);
-    return withNonHashedElements(podRecipe);
+    return new PodRecipe(podRecipe, AnnotationHelper.createHash(podRecipe));
+  }
+
+  /**
+   * A pod recipe and its hash.
+   * @param pod the recipe, containing the elements of the pod which are not patchable
+   * @param hash the hash of the recipe
+   */
+  record PodRecipe(V1Pod pod, String hash) {
   }
 
   @Override
@@ -627,7 +641,7 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   // Creates a pod model containing elements which are not patchable.
-  private V1Pod createPodRecipe() {
+  V1Pod createPodRecipe() {
     return new V1Pod().metadata(createMetadata()).spec(createSpec());
   }
 
@@ -704,6 +718,7 @@ public abstract class PodStepContext extends BasePodStepContext {
     Optional.ofNullable(getAuxiliaryImages()).ifPresent(auxiliaryImages ->
             getAuxiliaryImageInitContainers(auxiliaryImages, initContainers));
     initContainers.addAll(getServerSpec().getInitContainers().stream()
+            .map(c -> new V1ContainerBuilder(c).build())
             .map(c -> c.env(createEnv(c)).envFrom(c.getEnvFrom()).resources(createResources()))
         .toList());
     return initContainers;
@@ -1151,7 +1166,8 @@ public abstract class PodStepContext extends BasePodStepContext {
     }
 
     private String adjustedHash(V1Pod currentPod, List<Pair<String, BiConsumer<V1Pod, V1Pod>>> adjustments) {
-      V1Pod recipe = createPodRecipe();
+      // the adjustments update the recipe in place, so they must not see objects shared with the server spec
+      V1Pod recipe = new V1PodBuilder(createPodRecipe()).build();
       adjustments.forEach(adjustment -> adjustment.right().accept(recipe, currentPod));
 
       return AnnotationHelper.createHash(recipe);
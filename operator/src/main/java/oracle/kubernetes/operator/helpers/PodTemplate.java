@@ -0,0 +1,99 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodBuilder;
+import oracle.kubernetes.operator.helpers.PodStepContext.PodRecipe;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * The pod recipe shared by the managed servers of a cluster which have the same WebLogic ports and no server-specific
+ * configuration in the domain resource. The recipes of those servers differ only in the server name, which appears
+ * in the pod name, in labels and environment variables, and wherever a variable which refers to it has been
+ * substituted. A template is a recipe built once, for a placeholder server name; the recipe of each server is
+ * derived from it by copying it and replacing the placeholder.
+ *
+ * <p>The hash of a derived recipe is derived the same way, by replacing the placeholder in the YAML of the template,
+ * rather than by writing the YAML of each recipe. That gives the same YAML so long as no string containing the
+ * placeholder is written differently once the server name replaces it; otherwise, the derived recipe is hashed.
+ */
+class PodTemplate {
+
+  static final String SERVER_NAME_PLACEHOLDER = "WKO_SERVER_NAME_PLACEHOLDER";
+  private static final String LEGAL_SERVER_NAME_PLACEHOLDER = LegalNames.toDns1123LegalName(SERVER_NAME_PLACEHOLDER);
+
+  // the characters which YAML writes without quoting or escaping
+  private static final Pattern VERBATIM_NAME = Pattern.compile("[A-Za-z0-9_.-]+");
+  private static final Resolver YAML_RESOLVER = new Resolver();
+
+  private final V1Pod recipe;
+  private final String recipeYaml;
+
+  /**
+   * Creates a template from the recipe built for the placeholder server name. The template keeps the recipe, which
+   * must not be updated afterwards.
+   * @param recipe the recipe for the placeholder server
+   */
+  PodTemplate(V1Pod recipe) {
+    this.recipe = recipe;
+    this.recipeYaml = AnnotationHelper.getHashedYaml(recipe);
+  }
+
+  /**
+   * Derives the recipe for the specified server, and its hash.
+   * @param serverName the name of a server which shares this template
+   */
+  PodRecipe createRecipe(String serverName) {
+    final ServerNameReplacement replacement = new ServerNameReplacement(serverName);
+    final V1Pod pod = ModelStrings.replace(new V1PodBuilder(recipe).build(), replacement);
+    return new PodRecipe(pod, createHash(pod, replacement));
+  }
+
+  private String createHash(V1Pod pod, ServerNameReplacement replacement) {
+    return recipeYaml != null && replacement.isYamlDerivable()
+        ? AnnotationHelper.createHashOfYaml(replacement.replaceIn(recipeYaml))
+        : AnnotationHelper.createHash(pod);
+  }
+
+  // YAML folds strings only at whitespace, and quotes a string which would otherwise be read as another type.
+  private static boolean isWrittenVerbatim(String value) {
+    return value.chars().noneMatch(Character::isWhitespace)
+        && Tag.STR.equals(YAML_RESOLVER.resolve(NodeId.scalar, value, true));
+  }
+
+  private static class ServerNameReplacement implements UnaryOperator<String> {
+    private final String serverName;
+    private final String legalServerName;
+    private boolean yamlDerivable;
+
+    ServerNameReplacement(String serverName) {
+      this.serverName = serverName;
+      this.legalServerName = LegalNames.toDns1123LegalName(serverName);
+      this.yamlDerivable = VERBATIM_NAME.matcher(serverName).matches();
+    }
+
+    @Override
+    public String apply(String value) {
+      final String replaced = replaceIn(value);
+      if (replaced != value && !(isWrittenVerbatim(value) && isWrittenVerbatim(replaced))) {
+        yamlDerivable = false;
+      }
+      return replaced;
+    }
+
+    String replaceIn(String value) {
+      return value.replace(SERVER_NAME_PLACEHOLDER, serverName).replace(LEGAL_SERVER_NAME_PLACEHOLDER, legalServerName);
+    }
+
+    boolean isYamlDerivable() {
+      return yamlDerivable;
+    }
+  }
+}
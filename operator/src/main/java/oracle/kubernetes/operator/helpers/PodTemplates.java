@@ -0,0 +1,63 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.helpers.PodStepContext.PodRecipe;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+/**
+ * The pod templates created during one make-right of a domain, and shared by the steps which create or verify the
+ * pods of its managed servers. The recipe of a server, and so its template, also depends on the introspection
+ * results and tuning parameters in force, which may change without a new domain generation; a template is
+ * therefore never kept beyond the make-right which created it.
+ *
+ * <p>The recipe of the first server to need a template is built in full, and serves to verify the template: if the
+ * recipe derived from the template for that server differs in any way, the template is not used, and the recipe
+ * of each server which would have shared it is built in full.
+ */
+public class PodTemplates {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Map<Object, Optional<PodTemplate>> templates = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the recipe for the specified server, derived from the template with the specified key if possible.
+   * @param key the characteristics of the server which determine its template
+   * @param serverName the name of the server
+   * @param templateFactory a function which creates the template for the key
+   * @param recipeFactory a function which builds the recipe for the server in full
+   */
+  PodRecipe getRecipe(
+      Object key, String serverName, Supplier<PodTemplate> templateFactory, Supplier<PodRecipe> recipeFactory) {
+    final AtomicReference<PodRecipe> fullRecipe = new AtomicReference<>();
+    final Optional<PodTemplate> template = templates.computeIfAbsent(key, k -> {
+      fullRecipe.set(recipeFactory.get());
+      return verify(templateFactory.get(), serverName, fullRecipe.get());
+    });
+
+    return Optional.ofNullable(fullRecipe.get())
+        .or(() -> template.map(t -> t.createRecipe(serverName)))
+        .orElseGet(recipeFactory);
+  }
+
+  private static Optional<PodTemplate> verify(PodTemplate template, String serverName, PodRecipe fullRecipe) {
+    if (template.createRecipe(serverName).equals(fullRecipe)) {
+      return Optional.of(template);
+    }
+
+    LOGGER.fine("Pod template does not reproduce the pod of server " + serverName + "; it will not be shared");
+    return Optional.empty();
+  }
+
+  int getNumTemplates() {
+    return (int) templates.values().stream().filter(Optional::isPresent).count();
+  }
+}
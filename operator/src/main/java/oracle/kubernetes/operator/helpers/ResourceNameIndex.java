@@ -0,0 +1,174 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
+
+/**
+ * An index, by namespace, of the names of the secrets and config maps in the domain namespaces. It is populated
+ * from the metadata-only lists made when a namespace starts or is rechecked, and kept current by metadata-only watch
+ * events, so that domain validation can check that referenced secrets and config maps exist without reading them.
+ * A name which is not in the index may simply not have been reported yet, so callers should read the resource before
+ * concluding that it is missing.
+ */
+public class ResourceNameIndex {
+
+  private static final String DELETED = "DELETED";
+  private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static ResourceNameIndex instance = new ResourceNameIndex();
+
+  private final NameIndex secrets = new NameIndex();
+  private final NameIndex configMaps = new NameIndex();
+
+  public static ResourceNameIndex getInstance() {
+    return instance;
+  }
+
+  /**
+   * Indexes the names of the secrets in a list. The first part of a list replaces the names indexed for the
+   * namespace, so that secrets deleted since the namespace was last listed are dropped, and any later parts
+   * of the same list add to them.
+   * @param namespace the namespace which was listed
+   * @param list a list of secrets, which may contain only their metadata
+   */
+  public void indexSecrets(String namespace, V1SecretList list) {
+    secrets.index(namespace, list.getMetadata(), list.getItems().stream().map(V1Secret::getMetadata).toList());
+  }
+
+  /**
+   * Indexes the names of the config maps in a list. The first part of a list replaces the names indexed for the
+   * namespace, so that config maps deleted since the namespace was last listed are dropped, and any later parts
+   * of the same list add to them.
+   * @param namespace the namespace which was listed
+   * @param list a list of config maps, which may contain only their metadata
+   */
+  public void indexConfigMaps(String namespace, V1ConfigMapList list) {
+    configMaps.index(namespace, list.getMetadata(), list.getItems().stream().map(V1ConfigMap::getMetadata).toList());
+  }
+
+  /**
+   * Updates the index from a secret watch event. Events for namespaces which have not been listed are ignored.
+   * @param watchType the type of the watch event
+   * @param secret the secret reported by the event, which may contain only its metadata
+   */
+  public void onSecretWatchEvent(String watchType, V1Secret secret) {
+    onWatchEvent(secrets, watchType, Optional.ofNullable(secret).map(V1Secret::getMetadata).orElse(null));
+  }
+
+  /**
+   * Updates the index from a config map watch event. Events for namespaces which have not been listed are ignored.
+   * @param watchType the type of the watch event
+   * @param configMap the config map reported by the event, which may contain only its metadata
+   */
+  public void onConfigMapWatchEvent(String watchType, V1ConfigMap configMap) {
+    onWatchEvent(configMaps, watchType, Optional.ofNullable(configMap).map(V1ConfigMap::getMetadata).orElse(null));
+  }
+
+  private void onWatchEvent(NameIndex index, String watchType, V1ObjectMeta metadata) {
+    final Set<String> names = Optional.ofNullable(metadata).map(m -> index.getNames(m.getNamespace())).orElse(null);
+    if (names == null) {
+      return;
+    }
+
+    switch (watchType) {
+      case ADDED, MODIFIED -> names.add(metadata.getName());
+      case DELETED -> names.remove(metadata.getName());
+      default -> {
+        // other events do not change the set of resources
+      }
+    }
+  }
+
+  /**
+   * Returns true if the index records a secret with the specified name.
+   * @param namespace the namespace of the secret
+   * @param name the name of the secret
+   */
+  public boolean hasSecret(String namespace, String name) {
+    return isIndexed(secrets, namespace, name);
+  }
+
+  /**
+   * Returns true if the index records a config map with the specified name.
+   * @param namespace the namespace of the config map
+   * @param name the name of the config map
+   */
+  public boolean hasConfigMap(String namespace, String name) {
+    return isIndexed(configMaps, namespace, name);
+  }
+
+  private boolean isIndexed(NameIndex index, String namespace, String name) {
+    return Optional.ofNullable(index.getNames(namespace)).map(names -> names.contains(name)).orElse(false);
+  }
+
+  /**
+   * Removes from the index all the names recorded for the specified namespace.
+   * @param namespace the namespace
+   */
+  public void evictNamespace(String namespace) {
+    secrets.evictNamespace(namespace);
+    configMaps.evictNamespace(namespace);
+  }
+
+  private static class NameIndex {
+    private final Map<String, Set<String>> names = new ConcurrentHashMap<>();
+    private final Map<String, ListInProgress> listsInProgress = new ConcurrentHashMap<>();
+
+    // All the parts of a list share its resource version, and every part but the last has a continue token.
+    void index(String namespace, V1ListMeta listMeta, List<V1ObjectMeta> items) {
+      final String resourceVersion = Optional.ofNullable(listMeta).map(V1ListMeta::getResourceVersion).orElse(null);
+      final List<String> listedNames = items.stream().map(V1ObjectMeta::getName).toList();
+      if (isContinuation(namespace, resourceVersion)) {
+        names.computeIfAbsent(namespace, n -> ConcurrentHashMap.newKeySet()).addAll(listedNames);
+      } else {
+        final Set<String> namespaceNames = ConcurrentHashMap.newKeySet();
+        namespaceNames.addAll(listedNames);
+        names.put(namespace, namespaceNames);
+      }
+
+      if (hasContinue(listMeta)) {
+        listsInProgress.put(namespace, new ListInProgress(resourceVersion));
+      } else {
+        listsInProgress.remove(namespace);
+      }
+    }
+
+    private boolean isContinuation(String namespace, String resourceVersion) {
+      return Optional.ofNullable(listsInProgress.get(namespace))
+          .map(list -> Objects.equals(list.resourceVersion(), resourceVersion))
+          .orElse(false);
+    }
+
+    private boolean hasContinue(V1ListMeta listMeta) {
+      return Optional.ofNullable(listMeta).map(V1ListMeta::getContinue).filter(c -> !c.isEmpty()).isPresent();
+    }
+
+    Set<String> getNames(String namespace) {
+      return names.get(namespace);
+    }
+
+    void evictNamespace(String namespace) {
+      names.remove(namespace);
+      listsInProgress.remove(namespace);
+    }
+  }
+
+  private record ListInProgress(String resourceVersion) {
+  }
+}
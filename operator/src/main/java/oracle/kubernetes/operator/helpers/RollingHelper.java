@@ -105,7 +105,8 @@ public class RollingHelper {
       if (context.hasNoWork()) {
         return doNext(packet);
       } else {
-        return doForkJoin(getNext(), packet, context.getWork());
+        return doForkJoin(getNext(), packet, context.getWork(),
+            ConditionWaiters.getForkJoinConcurrency(context.getWork().size()));
       }
     }
 
@@ -199,7 +200,8 @@ public class RollingHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doForkJoin(getNext(), packet, serversThatCanRestartNow);
+      return doForkJoin(getNext(), packet, serversThatCanRestartNow,
+          ConditionWaiters.getForkJoinConcurrency(serversThatCanRestartNow.size()));
     }
   }
 
@@ -247,7 +249,7 @@ public class RollingHelper {
       }
 
       if (!restarts.isEmpty()) {
-        return doForkJoin(this, packet, restarts);
+        return doForkJoin(this, packet, restarts, ConditionWaiters.getForkJoinConcurrency(restarts.size()));
       } else if (!servers.isEmpty()) {
         return doDelay(this, packet, DELAY_IN_SECONDS, TimeUnit.SECONDS);
       } else {
@@ -18,6 +18,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 import static oracle.kubernetes.common.logging.MessageKeys.SECRET_NOT_FOUND;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
@@ -38,7 +39,8 @@ public class SecretHelper {
 
   /**
    * Factory for a Step that adds a factory to create authorization headers, using the secret associated
-   * with the current domain.
+   * with the current domain. The credentials are taken from the {@link CredentialsCache} if present there,
+   * and otherwise read from the secret and cached.
    * Expects packet to contain a domain presence info.
    * Records an instance of AuthorizationSource in the packet.
    */
@@ -62,27 +64,27 @@ public class SecretHelper {
     @Override
     public @Nonnull Result apply(Packet packet) {
       DomainPresenceInfo dpi = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-      V1Secret secret = dpi.getWebLogicCredentialsSecret();
-      if (secret != null) {
-        insertAuthorizationSource(packet, secret);
+      secretName = Optional.ofNullable(dpi.getDomain())
+          .map(DomainResource::getWebLogicCredentialsSecretName).orElse(null);
+      namespace = dpi.getNamespace();
+
+      if (secretName == null) {
         return doNext(packet);
-      } else {
-        secretName = dpi.getDomain().getWebLogicCredentialsSecretName();
-        namespace = dpi.getNamespace();
+      }
 
-        if (secretName == null) {
-          return doNext(packet);
-        } else {
-          LOGGER.fine(MessageKeys.RETRIEVING_SECRET, secretName);
-          return doNext(RequestBuilder.SECRET.get(namespace, secretName, new SecretResponseStep(getNext())), packet);
-        }
+      AuthorizationSource credentials = CredentialsCache.getInstance().get(namespace, secretName);
+      if (credentials != null) {
+        packet.put(ProcessingConstants.AUTHORIZATION_SOURCE, credentials);
+        return doNext(packet);
+      } else {
+        LOGGER.fine(MessageKeys.RETRIEVING_SECRET, secretName);
+        return doNext(RequestBuilder.SECRET.get(namespace, secretName, new SecretResponseStep(getNext())), packet);
       }
     }
 
     private void insertAuthorizationSource(Packet packet, V1Secret secret) {
       packet.put(ProcessingConstants.AUTHORIZATION_SOURCE,
-          new SecretContext((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO),
-              secret, packet.getValue(LoggingFilter.LOGGING_FILTER_PACKET_KEY))
+          new SecretContext(namespace, secretName, secret, packet.getValue(LoggingFilter.LOGGING_FILTER_PACKET_KEY))
               .createAuthorizationSource());
     }
 
@@ -104,21 +106,20 @@ public class SecretHelper {
 
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<V1Secret> callResponse) {
-        V1Secret secret = callResponse.getObject();
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-        info.setWebLogicCredentialsSecret(secret);
-        insertAuthorizationSource(packet, secret);
+        insertAuthorizationSource(packet, callResponse.getObject());
         return doNext(packet);
       }
     }
 
     static class SecretContext {
-      private final DomainPresenceInfo dpi;
+      private final String namespace;
+      private final String secretName;
       private final V1Secret secret;
       private final LoggingFilter loggingFilter;
 
-      SecretContext(DomainPresenceInfo dpi, V1Secret secret, LoggingFilter loggingFilter) {
-        this.dpi = dpi;
+      SecretContext(String namespace, String secretName, V1Secret secret, LoggingFilter loggingFilter) {
+        this.namespace = namespace;
+        this.secretName = secretName;
         this.secret = secret;
         this.loggingFilter = loggingFilter;
       }
@@ -127,22 +128,7 @@ public class SecretHelper {
         // assign variables here so that log warnings, if needed, are generated early
         byte[] username = getSecretItem(USERNAME_KEY);
         byte[] password = getSecretItem(PASSWORD_KEY);
-        return new AuthorizationSource() {
-          @Override
-          public byte[] getUserName() {
-            return username;
-          }
-
-          @Override
-          public byte[] getPassword() {
-            return password;
-          }
-
-          @Override
-          public void onFailure() {
-            dpi.setWebLogicCredentialsSecret(null);
-          }
-        };
+        return CredentialsCache.getInstance().put(namespace, secretName, secret, username, password);
       }
 
       private byte[] getSecretItem(String key) {
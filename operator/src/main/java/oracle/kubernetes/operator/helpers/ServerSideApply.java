@@ -0,0 +1,258 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.PatchOptions;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import static oracle.kubernetes.operator.DomainStatusUpdater.createKubernetesFailureSteps;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.APPLIED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.CONFLICT;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.SERVER_SIDE_APPLY_REQUESTS;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.SKIPPED;
+
+/**
+ * Reconciles operator-owned resources with Kubernetes server-side apply. The desired state of a resource is sent
+ * as an apply patch under the operator's field manager, which creates the resource if it does not exist and
+ * otherwise updates only the fields which the operator manages, so that no read is needed first. The hash of each
+ * applied state is remembered, along with the resource version returned, and a later apply of the same state is
+ * skipped until a watch event reports that the resource was changed or deleted. The resource versions of
+ * operator-created resources which are listed or watched are remembered as well, so that a later apply can tell
+ * whether it created, updated or left unchanged its resource.
+ *
+ * <p>Resources created or updated by other field managers, including those written by older operator versions,
+ * cause a conflict on the first apply; the operator then takes ownership of its fields by applying again with force.
+ * An apply which Kubernetes rejects as invalid is reported in the status of the domain being processed, if any.
+ */
+public class ServerSideApply {
+
+  public static final String FIELD_MANAGER = "weblogic-operator";
+
+  private static final String DELETED = "DELETED";
+  private static final JSON json = new JSON();
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static ServerSideApply instance = new ServerSideApply();
+
+  private final Map<String, AppliedState> applied = new ConcurrentHashMap<>();
+
+  public static ServerSideApply getInstance() {
+    return instance;
+  }
+
+  /**
+   * The effect of a successful apply on its resource.
+   */
+  public enum Outcome {
+    CREATED, UPDATED, UNCHANGED
+  }
+
+  /**
+   * Notified when an apply request has succeeded.
+   * @param <A> the type of the resource
+   */
+  @FunctionalInterface
+  public interface ApplyListener<A extends KubernetesObject> {
+
+    /**
+     * Called with the resource returned by a successful apply.
+     * @param resource the resource as it now is in Kubernetes
+     * @param outcome whether the apply created, updated or left unchanged the resource
+     */
+    void onApplied(A resource, Outcome outcome);
+  }
+
+  /**
+   * Creates a step to apply the desired state of a resource, unless that state is already known to be applied.
+   * @param requestBuilder the request builder for the kind of resource
+   * @param desired the desired state of the resource, which must include its API version and kind
+   * @param listener notified if the apply succeeds
+   * @param next the step to run once the resource is up to date
+   * @param <A> the type of the resource
+   * @return the created step
+   */
+  public <A extends KubernetesObject> Step createApplyStep(
+        RequestBuilder<A, ?> requestBuilder, A desired, ApplyListener<A> listener, Step next) {
+    return new ApplyStep<>(requestBuilder, desired, listener, next);
+  }
+
+  /**
+   * Updates the record of applied states from a watch event. A resource which has been deleted, or changed since
+   * the operator applied it, will be applied again the next time that it is reconciled.
+   * @param kind the kind of the resource
+   * @param watchType the type of the watch event
+   * @param metadata the metadata of the resource reported by the event
+   */
+  public void onWatchEvent(String kind, String watchType, V1ObjectMeta metadata) {
+    if (metadata == null) {
+      return;
+    }
+
+    final String key = toKey(kind, metadata.getNamespace(), metadata.getName());
+    if (DELETED.equals(watchType)) {
+      applied.remove(key);
+    } else {
+      applied.compute(key, (k, state) -> recordObserved(state, metadata));
+    }
+  }
+
+  /**
+   * Records the resource versions of the operator-created resources in a list, unless already known.
+   * @param kind the kind of the resources
+   * @param items the metadata of the listed resources
+   */
+  public void onListed(String kind, List<V1ObjectMeta> items) {
+    items.stream().filter(KubernetesUtils::isOperatorCreated).forEach(metadata ->
+          applied.putIfAbsent(toKey(kind, metadata.getNamespace(), metadata.getName()), observedState(metadata)));
+  }
+
+  // A resource version which differs from the one applied means that the resource must be applied again.
+  private AppliedState recordObserved(AppliedState state, V1ObjectMeta metadata) {
+    if (state == null) {
+      return KubernetesUtils.isOperatorCreated(metadata) ? observedState(metadata) : null;
+    } else if (Objects.equals(state.resourceVersion, metadata.getResourceVersion())) {
+      return state;
+    } else {
+      return observedState(metadata);
+    }
+  }
+
+  private AppliedState observedState(V1ObjectMeta metadata) {
+    return new AppliedState(metadata.getNamespace(), null, metadata.getResourceVersion());
+  }
+
+  /**
+   * Forgets all the applied states recorded for resources in the specified namespace.
+   * @param namespace the namespace
+   */
+  public void evictNamespace(String namespace) {
+    applied.values().removeIf(state -> Objects.equals(namespace, state.namespace));
+  }
+
+  boolean isApplied(String kind, String namespace, String name, String hash) {
+    return Optional.ofNullable(applied.get(toKey(kind, namespace, name)))
+          .map(state -> hash.equals(state.hash))
+          .orElse(false);
+  }
+
+  private String getKnownResourceVersion(String kind, String namespace, String name) {
+    return Optional.ofNullable(applied.get(toKey(kind, namespace, name)))
+          .map(AppliedState::resourceVersion)
+          .orElse(null);
+  }
+
+  private static String toKey(String kind, String namespace, String name) {
+    return kind + '/' + namespace + '/' + name;
+  }
+
+  private record AppliedState(String namespace, String hash, String resourceVersion) {
+  }
+
+  private class ApplyStep<A extends KubernetesObject> extends Step {
+    private final RequestBuilder<A, ?> requestBuilder;
+    private final String kind;
+    private final String namespace;
+    private final String name;
+    private final String body;
+    private final String hash;
+    private final ApplyListener<A> listener;
+
+    ApplyStep(RequestBuilder<A, ?> requestBuilder, A desired, ApplyListener<A> listener, Step next) {
+      super(next);
+      this.requestBuilder = requestBuilder;
+      this.kind = Objects.requireNonNull(desired.getKind(), "kind");
+      this.namespace = desired.getMetadata().getNamespace();
+      this.name = desired.getMetadata().getName();
+      this.body = json.serialize(desired);
+      this.hash = DigestUtils.sha256Hex(body);
+      this.listener = listener;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (isApplied(kind, namespace, name, hash)) {
+        SERVER_SIDE_APPLY_REQUESTS.labels(kind, SKIPPED).inc();
+        return doNext(packet);
+      }
+      return doNext(createApplyRequest(false, getKnownResourceVersion(kind, namespace, name)), packet);
+    }
+
+    private Step createApplyRequest(boolean force, String priorVersion) {
+      final PatchOptions options = new PatchOptions().fieldManager(FIELD_MANAGER).force(force);
+      final V1Patch patch = new V1Patch(body);
+      final ApplyResponseStep responseStep = new ApplyResponseStep(force, priorVersion, getNext());
+      return namespace == null
+          ? requestBuilder.patch(name, V1Patch.PATCH_FORMAT_APPLY_YAML, patch, options, responseStep)
+          : requestBuilder.patch(namespace, name, V1Patch.PATCH_FORMAT_APPLY_YAML, patch, options, responseStep);
+    }
+
+    private class ApplyResponseStep extends ResponseStep<A> {
+      private final boolean force;
+      private final String priorVersion;
+
+      ApplyResponseStep(boolean force, String priorVersion, Step next) {
+        super(next);
+        this.force = force;
+        this.priorVersion = priorVersion;
+      }
+
+      @Override
+      public Result onSuccess(Packet packet, KubernetesApiResponse<A> callResponse) {
+        final A resource = callResponse.getObject();
+        final String resourceVersion = getResourceVersion(resource);
+        applied.put(toKey(kind, namespace, name), new AppliedState(namespace, hash, resourceVersion));
+        SERVER_SIDE_APPLY_REQUESTS.labels(kind, APPLIED).inc();
+        Optional.ofNullable(listener).ifPresent(l -> l.onApplied(resource, getOutcome(resourceVersion)));
+        return doNext(packet);
+      }
+
+      // The response does not distinguish a create from an update, so the outcome is decided by the resource
+      // version known before the request, if any.
+      private Outcome getOutcome(String resourceVersion) {
+        if (priorVersion == null) {
+          return Outcome.CREATED;
+        } else if (priorVersion.equals(resourceVersion)) {
+          return Outcome.UNCHANGED;
+        } else {
+          return Outcome.UPDATED;
+        }
+      }
+
+      private String getResourceVersion(A resource) {
+        return Optional.ofNullable(resource).map(KubernetesObject::getMetadata)
+              .map(V1ObjectMeta::getResourceVersion).orElse(null);
+      }
+
+      @Override
+      public Result onFailure(Packet packet, KubernetesApiResponse<A> callResponse) {
+        applied.computeIfPresent(toKey(kind, namespace, name),
+            (k, state) -> new AppliedState(state.namespace, null, state.resourceVersion));
+        if (hasConflict(callResponse) && !force) {
+          SERVER_SIDE_APPLY_REQUESTS.labels(kind, CONFLICT).inc();
+          return doNext(createApplyRequest(true, priorVersion), packet);
+        } else if (isUnrecoverable(callResponse) && DomainPresenceInfo.fromPacket(packet).isPresent()) {
+          return doNext(createKubernetesFailureSteps(callResponse, createFailureMessage(callResponse)), packet);
+        }
+        return super.onFailure(packet, callResponse);
+      }
+    }
+  }
+}
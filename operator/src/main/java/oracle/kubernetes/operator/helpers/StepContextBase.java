@@ -58,7 +58,7 @@ public abstract class StepContextBase implements StepContextConstants {
           Constructor<T> constructor = cls.getConstructor();
           T subObj = constructor.newInstance();
 
-          List<Pair<Method, Method>> typeBeans = typeBeans(cls);
+          List<Pair<Method, Method>> typeBeans = TYPE_BEANS.get(cls);
           for (Pair<Method, Method> item : typeBeans) {
             item.right()
                 .invoke(
@@ -94,7 +94,15 @@ public abstract class StepContextBase implements StepContextConstants {
         || cls.getPackageName().startsWith(DOMAIN_MODEL_PACKAGE);
   }
 
-  private List<Pair<Method, Method>> typeBeans(Class<?> cls) {
+  // The getter and setter pairs of each model class, found once per class rather than once per object substituted.
+  private static final ClassValue<List<Pair<Method, Method>>> TYPE_BEANS = new ClassValue<>() {
+    @Override
+    protected List<Pair<Method, Method>> computeValue(Class<?> type) {
+      return typeBeans(type);
+    }
+  };
+
+  private static List<Pair<Method, Method>> typeBeans(Class<?> cls) {
     List<Pair<Method, Method>> results = new ArrayList<>();
     Method[] methods = cls.getMethods();
     for (Method m : methods) {
@@ -115,7 +123,7 @@ public abstract class StepContextBase implements StepContextConstants {
         }
       }
     }
-    return results;
+    return List.copyOf(results);
   }
 
   private String translate(final Map<String, String> substitutionVariables, String rawValue) {
@@ -0,0 +1,47 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+/**
+ * Shares equal strings among the Kubernetes objects that the operator retains, so that values which repeat across
+ * many resources, such as label keys, namespaces and image names, are held once. Unlike {@link String#intern()}, the
+ * pool is bounded: it is a fixed-size table in which each string has a single slot, and a new string simply
+ * replaces whatever the slot held. Strings which repeat stay in their slots; unique ones, such as UIDs, pass through.
+ * Reads and writes of the table are deliberately unsynchronized, as a lost update only costs a missed match.
+ */
+public class StringInterner {
+
+  static final int TABLE_SIZE = 1 << 14;
+  static final int MAX_LENGTH = 256;
+
+  private static final String[] table = new String[TABLE_SIZE];
+
+  private StringInterner() {
+    // no instances
+  }
+
+  /**
+   * Returns a string equal to the specified one, which will be the same instance as that returned for earlier equal
+   * strings unless another string has since displaced it.
+   * @param value a string, possibly null
+   * @return an equal string
+   */
+  public static String intern(String value) {
+    if (value == null || value.length() > MAX_LENGTH) {
+      return value;
+    }
+
+    final int slot = spread(value.hashCode()) & (TABLE_SIZE - 1);
+    final String cached = table[slot];
+    if (value.equals(cached)) {
+      return cached;
+    }
+    table[slot] = value;
+    return value;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -15,12 +15,18 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.function.ToIntFunction;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 
 import io.kubernetes.client.util.SSLUtils;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import org.apache.commons.codec.binary.Base64;
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.grizzly.http.server.NetworkListener;
@@ -76,6 +82,17 @@ public abstract class BaseServer {
     // no-op
   }
 
+  /**
+   * Returns the number of seconds after which a request to this server is abandoned, or zero for no limit.
+   */
+  protected int getRequestTimeoutSeconds() {
+    return 0;
+  }
+
+  protected static int getTuningParameter(ToIntFunction<TuningParameters> getter) {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(getter::applyAsInt).orElse(0);
+  }
+
   protected HttpServer createHttpServer(String uri) throws IOException {
     HttpServer h =
         GrizzlyHttpServerFactory.createHttpServer(
@@ -110,25 +127,26 @@ public abstract class BaseServer {
   }
 
   private void updateHttpServer(HttpServer h) {
-    // We discovered the default thread pool configuration was generating hundreds of
-    // threads.  Tune it down to something more modest.  Note: these are core
-    // pool sizes, so they can still grow if there is sufficient load.
+    // Requests are processed on virtual threads, so that requests which block on Kubernetes calls
+    // do not exhaust a worker pool. The kernel threads, which only run the selectors, remain
+    // platform threads; we discovered the default configuration was generating hundreds of them,
+    // so tune it down to something more modest.
     Collection<NetworkListener> nlc = h.getListeners();
     if (nlc != null) {
       for (NetworkListener nl : nlc) {
         TCPNIOTransport transport = nl.getTransport();
-        ThreadPoolConfig t = transport.getWorkerThreadPoolConfig();
-        if (t == null) {
-          t = ThreadPoolConfig.defaultConfig();
-          transport.setWorkerThreadPoolConfig(t);
-        }
+        transport.setWorkerThreadPool(Executors.newThreadPerTaskExecutor(ThreadFactorySingleton.getInstance()));
 
-        t = transport.getKernelThreadPoolConfig();
+        ThreadPoolConfig t = transport.getKernelThreadPoolConfig();
         if (t == null) {
           t = ThreadPoolConfig.defaultConfig();
           transport.setKernelThreadPoolConfig(t);
         }
         transport.setSelectorRunnersCount(CORE_POOL_SIZE);
+
+        if (getRequestTimeoutSeconds() > 0) {
+          nl.setTransactionTimeout(getRequestTimeoutSeconds());
+        }
       }
     }
   }
@@ -162,9 +180,21 @@ public abstract class BaseServer {
   protected SSLContext createSslContext(KeyManager[] kms) throws NoSuchAlgorithmException, KeyManagementException {
     SSLContext ssl = SSLContext.getInstance(SSL_PROTOCOL);
     ssl.init(kms, null, new SecureRandom());
+    configureSessionCache(ssl.getServerSessionContext());
     return ssl;
   }
 
+  // TLS sessions are cached so that clients, such as the Kubernetes API server calling the webhook,
+  // can resume them rather than repeating the full handshake on each new connection.
+  private void configureSessionCache(SSLSessionContext sessionContext) {
+    Optional.of(getTuningParameter(TuningParameters::getTlsSessionCacheSize))
+        .filter(size -> size > 0)
+        .ifPresent(sessionContext::setSessionCacheSize);
+    Optional.of(getTuningParameter(TuningParameters::getTlsSessionTimeoutSeconds))
+        .filter(timeout -> timeout > 0)
+        .ifPresent(sessionContext::setSessionTimeout);
+  }
+
   protected KeyManager[] createKeyManagers(
       String certificateData, String certificateFile, String keyData, String keyFile)
       throws IOException, UnrecoverableKeyException, CertificateException, NoSuchAlgorithmException,
@@ -0,0 +1,230 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * The operator-specific metrics exposed by the {@link MetricsServer}, in addition to the default JVM metrics.
+ */
+public class OperatorMetrics {
+
+  private static final String PREFIX = "wko_";
+
+  /** The time taken to introspect a domain, labeled by whether a job was created ("cold") or a warm pod used. */
+  public static final Histogram INTROSPECTION_DURATION = Histogram.build()
+      .name(PREFIX + "introspection_duration_seconds")
+      .help("Time from the start of a domain introspection until its results are available.")
+      .labelNames("mode")
+      .buckets(5, 10, 20, 30, 45, 60, 90, 120, 180, 300, 600)
+      .register();
+
+  /** The number of pre-started introspector pods which are waiting to be used. */
+  public static final Gauge INTROSPECTOR_POOL_IDLE_PODS = Gauge.build()
+      .name(PREFIX + "introspector_pool_idle_pods")
+      .help("Number of pre-started introspector pods waiting to run an introspection.")
+      .register();
+
+  /** The number of times an introspection request found, or did not find, a usable warm introspector pod. */
+  public static final Counter INTROSPECTOR_POOL_REQUESTS = Counter.build()
+      .name(PREFIX + "introspector_pool_requests_total")
+      .help("Number of introspections which requested a warm introspector pod, by result.")
+      .labelNames("result")
+      .register();
+
+  /** The number of introspections waiting for others to finish before starting, labeled by priority. */
+  public static final Gauge INTROSPECTION_QUEUE_LENGTH = Gauge.build()
+      .name(PREFIX + "introspection_queue_length")
+      .help("Number of domain introspections waiting for the concurrent introspection limit, by priority.")
+      .labelNames("priority")
+      .register();
+
+  /** The number of introspector jobs counted against the concurrent introspection limit. */
+  public static final Gauge INTROSPECTIONS_RUNNING = Gauge.build()
+      .name(PREFIX + "introspections_running")
+      .help("Number of introspector jobs admitted by the introspection scheduler and not yet finished.")
+      .register();
+
+  /** The number of admitted introspector jobs which have finished, labeled by how their end was detected. */
+  public static final Counter INTROSPECTIONS_FINISHED = Counter.build()
+      .name(PREFIX + "introspections_finished_total")
+      .help("Number of admitted introspector jobs which have finished, by whether seen to finish or expired "
+          + "after their active deadline.")
+      .labelNames("outcome")
+      .register();
+
+  /** The time for which introspections waited in the queue before starting, labeled by priority. */
+  public static final Histogram INTROSPECTION_QUEUE_WAIT = Histogram.build()
+      .name(PREFIX + "introspection_queue_wait_seconds")
+      .help("Time from a domain introspection joining the queue until it was admitted, by priority.")
+      .labelNames("priority")
+      .buckets(1, 5, 10, 30, 60, 120, 300, 600, 1200, 1800)
+      .register();
+
+  /** The number of checks of monitoring exporter sidecar configurations, labeled by outcome. */
+  public static final Counter EXPORTER_CONFIGURATION_UPDATES = Counter.build()
+      .name(PREFIX + "exporter_configuration_updates_total")
+      .help("Number of checks of monitoring exporter sidecar configurations, by outcome.")
+      .labelNames("outcome")
+      .register();
+
+  /** The number of event creations and updates sent to Kubernetes, labeled by event type. */
+  public static final Counter EVENTS_EMITTED = Counter.build()
+      .name(PREFIX + "events_emitted_total")
+      .help("Number of event creations and updates sent to Kubernetes, by event type.")
+      .labelNames("type")
+      .register();
+
+  /** The number of event repeats which were counted rather than written immediately, labeled by cause. */
+  public static final Counter EVENTS_SUPPRESSED = Counter.build()
+      .name(PREFIX + "events_suppressed_total")
+      .help("Number of event repeats which were not written immediately, by cause.")
+      .labelNames("cause")
+      .register();
+
+  /** The time from the start of the operator until it reached each startup phase, labeled by phase. */
+  public static final Gauge STARTUP_PHASE_DURATION = Gauge.build()
+      .name(PREFIX + "startup_phase_seconds")
+      .help("Time from the start of the operator until it reached each startup phase.")
+      .labelNames("phase")
+      .register();
+
+  /** The time taken to start managing a domain namespace, from its first step until its resources had been read. */
+  public static final Histogram NAMESPACE_STARTUP_DURATION = Histogram.build()
+      .name(PREFIX + "namespace_startup_duration_seconds")
+      .help("Time taken to start managing a domain namespace.")
+      .buckets(0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120)
+      .register();
+
+  /** The time taken to read server health, labeled by whether read for the whole domain or for one server. */
+  public static final Histogram HEALTH_READ_DURATION = Histogram.build()
+      .name(PREFIX + "health_read_duration_seconds")
+      .help("Time taken by a request for WebLogic server state and health, by mode.")
+      .labelNames("mode")
+      .buckets(0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60)
+      .register();
+
+  /** The number of parsed domain topology requests which were, or were not, satisfied from the cache. */
+  public static final Counter TOPOLOGY_CACHE_REQUESTS = Counter.build()
+      .name(PREFIX + "topology_cache_requests_total")
+      .help("Number of domain topology reads from the introspector config map, by cache result.")
+      .labelNames("result")
+      .register();
+
+  /** The time taken by the REST and webhook servers to process requests, labeled by server and endpoint. */
+  public static final Histogram HTTP_REQUEST_DURATION = Histogram.build()
+      .name(PREFIX + "http_request_duration_seconds")
+      .help("Time taken to process a request to an operator REST or webhook server, by server and endpoint.")
+      .labelNames("server", "endpoint")
+      .buckets(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30)
+      .register();
+
+  /** The number of requests being processed by the REST and webhook servers, labeled by server. */
+  public static final Gauge HTTP_REQUESTS_IN_FLIGHT = Gauge.build()
+      .name(PREFIX + "http_requests_in_flight")
+      .help("Number of requests being processed by an operator REST or webhook server.")
+      .labelNames("server")
+      .register();
+
+  /** The number of requests waiting for the REST and webhook servers to complete others, labeled by server. */
+  public static final Gauge HTTP_REQUESTS_QUEUED = Gauge.build()
+      .name(PREFIX + "http_requests_queued")
+      .help("Number of requests waiting because an operator REST or webhook server is at its in-flight limit.")
+      .labelNames("server")
+      .register();
+
+  /** The number of requests rejected because they could not be started before their timeout, labeled by server. */
+  public static final Counter HTTP_REQUESTS_REJECTED = Counter.build()
+      .name(PREFIX + "http_requests_rejected_total")
+      .help("Number of requests rejected because an operator REST or webhook server remained at its limit.")
+      .labelNames("server")
+      .register();
+
+  /** The time for which processing waited for a watch event, labeled by resource kind, condition and outcome. */
+  public static final Histogram RESOURCE_WAIT_DURATION = Histogram.build()
+      .name(PREFIX + "resource_wait_duration_seconds")
+      .help("Time for which processing waited for a watch event to report a resource condition.")
+      .labelNames("kind", "condition", "outcome")
+      .buckets(0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300)
+      .register();
+
+  /** The time taken to look up the resources referenced by a domain and validate it. */
+  public static final Histogram DOMAIN_VALIDATION_DURATION = Histogram.build()
+      .name(PREFIX + "domain_validation_duration_seconds")
+      .help("Time taken to look up the resources referenced by a domain and validate it.")
+      .buckets(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10)
+      .register();
+
+  /** The number of secrets and config maps referenced by domains, labeled by kind and by how they were found. */
+  public static final Counter DOMAIN_VALIDATION_LOOKUPS = Counter.build()
+      .name(PREFIX + "domain_validation_lookups_total")
+      .help("Number of resources looked up to validate domains, by kind and by whether found in the index or read.")
+      .labelNames("kind", "source")
+      .register();
+
+  /** The number of server-side applies of operator-owned resources, labeled by kind and by outcome. */
+  public static final Counter SERVER_SIDE_APPLY_REQUESTS = Counter.build()
+      .name(PREFIX + "server_side_apply_total")
+      .help("Number of server-side applies of operator-owned resources, by kind and by whether applied, "
+          + "skipped as unchanged, or found to conflict with another field manager.")
+      .labelNames("kind", "outcome")
+      .register();
+
+  /** The number of live operator replicas which share the domain namespaces, as seen by this replica. */
+  public static final Gauge NAMESPACE_SHARD_MEMBERS = Gauge.build()
+      .name(PREFIX + "namespace_shard_members")
+      .help("Number of live operator replicas dividing the domain namespaces among themselves.")
+      .register();
+
+  /** The load reported by each live operator replica, labeled by replica and by the kind of resource counted. */
+  public static final Gauge NAMESPACE_SHARD_LOAD = Gauge.build()
+      .name(PREFIX + "namespace_shard_load")
+      .help("Number of domain namespaces and domains managed by each live operator replica, as reported in its lease.")
+      .labelNames("replica", "resource")
+      .register();
+
+  /** Whether this operator replica is the leader (1) or a standby (0), when hot standby is enabled. */
+  public static final Gauge OPERATOR_LEADER = Gauge.build()
+      .name(PREFIX + "leader")
+      .help("1 if this operator replica holds the leader lease and reconciles domains; 0 if it is standing by.")
+      .register();
+
+  /** The time from this replica becoming the leader until it completed its first domain reconciliation. */
+  public static final Gauge LEADER_FIRST_RECONCILE = Gauge.build()
+      .name(PREFIX + "leader_first_reconcile_seconds")
+      .help("Time from this operator replica acquiring the leader lease until it completed its first reconciliation.")
+      .register();
+
+  public static final String COLD = "cold";
+  public static final String WARM = "warm";
+  public static final String AGGREGATED = "aggregated";
+  public static final String PRESSURE = "pressure";
+  public static final String IDENTITY_INITIALIZED = "identity_initialized";
+  public static final String READY = "ready";
+  public static final String NAMESPACES_STARTED = "namespaces_started";
+  public static final String DOMAIN_MODE = "domain";
+  public static final String SERVER_MODE = "server";
+  public static final String HIT = "hit";
+  public static final String MISS = "miss";
+  public static final String NOTIFIED = "notified";
+  public static final String TIMED_OUT = "timeout";
+  public static final String SKIPPED = "skipped";
+  public static final String VERIFIED = "verified";
+  public static final String PUSHED = "pushed";
+  public static final String FAILED = "failed";
+  public static final String FINISHED = "finished";
+  public static final String EXPIRED = "expired";
+  public static final String INDEX = "index";
+  public static final String READ = "read";
+  public static final String APPLIED = "applied";
+  public static final String CONFLICT = "conflict";
+  public static final String NAMESPACES = "namespaces";
+  public static final String DOMAINS = "domains";
+
+  private OperatorMetrics() {
+    // no-op
+  }
+}
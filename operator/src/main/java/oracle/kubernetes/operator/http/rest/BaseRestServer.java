@@ -1,11 +1,14 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
 
+import java.util.Optional;
+
 import oracle.kubernetes.operator.http.BaseServer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import org.glassfish.jersey.server.ResourceConfig;
 
 /**
@@ -27,6 +30,11 @@ public abstract class BaseRestServer extends BaseServer {
     this.config = config;
   }
 
+  /**
+   * Returns the name of this server, used to label its metrics.
+   */
+  protected abstract String getServerName();
+
   /**
    * Defines a resource configuration.
    *
@@ -36,17 +44,24 @@ public abstract class BaseRestServer extends BaseServer {
   protected abstract ResourceConfig createResourceConfig(RestConfig restConfig);
 
   /**
-   * Defines a resource configuration by calling the abstract method with the config passed in the constructor.
+   * Defines a resource configuration by calling the abstract method with the config passed in the constructor,
+   * and adds a filter to limit and time the requests to this server.
    *
    * @return a resource configuration
    */
   public ResourceConfig createResourceConfig() {
     LOGGER.entering();
 
-    ResourceConfig rc = createResourceConfig(config);
+    ResourceConfig rc = createResourceConfig(config)
+        .register(new RequestLimitFilter(getServerName(), getMaxInFlightRequests(), getRequestTimeoutSeconds()));
 
     LOGGER.exiting();
     return rc;
   }
 
-}
\ No newline at end of file
+  private int getMaxInFlightRequests() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getHttpMaxInFlightRequests)
+        .orElse(0);
+  }
+}
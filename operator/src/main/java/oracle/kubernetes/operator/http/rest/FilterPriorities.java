@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -8,6 +8,10 @@ import jakarta.ws.rs.Priorities;
 /** FilterPriorities orders the WebLogic operator REST api's jaxrs filters. */
 public class FilterPriorities {
 
+  /** The request limit filter's priority. */
+  public static final int REQUEST_LIMIT_FILTER_PRIORITY =
+      Priorities.AUTHENTICATION - 100; // limits and times requests before authentication, and after all others
+
   /** The authentication filter's priority. */
   public static final int AUTHENTICATION_FILTER_PRIORITY = Priorities.AUTHENTICATION;
 
@@ -15,6 +15,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import oracle.kubernetes.operator.http.rest.resource.VersionsResource;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -92,6 +93,16 @@ public class OperatorRestServer extends BaseRestServer {
     return rc;
   }
 
+  @Override
+  protected String getServerName() {
+    return "rest";
+  }
+
+  @Override
+  protected int getRequestTimeoutSeconds() {
+    return getTuningParameter(TuningParameters::getRestRequestTimeoutSeconds);
+  }
+
   /**
    * Returns the in-pod URI of the externally available https REST port.
    *
@@ -0,0 +1,145 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest;
+
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Priority;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.HTTP_REQUESTS_IN_FLIGHT;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.HTTP_REQUESTS_QUEUED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.HTTP_REQUESTS_REJECTED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.HTTP_REQUEST_DURATION;
+
+/**
+ * RequestLimitFilter limits the number of requests which a server processes at the same time, and records the
+ * time taken by each endpoint. A request which arrives when the limit is reached waits for another to complete;
+ * if it cannot start before the server's request timeout, it is rejected with status 503.
+ *
+ * <p>A request normally completes in the response filter. That is skipped if processing fails first, as when an
+ * exception escapes exception mapping or another response filter fails, so the filter also listens for the end of
+ * each request, and completes any request which is still in flight.
+ */
+@Priority(FilterPriorities.REQUEST_LIMIT_FILTER_PRIORITY)
+public class RequestLimitFilter
+    implements ContainerRequestFilter, ContainerResponseFilter, ApplicationEventListener {
+
+  static final String START_TIME_PROPERTY = RequestLimitFilter.class.getName() + ".startTime";
+  static final String IN_FLIGHT_PROPERTY = RequestLimitFilter.class.getName() + ".inFlight";
+  static final String ENDPOINT_PROPERTY = RequestLimitFilter.class.getName() + ".endpoint";
+  static final String RETRY_AFTER_SECONDS = "1";
+
+  private final String serverName;
+  private final Semaphore permits;
+  private final int maxWaitSeconds;
+
+  @Context
+  private ResourceInfo resourceInfo;
+
+  /**
+   * Constructs a filter for the specified server.
+   * @param serverName the name of the server, used to label its metrics
+   * @param maxInFlightRequests the maximum number of requests to process at the same time, or zero for no limit
+   * @param maxWaitSeconds the longest time a request may wait to be processed, or zero to wait indefinitely
+   */
+  public RequestLimitFilter(String serverName, int maxInFlightRequests, int maxWaitSeconds) {
+    this.serverName = serverName;
+    this.permits = maxInFlightRequests > 0 ? new Semaphore(maxInFlightRequests, true) : null;
+    this.maxWaitSeconds = maxWaitSeconds;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext req) {
+    req.setProperty(START_TIME_PROPERTY, System.nanoTime());
+    req.setProperty(ENDPOINT_PROPERTY, getEndpoint());
+    if (acquirePermit()) {
+      HTTP_REQUESTS_IN_FLIGHT.labels(serverName).inc();
+      req.setProperty(IN_FLIGHT_PROPERTY, Boolean.TRUE);
+    } else {
+      HTTP_REQUESTS_REJECTED.labels(serverName).inc();
+      req.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .entity("Server busy; retry the request")
+          .build());
+    }
+  }
+
+  @Override
+  public void filter(ContainerRequestContext req, ContainerResponseContext res) {
+    complete(req);
+  }
+
+  @Override
+  public void onEvent(ApplicationEvent event) {
+    // no application events are of interest
+  }
+
+  @Override
+  public RequestEventListener onRequest(RequestEvent requestEvent) {
+    return event -> {
+      if (event.getType() == RequestEvent.Type.FINISHED) {
+        complete(event.getContainerRequest());
+      }
+    };
+  }
+
+  // Releases the permit of the request and records its duration, unless that has already been done.
+  private void complete(ContainerRequestContext req) {
+    if (req.getProperty(IN_FLIGHT_PROPERTY) != null) {
+      req.removeProperty(IN_FLIGHT_PROPERTY);
+      HTTP_REQUESTS_IN_FLIGHT.labels(serverName).dec();
+      Optional.ofNullable(permits).ifPresent(Semaphore::release);
+    }
+
+    final Long startTime = (Long) req.getProperty(START_TIME_PROPERTY);
+    if (startTime != null) {
+      req.removeProperty(START_TIME_PROPERTY);
+      HTTP_REQUEST_DURATION.labels(serverName, (String) req.getProperty(ENDPOINT_PROPERTY))
+          .observe((System.nanoTime() - startTime) / 1_000_000_000.0);
+    }
+  }
+
+  private boolean acquirePermit() {
+    if (permits == null) {
+      return true;
+    }
+
+    HTTP_REQUESTS_QUEUED.labels(serverName).inc();
+    try {
+      if (maxWaitSeconds <= 0) {
+        permits.acquire();
+        return true;
+      } else {
+        return permits.tryAcquire(maxWaitSeconds, TimeUnit.SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      HTTP_REQUESTS_QUEUED.labels(serverName).dec();
+    }
+  }
+
+  // identifies the endpoint by the resource method which processed the request
+  private String getEndpoint() {
+    return Optional.ofNullable(resourceInfo)
+        .filter(info -> info.getResourceMethod() != null)
+        .map(info -> info.getResourceClass().getSimpleName() + "." + info.getResourceMethod().getName())
+        .orElse("unmatched");
+  }
+}
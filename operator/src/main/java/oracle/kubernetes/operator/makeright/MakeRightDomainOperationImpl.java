@@ -34,6 +34,7 @@ import oracle.kubernetes.operator.helpers.DomainValidationSteps;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.JobHelper;
+import oracle.kubernetes.operator.helpers.ObjectCompaction;
 import oracle.kubernetes.operator.helpers.PersistentVolumeClaimHelper;
 import oracle.kubernetes.operator.helpers.PersistentVolumeHelper;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
@@ -473,7 +474,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
         private void addPod(V1Pod pod) {
           Optional.ofNullable(PodHelper.getPodServerName(pod))
-              .ifPresent(name -> info.setServerPodFromEvent(name, pod));
+              .ifPresent(name -> info.setServerPodFromEvent(name, ObjectCompaction.compact(pod)));
         }
 
         @Override
@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
@@ -36,17 +37,26 @@ import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
 
 import static oracle.kubernetes.common.logging.MessageKeys.INTERNAL_IDENTITY_INITIALIZATION_FAILED;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
-import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.createKeyPair;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.createConfiguredKeyPair;
 import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.generateCertificate;
-
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.getSignatureAlgorithm;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.isNearExpiry;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.toPemObject;
+
+/**
+ * Initializes the SSL identity used by the operator's REST server. An identity created by an earlier run of the
+ * operator is reused, unless its certificate is close to expiring; otherwise a new key and self-signed
+ * certificate are generated and recorded in the operator's config map and secret. A failure is reported in
+ * the packet as {@link #EXCEPTION}, rather than thrown, so that later steps may decide how to handle it.
+ */
 public class InitializeInternalIdentityStep extends Step {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String OPERATOR_CM = "weblogic-operator-cm";
   private static final String OPERATOR_SECRETS = "weblogic-operator-secrets";
-  private static final String SHA_256_WITH_RSA = "SHA256withRSA";
   private static final String COMMON_NAME = "weblogic-operator";
   private static final int CERTIFICATE_VALIDITY_DAYS = 3650;
+  public static final String EXCEPTION = "InternalIdentityException";
 
   private final File internalCertFile;
   private final File internalKeyFile;
@@ -70,20 +80,26 @@ public class InitializeInternalIdentityStep extends Step {
   @Override
   public @Nonnull Result apply(Packet packet) {
     try {
-      if (configInternalCertFile.exists() && secretsInternalKeyFile.exists()) {
+      if (isReusableIdentityCreated()) {
         // The operator's internal ssl identity has already been created.
         reuseInternalIdentity();
         return doNext(getNext(), packet);
       } else {
-        // The operator's internal ssl identity hasn't been created yet.
+        // The operator's internal ssl identity hasn't been created yet, or is about to expire.
         return createInternalIdentity(packet);
       }
     } catch (Exception e) {
       LOGGER.warning(INTERNAL_IDENTITY_INITIALIZATION_FAILED, e.toString());
-      throw new RuntimeException(e);
+      packet.put(EXCEPTION, e);
+      return doNext(getNext(), packet);
     }
   }
 
+  private boolean isReusableIdentityCreated() throws IOException {
+    return configInternalCertFile.exists() && secretsInternalKeyFile.exists()
+        && !isNearExpiry(FileUtils.readFileToString(configInternalCertFile, StandardCharsets.UTF_8));
+  }
+
   private void reuseInternalIdentity() throws IOException {
     // copy the certificate and key from the operator's config map and secret
     // to the locations the operator runtime expects
@@ -92,11 +108,11 @@ public class InitializeInternalIdentityStep extends Step {
   }
 
   private Result createInternalIdentity(Packet packet) throws Exception {
-    KeyPair keyPair = createKeyPair();
-    String key = convertToPEM(keyPair.getPrivate());
+    KeyPair keyPair = createConfiguredKeyPair();
+    String key = convertToPEM(toPemObject(keyPair.getPrivate()));
     writeToFile(key, internalKeyFile);
-    X509Certificate cert = generateCertificate(internalCertFile.getName(), keyPair, SHA_256_WITH_RSA, COMMON_NAME,
-            CERTIFICATE_VALIDITY_DAYS);
+    X509Certificate cert = generateCertificate(internalCertFile.getName(), keyPair, getSignatureAlgorithm(keyPair),
+            COMMON_NAME, CERTIFICATE_VALIDITY_DAYS);
     writeToFile(getBase64Encoded(cert), internalCertFile);
     // put the new certificate in the operator's config map so that it will be available
     // the next time the operator is started
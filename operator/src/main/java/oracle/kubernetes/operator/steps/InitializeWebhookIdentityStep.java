@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Files;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -42,12 +43,14 @@ import static oracle.kubernetes.common.logging.MessageKeys.WEBHOOK_IDENTITY_INIT
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getWebhookNamespace;
 import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.WEBHOOK_CERTIFICATE;
 import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.generateCertificate;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.getSignatureAlgorithm;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.isNearExpiry;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.toPemObject;
 
 public class InitializeWebhookIdentityStep extends Step {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
   static final String WEBHOOK_SECRETS = "weblogic-webhook-secrets";
-  private static final String SHA_256_WITH_RSA = "SHA256withRSA";
   private static final String COMMON_NAME = "weblogic-webhook";
   private static final int CERTIFICATE_VALIDITY_DAYS = 3650;
   public static final String WEBHOOK_KEY = "webhookKey";
@@ -90,8 +93,9 @@ public class InitializeWebhookIdentityStep extends Step {
     }
   }
 
-  private boolean isWebHoodSslIdentityAlreadyCreated() {
-    return isFileExists(certFile) && isFileExists(keyFile);
+  private boolean isWebHoodSslIdentityAlreadyCreated() throws IOException {
+    return isFileExists(certFile) && isFileExists(keyFile)
+        && !isNearExpiry(Files.readString(PathSupport.getPath(certFile)));
   }
 
   private static boolean isFileExists(File file) {
@@ -108,7 +112,7 @@ public class InitializeWebhookIdentityStep extends Step {
   private Result createIdentity(Packet packet) throws IdentityInitializationException {
     try {
       final KeyPair keyPair = identityFactory.createKeyPair();
-      final String key = identityFactory.convertToPEM(keyPair.getPrivate());
+      final String key = identityFactory.convertToPEM(toPemObject(keyPair.getPrivate()));
       writeToFile(key, webhookKeyFile);
       X509Certificate cert = identityFactory.createCertificate(webhookCertFile.getName(), keyPair);
       String certString = getBase64Encoded(cert);
@@ -179,7 +183,8 @@ public class InitializeWebhookIdentityStep extends Step {
     }
 
     private boolean identityExists(Map<String, byte[]> data) {
-      return data.get(WEBHOOK_KEY) != null && data.get(WEBHOOK_CERTIFICATE) != null;
+      return data.get(WEBHOOK_KEY) != null && data.get(WEBHOOK_CERTIFICATE) != null
+          && !isNearExpiry(new String(data.get(WEBHOOK_CERTIFICATE)));
     }
 
     private void reuseExistingIdentity(Map<String, byte[]> data) throws IOException {
@@ -192,8 +197,9 @@ public class InitializeWebhookIdentityStep extends Step {
 
     @Override
     @Nonnull
-    public KeyPair createKeyPair() throws NoSuchAlgorithmException, InvalidKeySpecException {
-      return SelfSignedCertUtils.createKeyPair();
+    public KeyPair createKeyPair()
+        throws NoSuchAlgorithmException, InvalidKeySpecException, InvalidAlgorithmParameterException {
+      return SelfSignedCertUtils.createConfiguredKeyPair();
     }
 
     @Override
@@ -209,7 +215,7 @@ public class InitializeWebhookIdentityStep extends Step {
     @Override
     public X509Certificate createCertificate(String name, KeyPair keyPair)
         throws OperatorCreationException, CertificateException, CertIOException {
-      return generateCertificate(name, keyPair, SHA_256_WITH_RSA, COMMON_NAME, CERTIFICATE_VALIDITY_DAYS);
+      return generateCertificate(name, keyPair, getSignatureAlgorithm(keyPair), COMMON_NAME, CERTIFICATE_VALIDITY_DAYS);
     }
   }
 
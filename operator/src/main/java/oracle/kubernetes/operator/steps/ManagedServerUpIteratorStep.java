@@ -24,6 +24,7 @@ import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.PodTemplates;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -38,6 +39,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
  * A step which will bring up the specified managed servers in parallel.
  * Adds to packet:
  *    SERVERS_TO_ROLL    a collection of servers to be rolled, updated in parallel by the server-up steps.
+ *    POD_TEMPLATES      the pod templates shared by the servers of each cluster
  * and for each server:
  *    SERVER_NAME        the name of the server to bring up
  *    CLUSTER_NAME       the name of the cluster of which it is a member, if any
@@ -74,6 +76,7 @@ public class ManagedServerUpIteratorStep extends Step {
     }
 
     initialServersToRoll(packet);
+    packet.put(ProcessingConstants.POD_TEMPLATES, new PodTemplates());
     Collection<Fiber.StepAndPacket> startDetails =
         startupInfos.stream()
             .filter(ssi -> !isServerInCluster(ssi))
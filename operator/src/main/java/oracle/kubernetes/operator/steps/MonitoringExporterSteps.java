@@ -15,8 +15,10 @@ import java.util.function.Function;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
@@ -27,14 +29,22 @@ import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.client.HttpResponseStep;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.PortDetails;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.MonitoringExporterConfiguration;
+import org.apache.commons.codec.digest.DigestUtils;
 
+import static oracle.kubernetes.operator.LabelConstants.EXPORTER_CONFIGURATION_HASH;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.EXPORTER_CONFIGURATION_UPDATES;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.FAILED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.PUSHED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.SKIPPED;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.VERIFIED;
 import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
 
 public class MonitoringExporterSteps {
@@ -48,7 +58,10 @@ public class MonitoringExporterSteps {
 
   /**
    * Creates a step to initiate processing for all servers in the domain for which a configuration is defined,
-   * checking the configuration of each exporter sidecar and updating it if necessary.
+   * checking the configuration of each exporter sidecar and updating it if necessary. Each pod records the hash
+   * of the configuration applied to its sidecar in an annotation, so that sidecars known to be up to date are
+   * skipped without any request; the others are checked at the same time, up to the
+   * {@link TuningParameters#getExporterConfigurationConcurrency() configured limit}.
    *
    * Expects packet to contain DomainPresenceInfo and:
    *     DOMAIN_TOPOLOGY              the domain configuration
@@ -68,10 +81,17 @@ public class MonitoringExporterSteps {
         } else {
           return Step.chain(
                 SecretHelper.createAuthorizationSourceStep(),
-                RunInParallel.perServer(serverNames, ConfigurationVerificationStartStep::new));
+                RunInParallel.perServer(serverNames, ConfigurationVerificationStartStep::new,
+                      getExporterConfigurationConcurrency()));
         }
       }
 
+      private int getExporterConfigurationConcurrency() {
+        return Optional.ofNullable(TuningParameters.getInstance())
+              .map(TuningParameters::getExporterConfigurationConcurrency)
+              .orElse(1);
+      }
+
       private Collection<String> getExporterEnabledServerNames(Packet packet) {
         return getAllServerNames(packet).stream()
               .filter(name -> hasExporterConfiguration(packet, name))
@@ -149,7 +169,7 @@ public class MonitoringExporterSteps {
         return doNext(packet);
       } else if (PodHelper.isReady(getServerPod(packet))) {
         packet.put(SERVER_NAME, serverName);
-        return doNext(new ConfigurationQueryStep(), packet);
+        return doNext(createVerificationSteps(packet), packet);
       } else {
         return doDelay(this, packet, READY_RECHECK_INTERVAL, TimeUnit.SECONDS);
       }
@@ -158,6 +178,49 @@ public class MonitoringExporterSteps {
     private V1Pod getServerPod(Packet packet) {
       return DomainPresenceInfo.fromPacket(packet).map(dpi -> dpi.getServerPod(serverName)).orElseThrow();
     }
+
+    private Step createVerificationSteps(Packet packet) {
+      if (isConfigurationApplied(packet)) {
+        EXPORTER_CONFIGURATION_UPDATES.labels(SKIPPED).inc();
+        return getNext();
+      } else {
+        return new ConfigurationQueryStep();
+      }
+    }
+
+    private boolean isConfigurationApplied(Packet packet) {
+      return getAppliedConfigurationHash(packet)
+            .equals(PodHelper.getPodAnnotation(getServerPod(packet), EXPORTER_CONFIGURATION_HASH));
+    }
+  }
+
+  // Identifies the configuration which a server's exporter sidecar should be using. The restart count of the sidecar
+  // is included, as a restarted sidecar loses any configuration sent to it.
+  private static String getAppliedConfigurationHash(Packet packet) {
+    return DigestUtils.sha256Hex(getExporterConfiguration(packet))
+          + "-" + getExporterRestartCount(getServerPod(packet));
+  }
+
+  private static int getExporterRestartCount(V1Pod pod) {
+    return Optional.ofNullable(pod.getStatus())
+          .map(V1PodStatus::getContainerStatuses)
+          .orElse(Collections.emptyList())
+          .stream()
+          .filter(status -> KubernetesConstants.EXPORTER_CONTAINER_NAME.equals(status.getName()))
+          .findFirst()
+          .map(V1ContainerStatus::getRestartCount)
+          .orElse(0);
+  }
+
+  private static V1Pod getServerPod(Packet packet) {
+    final String serverName = packet.getValue(SERVER_NAME);
+    return DomainPresenceInfo.fromPacket(packet).map(dpi -> dpi.getServerPod(serverName)).orElseThrow();
+  }
+
+  // Records the configuration applied to the sidecar, so that it need not be checked again until it changes.
+  private static Step createRecordConfigurationStep(Packet packet, Step next) {
+    return PodHelper.annotatePodWithExporterConfigurationHash(
+          getServerPod(packet), getAppliedConfigurationHash(packet), next);
   }
 
   //------------ Step to query existing configuration
@@ -187,7 +250,8 @@ public class MonitoringExporterSteps {
     @Override
     public Result onSuccess(Packet packet, HttpResponse<String> response) {
       if (hasUpToDateConfiguration(packet, response)) {
-        return doNext(packet);
+        EXPORTER_CONFIGURATION_UPDATES.labels(VERIFIED).inc();
+        return doNext(createRecordConfigurationStep(packet, getNext()), packet);
       } else {
         return doNext(new ConfigurationUpdateStep(), packet);
       }
@@ -213,6 +277,7 @@ public class MonitoringExporterSteps {
 
     @Override
     public Result onFailure(Packet packet, HttpResponse<String> response) {
+      EXPORTER_CONFIGURATION_UPDATES.labels(FAILED).inc();
       return doNext(packet);
     }
   }
@@ -251,11 +316,6 @@ public class MonitoringExporterSteps {
       return DomainPresenceInfo.fromPacket(packet).map(dpi -> dpi.getServerService(serverName)).orElseThrow();
     }
 
-    private static V1Pod getServerPod(Packet packet) {
-      final String serverName = packet.getValue(SERVER_NAME);
-      return DomainPresenceInfo.fromPacket(packet).map(dpi -> dpi.getServerPod(serverName)).orElseThrow();
-    }
-
     @Override
     protected PortDetails getPortDetails() {
       return new PortDetails(getExporterPort(), false);
@@ -313,11 +373,13 @@ public class MonitoringExporterSteps {
 
     @Override
     public Result onSuccess(Packet packet, HttpResponse<String> response) {
-      return doNext(packet);
+      EXPORTER_CONFIGURATION_UPDATES.labels(PUSHED).inc();
+      return doNext(createRecordConfigurationStep(packet, getNext()), packet);
     }
 
     @Override
     public Result onFailure(Packet packet, HttpResponse<String> response) {
+      EXPORTER_CONFIGURATION_UPDATES.labels(FAILED).inc();
       return doNext(packet);
     }
   }
@@ -325,7 +387,7 @@ public class MonitoringExporterSteps {
   /**
    * Given a list of server names and a method that creates steps for the server,
    * will create the appropriate steps and run them in parallel, waiting for all to complete
-   * before proceeding.
+   * before proceeding. At most the specified number of servers are processed at the same time.
    * 
    * The packet is expected to contain a DomainPresenceInfo.
    */
@@ -333,14 +395,16 @@ public class MonitoringExporterSteps {
 
     final Function<String, Step> stepFactory;
     private final Collection<String> serverNames;
+    private final int maxConcurrency;
 
-    RunInParallel(Collection<String> serverNames, Function<String, Step> stepFactory) {
+    RunInParallel(Collection<String> serverNames, Function<String, Step> stepFactory, int maxConcurrency) {
       this.serverNames = serverNames;
       this.stepFactory = stepFactory;
+      this.maxConcurrency = maxConcurrency;
     }
 
-    static Step perServer(Collection<String> serverNames, Function<String, Step> stepFactory) {
-      return new RunInParallel(serverNames, stepFactory);
+    static Step perServer(Collection<String> serverNames, Function<String, Step> stepFactory, int maxConcurrency) {
+      return new RunInParallel(serverNames, stepFactory, maxConcurrency);
     }
 
     @Override
@@ -361,7 +425,7 @@ public class MonitoringExporterSteps {
             startDetails.add(new Fiber.StepAndPacket(stepFactory.apply(serverName), packet.copy()));
           }
         }
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, startDetails, maxConcurrency);
       }
     }
 
@@ -6,15 +6,18 @@ package oracle.kubernetes.operator.steps;
 import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 
@@ -30,24 +33,31 @@ import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.client.HttpResponseStep;
 import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.PortDetails;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_HEALTH_TO_READ;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.DOMAIN_MODE;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.HEALTH_READ_DURATION;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.SERVER_MODE;
 import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
 import static oracle.kubernetes.utils.OperatorUtils.emptyToNull;
 
@@ -57,6 +67,7 @@ public class ReadHealthStep extends Step {
   static final String OVERALL_HEALTH_FOR_SERVER_OVERLOADED =
       OVERALL_HEALTH_NOT_AVAILABLE + " (possibly overloaded)";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String HEALTH_READ_START_TIME = "healthReadStartTime";
 
   private ReadHealthStep(Step next) {
     super(next);
@@ -72,6 +83,24 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates a step to read the state and health of all running servers in the domain with a single request
+   * to its admin server, if so configured. The health of each server reported by the admin server is recorded,
+   * so that only those which it does not report need to be read individually.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
+  static boolean isReadHealthFromAdminServer() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::isReadHealthFromAdminServer)
+        .orElse(false);
+  }
+
   // overallHealthState, healthState
 
   @Override
@@ -90,17 +119,24 @@ public class ReadHealthStep extends Step {
     }
   }
 
-  static final class ReadHealthProcessing extends HttpRequestProcessing {
+  static class ReadHealthProcessing extends HttpRequestProcessing {
+
+    private final String serverName;
 
     ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      this(packet, service, pod, (String) packet.get(ProcessingConstants.SERVER_NAME));
+    }
+
+    ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String serverName) {
       super(packet, service, pod);
+      this.serverName = serverName;
     }
 
-    private static String getRetrieveHealthSearchPath() {
+    String getRetrieveHealthSearchPath() {
       return "/management/weblogic/latest/serverRuntime/search";
     }
 
-    private static String getRetrieveHealthSearchPayload() {
+    String getRetrieveHealthSearchPayload() {
       return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
     }
 
@@ -156,7 +192,7 @@ public class ReadHealthStep extends Step {
     }
 
     private String getServerName() {
-      return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      return serverName;
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
@@ -171,6 +207,152 @@ public class ReadHealthStep extends Step {
     }
   }
 
+  /**
+   * Processing for a request to the admin server for the state and health of all running servers in the domain.
+   */
+  static final class ReadDomainHealthProcessing extends ReadHealthProcessing {
+
+    ReadDomainHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String adminServerName) {
+      super(packet, service, pod, adminServerName);
+    }
+
+    @Override
+    String getRetrieveHealthSearchPath() {
+      return "/management/weblogic/latest/domainRuntime/search";
+    }
+
+    @Override
+    String getRetrieveHealthSearchPayload() {
+      return "{ links: [], fields: [], children: { serverRuntimes: { links: [], "
+          + "fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ] } } }";
+    }
+  }
+
+  /**
+   * Step to read the state and health of all running servers from the admin server, if so configured
+   * and the admin server is ready.
+   * Packet values used:
+   *  DOMAIN_PRESENCE_INFO              the domain whose servers are to be read
+   */
+  static final class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      String adminServerName = Optional.ofNullable(info).map(DomainPresenceInfo::getAdminServerName).orElse(null);
+      if (!isReadHealthFromAdminServer() || adminServerName == null) {
+        return doNext(packet);
+      }
+
+      V1Service service = info.getServerService(adminServerName);
+      V1Pod pod = info.getServerPod(adminServerName);
+      if (service == null || !PodHelper.hasReadyStatus(pod)) {
+        return doNext(packet);
+      } else {
+        return doNext(
+            Step.chain(
+                SecretHelper.createAuthorizationSourceStep(),
+                new ReadDomainHealthWithHttpStep(service, pod, adminServerName, getNext())),
+            packet);
+      }
+    }
+  }
+
+  static final class ReadDomainHealthWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+    private final String adminServerName;
+
+    ReadDomainHealthWithHttpStep(@Nonnull V1Service service, V1Pod pod, String adminServerName, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.adminServerName = adminServerName;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadDomainHealthProcessing(packet, service, pod, adminServerName);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(packet);
+      }
+      packet.put(HEALTH_READ_START_TIME, SystemClock.now());
+      return doNext(createRequestStep(processing.createRequest(), new RecordDomainHealthStep(getNext())), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing the admin server's report of the state and health of its running servers.
+   * Any failure is ignored, as the health of each server will then be read individually.
+   * Packet values used:
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  SERVER_HEALTH_MAP                 a map of server names to health
+   *  REMAINING_SERVERS_HEALTH_TO_READ  a counter of the servers whose health needs to be read
+   *  SERVERS_HEALTH_TO_READ            the names of the servers included in that counter
+   *  (spi) HttpResponse.class          the response from the server
+   */
+  static final class RecordDomainHealthStep extends HttpResponseStep {
+
+    RecordDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, HttpResponse<String> response) {
+      recordReadDuration(packet, DOMAIN_MODE);
+      try {
+        for (JsonNode serverRuntime : getServerRuntimes(response.body())) {
+          recordServerStateAndHealth(packet, response, serverRuntime);
+        }
+      } catch (Throwable t) {
+        LOGGER.fine(MessageKeys.EXCEPTION, t);
+      }
+      return doNext(packet);
+    }
+
+    private static Iterable<JsonNode> getServerRuntimes(String jsonResult) throws IOException {
+      return jsonResult == null
+          ? Collections.emptyList()
+          : new ObjectMapper().readTree(jsonResult).path("serverRuntimes").path("items");
+    }
+
+    private static void recordServerStateAndHealth(
+          Packet packet, HttpResponse<String> response, JsonNode serverRuntime) {
+      final String serverName = emptyToNull(serverRuntime.path("name").asText());
+      if (serverName != null) {
+        new RecordHealthStep.HealthResponseProcessing(packet, response, serverName)
+            .recordStateAndHealth(serverRuntime);
+        if (isCountedServer(packet, serverName)) {
+          packet.<AtomicInteger>getValue(REMAINING_SERVERS_HEALTH_TO_READ).getAndDecrement();
+        }
+      }
+    }
+
+    // Returns true, once only, for a server counted among those whose health remains to be read.
+    private static boolean isCountedServer(Packet packet, String serverName) {
+      return Optional.ofNullable(packet.<Set<String>>getValue(SERVERS_HEALTH_TO_READ))
+          .map(serverNames -> serverNames.remove(serverName))
+          .orElse(false);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, HttpResponse<String> response) {
+      recordReadDuration(packet, DOMAIN_MODE);
+      return doNext(packet);
+    }
+  }
+
+  private static void recordReadDuration(Packet packet, String mode) {
+    Optional.ofNullable((OffsetDateTime) packet.remove(HEALTH_READ_START_TIME))
+        .map(start -> Duration.between(start, SystemClock.now()).toMillis() / 1000.0)
+        .ifPresent(seconds -> HEALTH_READ_DURATION.labels(mode).observe(seconds));
+  }
+
   /**
    * Step to send a query to Kubernetes to obtain the health of a specified server.
    * Packet values used:
@@ -194,6 +376,7 @@ public class ReadHealthStep extends Step {
       if (processing.getWlsServerConfig() == null) {
         return doNext(packet);
       }
+      packet.put(HEALTH_READ_START_TIME, SystemClock.now());
       return doNext(createRequestStep(processing.createRequest(), new RecordHealthStep(getNext())), packet);
     }
 
@@ -216,6 +399,7 @@ public class ReadHealthStep extends Step {
 
     @Override
     public Result onSuccess(Packet packet, HttpResponse<String> response) {
+      recordReadDuration(packet, SERVER_MODE);
       try {
         HealthResponseProcessing responseProcessing = new HealthResponseProcessing(packet, response);
         responseProcessing.recordStateAndHealth();
@@ -244,6 +428,7 @@ public class ReadHealthStep extends Step {
 
     @Override
     public Result onFailure(Packet packet, HttpResponse<String> response) {
+      recordReadDuration(packet, SERVER_MODE);
       new HealthResponseProcessing(packet, response).recordFailedStateAndHealth();
       return doNext(packet);
     }
@@ -254,14 +439,17 @@ public class ReadHealthStep extends Step {
       private final HttpResponse<String> response;
 
       public HealthResponseProcessing(Packet packet, HttpResponse<String> response) {
+        this(packet, response, (String) packet.get(ProcessingConstants.SERVER_NAME));
+      }
+
+      HealthResponseProcessing(Packet packet, HttpResponse<String> response, String serverName) {
         this.packet = packet;
         this.response = response;
-
-        serverName = getServerName();
+        this.serverName = serverName;
       }
 
       private String getServerName() {
-        return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+        return serverName;
       }
 
       void recordFailedStateAndHealth() {
@@ -282,8 +470,10 @@ public class ReadHealthStep extends Step {
         }
 
         ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonResult);
+        return parseServerHealth(mapper.readTree(jsonResult));
+      }
 
+      private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
         JsonNode healthState = null;
         JsonNode subsystemName = null;
         JsonNode symptoms = null;
@@ -337,7 +527,14 @@ public class ReadHealthStep extends Step {
       }
 
       void recordStateAndHealth() throws IOException {
-        Pair<String, ServerHealth> pair = parseServerHealthJson(getResponse().body());
+        recordStateAndHealth(parseServerHealthJson(getResponse().body()));
+      }
+
+      void recordStateAndHealth(JsonNode serverRuntime) {
+        recordStateAndHealth(parseServerHealth(serverRuntime));
+      }
+
+      private void recordStateAndHealth(Pair<String, ServerHealth> pair) {
         String state = emptyToNull(Optional.ofNullable(pair).map(Pair::left).orElse(null));
         ServerHealth health = Optional.ofNullable(pair).map(Pair::right).orElse(null);
         recordStateAndHealth(state, health);
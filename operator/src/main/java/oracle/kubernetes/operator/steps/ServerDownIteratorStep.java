@@ -18,6 +18,7 @@ import javax.annotation.Nullable;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.ConditionWaiters;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerShutdownInfo;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
@@ -206,7 +207,8 @@ public class ServerDownIteratorStep extends Step {
       if (shutdownDetails.isEmpty()) {
         return doNext(getNext(), packet);
       } else {
-        return doForkJoin(getNext(), packet, shutdownDetails);
+        return doForkJoin(getNext(), packet, shutdownDetails,
+            ConditionWaiters.getForkJoinConcurrency(shutdownDetails.size()));
       }
     }
   }
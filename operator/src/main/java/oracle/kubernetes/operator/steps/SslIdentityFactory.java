@@ -1,9 +1,10 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
 import java.io.IOException;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -17,7 +18,8 @@ import org.bouncycastle.operator.OperatorCreationException;
 public interface SslIdentityFactory {
 
   @Nonnull
-  KeyPair createKeyPair() throws NoSuchAlgorithmException, InvalidKeySpecException;
+  KeyPair createKeyPair()
+      throws NoSuchAlgorithmException, InvalidKeySpecException, InvalidAlgorithmParameterException;
 
   String convertToPEM(Object object) throws IOException;
 
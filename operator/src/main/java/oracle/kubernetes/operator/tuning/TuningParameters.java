@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.tuning;
@@ -65,7 +65,6 @@ public class TuningParameters {
   public static final String STATUS_UPDATE_TIMEOUT_SECONDS = "statusUpdateTimeoutSeconds";
   public static final String STATUS_UPDATE_INITIAL_SHORT_DELAY = "statusUpdateInitialShortDelay";
   public static final String STATUS_UPDATE_EVENTUAL_LONG_DELAY = "statusUpdateEventualLongDelay";
-  public static final String SECRET_REREAD_INTERVAL_SECONDS = "weblogicCredentialsSecretRereadIntervalSeconds";
   public static final String MAX_READY_WAIT_TIME_SECONDS = "maxReadyWaitTimeSeconds";
   public static final String MAX_PENDING_WAIT_TIME_SECONDS = "maxPendingWaitTimeSeconds";
   public static final String RESTART_EVICTED_PODS = "restartEvictedPods";
@@ -78,6 +77,29 @@ public class TuningParameters {
   public static final String CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT = "crdPresenceFailureRetryMaxCount";
   public static final String HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = "httpRequestFailureCountThreshold";
   public static final String SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = "shutdownWithHttpPollingInterval";
+  public static final String INTROSPECTOR_POD_POOL_MAX_SIZE = "introspectorPodPoolMaxSize";
+  public static final String INTROSPECTOR_POD_POOL_IDLE_TIMEOUT_SECONDS = "introspectorPodPoolIdleTimeoutSeconds";
+  public static final String EVENT_AGGREGATION_WINDOW_SECONDS = "eventAggregationWindowSeconds";
+  public static final String EVENT_WRITE_LIMIT_PER_SECOND = "eventWriteLimitPerSecond";
+  public static final String NAMESPACE_STARTUP_CONCURRENCY = "namespaceStartupConcurrency";
+  public static final String READY_BEFORE_NAMESPACE_STARTUP = "readyBeforeNamespaceStartup";
+  public static final String READ_HEALTH_FROM_ADMIN_SERVER = "readHealthFromAdminServer";
+  public static final String DOMAIN_TOPOLOGY_CACHE_SIZE = "domainTopologyCacheSize";
+  public static final String HTTP_MAX_IN_FLIGHT_REQUESTS = "httpMaxInFlightRequests";
+  public static final String REST_REQUEST_TIMEOUT_SECONDS = "restRequestTimeoutSeconds";
+  public static final String WEBHOOK_REQUEST_TIMEOUT_SECONDS = "webhookRequestTimeoutSeconds";
+  public static final String TLS_SESSION_CACHE_SIZE = "tlsSessionCacheSize";
+  public static final String TLS_SESSION_TIMEOUT_SECONDS = "tlsSessionTimeoutSeconds";
+  public static final String RESOURCE_WAIT_TIMEOUT_SECONDS = "resourceWaitTimeoutSeconds";
+  public static final String IDENTITY_KEY_ALGORITHM = "identityKeyAlgorithm";
+  public static final String EXPORTER_CONFIGURATION_CONCURRENCY = "exporterConfigurationConcurrency";
+  public static final String NAMESPACE_SHARDING_ENABLED = "namespaceShardingEnabled";
+  public static final String NAMESPACE_SHARD_LEASE_DURATION_SECONDS = "namespaceShardLeaseDurationSeconds";
+  public static final String HOT_STANDBY_ENABLED = "hotStandbyEnabled";
+  public static final String LEADER_LEASE_DURATION_SECONDS = "leaderLeaseDurationSeconds";
+  public static final String SELECTIVE_WATCH_DECODING_ENABLED = "selectiveWatchDecodingEnabled";
+  public static final String INTROSPECTION_MAX_CONCURRENT = "introspectionMaxConcurrent";
+  public static final String INTROSPECTION_MAX_CONCURRENT_PER_NODE = "introspectionMaxConcurrentPerNode";
   public static final int DEFAULT_HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = 10;
   public static final int DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = 3;
 
@@ -193,10 +215,6 @@ public class TuningParameters {
     return getParameter(STATUS_UPDATE_EVENTUAL_LONG_DELAY, 30);
   }
   
-  public int getCredentialsSecretRereadIntervalSeconds() {
-    return getParameter(SECRET_REREAD_INTERVAL_SECONDS, 120);
-  }
-
   public long getMaxReadyWaitTimeSeconds() {
     return getParameter(MAX_READY_WAIT_TIME_SECONDS, 1800);
   }
@@ -246,6 +264,191 @@ public class TuningParameters {
     return getParameter(SHUTDOWN_WITH_HTTP_POLLING_INTERVAL, DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL);
   }
 
+  /**
+   * Returns the maximum number of pre-started introspector pods to keep for each distinct introspector pod
+   * configuration. Zero (the default) disables the pool, so that every introspection creates a job.
+   */
+  public int getIntrospectorPodPoolMaxSize() {
+    return getParameter(INTROSPECTOR_POD_POOL_MAX_SIZE, 0);
+  }
+
+  /**
+   * Returns the number of seconds that a pre-started introspector pod will wait to be used before it exits.
+   */
+  public long getIntrospectorPodPoolIdleTimeoutSeconds() {
+    return getParameter(INTROSPECTOR_POD_POOL_IDLE_TIMEOUT_SECONDS, 600L);
+  }
+
+  /**
+   * Returns the maximum number of introspector jobs which may run at the same time, across all domains managed
+   * by this operator. Further introspections wait in a queue. Zero (the default) imposes no limit.
+   */
+  public int getIntrospectionMaxConcurrent() {
+    return getParameter(INTROSPECTION_MAX_CONCURRENT, 0);
+  }
+
+  /**
+   * Returns the maximum number of introspector jobs which may run at the same time on a single node, counting
+   * only jobs whose pods are assigned to a named node. Zero (the default) imposes no limit.
+   */
+  public int getIntrospectionMaxConcurrentPerNode() {
+    return getParameter(INTROSPECTION_MAX_CONCURRENT_PER_NODE, 0);
+  }
+
+  /**
+   * Returns the number of seconds after writing an event during which repeats of that event are only counted,
+   * and are then written together with the next repeat. Zero (the default) writes every repeat.
+   */
+  public long getEventAggregationWindowSeconds() {
+    return getParameter(EVENT_AGGREGATION_WINDOW_SECONDS, 0L);
+  }
+
+  /**
+   * Returns the number of event writes per second above which repeats of normal events are only counted.
+   * Zero (the default) imposes no limit.
+   */
+  public int getEventWriteLimitPerSecond() {
+    return getParameter(EVENT_WRITE_LIMIT_PER_SECOND, 0);
+  }
+
+  /**
+   * Returns the maximum number of domain namespaces which the operator will start at the same time.
+   * One (the default) starts them one after another.
+   */
+  public int getNamespaceStartupConcurrency() {
+    return getParameter(NAMESPACE_STARTUP_CONCURRENCY, 1);
+  }
+
+  /**
+   * Returns true if the operator should report itself ready as soon as it has verified its own namespace and
+   * the domain CRD, rather than waiting until it has started all of its domain namespaces.
+   */
+  public boolean isReadyBeforeNamespaceStartup() {
+    return getParameter(READY_BEFORE_NAMESPACE_STARTUP, false);
+  }
+
+  /**
+   * Returns true if several operator replicas should divide the domain namespaces among themselves,
+   * each managing only those assigned to it. Ignored when the operator manages only its own namespace.
+   */
+  public boolean isNamespaceShardingEnabled() {
+    return getParameter(NAMESPACE_SHARDING_ENABLED, false);
+  }
+
+  /**
+   * Returns the number of seconds after its last renewal that an operator replica's namespace shard lease
+   * expires, so that its namespaces are reassigned to the remaining replicas.
+   */
+  public int getNamespaceShardLeaseDurationSeconds() {
+    return getParameter(NAMESPACE_SHARD_LEASE_DURATION_SECONDS, 15);
+  }
+
+  /**
+   * Returns true if operator replicas should elect a leader, with the other replicas standing by with warm
+   * caches until they take over. Ignored when namespace sharding is enabled.
+   */
+  public boolean isHotStandbyEnabled() {
+    return getParameter(HOT_STANDBY_ENABLED, false);
+  }
+
+  /**
+   * Returns the number of seconds for which the leader lease remains valid without renewal, after which
+   * a standby operator replica takes over.
+   */
+  public int getLeaderLeaseDurationSeconds() {
+    return getParameter(LEADER_LEASE_DURATION_SECONDS, 10);
+  }
+
+  /**
+   * Returns true if watch events should be decoded without the fields that the operator never reads, and with
+   * repeated strings shared.
+   */
+  public boolean isSelectiveWatchDecodingEnabled() {
+    return getParameter(SELECTIVE_WATCH_DECODING_ENABLED, true);
+  }
+
+  /**
+   * Returns true if the operator should read the state and health of all running servers in a domain
+   * with a single request to its admin server, reading from individual servers only those which
+   * the admin server does not report.
+   */
+  public boolean isReadHealthFromAdminServer() {
+    return getParameter(READ_HEALTH_FROM_ADMIN_SERVER, false);
+  }
+
+  /**
+   * Returns the maximum number of parsed domain topologies to keep for reuse when the introspector
+   * config map is read. Zero (the default) parses the topology on every read.
+   */
+  public int getDomainTopologyCacheSize() {
+    return getParameter(DOMAIN_TOPOLOGY_CACHE_SIZE, 0);
+  }
+
+  /**
+   * Returns the maximum number of requests which each REST or webhook server will process at the same time.
+   * Further requests wait for one to complete. Zero (the default) imposes no limit.
+   */
+  public int getHttpMaxInFlightRequests() {
+    return getParameter(HTTP_MAX_IN_FLIGHT_REQUESTS, 0);
+  }
+
+  /**
+   * Returns the number of seconds after which a request to the operator REST server is abandoned.
+   * Zero (the default) imposes no limit.
+   */
+  public int getRestRequestTimeoutSeconds() {
+    return getParameter(REST_REQUEST_TIMEOUT_SECONDS, 0);
+  }
+
+  /**
+   * Returns the number of seconds after which a request to the conversion and admission webhook is abandoned.
+   * Zero (the default) imposes no limit.
+   */
+  public int getWebhookRequestTimeoutSeconds() {
+    return getParameter(WEBHOOK_REQUEST_TIMEOUT_SECONDS, 0);
+  }
+
+  /**
+   * Returns the maximum number of TLS sessions which the https servers keep for resumption.
+   * Zero (the default) uses the JDK default.
+   */
+  public int getTlsSessionCacheSize() {
+    return getParameter(TLS_SESSION_CACHE_SIZE, 0);
+  }
+
+  /**
+   * Returns the number of seconds for which the https servers keep a TLS session for resumption.
+   * Zero (the default) uses the JDK default.
+   */
+  public int getTlsSessionTimeoutSeconds() {
+    return getParameter(TLS_SESSION_TIMEOUT_SECONDS, 0);
+  }
+
+  /**
+   * Returns the maximum number of seconds for which processing waits for a watch event reporting that a pod
+   * has been deleted or become ready, before falling back to a periodic recheck. Zero, the default, disables
+   * the wait.
+   */
+  public int getResourceWaitTimeoutSeconds() {
+    return getParameter(RESOURCE_WAIT_TIMEOUT_SECONDS, 0);
+  }
+
+  /**
+   * Returns the maximum number of monitoring exporter sidecars whose configuration the operator will check
+   * and update at the same time for a domain. One checks them one after another. The default is 10.
+   */
+  public int getExporterConfigurationConcurrency() {
+    return getParameter(EXPORTER_CONFIGURATION_CONCURRENCY, 10);
+  }
+
+  /**
+   * Returns the algorithm of the keys generated for the operator's and webhook's self-signed identities:
+   * either RSA (the default) or EC, which uses the P-256 curve and is much quicker to generate.
+   */
+  public String getIdentityKeyAlgorithm() {
+    return getParameter(IDENTITY_KEY_ALGORITHM, "RSA");
+  }
+
   /**
    * Returns the name of the kubernetes platform on which the operator is running. May be null (the default).
    */
@@ -1,25 +1,34 @@
-// Copyright (c) 2021, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.utils;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigInteger;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.KeyFactory;
 import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.security.interfaces.ECKey;
+import java.security.spec.ECGenParameterSpec;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.RSAPrivateCrtKeySpec;
 import java.security.spec.RSAPublicKeySpec;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import org.bouncycastle.asn1.x500.X500Name;
 import org.bouncycastle.asn1.x500.X500NameBuilder;
 import org.bouncycastle.asn1.x500.style.RFC4519Style;
@@ -37,9 +46,11 @@ import org.bouncycastle.crypto.params.RSAKeyGenerationParameters;
 import org.bouncycastle.crypto.params.RSAKeyParameters;
 import org.bouncycastle.crypto.params.RSAPrivateCrtKeyParameters;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
 import org.bouncycastle.operator.ContentSigner;
 import org.bouncycastle.operator.OperatorCreationException;
 import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.util.io.pem.PemGenerationException;
 
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getWebhookNamespace;
@@ -57,6 +68,58 @@ public final class SelfSignedCertUtils {
   public static final String INTERNAL_WEBLOGIC_OPERATOR_SVC = "internal-weblogic-operator-svc";
   public static final String WEBLOGIC_OPERATOR_WEBHOOK_SVC = "weblogic-operator-webhook-svc";
   public static final String WEBHOOK_CERTIFICATE = "webhookCert";
+  public static final String RSA = "RSA";
+  public static final String EC = "EC";
+
+  private static final String EC_CURVE = "secp256r1";
+  private static final String SHA_256_WITH_RSA = "SHA256withRSA";
+  private static final String SHA_256_WITH_ECDSA = "SHA256withECDSA";
+
+  /** Self-signed certificates are replaced, rather than reused, once they are this close to expiring. */
+  public static final int CERTIFICATE_RENEWAL_DAYS = 30;
+
+  /**
+   * Generates a key pair using the algorithm selected by the {@link TuningParameters#getIdentityKeyAlgorithm()
+   * identity key algorithm} tuning parameter.
+   *
+   * @return Key pair
+   *
+   * @throws InvalidKeySpecException on generating the key if specs are invalid.
+   * @throws NoSuchAlgorithmException if the algorithm is not supported.
+   * @throws InvalidAlgorithmParameterException if the elliptic curve is not supported.
+   */
+  public static KeyPair createConfiguredKeyPair()
+      throws NoSuchAlgorithmException, InvalidKeySpecException, InvalidAlgorithmParameterException {
+    return createKeyPair(getConfiguredKeyAlgorithm());
+  }
+
+  private static String getConfiguredKeyAlgorithm() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getIdentityKeyAlgorithm)
+        .orElse(RSA);
+  }
+
+  /**
+   * Generates a key pair with the specified algorithm. EC keys use the P-256 curve, and are much faster to
+   * generate than 2048-bit RSA keys; any other algorithm name selects RSA.
+   *
+   * @param algorithm the key algorithm, either RSA or EC
+   * @return Key pair
+   *
+   * @throws InvalidKeySpecException on generating the key if specs are invalid.
+   * @throws NoSuchAlgorithmException if the algorithm is not supported.
+   * @throws InvalidAlgorithmParameterException if the elliptic curve is not supported.
+   */
+  public static KeyPair createKeyPair(String algorithm)
+      throws NoSuchAlgorithmException, InvalidKeySpecException, InvalidAlgorithmParameterException {
+    if (!EC.equalsIgnoreCase(algorithm)) {
+      return createKeyPair();
+    }
+
+    KeyPairGenerator generator = KeyPairGenerator.getInstance(EC);
+    generator.initialize(new ECGenParameterSpec(EC_CURVE), new SecureRandom());
+    return generator.generateKeyPair();
+  }
 
   /**
    * Generates a key pair using the BouncyCastle lib.
@@ -125,6 +188,41 @@ public final class SelfSignedCertUtils {
             .setProvider(new BouncyCastleProvider()).getCertificate(certificateBuilder.build(contentSigner));
   }
 
+  /**
+   * Returns the signature algorithm with which to sign a certificate using the specified key pair.
+   * @param keyPair the key pair
+   */
+  public static String getSignatureAlgorithm(KeyPair keyPair) {
+    return keyPair.getPrivate() instanceof ECKey ? SHA_256_WITH_ECDSA : SHA_256_WITH_RSA;
+  }
+
+  /**
+   * Returns the object to write in PEM format to record the specified private key. EC keys are written in PKCS#8
+   * format, which includes the curve and public key needed to load them; RSA keys are written as before.
+   * @param privateKey the private key
+   */
+  public static Object toPemObject(PrivateKey privateKey) throws PemGenerationException {
+    return privateKey instanceof ECKey ? new JcaPKCS8Generator(privateKey, null) : privateKey;
+  }
+
+  /**
+   * Returns true if the specified certificate will expire within {@link #CERTIFICATE_RENEWAL_DAYS}, and so
+   * should be replaced rather than reused. A certificate which cannot be parsed is not considered to be expiring.
+   *
+   * @param base64EncodedPem the certificate, in PEM format and then Base64-encoded, as it is stored by the operator
+   */
+  public static boolean isNearExpiry(String base64EncodedPem) {
+    try {
+      byte[] pem = Base64.getMimeDecoder().decode(base64EncodedPem.trim());
+      X509Certificate certificate = (X509Certificate) CertificateFactory.getInstance("X.509")
+          .generateCertificate(new ByteArrayInputStream(pem));
+      return certificate.getNotAfter().toInstant()
+          .isBefore(Instant.now().plus(Duration.ofDays(CERTIFICATE_RENEWAL_DAYS)));
+    } catch (IllegalArgumentException | CertificateException | ClassCastException e) {
+      return false;
+    }
+  }
+
   @Nonnull
   private static GeneralNames getSAN(String cert) {
     String host = INTERNAL_WEBLOGIC_OPERATOR_SVC;
@@ -12,14 +12,15 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.options.ListOptions;
-import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.MetadataOnly;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 
 /**
  * This class handles ConfigMap watching. It receives config map change events and sends them into
- * the operator for processing.
+ * the operator for processing. All the config maps in the namespace are watched, so that those referenced
+ * by domains can be found without listing them, but only their metadata is requested.
  */
 public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
   private final String ns;
@@ -59,7 +60,7 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
 
   @Override
   public Watchable<V1ConfigMap> initiateWatch(ListOptions options) throws ApiException {
-    return RequestBuilder.CM.watch(ns, options.labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL));
+    return RequestBuilder.CM.watch(ns, options, MetadataOnly.OBJECTS);
   }
 
   @Override
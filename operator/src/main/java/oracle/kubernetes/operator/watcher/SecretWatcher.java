@@ -0,0 +1,73 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.util.Watch.Response;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.MetadataOnly;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+
+/**
+ * This class handles Secret watching. It receives secret change events and sends them into the operator
+ * for processing. Secrets referenced by domains are created by users, not the operator, so all the secrets
+ * in the namespace are watched. Only their metadata is requested, so that secret data is not transferred
+ * for changes to secrets which the operator does not use.
+ */
+public class SecretWatcher extends Watcher<V1Secret> {
+  private final String ns;
+
+  private SecretWatcher(
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Secret> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, tuning, isStopping, listener);
+    this.ns = ns;
+  }
+
+  /**
+   * Create secret watcher.
+   * @param factory thread factory
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning tuning parameters
+   * @param listener listener
+   * @param isStopping stopping flag
+   * @return watcher
+   */
+  public static SecretWatcher create(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Secret> listener,
+      AtomicBoolean isStopping) {
+    SecretWatcher watcher = new SecretWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  @Override
+  public Watchable<V1Secret> initiateWatch(ListOptions options) throws ApiException {
+    return RequestBuilder.SECRET.watch(ns, options, MetadataOnly.OBJECTS);
+  }
+
+  @Override
+  public String getNamespace() {
+    return ns;
+  }
+
+  @Override
+  public String getDomainUid(Response<V1Secret> item) {
+    return null;
+  }
+}
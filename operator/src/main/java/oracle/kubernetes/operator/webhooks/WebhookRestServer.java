@@ -20,6 +20,7 @@ import oracle.kubernetes.operator.http.rest.ExceptionMapper;
 import oracle.kubernetes.operator.http.rest.RequestDebugLoggingFilter;
 import oracle.kubernetes.operator.http.rest.ResponseDebugLoggingFilter;
 import oracle.kubernetes.operator.http.rest.RestConfig;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.webhooks.resource.AdmissionWebhookResource;
 import oracle.kubernetes.operator.webhooks.resource.ConversionWebhookResource;
 import org.glassfish.grizzly.http.server.HttpServer;
@@ -88,6 +89,16 @@ public class WebhookRestServer extends BaseRestServer {
         .setProperties(Map.of(RestConfig.REST_CONFIG_PROPERTY, restConfig));
   }
 
+  @Override
+  protected String getServerName() {
+    return "webhook";
+  }
+
+  @Override
+  protected int getRequestTimeoutSeconds() {
+    return getTuningParameter(TuningParameters::getWebhookRequestTimeoutSeconds);
+  }
+
   /**
    * Returns the in-pod URI of the externally available https REST port.
    *
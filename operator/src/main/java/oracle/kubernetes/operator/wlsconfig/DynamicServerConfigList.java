@@ -0,0 +1,119 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable view of the servers in a dynamic cluster. Rather than holding a configuration for each server,
+ * it derives the configuration of a server on demand from the server template and the server's index,
+ * keeping only a small, bounded number of recently derived configurations. Reads do not lock.
+ */
+class DynamicServerConfigList extends AbstractList<WlsServerConfig> implements RandomAccess {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  static int maxCachedConfigs = 64;
+
+  // index of the first dynamic server; fixed at 1 by WebLogic
+  private static final int STARTING_SERVER_INDEX = 1;
+
+  private final String serverNamePrefix;
+  private final int size;
+  private final WlsServerConfig serverTemplate;
+  private final String clusterName;
+  private final String domainName;
+  private final boolean calculatedListenPorts;
+  private final AtomicReferenceArray<CachedConfig> cache;
+
+  DynamicServerConfigList(String serverNamePrefix, int size, WlsServerConfig serverTemplate,
+                          String clusterName, String domainName, boolean calculatedListenPorts) {
+    this.serverNamePrefix = serverNamePrefix;
+    this.size = Math.max(0, size);
+    this.serverTemplate = serverTemplate;
+    this.clusterName = clusterName;
+    this.domainName = domainName;
+    this.calculatedListenPorts = calculatedListenPorts;
+    this.cache = new AtomicReferenceArray<>(Math.max(1, Math.min(this.size, maxCachedConfigs)));
+  }
+
+  /**
+   * Returns true if this view would derive the same server configurations as one created with the specified values.
+   * @param serverNamePrefix the prefix for dynamic server names
+   * @param size the number of dynamic servers
+   * @param serverTemplate the template from which the servers are derived
+   * @param clusterName the name of the cluster
+   * @param domainName the name of the domain
+   * @param calculatedListenPorts whether listen ports are calculated from the server index
+   */
+  boolean isDerivedFrom(String serverNamePrefix, int size, WlsServerConfig serverTemplate,
+                        String clusterName, String domainName, boolean calculatedListenPorts) {
+    return this.size == Math.max(0, size)
+        && this.calculatedListenPorts == calculatedListenPorts
+        && Objects.equals(this.serverNamePrefix, serverNamePrefix)
+        && Objects.equals(this.clusterName, clusterName)
+        && Objects.equals(this.domainName, domainName)
+        && Objects.equals(this.serverTemplate, serverTemplate);
+  }
+
+  @Override
+  public WlsServerConfig get(int position) {
+    Objects.checkIndex(position, size);
+    final int slot = position % cache.length();
+    final int serverIndex = position + STARTING_SERVER_INDEX;
+    CachedConfig cached = cache.get(slot);
+    if (cached == null || cached.serverIndex() != serverIndex) {
+      cached = new CachedConfig(serverIndex, createServerConfig(serverIndex));
+      cache.set(slot, cached);
+    }
+    return cached.config();
+  }
+
+  private WlsServerConfig createServerConfig(int serverIndex) {
+    return WlsDynamicServerConfig.create(
+        serverNamePrefix + serverIndex, serverIndex, clusterName, domainName, calculatedListenPorts, serverTemplate);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the configuration of the dynamic server with the specified name, without deriving any other servers.
+   * @param serverName the name of a server
+   * @return the server's configuration, or null if the name does not identify a server in this view
+   */
+  WlsServerConfig getServerConfig(String serverName) {
+    if (serverName == null || serverNamePrefix == null || !serverName.startsWith(serverNamePrefix)) {
+      return null;
+    }
+
+    final int serverIndex = parseIndex(serverName.substring(serverNamePrefix.length()));
+    return serverIndex >= STARTING_SERVER_INDEX && serverIndex < size + STARTING_SERVER_INDEX
+        ? get(serverIndex - STARTING_SERVER_INDEX)
+        : null;
+  }
+
+  private record CachedConfig(int serverIndex, WlsServerConfig config) {
+  }
+
+  // Returns the index represented by the specified suffix, or -1 if it is not the canonical form of a positive number.
+  private static int parseIndex(String suffix) {
+    if (suffix.isEmpty() || suffix.length() > 9 || suffix.charAt(0) == '0') {
+      return -1;
+    }
+    int result = 0;
+    for (int i = 0; i < suffix.length(); i++) {
+      final char c = suffix.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
@@ -58,7 +58,7 @@ public class WlsClusterConfig {
    * @return true or false
    */
   public boolean hasNamedServer(String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+    return containsServer(serverName);
   }
 
   /**
@@ -83,12 +83,12 @@ public class WlsClusterConfig {
    * @return The number of servers that are statically configured in this cluster
    */
   @JsonIgnore
-  public synchronized int getConfiguredClusterSize() {
+  public int getConfiguredClusterSize() {
     return servers.size();
   }
 
   @JsonIgnore
-  public synchronized int getClusterSize() {
+  public int getClusterSize() {
     return hasDynamicServers()
         ? getConfiguredClusterSize() + getDynamicClusterSizeOrZero() : getConfiguredClusterSize();
   }
@@ -143,11 +143,15 @@ public class WlsClusterConfig {
    * @return A sorted list of WlsServerConfig containing configurations of servers that belong to
    *     this cluster
    */
-  public synchronized List<WlsServerConfig> getServerConfigs() {
-    int dcsize = dynamicServersConfig == null ? 0 : dynamicServersConfig.getDynamicClusterSize();
-    List<WlsServerConfig> result = new ArrayList<>(dcsize + servers.size());
-    Optional.ofNullable(dynamicServersConfig).map(WlsDynamicServersConfig::getServerConfigs)
-        .ifPresent(result::addAll);
+  public List<WlsServerConfig> getServerConfigs() {
+    final List<WlsServerConfig> dynamicServers = Optional.ofNullable(dynamicServersConfig)
+        .map(WlsDynamicServersConfig::getServerConfigs).orElse(List.of());
+    if (servers.isEmpty() && dynamicServers instanceof DynamicServerConfigList) {
+      return dynamicServers;  // already immutable and in order
+    }
+
+    List<WlsServerConfig> result = new ArrayList<>(dynamicServers.size() + servers.size());
+    result.addAll(dynamicServers);
     result.addAll(servers);
     result.sort(Comparator.comparing((WlsServerConfig sc) -> OperatorUtils.getSortingString(sc.getName())));
     return result;
@@ -162,7 +166,7 @@ public class WlsClusterConfig {
    *
    * @return True if the cluster contains any statically configured servers
    */
-  public synchronized boolean hasStaticServers() {
+  public boolean hasStaticServers() {
     return !servers.isEmpty();
   }
 
@@ -204,7 +208,8 @@ public class WlsClusterConfig {
    * @return True if the cluster contains a server with the given server name
    */
   boolean containsServer(@Nonnull String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+    return getServers().stream().anyMatch(c -> serverName.equals(c.getName()))
+        || Optional.ofNullable(dynamicServersConfig).map(c -> c.getServerConfig(serverName)).isPresent();
   }
 
   @Override
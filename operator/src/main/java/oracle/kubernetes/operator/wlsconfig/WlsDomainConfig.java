@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
@@ -119,7 +119,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
     Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
     for (WlsClusterConfig clusterConfig : configuredClusters) {
       clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
@@ -137,7 +137,7 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsServerConfig, keyed by name, for each server statically configured the WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
+  public Map<String, WlsServerConfig> getServerConfigs() {
     Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
     for (WlsServerConfig serverConfig : servers) {
       serverConfigs.put(serverConfig.getName(), serverConfig);
@@ -181,7 +181,7 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
+  public WlsClusterConfig getClusterConfig(String clusterName) {
     WlsClusterConfig result = null;
     if (clusterName != null) {
       for (WlsClusterConfig clusterConfig : configuredClusters) {
@@ -206,7 +206,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
+  public WlsServerConfig getServerConfig(String serverName) {
     WlsServerConfig result = null;
     if (serverName != null && servers != null) {
       for (WlsServerConfig serverConfig : servers) {
@@ -225,7 +225,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @param clusterName cluster name to be checked
    * @return True if the WebLogic domain contains a cluster with the given cluster name
    */
-  public synchronized boolean containsCluster(String clusterName) {
+  public boolean containsCluster(String clusterName) {
     if (clusterName != null) {
       for (WlsClusterConfig clusterConfig : configuredClusters) {
         if (clusterConfig.getClusterName().equals(clusterName)) {
@@ -244,7 +244,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @param serverName server name to be checked
    * @return True if the WebLogic domain contains a server with the given server name
    */
-  public synchronized boolean containsServer(String serverName) {
+  public boolean containsServer(String serverName) {
     if (!isNullOrEmpty(serverName)) {
       return getServers().stream().anyMatch(s -> serverName.equals(s.getName()))
           || getConfiguredClusters().stream().anyMatch(c -> c.containsServer(serverName));
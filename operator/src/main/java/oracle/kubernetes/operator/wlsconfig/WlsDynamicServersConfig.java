@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
@@ -188,25 +188,37 @@ public class WlsDynamicServersConfig {
   }
 
   /**
-   * Generate the Dynamic Server configurations.
+   * Generate the Dynamic Server configurations. The configurations are not created here; they are derived
+   * from the template as each server is requested. Repeating the call with unchanged values keeps the
+   * existing configurations.
    * @param serverTemplate name of the dynamic server template
    * @param clusterName name of the cluster
    * @param domainName name of the domain
    */
   public void generateDynamicServerConfigs(
       WlsServerConfig serverTemplate, String clusterName, String domainName) {
-    List<String> dynamicServerNames = generateDynamicServerNames();
-    serverConfigs =
-        createServerConfigsFromTemplate(
-            dynamicServerNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
+    final int size = Optional.ofNullable(dynamicClusterSize).orElse(0);
+    if (!(serverConfigs instanceof DynamicServerConfigList list)
+          || !list.isDerivedFrom(serverNamePrefix, size, serverTemplate, clusterName, domainName,
+              calculatedListenPorts)) {
+      serverConfigs = new DynamicServerConfigList(
+          serverNamePrefix, size, serverTemplate, clusterName, domainName, calculatedListenPorts);
+    }
   }
 
-  private List<String> generateDynamicServerNames() {
-    List<String> serverNames = new ArrayList<>();
-    for (int index = 1; index <= dynamicClusterSize; index++) {
-      serverNames.add(serverNamePrefix + index);
+  /**
+   * Returns the configuration of the dynamic server with the specified name.
+   * @param serverName the name of a server
+   * @return the server configuration, or null if there is no such dynamic server
+   */
+  WlsServerConfig getServerConfig(String serverName) {
+    if (serverConfigs instanceof DynamicServerConfigList list) {
+      return list.getServerConfig(serverName);
     }
-    return serverNames;
+    return Optional.ofNullable(serverConfigs).orElse(List.of()).stream()
+        .filter(c -> c.getName().equals(serverName))
+        .findFirst()
+        .orElse(null);
   }
 
   @Override
@@ -13,6 +13,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -38,6 +39,7 @@ public final class Fiber implements Runnable {
   private final Packet packet;
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
   private final Queue<String> breadcrumbs = new ConcurrentLinkedQueue<>();
+  private final Queue<Runnable> cancelActions = new ConcurrentLinkedQueue<>();
 
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet) {
     this(fiberExecutor, stepline, packet, null);
@@ -77,6 +79,26 @@ public final class Fiber implements Runnable {
     return CURRENT_FIBER.get();
   }
 
+  /**
+   * Runs the specified action on the current thread as part of the specified fiber, so that any steps it invokes
+   * record their breadcrumbs in, and stop when cancelled with, that fiber.
+   * @param fiber the fiber, which may be null
+   * @param action the action to run
+   */
+  static <T> T runAsPartOf(Fiber fiber, Supplier<T> action) {
+    final Fiber oldFiber = CURRENT_FIBER.get();
+    CURRENT_FIBER.set(fiber);
+    try {
+      return action.get();
+    } finally {
+      if (oldFiber == null) {
+        CURRENT_FIBER.remove();
+      } else {
+        CURRENT_FIBER.set(oldFiber);
+      }
+    }
+  }
+
   void addBreadcrumb(Step step) {
     addBreadcrumb(step.getResourceName());
   }
@@ -196,6 +218,27 @@ public final class Fiber implements Runnable {
   public void cancel() {
     if (!isCancelled.getAndSet(true)) {
       addBreadcrumb("[cancelled]");
+      runCancelActions();
+    }
+  }
+
+  /**
+   * Registers an action to run when this fiber is cancelled, so that processing blocked on its behalf can stop.
+   * If the fiber has already been cancelled, the action runs at once.
+   * @param action the action to run
+   * @return a cancellable which withdraws the action
+   */
+  public Cancellable whenCancelled(Runnable action) {
+    cancelActions.add(action);
+    if (isCancelled()) {
+      runCancelActions();
+    }
+    return () -> cancelActions.remove(action);
+  }
+
+  private void runCancelActions() {
+    for (Runnable action = cancelActions.poll(); action != null; action = cancelActions.poll()) {
+      action.run();
     }
   }
 
@@ -8,6 +8,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
@@ -317,7 +322,7 @@ public abstract class Step {
 
       Packet sapPacket = sap.packet();
       Result r = sap.step().doStepNext(sapPacket);
-      Throwable t = Optional.ofNullable(sapPacket).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
+      Throwable t = getThrowable(sapPacket);
       if (t != null) {
         return doTerminate(t, packet);
       }
@@ -327,6 +332,87 @@ public abstract class Step {
       }
     }
 
+    return doJoin(step, packet, fiber, requeue, duration);
+  }
+
+  /**
+   * Invokes a set of steps, running up to the specified number of them at a time on separate threads,
+   * and then conditionally continues to invoke a given step, as with
+   * {@link #doForkJoin(Step, Packet, Collection)}. If the maximum concurrency is less than two,
+   * the steps are invoked one after another on the current thread.
+   *
+   * @param step Step to invoke conditionally after the set of steps are invoked
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting
+   * @param maxConcurrency the maximum number of the steps to run at the same time
+   */
+  protected final Result doForkJoin(
+      Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails, int maxConcurrency) {
+    if (maxConcurrency < 2 || startDetails.size() < 2) {
+      return doForkJoin(step, packet, startDetails);
+    }
+
+    Fiber fiber = Fiber.getCurrentIfSet();
+    if (LOGGER.isFinerEnabled() && fiber != null) {
+      fiber.addBreadcrumb("[forkJoin: " + startDetails.size() + " by " + maxConcurrency + "]");
+    }
+
+    final Semaphore permits = new Semaphore(maxConcurrency);
+    final List<Future<Result>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newThreadPerTaskExecutor(ThreadFactorySingleton.getInstance())) {
+      for (Fiber.StepAndPacket sap : startDetails) {
+        permits.acquire();
+        results.add(executor.submit(() -> runWithPermit(fiber, sap, permits)));
+      }
+    } catch (InterruptedException e) {
+      return doTerminate(e, packet);
+    }
+
+    boolean requeue = false;
+    Duration duration = null;
+    for (Future<Result> future : results) {
+      Result r = getResult(future);
+      if (r == null) {
+        return doTerminate(getFailure(future), packet);
+      }
+      if (r.isRequeue()) {
+        requeue = true;
+        duration = minDuration(duration, r.getRequeueAfter());
+      }
+    }
+    for (Fiber.StepAndPacket sap : startDetails) {
+      Throwable t = getThrowable(sap.packet());
+      if (t != null) {
+        return doTerminate(t, packet);
+      }
+    }
+
+    return doJoin(step, packet, fiber, requeue, duration);
+  }
+
+  private static Result runWithPermit(Fiber fiber, Fiber.StepAndPacket sap, Semaphore permits) {
+    try {
+      return Optional.ofNullable(Fiber.runAsPartOf(fiber, () -> sap.step().doStepNext(sap.packet())))
+          .orElse(new Result(false));
+    } finally {
+      permits.release();
+    }
+  }
+
+  // Returns the result of a completed step, or null if it threw an exception.
+  private static Result getResult(Future<Result> future) {
+    return future.state() == Future.State.SUCCESS ? future.resultNow() : null;
+  }
+
+  private static Throwable getFailure(Future<Result> future) {
+    return future.state() == Future.State.FAILED ? future.exceptionNow() : new CancellationException();
+  }
+
+  private static Throwable getThrowable(Packet packet) {
+    return Optional.ofNullable(packet).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
+  }
+
+  private Result doJoin(Step step, Packet packet, Fiber fiber, boolean requeue, Duration duration) {
     if (requeue) {
       if (LOGGER.isFinerEnabled() && fiber != null) {
         fiber.addBreadcrumb("[forkJoin-requeue: " + duration + "]");
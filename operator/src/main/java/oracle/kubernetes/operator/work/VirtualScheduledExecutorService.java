@@ -4,11 +4,14 @@
 package oracle.kubernetes.operator.work;
 
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.DelayQueue;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -27,12 +30,31 @@ import org.jetbrains.annotations.NotNull;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+/**
+ * A scheduled executor service which runs each task on its own virtual thread. Delayed and periodic tasks wait
+ * in a single delay queue, served by one dispatcher thread, so that a pending task holds no thread; a virtual
+ * thread is started only when the task becomes due. Trigger times are rounded up to a one-millisecond tick, so
+ * that tasks due at about the same time are dispatched together, and cancelled tasks are simply skipped when they
+ * become due, with the queue purged of them only when they make up most of it.
+ */
 public class VirtualScheduledExecutorService implements ScheduledExecutorService {
   private static final int NEW = 0;
   private static final int DONE = 1;
   private static final int CANCELED = 2;
 
+  private static final int NOT_QUEUED = 0;
+  private static final int QUEUED = 1;
+  private static final int CANCELED_IN_QUEUE = 2;
+
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final int MIN_CANCELED_TO_PURGE = 1024;
+
   private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+  private final DelayQueue<MyScheduledFuture<?>> delayQueue = new DelayQueue<>();
+  private final AtomicLong sequencer = new AtomicLong();
+  private final AtomicInteger canceledInQueue = new AtomicInteger();
+  private final AtomicReference<Thread> dispatcher = new AtomicReference<>();
+  private volatile boolean shutdown;
 
   private record Result<V>(V result, Throwable throwable) {
 
@@ -44,19 +66,23 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
     }
   }
 
-  private static class MyScheduledFuture<V> implements ScheduledFuture<V> {
-    private final AtomicLong time;
+  private class MyScheduledFuture<V> implements ScheduledFuture<V> {
+    private final long sequenceNumber = sequencer.getAndIncrement();
+    private final Callable<V> task;
+    // zero for a one-shot task; positive for a fixed rate and negative for a fixed delay, as in ScheduledFutureTask
+    private final long period;
+    private volatile long time;
     private final AtomicInteger status = new AtomicInteger(NEW);
-    private final CountDownLatch latch = new CountDownLatch(1);
-
-    private final AtomicReference<Result<V>> result = new AtomicReference<>(new Result<>(null, null));
-
-    MyScheduledFuture(long triggerTime) {
-      time = new AtomicLong(triggerTime);
-    }
-
-    void setTime(long triggerTime) {
-      time.set(triggerTime);
+    // whether this task waits in the delay queue, and if so, whether it is counted as canceled there
+    private final AtomicInteger queueState = new AtomicInteger(NOT_QUEUED);
+    private volatile Result<V> result = new Result<>(null, null);
+    // created only if a caller waits for the result
+    private final AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+
+    MyScheduledFuture(Callable<V> task, long triggerTime, long period) {
+      this.task = task;
+      this.time = triggerTime;
+      this.period = period;
     }
 
     /**
@@ -68,7 +94,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
      */
     @Override
     public long getDelay(@NotNull TimeUnit unit) {
-      return unit.convert(time.get() - System.nanoTime(), NANOSECONDS);
+      return unit.convert(time - System.nanoTime(), NANOSECONDS);
     }
 
     /**
@@ -110,13 +136,13 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
         return 0;
       }
       if (other instanceof MyScheduledFuture x) {
-        long diff = time.get() - x.time.get();
+        long diff = time - x.time;
         if (diff < 0) {
           return -1;
         } else if (diff > 0) {
           return 1;
         } else {
-          return 1;
+          return (sequenceNumber < x.sequenceNumber) ? -1 : 1;
         }
       }
       long diff = getDelay(NANOSECONDS) - other.getDelay(NANOSECONDS);
@@ -150,32 +176,89 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
       if (status.compareAndSet(NEW, CANCELED)) {
-        latch.countDown();
+        releaseWaiters();
+        if (queueState.compareAndSet(QUEUED, CANCELED_IN_QUEUE)) {
+          onCanceled();
+        }
         return true;
       }
       return false;
     }
 
-    void setCanceled() {
-      status.set(CANCELED);
-    }
-
     void setResult(V result) {
-      this.result.set(new Result<>(result, null));
+      this.result = new Result<>(result, null);
       signalDone();
     }
 
     void setThrowable(Throwable throwable) {
-      this.result.set(new Result<>(null, throwable));
+      this.result = new Result<>(null, throwable);
       signalDone();
     }
 
     private void signalDone() {
       if (status.compareAndSet(NEW, DONE)) {
-        latch.countDown();
+        releaseWaiters();
+      }
+    }
+
+    private void releaseWaiters() {
+      final CountDownLatch waiters = latch.get();
+      if (waiters != null) {
+        waiters.countDown();
+      }
+    }
+
+    // Called by the dispatcher when the task is due.
+    void fire() {
+      if (queueState.getAndSet(NOT_QUEUED) == CANCELED_IN_QUEUE) {
+        canceledInQueue.decrementAndGet();
+      }
+      if (!isCancelled()) {
+        try {
+          executorService.execute(this::run);
+        } catch (RejectedExecutionException e) {
+          cancel(false);
+        }
+      }
+    }
+
+    private void run() {
+      if (period == 0) {
+        runOnce();
+      } else {
+        runPeriodically();
+      }
+    }
+
+    private void runOnce() {
+      try {
+        setResult(task.call());
+      } catch (Throwable t) {
+        setThrowable(t);
       }
     }
 
+    // A failure does not suppress the later executions of a periodic task; only cancellation ends them.
+    private void runPeriodically() {
+      if (isCancelled()) {
+        return;
+      }
+      try {
+        task.call();
+      } catch (Throwable t) {
+        // ignored so that the task continues to run
+      }
+      time = (period > 0) ? time + period : triggerTime(-period, NANOSECONDS);
+      if (!shutdown) {
+        enqueue();
+      }
+    }
+
+    void enqueue() {
+      queueState.set(QUEUED);
+      delayQueue.add(this);
+    }
+
     /**
      * Returns {@code true} if this task was cancelled before it completed
      * normally.
@@ -214,11 +297,10 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
      */
     @Override
     public V get() throws InterruptedException, ExecutionException {
-      latch.await();
-      if (isCancelled()) {
-        throw new CancellationException();
+      if (!isDone()) {
+        getWaiters().await();
       }
-      return result.get().get();
+      return report();
     }
 
     /**
@@ -238,23 +320,82 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
     @Override
     public V get(long timeout, @NotNull TimeUnit unit)
             throws InterruptedException, ExecutionException, TimeoutException {
-      if (latch.await(timeout, unit)) {
-        if (isCancelled()) {
-          throw new CancellationException();
-        }
-        return result.get().get();
-      } else {
+      if (!isDone() && !getWaiters().await(timeout, unit)) {
         throw new TimeoutException();
       }
+      return report();
+    }
+
+    // The status is checked again after the latch is installed, in case the task completed in between.
+    private CountDownLatch getWaiters() {
+      latch.compareAndSet(null, new CountDownLatch(1));
+      final CountDownLatch waiters = latch.get();
+      if (isDone()) {
+        waiters.countDown();
+      }
+      return waiters;
+    }
+
+    private V report() throws ExecutionException {
+      if (isCancelled()) {
+        throw new CancellationException();
+      }
+      return result.get();
     }
   }
 
   private long triggerTime(long delay, TimeUnit unit) {
-    return triggerTime(System.nanoTime(), delay, unit);
+    final long time = System.nanoTime() + unit.toNanos((delay < 0) ? 0 : delay);
+    return Math.ceilDiv(time, TICK_NANOS) * TICK_NANOS;
   }
 
-  private long triggerTime(long startTime, long delay, TimeUnit unit) {
-    return startTime + unit.toNanos((delay < 0) ? 0 : delay);
+  private <V> ScheduledFuture<V> scheduleTask(Callable<V> task, long triggerTime, long period) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    final MyScheduledFuture<V> future = new MyScheduledFuture<>(task, triggerTime, period);
+    future.enqueue();
+    startDispatcherIfNeeded();
+    return future;
+  }
+
+  private void startDispatcherIfNeeded() {
+    if (dispatcher.get() == null) {
+      final Thread thread = Thread.ofPlatform().daemon().name("operator-scheduler").unstarted(this::dispatch);
+      if (dispatcher.compareAndSet(null, thread)) {
+        thread.start();
+      }
+    }
+  }
+
+  // Waits for the earliest task to become due, then dispatches it together with any others already due.
+  private void dispatch() {
+    final List<MyScheduledFuture<?>> due = new ArrayList<>();
+    try {
+      while (!shutdown) {
+        due.add(delayQueue.take());
+        delayQueue.drainTo(due);
+        due.forEach(MyScheduledFuture::fire);
+        due.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void onCanceled() {
+    final int canceled = canceledInQueue.incrementAndGet();
+    if (canceled >= MIN_CANCELED_TO_PURGE && canceled > delayQueue.size() / 2) {
+      canceledInQueue.set(0);
+      delayQueue.removeIf(Future::isCancelled);
+    }
+  }
+
+  /**
+   * Returns the number of delayed and periodic tasks waiting for their next execution.
+   */
+  int getPendingTaskCount() {
+    return delayQueue.size();
   }
 
   /**
@@ -271,23 +412,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @NotNull
   @Override
   public ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
-    MyScheduledFuture<?> future = new MyScheduledFuture<>(triggerTime(delay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(delay);
-        if (!future.isCancelled()) {
-          try {
-            command.run();
-            future.setResult(null);
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
-        }
-      } catch (InterruptedException e) {
-        future.setCanceled();
-      }
-    });
-    return future;
+    return scheduleTask(Executors.callable(command), triggerTime(delay, unit), 0);
   }
 
   /**
@@ -305,22 +430,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @NotNull
   @Override
   public <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
-    MyScheduledFuture<V> future = new MyScheduledFuture<>(triggerTime(delay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(delay);
-        if (!future.isCancelled()) {
-          try {
-            future.setResult(callable.call());
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
-        }
-      } catch (InterruptedException e) {
-        future.setCanceled();
-      }
-    });
-    return future;
+    return scheduleTask(callable, triggerTime(delay, unit), 0);
   }
 
   /**
@@ -331,18 +441,17 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    * {@code initialDelay + 2 * period}, and so on.
    *
    * <p>The sequence of task executions continues indefinitely until
-   * one of the following exceptional completions occur:
+   * one of the following occurs:
    * <ul>
    * <li>The task is {@linkplain Future#cancel explicitly cancelled}
    * via the returned future.
    * <li>The executor terminates, also resulting in task cancellation.
-   * <li>An execution of the task throws an exception.  In this case
-   * calling {@link Future#get() get} on the returned future will throw
-   * {@link ExecutionException}, holding the exception as its cause.
    * </ul>
-   * Subsequent executions are suppressed.  Subsequent calls to
+   * Subsequent executions are then suppressed, and subsequent calls to
    * {@link Future#isDone isDone()} on the returned future will
-   * return {@code true}.
+   * return {@code true}. Unlike {@link java.util.concurrent.ScheduledThreadPoolExecutor},
+   * an execution of the task which throws an exception does not end the
+   * sequence: the exception is discarded and the next execution is scheduled as usual.
    *
    * <p>If any execution of this task takes longer than its period, then
    * subsequent executions may start late, but will not concurrently
@@ -353,8 +462,8 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    * @param period       the period between successive executions
    * @param unit         the time unit of the initialDelay and period parameters
    * @return a ScheduledFuture representing pending completion of the series of repeated tasks.  The future's {@link
-   *         Future#get() get()} method will never return normally, and will throw an exception upon task cancellation
-   *         or abnormal termination of a task execution.
+   *         Future#get() get()} method will never return normally, and will throw an exception upon task
+   *         cancellation.
    * @throws RejectedExecutionException if the task cannot be
    *                                    scheduled for execution
    * @throws NullPointerException       if command or unit is null
@@ -364,29 +473,10 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @Override
   public ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command,
                                                 long initialDelay, long period, @NotNull TimeUnit unit) {
-    MyScheduledFuture<?> future = new MyScheduledFuture<>(triggerTime(initialDelay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(initialDelay);
-        while (!future.isCancelled()) {
-          long begin = System.nanoTime();
-          try {
-            command.run();
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
-          long next = triggerTime(begin, period, unit);
-          future.setTime(next);
-          long delay = System.nanoTime() - next;
-          if (delay > 0) {
-            NANOSECONDS.sleep(delay);
-          }
-        }
-      } catch (InterruptedException e) {
-        future.setCanceled();
-      }
-    });
-    return future;
+    if (period <= 0) {
+      throw new IllegalArgumentException();
+    }
+    return scheduleTask(Executors.callable(command), triggerTime(initialDelay, unit), unit.toNanos(period));
   }
 
   /**
@@ -396,18 +486,17 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    * the next.
    *
    * <p>The sequence of task executions continues indefinitely until
-   * one of the following exceptional completions occur:
+   * one of the following occurs:
    * <ul>
    * <li>The task is {@linkplain Future#cancel explicitly cancelled}
    * via the returned future.
    * <li>The executor terminates, also resulting in task cancellation.
-   * <li>An execution of the task throws an exception.  In this case
-   * calling {@link Future#get() get} on the returned future will throw
-   * {@link ExecutionException}, holding the exception as its cause.
    * </ul>
-   * Subsequent executions are suppressed.  Subsequent calls to
+   * Subsequent executions are then suppressed, and subsequent calls to
    * {@link Future#isDone isDone()} on the returned future will
-   * return {@code true}.
+   * return {@code true}. Unlike {@link java.util.concurrent.ScheduledThreadPoolExecutor},
+   * an execution of the task which throws an exception does not end the
+   * sequence: the exception is discarded and the next execution is scheduled as usual.
    *
    * @param command      the task to execute
    * @param initialDelay the time to delay first execution
@@ -415,8 +504,8 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    *                     execution and the commencement of the next
    * @param unit         the time unit of the initialDelay and delay parameters
    * @return a ScheduledFuture representing pending completion of the series of repeated tasks.  The future's {@link
-   *         Future#get() get()} method will never return normally, and will throw an exception upon task cancellation
-   *         or abnormal termination of a task execution.
+   *         Future#get() get()} method will never return normally, and will throw an exception upon task
+   *         cancellation.
    * @throws RejectedExecutionException if the task cannot be
    *                                    scheduled for execution
    * @throws NullPointerException       if command or unit is null
@@ -426,24 +515,10 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @Override
   public ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command,
                                                    long initialDelay, long delay, @NotNull TimeUnit unit) {
-    MyScheduledFuture<?> future = new MyScheduledFuture<>(triggerTime(initialDelay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(initialDelay);
-        while (!future.isCancelled()) {
-          try {
-            command.run();
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
-          future.setTime(triggerTime(delay, unit));
-          unit.sleep(delay);
-        }
-      } catch (InterruptedException e) {
-        future.setCanceled();
-      }
-    });
-    return future;
+    if (delay <= 0) {
+      throw new IllegalArgumentException();
+    }
+    return scheduleTask(Executors.callable(command), triggerTime(initialDelay, unit), -unit.toNanos(delay));
   }
 
   /**
@@ -465,9 +540,19 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    */
   @Override
   public void shutdown() {
+    stopDispatcher();
     executorService.shutdown();
   }
 
+  // Tasks which are not yet due are cancelled, as with a ScheduledThreadPoolExecutor configured not to execute
+  // existing delayed tasks after shutdown.
+  private void stopDispatcher() {
+    shutdown = true;
+    delayQueue.forEach(future -> future.cancel(false));
+    delayQueue.clear();
+    Optional.ofNullable(dispatcher.get()).ifPresent(Thread::interrupt);
+  }
+
   /**
    * Attempts to stop all actively executing tasks, halts the
    * processing of waiting tasks, and returns a list of the tasks
@@ -494,6 +579,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @NotNull
   @Override
   public List<Runnable> shutdownNow() {
+    stopDispatcher();
     return executorService.shutdownNow();
   }
 
@@ -733,6 +819,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    */
   @Override
   public void close() {
+    stopDispatcher();
     executorService.close();
   }
 
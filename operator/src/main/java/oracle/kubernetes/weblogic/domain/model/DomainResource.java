@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -781,6 +782,28 @@ public class DomainResource implements KubernetesObject, RetryMessageFactory {
     return spec.getConfigOverrideSecrets();
   }
 
+  /**
+   * Returns the names of the Kubernetes secrets whose existence is checked by domain validation.
+   *
+   * @return list of Kubernetes secret names
+   */
+  public List<String> getReferencedSecretNames() {
+    return Stream.concat(
+          Stream.of(getWebLogicCredentialsSecretName(), getOpssWalletPasswordSecret(), getOpssWalletFileSecret(),
+                getRuntimeEncryptionSecret()),
+          Optional.ofNullable(getConfigOverrideSecrets()).stream().flatMap(List::stream))
+        .filter(Objects::nonNull).distinct().toList();
+  }
+
+  /**
+   * Returns the names of the Kubernetes config maps whose existence is checked by domain validation.
+   *
+   * @return list of Kubernetes config map names
+   */
+  public List<String> getReferencedConfigMapNames() {
+    return Stream.of(getWdtConfigMap(), getDomainCreationConfigMap()).filter(Objects::nonNull).distinct().toList();
+  }
+
   /**
    * Returns the model home directory of the domain.
    *
@@ -8,8 +8,10 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -84,6 +86,18 @@ public class DomainStatus {
   @Description("Unique ID of the last failed introspection job.")
   private String failedIntrospectionUid;
 
+  @Description("Position of the domain in the queue of introspections which are waiting for others to finish, "
+      + "when the operator limits the number of concurrent introspections. Absent when no introspection "
+      + "of the domain is waiting.")
+  @Range(minimum = 1)
+  private Integer introspectionQueuePosition;
+
+  @Description("Estimated number of seconds until the waiting introspection of the domain starts, based on "
+      + "the durations of recent introspections. Absent when no introspection of the domain is waiting, "
+      + "or when no introspection has yet finished.")
+  @Range(minimum = 0)
+  private Integer introspectionEstimatedWaitSeconds;
+
   @Description("Status of WebLogic Servers in this domain.")
   @Valid
   // sorted list of ServerStatus
@@ -134,6 +148,8 @@ public class DomainStatus {
     lastFailureTime = that.lastFailureTime;
     replicas = that.replicas;
     failedIntrospectionUid = that.failedIntrospectionUid;
+    introspectionQueuePosition = that.introspectionQueuePosition;
+    introspectionEstimatedWaitSeconds = that.introspectionEstimatedWaitSeconds;
   }
 
   /**
@@ -430,6 +446,31 @@ public class DomainStatus {
     this.failedIntrospectionUid = failedIntrospectionUid;
   }
 
+  /**
+   * Returns the position of the domain in the queue of introspections waiting to start, or null if none is waiting.
+   */
+  public Integer getIntrospectionQueuePosition() {
+    return introspectionQueuePosition;
+  }
+
+  /**
+   * Returns the estimated number of seconds until the waiting introspection of the domain starts, or null
+   * if no introspection is waiting or no estimate is available.
+   */
+  public Integer getIntrospectionEstimatedWaitSeconds() {
+    return introspectionEstimatedWaitSeconds;
+  }
+
+  /**
+   * Records the place of the domain in the queue of introspections waiting to start.
+   * @param position the position of the domain in the queue, or null if its introspection is not waiting
+   * @param estimatedWaitSeconds the estimated number of seconds until the introspection starts, or null
+   */
+  public void setIntrospectionQueue(Integer position, Integer estimatedWaitSeconds) {
+    this.introspectionQueuePosition = position;
+    this.introspectionEstimatedWaitSeconds = estimatedWaitSeconds;
+  }
+
   /**
    * Status of WebLogic Servers in this domain.
    *
@@ -452,10 +493,12 @@ public class DomainStatus {
         return;
       }
 
+      final Map<ServerKey, ServerStatus> oldServers = new HashMap<>();
+      this.servers.forEach(s -> oldServers.putIfAbsent(ServerKey.of(s), s));
       List<ServerStatus> newServers = servers
             .stream()
             .map(ServerStatus::new)
-            .map(this::adjust)
+            .map(s -> adjust(s, oldServers.get(ServerKey.of(s))))
             .sorted(Comparator.naturalOrder())
             .toList();
 
@@ -464,9 +507,8 @@ public class DomainStatus {
     }
   }
 
-  private ServerStatus adjust(ServerStatus server) {
+  private ServerStatus adjust(ServerStatus server, ServerStatus oldServer) {
     if (server.getState() == null) {
-      ServerStatus oldServer = getMatchingServer(server);
       if ((oldServer != null) && (oldServer.getHealth() == null)) {
         return server;
       }
@@ -475,13 +517,10 @@ public class DomainStatus {
     return server;
   }
 
-  private ServerStatus getMatchingServer(ServerStatus server) {
-    return getServers()
-          .stream()
-          .filter(s -> Objects.equals(s.getClusterName(), server.getClusterName()))
-          .filter(s -> Objects.equals(s.getServerName(), server.getServerName()))
-          .findFirst()
-          .orElse(null);
+  private record ServerKey(String clusterName, String serverName) {
+    static ServerKey of(ServerStatus server) {
+      return new ServerKey(server.getClusterName(), server.getServerName());
+    }
   }
 
 
@@ -671,6 +710,8 @@ public class DomainStatus {
         .append("initialFailureTime", initialFailureTime)
         .append("lastFailureTime", lastFailureTime)
         .append("failedIntrospectionUid", failedIntrospectionUid)
+        .append("introspectionQueuePosition", introspectionQueuePosition)
+        .append("introspectionEstimatedWaitSeconds", introspectionEstimatedWaitSeconds)
         .toString();
   }
 
@@ -687,6 +728,8 @@ public class DomainStatus {
         .append(DomainResource.sortList(conditions))
         .append(message)
         .append(failedIntrospectionUid)
+        .append(introspectionQueuePosition)
+        .append(introspectionEstimatedWaitSeconds)
         .toHashCode();
   }
 
@@ -709,6 +752,8 @@ public class DomainStatus {
         .append(DomainResource.sortList(conditions), DomainResource.sortList(rhs.conditions))
         .append(message, rhs.message)
         .append(failedIntrospectionUid, rhs.failedIntrospectionUid)
+        .append(introspectionQueuePosition, rhs.introspectionQueuePosition)
+        .append(introspectionEstimatedWaitSeconds, rhs.introspectionEstimatedWaitSeconds)
         .isEquals();
   }
 
@@ -719,6 +764,8 @@ public class DomainStatus {
         .withBooleanField("rolling", DomainStatus::isRolling)
         .withStringField("failedIntrospectionUid", DomainStatus::getFailedIntrospectionUid)
         .withIntegerField("replicas", DomainStatus::getReplicas)
+        .withIntegerField("introspectionQueuePosition", DomainStatus::getIntrospectionQueuePosition)
+        .withIntegerField("introspectionEstimatedWaitSeconds", DomainStatus::getIntrospectionEstimatedWaitSeconds)
         .withListField("conditions", DomainCondition.getObjectPatch(), DomainStatus::getConditions)
         .withListField("clusters", ClusterStatus.getObjectPatch(), DomainStatus::getClusters)
         .withListField("servers", ServerStatus.getObjectPatch(), DomainStatus::getServers);
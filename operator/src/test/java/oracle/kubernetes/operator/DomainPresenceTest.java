@@ -16,6 +16,7 @@ import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -449,6 +450,20 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(getDomainPresenceInfo(dp, UID1).getServerPod("admin"), equalTo(pod));
   }
 
+  @Test
+  void whenK8sHasOneDomainWithPod_recordedPodIsCompacted() {
+    addDomainResource(UID1, NS);
+    V1Pod pod = createPodResource(UID1, NS, "admin");
+    pod.getMetadata().addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubelet"));
+    testSupport.defineResources(pod);
+    dp.domains.computeIfAbsent(NS, k -> new ConcurrentHashMap<>()).put(UID1, info);
+
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(getDomainPresenceInfo(dp, UID1).getServerPod("admin").getMetadata().getManagedFields(), nullValue());
+  }
+
   @Test
   void whenK8sDomainWithMoreThanCallRequestLimitNumberOfPods_recordPodsPresence() {
     addDomainResource(UID1, NS);
@@ -26,6 +26,7 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.custom.IntOrString;
 import io.kubernetes.client.openapi.ApiException;
@@ -43,6 +44,8 @@ import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1LabelSelector;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimStatus;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
@@ -117,7 +120,6 @@ import static oracle.kubernetes.common.logging.MessageKeys.WATCH_CLUSTER_DELETED
 import static oracle.kubernetes.common.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
-import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.DomainSourceType.FROM_MODEL;
 import static oracle.kubernetes.operator.DomainSourceType.IMAGE;
@@ -132,6 +134,7 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.INTROSPE
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_BAD_REQUEST;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTER_OBSERVED_GENERATION_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
@@ -160,14 +163,13 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SECRET;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
-import static oracle.kubernetes.operator.helpers.SecretHelper.PASSWORD_KEY;
-import static oracle.kubernetes.operator.helpers.SecretHelper.USERNAME_KEY;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIGMAP_NAME_SUFFIX;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIG_DATA_NAME;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIGMAP_NAME_SUFFIX;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIG_DATA_NAME;
 import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.OK_RESPONSE;
 import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.createExpectedRequest;
+import static oracle.kubernetes.operator.tuning.TuningParameters.HOT_STANDBY_ENABLED;
 import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.AVAILABLE;
@@ -187,6 +189,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -386,6 +389,79 @@ class DomainProcessorTest {
     assertThat(testSupport.getNumItemsRun(), equalTo(0));
   }
 
+  @Test
+  void whenOperatorIsStandingBy_dontRunMakeRight() throws NoSuchFieldException {
+    defineStandbyOperator();
+
+    processor.createMakeRightOperation(newInfo).execute();
+
+    assertThat(testSupport.getNumItemsRun(), equalTo(0));
+  }
+
+  private void defineStandbyOperator() throws NoSuchFieldException {
+    TuningParametersStub.setParameter(HOT_STANDBY_ENABLED, "true");
+    mementos.add(StaticStubSupport.install(OperatorLeadership.class, "instance", new OperatorLeadership("standby")));
+  }
+
+  @Test
+  void whenOperatorIsStandingBy_dontUpdateStatusForPersistentVolumeClaim() throws NoSuchFieldException {
+    defineStandbyOperator();
+
+    processor.updateDomainStatus(
+        new V1PersistentVolumeClaim().metadata(new V1ObjectMeta().namespace(NS).name("pvc"))
+            .status(new V1PersistentVolumeClaimStatus().phase("Pending")), newInfo);
+
+    assertThat(testSupport.getNumItemsRun(), equalTo(0));
+  }
+
+  @Test
+  void whenOperatorIsStandingBy_dontRecreateDeletedScriptConfigMap() throws NoSuchFieldException {
+    defineStandbyOperator();
+
+    processor.dispatchConfigMapWatch(new Response<>("DELETED", new V1ConfigMap().metadata(
+        new V1ObjectMeta().namespace(NS).name(SCRIPT_CONFIG_MAP_NAME).putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"))));
+
+    assertThat(testSupport.getNumItemsRun(), equalTo(0));
+  }
+
+  @Test
+  void whenOperatorIsStandingBy_cacheNewDomain() throws NoSuchFieldException {
+    defineStandbyOperator();
+
+    processor.createMakeRightOperation(newInfo).execute();
+
+    assertThat(processor.getExistingDomainPresenceInfo(NS, UID), sameInstance(newInfo));
+  }
+
+  @Test
+  void whenOperatorIsStandingBy_updateCachedDomain() throws NoSuchFieldException {
+    defineStandbyOperator();
+    processor.registerDomainPresenceInfo(originalInfo);
+
+    processor.createMakeRightOperation(newInfo).execute();
+
+    assertThat(processor.getExistingDomainPresenceInfo(NS, UID).getDomain(), sameInstance(newDomain));
+  }
+
+  @Test
+  void whenOperatorIsStandingBy_removeDeletedDomainFromCache() throws NoSuchFieldException {
+    defineStandbyOperator();
+    processor.registerDomainPresenceInfo(originalInfo);
+
+    processor.createMakeRightOperation(newInfo).forDeletion().execute();
+
+    assertThat(processor.getExistingDomainPresenceInfo(NS, UID), nullValue());
+  }
+
+  @Test
+  void whenMakeRightCachedDomains_runMakeRight() {
+    processor.registerDomainPresenceInfo(originalInfo);
+
+    processor.makeRightCachedDomains();
+
+    assertThat(testSupport.getNumItemsRun(), greaterThan(0));
+  }
+
   @Test
   void whenCachedDomainIsNewerThanSpecifiedDomain_runMakeRightWhenNotStartedFromEvent() {
     consoleHandlerMemento.ignoreMessage(NOT_STARTING_DOMAINUID_THREAD);
@@ -784,7 +860,6 @@ class DomainProcessorTest {
     newInfo.getReferencedClusters().forEach(testSupport::defineResources);
 
     processor.createMakeRightOperation(newInfo).execute();
-    newInfo.setWebLogicCredentialsSecret(createCredentialsSecret());
     makePodsReady();
     makePodsHealthy();
 
@@ -798,7 +873,6 @@ class DomainProcessorTest {
     domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(MIN_REPLICAS);
     newInfo.getReferencedClusters().forEach(testSupport::defineResources);
     processor.createMakeRightOperation(newInfo).execute();
-    newInfo.setWebLogicCredentialsSecret(createCredentialsSecret());
     newDomain.getOrCreateStatus().addCondition(new DomainCondition(FAILED).withReason(KUBERNETES).withStatus(true));
     makePodsReady();
     makePodsHealthy();
@@ -819,7 +893,6 @@ class DomainProcessorTest {
 
     processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
 
-    newInfo.setWebLogicCredentialsSecret(createCredentialsSecret());
     makePodsReady();
     makePodsHealthy();
 
@@ -854,12 +927,6 @@ class DomainProcessorTest {
           .addConditionsItem(new V1PodCondition().type("Ready").status("True"));
   }
 
-  private V1Secret createCredentialsSecret() {
-    return new V1Secret()
-          .metadata(new V1ObjectMeta().namespace(NS).name(SECRET_NAME))
-          .data(Map.of(USERNAME_KEY, "user".getBytes(),
-                PASSWORD_KEY, "password".getBytes()));
-  }
 
   @SuppressWarnings("HttpUrlsUsage")
   private void defineOKResponse(@Nonnull String serverName, int port) {
@@ -2996,6 +3063,46 @@ class DomainProcessorTest {
     assertThat(logRecords, containsFine(WATCH_CLUSTER));
   }
 
+  @Test
+  void whenDomainReplacedWithoutGenerationChange_cachedInfoReturnsEffectiveSpecForNewDomain() {
+    consoleHandlerMemento.ignoreMessage(NOT_STARTING_DOMAINUID_THREAD);
+    domain.getMetadata().generation(getGeneration(newDomain));
+    processor.registerDomainPresenceInfo(originalInfo);
+    originalInfo.getServer(getManagedServerName(1), CLUSTER);
+    domainConfigurator.withRestartVersion("17");
+
+    processor.createMakeRightOperation(newInfo).execute();
+
+    assertThat(originalInfo.getServer(getManagedServerName(1), CLUSTER).getDomainRestartVersion(), equalTo("17"));
+  }
+
+  @Test
+  void whenMakeRightRereadsChangedDomain_cachedInfoReturnsEffectiveSpecForNewDomain() {
+    processor.registerDomainPresenceInfo(originalInfo);
+    originalInfo.getServer(getManagedServerName(1), CLUSTER);
+    domainConfigurator.withRestartVersion("17");
+
+    processor.createMakeRightOperation(originalInfo).withExplicitRecheck().execute();
+
+    assertThat(originalInfo.getServer(getManagedServerName(1), CLUSTER).getDomainRestartVersion(), equalTo("17"));
+  }
+
+  @Test
+  void whenClusterResourceModified_cachedInfoReturnsEffectiveSpecForNewClusterResource() {
+    configureDomain(domain).configureCluster(originalInfo, CLUSTER);
+    processor.registerDomainPresenceInfo(originalInfo);
+    originalInfo.addClusterResource(createClusterResource(NS, CLUSTER));
+    originalInfo.getReplicaCount(CLUSTER);
+    ClusterResource modifiedCluster = createClusterResource(NS, CLUSTER);
+    modifiedCluster.getMetadata().generation(2L);
+    modifiedCluster.getSpec().withReplicas(4);
+    testSupport.defineResources(modifiedCluster);
+
+    processor.dispatchClusterWatch(new Response<>("MODIFIED", modifiedCluster));
+
+    assertThat(originalInfo.getReplicaCount(CLUSTER), equalTo(4));
+  }
+
   @Test
   void whenClusterResourceModified_noDomainPresenceInfoExists_dontDispatch() {
     consoleHandlerMemento.collectLogMessages(logRecords, WATCH_CLUSTER).withLogLevel(Level.FINE);
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -15,12 +15,17 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 /**
  * Test support to preserve the static maps in DomainProcessorImpl so that tests do not affect one another.
  */
-class DomainProcessorTestSupport implements Memento {
+public class DomainProcessorTestSupport implements Memento {
 
   private final List<Memento> mementos = new ArrayList<>();
   private final Map<String, Map<String, DomainPresenceInfo>> presenceInfoMap = new HashMap<>();
 
-  Memento install() throws NoSuchFieldException {
+  /**
+   * Replaces the static maps in DomainProcessorImpl with empty ones, to be restored by {@link #revert()}.
+   * @return this object
+   * @throws NoSuchFieldException if a map cannot be replaced
+   */
+  public Memento install() throws NoSuchFieldException {
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domains", presenceInfoMap));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domainEventK8SObjects", new HashMap<>()));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", new HashMap<>()));
@@ -899,6 +899,7 @@ abstract class DomainStatusUpdateTestBase {
   @Test
   void whenAtLeastOnePodNotReadyInTime_createFailedCondition() {
     domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    info.invalidateEffectiveConfiguration();
     unreadyPod("server2");
 
     SystemClockTestSupport.increment();
@@ -922,6 +923,7 @@ abstract class DomainStatusUpdateTestBase {
   @Test
   void whenAtLeastOnePodNotReadyInTime_phaseRunningFalse_createFailedCondition() {
     domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    info.invalidateEffectiveConfiguration();
     markPodRunningPhaseFalse("server2");
 
     SystemClockTestSupport.increment();
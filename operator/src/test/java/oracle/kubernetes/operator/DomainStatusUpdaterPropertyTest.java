@@ -0,0 +1,370 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.ClusterCondition;
+import oracle.kubernetes.weblogic.domain.model.ClusterConditionType;
+import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.TO_BE_ROLLED_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.SHUTTING_DOWN_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.STANDBY_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Checks the domain status computed for randomly generated domains against properties which follow directly from
+ * the state of the server pods and the server states reported by WebLogic, and against the status and events
+ * computed by the previous algorithm, kept in {@link LegacyDomainStatusUpdater}. Each scenario is generated from
+ * its own seed, which is reported on failure so that the scenario can be reproduced.
+ */
+class DomainStatusUpdaterPropertyTest {
+
+  private static final int NUM_SCENARIOS = 100;
+  private static final String ADMIN = "admin";
+  private static final String IMAGE = "image:1";
+  private static final String[] STATES
+      = {RUNNING_STATE, RUNNING_STATE, RUNNING_STATE, SHUTDOWN_STATE, STARTING_STATE, STANDBY_STATE, UNKNOWN_STATE};
+
+  @Test
+  void serverStatesAndPodReadiness_followServerPods() {
+    forEachScenario(scenario -> scenario.getServerStatuses().forEach(status -> {
+      assertThat(scenario.describe(status.getServerName()), status.getState(),
+          equalTo(scenario.getExpectedState(status.getServerName())));
+      assertThat(scenario.describe(status.getServerName()), status.getPodReady(),
+          equalTo(scenario.getExpectedPodReady(status.getServerName())));
+    }));
+  }
+
+  @Test
+  void clusterReplicaCounts_followServerPods() {
+    forEachScenario(scenario -> scenario.getClusterStatuses().forEach(status -> {
+      assertThat(scenario.describe(status.getClusterName()), status.getReplicas(),
+          equalTo(scenario.countPods(status.getClusterName(), Objects::nonNull)));
+      assertThat(scenario.describe(status.getClusterName()), status.getReadyReplicas(),
+          equalTo(scenario.countPods(status.getClusterName(), PodHelper::hasReadyStatus)));
+    }));
+  }
+
+  @Test
+  void domainReplicaCount_isSetOnlyWhenPodsAreInOneCluster() {
+    forEachScenario(scenario ->
+        assertThat(scenario.toString(), scenario.getDomainStatus().getReplicas(),
+            equalTo(scenario.getExpectedDomainReplicas())));
+  }
+
+  @Test
+  void clusterAvailability_followsReadyStartedServers() {
+    forEachScenario(scenario -> scenario.getClusterStatuses().forEach(status ->
+        assertThat(scenario.describe(status.getClusterName()), isAvailable(status),
+            equalTo(scenario.isExpectedAvailable(status)))));
+  }
+
+  @Test
+  void domainStatusAndEvents_matchThoseOfPreviousAlgorithm() {
+    for (int seed = 0; seed < NUM_SCENARIOS; seed++) {
+      Scenario scenario = new Scenario(seed, DomainStatusUpdater::createStatusUpdateStep);
+      Scenario oracle = new Scenario(seed, LegacyDomainStatusUpdater::createStatusUpdateStep);
+      scenario.run();
+      oracle.run();
+
+      assertThat(scenario.toString(), scenario.getServerStatuses(), equalTo(oracle.getServerStatuses()));
+      assertThat(scenario.toString(), scenario.getSortedClusterStatuses(), equalTo(oracle.getSortedClusterStatuses()));
+      assertThat(scenario.toString(), scenario.getSortedConditions(), equalTo(oracle.getSortedConditions()));
+      assertThat(scenario.toString(), scenario.getDomainStatus().getReplicas(),
+          equalTo(oracle.getDomainStatus().getReplicas()));
+      assertThat(scenario.toString(), scenario.getDomainStatus().getMessage(),
+          equalTo(oracle.getDomainStatus().getMessage()));
+      assertThat(scenario.toString(), scenario.getDomainStatus().getReason(),
+          equalTo(oracle.getDomainStatus().getReason()));
+      assertThat(scenario.toString(), scenario.getEvents(), equalTo(oracle.getEvents()));
+    }
+  }
+
+  private boolean isAvailable(ClusterStatus status) {
+    return status.getConditions().stream()
+        .filter(c -> c.getType() == ClusterConditionType.AVAILABLE)
+        .map(ClusterCondition::getStatus)
+        .anyMatch("True"::equals);
+  }
+
+  private void forEachScenario(Consumer<Scenario> check) {
+    for (int seed = 0; seed < NUM_SCENARIOS; seed++) {
+      Scenario scenario = new Scenario(seed);
+      scenario.run();
+      check.accept(scenario);
+    }
+  }
+
+  static class Scenario {
+    private final long seed;
+    private final Random random;
+    private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+    private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+    private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    private final WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("domain");
+    private final Map<String, List<String>> clusters = new LinkedHashMap<>();
+    private final List<String> startedServers = new ArrayList<>();
+    private final Map<String, String> serverStates = new HashMap<>();
+    private final Map<String, ServerHealth> serverHealth = new HashMap<>();
+    private final Map<String, Integer> clusterMaxUnavailable = new HashMap<>();
+    private final Map<String, V1Pod> pods = new HashMap<>();
+    private final UnaryOperator<Step> statusUpdateStepFactory;
+
+    Scenario(long seed) {
+      this(seed, DomainStatusUpdater::createStatusUpdateStep);
+    }
+
+    Scenario(long seed, UnaryOperator<Step> statusUpdateStepFactory) {
+      this.seed = seed;
+      this.random = new Random(seed);
+      this.statusUpdateStepFactory = statusUpdateStepFactory;
+    }
+
+    void run() {
+      final List<Memento> mementos = new ArrayList<>();
+      try {
+        mementos.add(TestUtils.silenceOperatorLogger());
+        mementos.add(testSupport.install());
+        mementos.add(TuningParametersStub.install());
+        mementos.add(SystemClockTestSupport.installClock());
+        generate();
+        testSupport.runSteps(statusUpdateStepFactory.apply(new TerminalStep()));
+      } catch (NoSuchFieldException e) {
+        throw new AssertionError(e);
+      } finally {
+        mementos.forEach(Memento::revert);
+      }
+    }
+
+    private void generate() {
+      domain.getSpec().setImage(IMAGE);
+      domain.setStatus(new DomainStatus());
+      configSupport.setAdminServerName(ADMIN);
+      configSupport.addWlsServer(ADMIN);
+      defineServer(ADMIN, null, true);
+      info.setAdminServerName(ADMIN);
+
+      IntStream.range(0, random.nextInt(3)).mapToObj(i -> "ms" + i).forEach(this::addNonClusteredServer);
+      IntStream.range(0, random.nextInt(5)).mapToObj(i -> "cluster" + i).forEach(this::addCluster);
+      if (random.nextInt(10) == 0) {
+        configureDomain().withDefaultServerStartPolicy(
+            random.nextBoolean() ? ServerStartPolicy.ADMIN_ONLY : ServerStartPolicy.NEVER);
+      }
+      if (random.nextInt(10) == 0 && !pods.isEmpty()) {
+        info.setServersToRoll(Map.of(pickServer(), new Fiber.StepAndPacket(null, null)));
+      }
+
+      final WlsDomainConfig domainConfig = configSupport.createDomainConfig();
+      info.setServerStartupInfo(domainConfig.getAllServers().stream()
+          .filter(c -> startedServers.contains(c.getName()))
+          .map(c -> new DomainPresenceInfo.ServerStartupInfo(c, "", null))
+          .toList());
+      pods.forEach(info::setServerPod);
+      info.getReferencedClusters().forEach(testSupport::defineResources);
+      testSupport.defineResources(domain);
+      testSupport.addDomainPresenceInfo(info);
+      testSupport.addToPacket(DOMAIN_TOPOLOGY, domainConfig);
+      testSupport.addToPacket(SERVER_STATE_MAP, serverStates);
+      testSupport.addToPacket(SERVER_HEALTH_MAP, serverHealth);
+    }
+
+    private String pickServer() {
+      final List<String> names = new ArrayList<>(pods.keySet());
+      names.sort(String::compareTo);
+      return names.get(random.nextInt(names.size()));
+    }
+
+    private DomainConfigurator configureDomain() {
+      return DomainConfiguratorFactory.forDomain(domain);
+    }
+
+    private void addNonClusteredServer(String serverName) {
+      configSupport.addWlsServer(serverName);
+      defineServer(serverName, null, random.nextInt(5) > 0);
+    }
+
+    private void addCluster(String clusterName) {
+      final String[] serverNames = IntStream.range(0, 1 + random.nextInt(8))
+          .mapToObj(i -> clusterName + "-ms" + i).toArray(String[]::new);
+      configSupport.addWlsCluster(clusterName, serverNames);
+      clusters.put(clusterName, List.of(serverNames));
+      final int maxUnavailable = 1 + random.nextInt(2);
+      clusterMaxUnavailable.put(clusterName, maxUnavailable);
+      configureDomain().configureCluster(info, clusterName)
+          .withReplicas(random.nextInt(serverNames.length + 2))
+          .withMaxUnavailable(maxUnavailable);
+      for (String serverName : serverNames) {
+        defineServer(serverName, clusterName, random.nextInt(5) > 0);
+      }
+    }
+
+    private void defineServer(String serverName, String clusterName, boolean started) {
+      if (started && !ADMIN.equals(serverName)) {
+        startedServers.add(serverName);
+      }
+      if (random.nextInt(10) < (started ? 9 : 2)) {
+        pods.put(serverName, createPod(serverName, clusterName));
+      }
+      if (random.nextInt(10) < 8) {
+        serverStates.put(serverName, STATES[random.nextInt(STATES.length)]);
+        serverHealth.put(serverName, new ServerHealth().withOverallHealth("health-" + random.nextInt(3)));
+      }
+    }
+
+    private V1Pod createPod(String serverName, String clusterName) {
+      final V1ObjectMeta metadata = new V1ObjectMeta().namespace(NS).name(serverName)
+          .creationTimestamp(SystemClock.now());
+      Optional.ofNullable(clusterName).ifPresent(name -> metadata.putLabelsItem(CLUSTERNAME_LABEL, name));
+      if (random.nextInt(20) == 0) {
+        metadata.setDeletionTimestamp(SystemClock.now());
+      }
+      if (random.nextInt(10) == 0) {
+        metadata.putAnnotationsItem(TO_BE_ROLLED_LABEL, "true");
+      }
+      final boolean running = random.nextInt(10) > 0;
+      return new V1Pod().metadata(metadata)
+          .spec(new V1PodSpec().nodeName("node-" + serverName).addContainersItem(new V1Container().image(IMAGE)))
+          .status(new V1PodStatus().phase(running ? "Running" : "Pending")
+              .addConditionsItem(new V1PodCondition().type("Ready").status(random.nextInt(4) > 0 ? "True" : "False")));
+    }
+
+    DomainStatus getDomainStatus() {
+      return testSupport.<DomainResource>getResourceWithName(DOMAIN, UID).getStatus();
+    }
+
+    List<ServerStatus> getServerStatuses() {
+      return getDomainStatus().getServers();
+    }
+
+    List<ClusterStatus> getClusterStatuses() {
+      return getDomainStatus().getClusters();
+    }
+
+    List<ClusterStatus> getSortedClusterStatuses() {
+      return getClusterStatuses().stream().sorted(Comparator.comparing(ClusterStatus::getClusterName)).toList();
+    }
+
+    List<DomainCondition> getSortedConditions() {
+      return getDomainStatus().getConditions().stream()
+          .sorted(Comparator.comparing(DomainCondition::getType).thenComparing(c -> String.valueOf(c.getReason())))
+          .toList();
+    }
+
+    // Returns the reason and message of each event generated, in a stable order.
+    List<String> getEvents() {
+      return testSupport.<CoreV1Event>getResources(EVENT).stream()
+          .map(e -> e.getReason() + ": " + e.getMessage())
+          .sorted()
+          .toList();
+    }
+
+    String getExpectedState(String serverName) {
+      final V1Pod pod = pods.get(serverName);
+      if (pod == null) {
+        return SHUTDOWN_STATE;
+      } else if (PodHelper.isDeleting(pod)) {
+        return SHUTTING_DOWN_STATE;
+      } else {
+        return serverStates.getOrDefault(serverName, SHUTDOWN_STATE);
+      }
+    }
+
+    String getExpectedPodReady(String serverName) {
+      return Optional.ofNullable(pods.get(serverName)).map(V1Pod::getStatus)
+          .map(s -> "Running".equals(s.getPhase()) ? s.getConditions().get(0).getStatus() : "Unknown")
+          .orElse(null);
+    }
+
+    Integer countPods(String clusterName, Predicate<V1Pod> filter) {
+      final long count = clusters.get(clusterName).stream().map(pods::get)
+          .filter(Objects::nonNull).filter(filter).count();
+      return count == 0 ? null : (int) count;
+    }
+
+    Integer getExpectedDomainReplicas() {
+      final Map<String, Integer> counts = clusters.keySet().stream()
+          .filter(c -> countPods(c, Objects::nonNull) != null)
+          .collect(Collectors.toMap(c -> c, c -> countPods(c, Objects::nonNull)));
+      return counts.size() == 1 ? counts.values().iterator().next() : null;
+    }
+
+    boolean isExpectedAvailable(ClusterStatus status) {
+      final long numReady = clusters.get(status.getClusterName()).stream()
+          .filter(startedServers::contains)
+          .filter(this::isServerReady)
+          .count();
+      return numReady >= Math.max(1,
+          status.getReplicasGoal() - clusterMaxUnavailable.get(status.getClusterName()));
+    }
+
+    private boolean isServerReady(String serverName) {
+      return RUNNING_STATE.equals(getExpectedState(serverName)) && PodHelper.hasReadyStatus(pods.get(serverName));
+    }
+
+    String describe(String name) {
+      return this + ", " + name;
+    }
+
+    @Override
+    public String toString() {
+      return "scenario " + seed;
+    }
+  }
+}
@@ -19,7 +19,7 @@ import oracle.kubernetes.operator.utils.KubernetesExecFactory;
 import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 
-class KubernetesExecFactoryFake implements KubernetesExecFactory {
+public class KubernetesExecFactoryFake implements KubernetesExecFactory {
   private final Map<String, String> responses = new HashMap<>();
   private final Map<String, Integer> exitCodes = new HashMap<>();
 
@@ -0,0 +1,914 @@
+// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.DomainStatusUpdater.DomainStatusFactory;
+import oracle.kubernetes.operator.DomainStatusUpdater.DomainStatusUpdaterContext;
+import oracle.kubernetes.operator.DomainStatusUpdater.DomainStatusUpdaterStep;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.EventHelper.EventData;
+import oracle.kubernetes.operator.helpers.LastKnownStatus;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.OperatorUtils;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.ClusterCondition;
+import oracle.kubernetes.weblogic.domain.model.ClusterConditionType;
+import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
+import oracle.kubernetes.weblogic.domain.model.Configuration;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.Model;
+import oracle.kubernetes.weblogic.domain.model.OnlineUpdate;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+
+import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_NOT_READY;
+import static oracle.kubernetes.common.logging.MessageKeys.NON_CLUSTERED_SERVERS_NOT_READY;
+import static oracle.kubernetes.common.logging.MessageKeys.NO_APPLICATION_SERVERS_READY;
+import static oracle.kubernetes.common.logging.MessageKeys.PODS_FAILED;
+import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_READY;
+import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_RUNNING;
+import static oracle.kubernetes.common.logging.MessageKeys.POD_UNSCHEDULABLE_MESSAGE;
+import static oracle.kubernetes.operator.DomainStatusUpdater.CLUSTER_MESSAGE_LIMIT;
+import static oracle.kubernetes.operator.DomainStatusUpdater.SERVER_DISPLAY_LIMIT;
+import static oracle.kubernetes.operator.KubernetesConstants.MINIMUM_CLUSTER_COUNT;
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.TO_BE_ROLLED_LABEL;
+import static oracle.kubernetes.operator.MIINonDynamicChangesMethod.COMMIT_UPDATE_ONLY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE;
+import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE_RESTART_REQUIRED;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.SHUTTING_DOWN_STATE;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.AVAILABLE;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.COMPLETED;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.CONFIG_CHANGES_PENDING_RESTART;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.ROLLING;
+import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.SERVER_POD;
+
+/**
+ * The status update step as it was before each server's contribution to the domain status was computed only once.
+ * It is kept as an oracle against which DomainStatusUpdaterPropertyTest checks the current implementation.
+ */
+class LegacyDomainStatusUpdater {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private LegacyDomainStatusUpdater() {
+  }
+
+  static Step createStatusUpdateStep(Step next) {
+    return new StatusUpdateStep(next);
+  }
+
+  private static class StatusUpdateStep extends DomainStatusUpdaterStep {
+    boolean endOfProcessing = false;
+
+    StatusUpdateStep(Step next) {
+      super(next);
+    }
+
+    StatusUpdateStep markEndOfProcessing() {
+      this.endOfProcessing = true;
+      return this;
+    }
+
+    @Override
+    DomainStatusUpdaterContext createContext(Packet packet) {
+      return new StatusUpdateContext(packet, this);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (isDomainNotPresent(packet)) {
+        return doNext(packet);
+      }
+      packet.put(ProcessingConstants.SKIP_STATUS_UPDATE, shouldSkipDomainStatusUpdate(packet));
+      if (endOfProcessing) {
+        packet.put(ProcessingConstants.END_OF_PROCESSING, Boolean.TRUE);
+      }
+      return super.apply(packet);
+    }
+
+    private boolean shouldSkipDomainStatusUpdate(Packet packet) {
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      return info.getServerStartupInfo() == null
+          && info.clusterStatusInitialized()
+          && !endOfProcessing;
+    }
+
+    private boolean isDomainNotPresent(Packet packet) {
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      return info == null || info.getDomain() == null;
+    }
+
+    static class StatusUpdateContext extends DomainStatusUpdaterContext {
+      private final WlsDomainConfig config;
+      private final Set<String> expectedRunningServers;
+      private final Map<String, String> serverState;
+      private final Map<String, ServerHealth> serverHealth;
+      private final Packet packet;
+
+      StatusUpdateContext(Packet packet, StatusUpdateStep statusUpdateStep) {
+        super(packet, statusUpdateStep);
+        this.packet = packet;
+        config = packet.getValue(DOMAIN_TOPOLOGY);
+        serverState = packet.getValue(SERVER_STATE_MAP);
+        serverHealth = packet.getValue(SERVER_HEALTH_MAP);
+        expectedRunningServers = getInfo().getExpectedRunningServers();
+      }
+
+      @Override
+      Step createUpdateSteps(Step next) {
+        return shouldSkipUpdate(packet)
+            ? next
+            : super.createUpdateSteps(next);
+      }
+
+      boolean shouldSkipUpdate(Packet packet) {
+        Boolean skip = (Boolean) packet.remove(ProcessingConstants.SKIP_STATUS_UPDATE);
+        return skip != null && skip;
+      }
+
+      @Override
+      void modifyStatus(DomainStatus status) {
+        if (getDomainConfig().isPresent()) {
+          setStatusDetails(status);
+        }
+        if (getDomain() != null) {
+          DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+          updateStatusDetails(status, info);
+          setStatusConditions(status);
+        }
+      }
+
+      @Nonnull
+      @Override
+      List<EventData> createDomainEvents() {
+        List<EventData> list = super.createDomainEvents();
+        Conditions conditions = new Conditions(getNewStatus());
+        conditions.apply();
+
+        list.addAll(getRemovedConditionEvents(conditions));
+        list.addAll(getNewConditionEvents(conditions));
+        list.sort(Comparator.comparing(EventData::getOrdering));
+        return list;
+      }
+
+      @Nonnull
+      private List<EventData> getNewConditionEvents(@Nonnull  Conditions conditions) {
+        return conditions.getNewConditions().stream()
+            .map(this::toEvent)
+            .filter(Objects::nonNull)
+            .toList();
+      }
+
+      private EventData toEvent(DomainCondition newCondition) {
+        return Optional.ofNullable(newCondition.getType().getAddedEvent()).map(EventData::new).orElse(null);
+      }
+
+      private List<EventData> getRemovedConditionEvents(@Nonnull  Conditions conditions) {
+        return conditions.getRemovedConditions().stream()
+            .map(this::toRemovedEvent)
+            .filter(Objects::nonNull)
+            .toList();
+      }
+
+      private EventData toRemovedEvent(DomainCondition removedCondition) {
+        return Optional.ofNullable(removedCondition.getType().getRemovedEvent()).map(EventData::new).orElse(null);
+      }
+
+      private void setStatusConditions(DomainStatus status) {
+        Conditions newConditions = new Conditions(status);
+        newConditions.apply();
+
+        if (isHasFailedPod()) {
+          addFailure(status, new DomainCondition(FAILED).withReason(SERVER_POD)
+              .withFailureInfo(getDomain().getSpec()).withMessage(getPodFailedMessage()));
+        } else if (isPodUnSchedulable()) {
+          if (!alreadyReportedPodUnSchedulableCondition(status)) {
+            addFailure(status, new DomainCondition(FAILED).withReason(SERVER_POD)
+                    .withFailureInfo(getDomain().getSpec()).withMessage(getPodUnSchedulableMessage()));
+          }
+        } else if (hasPodNotRunningInTime()) {
+          addFailure(status, new DomainCondition(FAILED).withReason(SERVER_POD)
+              .withFailureInfo(getDomain().getSpec()).withMessage(getPodNotRunningMessage()));
+        } else if (hasPodNotReadyInTime()) {
+          addFailure(status, new DomainCondition(FAILED).withReason(SERVER_POD)
+              .withFailureInfo(getDomain().getSpec()).withMessage(getPodNotReadyMessage()));
+        } else {
+          status.removeConditionsMatching(c -> c.hasType(FAILED) && SERVER_POD == c.getReason());
+          if (newConditions.allIntendedServersReady() && !stillHasPodPendingRestart(status)) {
+            status.removeConditionsWithType(CONFIG_CHANGES_PENDING_RESTART);
+          }
+        }
+
+        if (miiNondynamicRestartRequired() && isCommitUpdateOnly()) {
+          setOnlineUpdateNeedRestartCondition(status);
+        }
+      }
+
+      private String getPodNotRunningMessage() {
+        return LOGGER.formatMessage(PODS_NOT_RUNNING);
+      }
+
+      private String getPodNotReadyMessage() {
+        return LOGGER.formatMessage(PODS_NOT_READY);
+      }
+
+      private String getPodUnSchedulableMessage() {
+        return LOGGER.formatMessage(POD_UNSCHEDULABLE_MESSAGE);
+      }
+
+      private String getPodFailedMessage() {
+        return LOGGER.formatMessage(PODS_FAILED);
+      }
+
+      class Conditions {
+
+        private final DomainStatus status;
+        private final ClusterCheck[] clusterChecks;
+        private final List<DomainCondition> conditionList = new ArrayList<>();
+        private final DomainStatus oldStatus;
+
+        public Conditions(DomainStatus status) {
+          this.status = status != null ? status : new DomainStatus();
+          this.clusterChecks = createClusterChecks();
+          boolean isCompleted = isProcessingCompleted() && !this.status.hasConditionWithType(FAILED);
+          conditionList.add(new DomainCondition(COMPLETED).withStatus(isCompleted));
+          conditionList.add(createAvailableCondition());
+          if (allIntendedServersReady()) {
+            this.status.removeConditionsWithType(ROLLING);
+          }
+          this.oldStatus = getStatus();
+        }
+
+        void apply() {
+          conditionList.forEach(newCondition -> addCondition(status, newCondition));
+          Arrays.stream(clusterChecks).forEach(ClusterCheck::addClusterConditions);
+        }
+
+        private void addCondition(DomainStatus status, DomainCondition newCondition) {
+          status.addCondition(newCondition);
+        }
+
+        List<DomainCondition> getNewConditions() {
+          return Optional.ofNullable(status).map(DomainStatus::getConditions).orElse(Collections.emptyList())
+              .stream()
+              .filter(c -> "True".equals(c.getStatus()))
+              .filter(c -> oldStatus == null || oldStatus.lacksConditionWith(matchFor(c)))
+              .toList();
+        }
+
+        List<DomainCondition> getRemovedConditions() {
+          return Optional.ofNullable(oldStatus)
+              .map(DomainStatus::getConditions).orElse(Collections.emptyList())
+              .stream()
+              .filter(c -> "True".equals(c.getStatus()))
+              .filter(c -> status == null || status.lacksConditionWith(matchFor(c)))
+              .toList();
+        }
+
+        private boolean failureReasonMatch(DomainCondition c1, DomainCondition c2) {
+          return !c1.getType().equals(FAILED)
+              || (c1.getReason() == c2.getReason() && getMessage(c1).equals(getMessage(c2)));
+        }
+
+        private String getMessage(DomainCondition condition) {
+          return Optional.ofNullable(condition).map(DomainCondition::getMessage).orElse("");
+        }
+
+        Predicate<DomainCondition> matchFor(DomainCondition condition) {
+          return c -> c.getType().equals(condition.getType())
+              && failureReasonMatch(c, condition) && "True".equals(c.getStatus());
+        }
+
+        @Nonnull
+        private ClusterCheck[] createClusterChecks() {
+          return status.getClusters().stream().map(this::createFrom).toArray(ClusterCheck[]::new);
+        }
+
+        private ClusterCheck createFrom(ClusterStatus clusterStatus) {
+          return new ClusterCheck(status, clusterStatus);
+        }
+
+        private boolean isProcessingCompleted() {
+          return isDomainWithNeverStartPolicy() || (!haveTooManyReplicas() && allIntendedServersReady());
+        }
+
+        private boolean isDomainWithNeverStartPolicy() {
+          return getDomain().getSpec().getServerStartPolicy() == ServerStartPolicy.NEVER;
+        }
+
+        private boolean haveTooManyReplicas() {
+          return Arrays.stream(clusterChecks).anyMatch(ClusterCheck::hasTooManyReplicas);
+        }
+
+        private boolean allStartedServersAreComplete() {
+          return expectedRunningServers.stream().allMatch(StatusUpdateContext.this::isServerComplete);
+        }
+
+        private boolean allNonStartedServersAreShutdown() {
+          return getNonStartedServersWithState().stream().allMatch(StatusUpdateContext.this::isShutDown);
+        }
+
+        private List<String> getNonStartedServersWithState() {
+          return serverState.keySet().stream().filter(this::isNonStartedServer).toList();
+        }
+
+        private boolean isNonStartedServer(String serverName) {
+          return !isStartedServer(serverName);
+        }
+
+        private boolean haveServerData() {
+          return StatusUpdateContext.this.serverState != null;
+        }
+
+        private @Nonnull List<String> getNonClusteredServers() {
+          return expectedRunningServers.stream().filter(
+              StatusUpdateContext.this::isNonClusteredServer).toList();
+        }
+
+        private boolean allIntendedServersReady() {
+          return haveServerData()
+              && allStartedServersAreComplete()
+              && allNonStartedServersAreShutdown()
+              && serversMarkedForRoll().isEmpty();
+        }
+
+        private DomainCondition createAvailableCondition() {
+          final List<String> unreadyNonClusteredServers = getUnreadyNonClusteredServers();
+          final List<ClusterCheck> unavailableClusters = getUnavailableClusters();
+
+          if (noApplicationServersReady()) {
+            return createNotAvailableCondition(LOGGER.formatMessage(NO_APPLICATION_SERVERS_READY));
+          } else if (!unreadyNonClusteredServers.isEmpty()) {
+            return createNotAvailableCondition(
+                LOGGER.formatMessage(NON_CLUSTERED_SERVERS_NOT_READY, formatServers(unreadyNonClusteredServers)));
+          } else if (!unavailableClusters.isEmpty()) {
+            return createNotAvailableCondition(formatClusters(unavailableClusters));
+          } else {
+            return new DomainCondition(AVAILABLE).withStatus(true);
+          }
+        }
+
+        private String formatServers(List<String> servers) {
+          return OperatorUtils.joinListGrammaticallyWithLimit(SERVER_DISPLAY_LIMIT, servers);
+        }
+
+        private String formatClusters(List<ClusterCheck> unavailableClusters) {
+          return OperatorUtils.joinListGrammaticallyWithLimit(
+              CLUSTER_MESSAGE_LIMIT, createUnavailableClustersMessage(unavailableClusters));
+        }
+
+        @Nonnull
+        private List<String> createUnavailableClustersMessage(List<ClusterCheck> unavailableClusters) {
+          return unavailableClusters.stream().map(ClusterCheck::createNotReadyMessage).toList();
+        }
+
+        private DomainCondition createNotAvailableCondition(String message) {
+          return new DomainCondition(AVAILABLE).withStatus(false).withMessage(message);
+        }
+
+        private List<String> getUnreadyNonClusteredServers() {
+          return getNonClusteredServers().stream().filter(this::isServerNotReady).toList();
+        }
+
+        private List<ClusterCheck> getUnavailableClusters() {
+          return Arrays.stream(clusterChecks).filter(this::isUnavailable).toList();
+        }
+
+        private boolean isServerNotReady(@Nonnull String serverName) {
+          return !isServerReady(serverName);
+        }
+
+        private boolean isUnavailable(@Nonnull ClusterCheck clusterCheck) {
+          return !clusterCheck.isAvailableOrIntentionallyShutdown();
+        }
+
+        private boolean noApplicationServersReady() {
+          return isAdminOnlyDomain() && getInfo().getAdminServerName() != null
+                  ? isServerNotReady(getInfo().getAdminServerName()) : noManagedServersReady();
+        }
+
+        private boolean noManagedServersReady() {
+          return getServerStartupInfos()
+                  .stream()
+                  .map(DomainPresenceInfo.ServerInfo::getName)
+                  .filter(this::isApplicationServer)
+                  .noneMatch(StatusUpdateContext.this::isServerReady);
+        }
+
+        private Collection<DomainPresenceInfo.ServerStartupInfo> getServerStartupInfos() {
+          return Optional.ofNullable(getInfo().getServerStartupInfo()).orElse(Collections.emptyList());
+        }
+
+        // when the domain start policy is ADMIN_ONLY, the admin server is considered to be an application server.
+        private boolean isApplicationServer(String serverName) {
+          return !isAdminServer(serverName);
+        }
+
+        private boolean isAdminOnlyDomain() {
+          return isAdminOnlyServerStartPolicy()
+                  || isOnlyAdminServerRunningInDomain();
+        }
+
+        private boolean isAdminOnlyServerStartPolicy() {
+          return getDomain().getSpec().getServerStartPolicy() == ServerStartPolicy.ADMIN_ONLY;
+        }
+
+        private boolean isOnlyAdminServerRunningInDomain() {
+          return expectedRunningServers.size() == 1
+                  && expectedRunningServers.contains(getInfo().getAdminServerName());
+        }
+
+        private boolean isAdminServer(String serverName) {
+          return status.getServers().stream()
+              .filter(s -> s.getServerName().equals(serverName))
+              .anyMatch(ServerStatus::isAdminServer);
+        }
+      }
+
+      private class ClusterCheck {
+
+        private final String clusterName;
+        private final int maxReplicaCount;
+        private final int specifiedReplicaCount;
+        private final List<String> startedServers;
+        private final List<String> nonStartedServers;
+        private final ClusterStatus clusterStatus;
+
+        ClusterCheck(DomainStatus domainStatus, ClusterStatus clusterStatus) {
+          this.clusterStatus = clusterStatus;
+          clusterName = clusterStatus.getClusterName();
+          maxReplicaCount = clusterStatus.getMaximumReplicas();
+          specifiedReplicaCount = clusterStatus.getReplicasGoal();
+          startedServers = getStartedServersInCluster(domainStatus, clusterName);
+          nonStartedServers = getNonStartedClusteredServers(domainStatus, clusterName);
+        }
+
+        private List<String> getStartedServersInCluster(DomainStatus domainStatus, String clusterName) {
+          return domainStatus.getServers().stream()
+              .filter(s -> clusterName.equals(s.getClusterName()))
+              .map(ServerStatus::getServerName)
+              .filter(expectedRunningServers::contains)
+              .toList();
+        }
+
+        private List<String> getNonStartedClusteredServers(DomainStatus domainStatus, String clusterName) {
+          return domainStatus.getServers().stream()
+              .filter(s -> clusterName.equals(s.getClusterName()))
+              .map(ServerStatus::getServerName)
+              .filter(name -> !expectedRunningServers.contains(name))
+              .toList();
+        }
+
+        boolean isAvailable() {
+          return sufficientServersReady();
+        }
+
+        boolean isAvailableOrIntentionallyShutdown() {
+          return isClusterIntentionallyShutDown() || sufficientServersReady();
+        }
+
+        private boolean isProcessingCompleted() {
+          return !hasTooManyReplicas() && allIntendedClusterServersReady();
+        }
+
+        boolean hasTooManyReplicas() {
+          return maxReplicaCount > 0 && specifiedReplicaCount > maxReplicaCount;
+        }
+
+        private boolean allIntendedClusterServersReady() {
+          return isClusterIntentionallyShutDown()
+              ? allNonStartedClusterServersAreShutdown()
+              : isClusterStartupCompleted();
+        }
+
+        private boolean isClusterStartupCompleted() {
+          return allStartedClusterServersAreComplete()
+              && allNonStartedClusterServersAreShutdown()
+              && clusteredServersMarkedForRoll().isEmpty();
+        }
+
+        private boolean allStartedClusterServersAreComplete() {
+          return (startedServers.size() == specifiedReplicaCount)
+              && startedServers.stream().allMatch(StatusUpdateContext.this::isServerComplete);
+        }
+
+        private boolean allNonStartedClusterServersAreShutdown() {
+          return nonStartedServers.stream().allMatch(StatusUpdateContext.this::isShutDown);
+        }
+
+        private Set<String> clusteredServersMarkedForRoll() {
+          return serversMarkedForRoll().stream()
+              .filter(this::isServerInThisCluster)
+              .collect(Collectors.toSet());
+        }
+
+        private boolean isServerInThisCluster(String serverName) {
+          return clusterName.equals(getClusterName(serverName));
+        }
+
+        private boolean isClusterIntentionallyShutDown() {
+          return getInfo().getServerStartupInfo() != null && startedServers.isEmpty();
+        }
+
+        private boolean sufficientServersReady() {
+          return numServersReady() >= getSufficientServerCount();
+        }
+
+        private long getSufficientServerCount() {
+          return max(1, MINIMUM_CLUSTER_COUNT, specifiedReplicaCount - maxUnavailable());
+        }
+
+        private int max(Integer... inputs) {
+          return Arrays.stream(inputs).reduce(0, Math::max);
+        }
+
+        private long numServersReady() {
+          return startedServers.stream()
+              .filter(StatusUpdateContext.this::isServerReady)
+              .count();
+        }
+
+        private int maxUnavailable() {
+          return getInfo().getMaxUnavailable(clusterName);
+        }
+
+        void addClusterConditions() {
+          clusterStatus.addCondition(
+              new ClusterCondition(ClusterConditionType.AVAILABLE)
+                  .withStatus(isAvailable()));
+          clusterStatus.addCondition(
+              new ClusterCondition(ClusterConditionType.COMPLETED)
+                  .withStatus(isProcessingCompleted()));
+        }
+
+        private String createNotReadyMessage() {
+          return LOGGER.formatMessage(CLUSTER_NOT_READY, clusterName, getSufficientServerCount(), numServersReady());
+        }
+      }
+
+      private void setStatusDetails(DomainStatus status) {
+        getDomainConfig()
+            .map(c -> new DomainStatusFactory(getInfo(), c, this::isStartedServer))
+            .ifPresent(f -> f.setStatusDetails(status));
+      }
+
+      private void updateStatusDetails(DomainStatus status, DomainPresenceInfo info) {
+        new StatusDetailsUpdate(status, info).updateStatusDetails();
+      }
+
+      private class StatusDetailsUpdate {
+        private final DomainStatus status;
+        private final DomainPresenceInfo info;
+
+        StatusDetailsUpdate(DomainStatus status, DomainPresenceInfo info) {
+          this.info = info;
+          this.status = status;
+        }
+
+        private String getNodeName(String serverName) {
+          return Optional.ofNullable(getInfo().getServerPod(serverName))
+              .map(V1Pod::getSpec)
+              .map(V1PodSpec::getNodeName)
+              .orElse(null);
+        }
+
+        private void updateServerStatus(ServerStatus status) {
+          final String serverName = status.getServerName();
+          status.withState(getRunningState(serverName));
+          status.withHealth(serverHealth == null ? null : serverHealth.get(serverName));
+          status.withNodeName(getNodeName(serverName));
+          Optional.ofNullable(info).map(i -> i.getServerPod(serverName))
+              .map(V1Pod::getStatus)
+              .map(s -> status.withPodReady(getReadyStatus(s)).withPodPhase(s.getPhase()));
+        }
+
+        private String getReadyStatus(V1PodStatus podStatus) {
+          return Optional.ofNullable(podStatus)
+              .filter(this::isPhaseRunning)
+              .map(V1PodStatus::getConditions)
+              .orElse(Collections.emptyList())
+              .stream().filter(this::isReadyCondition)
+              .map(V1PodCondition::getStatus)
+              .findFirst().orElse("Unknown");
+        }
+
+        private boolean isReadyCondition(Object condition) {
+          return (condition instanceof V1PodCondition podCondition)
+              && "Ready".equals(podCondition.getType());
+        }
+
+        private boolean isPhaseRunning(V1PodStatus status) {
+          return "Running".equals(status.getPhase());
+        }
+
+        private void updateClusterStatus(ClusterStatus clusterStatus) {
+          final String clusterName = clusterStatus.getClusterName();
+          clusterStatus
+              .withReplicas(getNumReplicas(clusterName, this::hasServerPod))
+              .withReadyReplicas(getNumReplicas(clusterName, this::hasReadyServerPod));
+        }
+
+        @Nullable
+        private Integer getNumReplicas(String clusterName, Predicate<String> serverFilter) {
+          return Optional.ofNullable(getClusterCounts(serverFilter).get(clusterName)).map(Long::intValue).orElse(null);
+        }
+
+        Integer getReplicaSetting() {
+          Collection<Long> values = getClusterCounts(this::hasServerPod).values();
+          if (values.size() == 1) {
+            return values.iterator().next().intValue();
+          } else {
+            return null;
+          }
+        }
+
+        private Map<String, Long> getClusterCounts(Predicate<String> serverFilter) {
+          return status.getServers().stream()
+              .map(ServerStatus::getServerName)
+              .filter(serverFilter)
+              .map(this::getClusterNameFromPod)
+              .filter(Objects::nonNull)
+              .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        }
+
+        private boolean hasServerPod(String serverName) {
+          return Optional.ofNullable(getInfo().getServerPod(serverName)).isPresent();
+        }
+
+        private boolean hasReadyServerPod(String serverName) {
+          return Optional.ofNullable(getInfo().getServerPod(serverName)).filter(PodHelper::hasReadyStatus).isPresent();
+        }
+
+        private String getClusterNameFromPod(String serverName) {
+          return Optional.ofNullable(getInfo().getServerPod(serverName))
+              .map(V1Pod::getMetadata)
+              .map(V1ObjectMeta::getLabels)
+              .map(l -> l.get(CLUSTERNAME_LABEL))
+              .orElse(null);
+        }
+
+        private void updateStatusDetails() {
+          status.getServers().forEach(this::updateServerStatus);
+          status.getClusters().forEach(this::updateClusterStatus);
+          status.setReplicas(getReplicaSetting());
+        }
+      }
+
+      private boolean miiNondynamicRestartRequired() {
+        return MII_DYNAMIC_UPDATE_RESTART_REQUIRED.equals(packet.get(MII_DYNAMIC_UPDATE));
+      }
+
+      private boolean isCommitUpdateOnly() {
+        return getMiiNonDynamicChangesMethod() == COMMIT_UPDATE_ONLY;
+      }
+
+      private MIINonDynamicChangesMethod getMiiNonDynamicChangesMethod() {
+        return DomainPresenceInfo.fromPacket(packet)
+            .map(DomainPresenceInfo::getDomain)
+            .map(DomainResource::getSpec)
+            .map(DomainSpec::getConfiguration)
+            .map(Configuration::getModel)
+            .map(Model::getOnlineUpdate)
+            .map(OnlineUpdate::getOnNonDynamicChanges)
+            .orElse(MIINonDynamicChangesMethod.COMMIT_UPDATE_ONLY);
+      }
+
+      private void setOnlineUpdateNeedRestartCondition(DomainStatus status) {
+        String dynamicUpdateRollBackFile = Optional.ofNullable((String) packet.get(
+                ProcessingConstants.MII_DYNAMIC_UPDATE_WDTROLLBACKFILE))
+            .orElse("");
+        String message = String.format("%s%n%s",
+            LOGGER.formatMessage(MessageKeys.MII_DOMAIN_UPDATED_POD_RESTART_REQUIRED), dynamicUpdateRollBackFile);
+        updateDomainConditions(status, message);
+      }
+
+      private void updateDomainConditions(DomainStatus status, String message) {
+        DomainCondition onlineUpdateCondition
+            = new DomainCondition(CONFIG_CHANGES_PENDING_RESTART).withMessage(message).withStatus(true);
+
+        status.removeConditionsWithType(CONFIG_CHANGES_PENDING_RESTART);
+        status.addCondition(onlineUpdateCondition);
+      }
+
+      private boolean stillHasPodPendingRestart(DomainStatus status) {
+        return status.getServers().stream()
+            .map(this::getServerPod)
+            .map(this::getLabels)
+            .anyMatch(m -> m.containsKey(LabelConstants.MII_UPDATED_RESTART_REQUIRED_LABEL));
+      }
+
+      private boolean alreadyReportedPodUnSchedulableCondition(DomainStatus status) {
+        return status.getConditions().stream().anyMatch(
+                condition -> getPodUnSchedulableMessage().equals(condition.getMessage()));
+      }
+
+      private V1Pod getServerPod(ServerStatus serverStatus) {
+        return getInfo().getServerPod(serverStatus.getServerName());
+      }
+
+      private Map<String, String> getLabels(V1Pod pod) {
+        return Optional.ofNullable(pod)
+            .map(V1Pod::getMetadata)
+            .map(V1ObjectMeta::getLabels)
+            .orElse(Collections.emptyMap());
+      }
+
+      private boolean isNonClusteredServer(String serverName) {
+        return getClusterName(serverName) == null;
+      }
+
+      private Optional<WlsDomainConfig> getDomainConfig() {
+        return Optional.ofNullable(config);
+      }
+
+      private boolean isServerReady(@Nonnull String serverName) {
+        return RUNNING_STATE.equals(getRunningState(serverName))
+              && PodHelper.hasReadyStatus(getInfo().getServerPod(serverName));
+      }
+
+      // A server is complete if it is ready, is in the WLS running state and
+      // does not need to roll to accommodate changes to the domain.
+      private boolean isServerComplete(@Nonnull String serverName) {
+        return isServerReady(serverName)
+            && isNotMarkedForRoll(serverName);
+      }
+
+      // returns true if the server pod does not have an annotation indicating that it needs to be rolled
+      private boolean isNotMarkedForRoll(String serverName) {
+        return Optional.ofNullable(getInfo().getServerPod(serverName))
+            .map(V1Pod::getMetadata)
+            .map(V1ObjectMeta::getAnnotations)
+            .map(Map::keySet).orElse(Collections.emptySet()).stream()
+            .noneMatch(k -> k.equals(TO_BE_ROLLED_LABEL));
+      }
+
+      private boolean isShutDown(@Nonnull String serverName) {
+        return SHUTDOWN_STATE.equals(getRunningState(serverName));
+      }
+
+      private Set<String> serversMarkedForRoll() {
+        return DomainPresenceInfo.fromPacket(packet)
+            .map(DomainPresenceInfo::getServersToRoll)
+            .map(Map::keySet)
+            .orElse(Collections.emptySet());
+      }
+
+      private boolean isHasFailedPod() {
+        return getInfo().getServerPodsNotBeingDeleted().anyMatch(PodHelper::isFailed);
+      }
+
+      private boolean hasPodNotReadyInTime() {
+        return getInfo().getServerPodsNotBeingDeleted().anyMatch(this::isNotReadyInTime);
+      }
+
+      private boolean isNotReadyInTime(V1Pod pod) {
+        return !PodHelper.isReady(pod) && hasBeenUnreadyExceededWaitTime(pod);
+      }
+
+      private boolean hasPodNotRunningInTime() {
+        return getInfo().getServerPodsNotBeingDeleted().anyMatch(this::isNotRunningInTime);
+      }
+
+      private boolean isPodUnSchedulable() {
+        return getInfo().getServerPodsNotBeingDeleted().anyMatch(this::isPodUnSchedulable);
+      }
+
+      private boolean isPodUnSchedulable(V1Pod pod) {
+        return PodHelper.isPending(pod) && PodHelper.hasUnSchedulableCondition(pod);
+      }
+
+      private boolean isNotRunningInTime(V1Pod pod) {
+        return PodHelper.isPending(pod) && hasBeenPendingExceededWaitTime(pod);
+      }
+
+      private boolean hasBeenUnreadyExceededWaitTime(V1Pod pod) {
+        OffsetDateTime creationTime = getCreationTimestamp(pod);
+        return SystemClock.now()
+            .isAfter(getLater(creationTime, getReadyConditionLastTransitTimestamp(pod, creationTime))
+                .plusSeconds(getMaxReadyWaitTime(pod)));
+      }
+
+      private boolean hasBeenPendingExceededWaitTime(V1Pod pod) {
+        OffsetDateTime creationTime = getCreationTimestamp(pod);
+        return SystemClock.now()
+            .isAfter(getLater(creationTime, getReadyConditionLastTransitTimestamp(pod, creationTime))
+                .plusSeconds(getMaxPendingWaitTime(pod)));
+      }
+
+      private OffsetDateTime getLater(OffsetDateTime time1, OffsetDateTime time2) {
+        return time1.isAfter(time2) ? time1 : time2;
+      }
+
+      private OffsetDateTime getCreationTimestamp(V1Pod pod) {
+        return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getCreationTimestamp)
+            .orElse(SystemClock.now().minusNanos(10L));
+      }
+
+      private OffsetDateTime getReadyConditionLastTransitTimestamp(V1Pod pod, OffsetDateTime creationTime) {
+        return Optional.ofNullable(PodHelper.getReadyCondition(pod)).map(V1PodCondition::getLastTransitionTime)
+            .orElse(creationTime);
+      }
+
+      private long getMaxReadyWaitTime(V1Pod pod) {
+        return Optional.ofNullable(getInfo().getDomain())
+            .map(d -> getInfo().getServer(getServerName(pod), getClusterNameFromPod(pod)))
+            .map(EffectiveServerSpec::getMaximumReadyWaitTimeSeconds)
+            .orElse(TuningParameters.getInstance().getMaxReadyWaitTimeSeconds());
+      }
+
+      private long getMaxPendingWaitTime(V1Pod pod) {
+        return Optional.ofNullable(getInfo().getDomain())
+            .map(d -> getInfo().getServer(getServerName(pod), getClusterNameFromPod(pod)))
+            .map(EffectiveServerSpec::getMaximumPendingWaitTimeSeconds)
+            .orElse(TuningParameters.getInstance().getMaxPendingWaitTimeSeconds());
+      }
+
+      private String getServerName(V1Pod pod) {
+        return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getName).orElse("");
+      }
+
+      private String getRunningState(String serverName) {
+        if (!getInfo().getServerNames().contains(serverName)) {
+          return SHUTDOWN_STATE;
+        } else if (isDeleting(serverName)) {
+          return SHUTTING_DOWN_STATE;
+        } else {
+          return Optional.ofNullable(getInfo().getLastKnownServerStatus(serverName))
+              .map(LastKnownStatus::getStatus).orElse(getStateFromPacket(serverName));
+        }
+      }
+
+      private String getStateFromPacket(String serverName) {
+        return Optional.ofNullable(serverState).map(m -> m.get(serverName)).orElse(null);
+      }
+
+      private boolean isDeleting(String serverName) {
+        return Optional.ofNullable(getInfo().getServerPod(serverName)).map(PodHelper::isDeleting).orElse(false);
+      }
+
+      private boolean isStartedServer(String serverName) {
+        return expectedRunningServers.contains(serverName);
+      }
+
+      private String getClusterName(String serverName) {
+        return getDomainConfig()
+            .map(c -> c.getClusterName(serverName))
+            .orElse(getClusterNameFromPod(serverName));
+      }
+
+      private String getClusterNameFromPod(String serverName) {
+        return getClusterNameFromPod(getInfo().getServerPod(serverName));
+      }
+
+      private String getClusterNameFromPod(V1Pod pod) {
+        return Optional.ofNullable(pod)
+            .map(V1Pod::getMetadata)
+            .map(V1ObjectMeta::getLabels)
+            .map(l -> l.get(CLUSTERNAME_LABEL))
+            .orElse(null);
+      }
+    }
+  }
+}
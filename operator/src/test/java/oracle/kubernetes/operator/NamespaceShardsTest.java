@@ -0,0 +1,393 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import com.meterware.simplestub.Stub;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.HelmAccessStub;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_CONFLICT;
+import static oracle.kubernetes.operator.NamespaceShards.CLAIMED_NAMESPACES_ANNOTATION;
+import static oracle.kubernetes.operator.NamespaceShards.DOMAIN_COUNT_ANNOTATION;
+import static oracle.kubernetes.operator.Namespaces.SELECTION_STRATEGY_KEY;
+import static oracle.kubernetes.operator.helpers.HelmAccess.OPERATOR_DOMAIN_NAMESPACES;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_SHARDING_ENABLED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class NamespaceShardsTest {
+
+  private static final List<String> NAMESPACES = IntStream.range(0, 40).mapToObj(i -> "ns" + i).toList();
+  private static final List<String> DOMAIN_NAMESPACES = NAMESPACES.subList(0, 12);
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final NamespaceTest.DomainProcessorStub domainProcessor
+      = Stub.createNiceStub(NamespaceTest.DomainProcessorStub.class);
+  private final NamespaceShards replicaA = new NamespaceShards("replica-a");
+  private final NamespaceShards replicaB = new NamespaceShards("replica-b");
+  private final NamespaceShards replicaC = new NamespaceShards("replica-c");
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(NoopWatcherStarter.install());
+    mementos.add(HelmAccessStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "true");
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private void renew(NamespaceShards... replicas) {
+    for (NamespaceShards replica : replicas) {
+      testSupport.runSteps(replica.createRenewStep(domainProcessor));
+    }
+  }
+
+  // Returns true if the steps following the claim were run.
+  private boolean claim(NamespaceShards replica, String namespace) {
+    final ClaimedStep claimed = new ClaimedStep();
+    testSupport.runSteps(Step.chain(replica.createClaimStep(namespace), claimed));
+    return claimed.wasRun;
+  }
+
+  private static class ClaimedStep extends Step {
+    private boolean wasRun;
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      wasRun = true;
+      return doNext(packet);
+    }
+  }
+
+  private List<String> getAssigned(NamespaceShards replica) {
+    return NAMESPACES.stream().filter(replica::isAssigned).toList();
+  }
+
+  private V1Lease getLease(String replicaName) {
+    return testSupport.getResourceWithName(LEASE, "weblogic-operator-shard-" + replicaName);
+  }
+
+  private String getClaims(String replicaName) {
+    return getLease(replicaName).getMetadata().getAnnotations().get(CLAIMED_NAMESPACES_ANNOTATION);
+  }
+
+  // Finds a namespace which replica-a held alone, but which is assigned to replica-b once both are live.
+  private String getNamespaceMovedToReplicaB() {
+    renew(replicaA, replicaB, replicaA);
+    return NAMESPACES.stream().filter(ns -> replicaB.getOwner(ns).equals("replica-b")).findFirst().orElseThrow();
+  }
+
+  @Test
+  void whenShardingDisabled_assignAllNamespaces() {
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "false");
+
+    assertThat(getAssigned(replicaA), equalTo(NAMESPACES));
+  }
+
+  @Test
+  void whenShardingDisabled_claimDoesNotWriteLease() {
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "false");
+
+    assertThat(claim(replicaA, "ns0"), is(true));
+    assertThat(testSupport.getResources(LEASE), empty());
+  }
+
+  @Test
+  void beforeLeaseRenewed_assignNoNamespaces() {
+    assertThat(getAssigned(replicaA), empty());
+  }
+
+  @Test
+  void whenOnlyReplica_assignAllNamespaces() {
+    renew(replicaA);
+
+    assertThat(getAssigned(replicaA), equalTo(NAMESPACES));
+  }
+
+  @Test
+  void whenTwoReplicasLive_assignEachNamespaceToExactlyOne() {
+    renew(replicaA, replicaB, replicaA);
+
+    assertThat(getAssigned(replicaA), not(empty()));
+    assertThat(getAssigned(replicaB), not(empty()));
+    assertThat(getAssigned(replicaA), everyItem(not(in(getAssigned(replicaB)))));
+    assertThat(union(getAssigned(replicaA), getAssigned(replicaB)), equalTo(new HashSet<>(NAMESPACES)));
+  }
+
+  private Set<String> union(List<String> first, List<String> second) {
+    final Set<String> result = new HashSet<>(first);
+    result.addAll(second);
+    return result;
+  }
+
+  @Test
+  void whenReplicaJoins_moveNamespacesOnlyToIt() {
+    renew(replicaA, replicaB, replicaA);
+    final Map<String, String> before = getOwners(replicaA);
+
+    renew(replicaC, replicaA);
+    final Map<String, String> after = getOwners(replicaA);
+
+    NAMESPACES.stream()
+        .filter(ns -> !before.get(ns).equals(after.get(ns)))
+        .forEach(ns -> assertThat(after.get(ns), equalTo("replica-c")));
+    assertThat(after.values(), hasItem("replica-c"));
+  }
+
+  private Map<String, String> getOwners(NamespaceShards replica) {
+    final Map<String, String> owners = new HashMap<>();
+    NAMESPACES.forEach(ns -> owners.put(ns, replica.getOwner(ns)));
+    return owners;
+  }
+
+  @Test
+  void afterClaimVerified_leaseListsClaimedNamespace() {
+    renew(replicaA);
+
+    assertThat(claim(replicaA, "ns1"), is(true));
+    assertThat(getClaims("replica-a"), equalTo("ns1"));
+  }
+
+  @Test
+  void whenLeaseChangedByConcurrentWrite_rebuildClaimFromCurrentClaims() {
+    renew(replicaA);
+    claim(replicaA, "ns1");
+    testSupport.failOnApply(LEASE, "weblogic-operator-shard-replica-a", null, HTTP_CONFLICT);
+
+    assertThat(claim(replicaA, "ns2"), is(true));
+    assertThat(getClaims("replica-a"), equalTo("ns1,ns2"));
+  }
+
+  @Test
+  void whenLaterWriteDropsClaimBeforeVerification_withdrawIt() {
+    renew(replicaA);
+    testSupport.doAfterCall(LEASE, "apply",
+        () -> getLease("replica-a").getMetadata().putAnnotationsItem(CLAIMED_NAMESPACES_ANNOTATION, ""));
+
+    assertThat(claim(replicaA, "ns1"), is(false));
+    assertThat(getClaims("replica-a"), equalTo(""));
+  }
+
+  @Test
+  void whenRenewed_leaseReportsDomainCount() {
+    domainProcessor.defineDomainChangedAt("ns1", SystemClock.now());
+    renew(replicaA);
+    claim(replicaA, "ns1");
+
+    renew(replicaA);
+
+    assertThat(getLease("replica-a").getMetadata().getAnnotations(), hasEntry(DOMAIN_COUNT_ANNOTATION, "1"));
+  }
+
+  @Test
+  void whenNamespaceClaimedByAnotherReplica_doNotAssignIt() {
+    renew(replicaA);
+    NAMESPACES.forEach(ns -> claim(replicaA, ns));
+
+    final String moved = getNamespaceMovedToReplicaB();
+    renew(replicaB);
+
+    assertThat(replicaB.isAssigned(moved), is(false));
+  }
+
+  @Test
+  void whenNamespaceClaimedByAnotherReplica_claimFailsAndIsWithdrawn() {
+    renew(replicaA);
+    NAMESPACES.forEach(ns -> claim(replicaA, ns));
+    final String moved = getNamespaceMovedToReplicaB();
+
+    assertThat(claim(replicaB, moved), is(false));
+    assertThat(getClaims("replica-b"), equalTo(""));
+  }
+
+  @Test
+  void afterPreviousHolderReleasesNamespace_newOwnerClaimsIt() {
+    renew(replicaA);
+    NAMESPACES.forEach(ns -> claim(replicaA, ns));
+    final String moved = getNamespaceMovedToReplicaB();
+
+    assertThat(replicaA.isAssigned(moved), is(false));
+    replicaA.release(moved);
+    renew(replicaA, replicaB);
+
+    assertThat(replicaB.isAssigned(moved), is(true));
+    assertThat(claim(replicaB, moved), is(true));
+  }
+
+  @Test
+  void whenReplicasWithDifferentViewsClaimSameNamespaces_neverBothSucceed() {
+    renew(replicaA);
+    renew(replicaB);
+
+    final List<String> claimedByBoth = NAMESPACES.stream()
+        .filter(ns -> claim(replicaA, ns) & claim(replicaB, ns))
+        .toList();
+
+    assertThat(claimedByBoth, empty());
+  }
+
+  @Test
+  void whenReplicaStopsRenewing_reassignItsNamespaces() {
+    renew(replicaA, replicaB, replicaA);
+
+    SystemClockTestSupport.increment(20);
+    renew(replicaA);
+
+    assertThat(replicaA.getMembers(), contains("replica-a"));
+    assertThat(getAssigned(replicaA), equalTo(NAMESPACES));
+  }
+
+  @Test
+  void whenOwnLeaseExpires_assignNoNamespaces() {
+    renew(replicaA);
+
+    SystemClockTestSupport.increment(20);
+
+    assertThat(getAssigned(replicaA), empty());
+  }
+
+  @Test
+  void whenReleased_deleteLease() throws NoSuchFieldException {
+    renew(replicaA);
+    mementos.add(StaticStubSupport.install(NamespaceShards.class, "instance", replicaA));
+
+    testSupport.runSteps(NamespaceShards.getInstance().createReleaseStep());
+
+    assertThat(testSupport.getResources(LEASE), empty());
+  }
+
+  // Runs several operators in process against the same Kubernetes API, each with its own namespace shards
+  // and set of managed namespaces.
+  @Test
+  void whenOperatorsRecheckNamespaces_eachNamespaceManagedByExactlyOne() throws NoSuchFieldException {
+    defineDomainNamespaces();
+    final Operator operatorA = new Operator(replicaA);
+    final Operator operatorB = new Operator(replicaB);
+
+    for (int i = 0; i < 3; i++) {
+      operatorA.recheck();
+      operatorB.recheck();
+    }
+
+    assertThat(operatorA.getManaged(), everyItem(not(in(operatorB.getManaged()))));
+    assertThat(union(operatorA.getManaged(), operatorB.getManaged()), equalTo(new HashSet<>(DOMAIN_NAMESPACES)));
+  }
+
+  @Test
+  void whenOperatorJoins_handOffNamespacesWithoutOverlap() throws NoSuchFieldException {
+    defineDomainNamespaces();
+    final Operator operatorA = new Operator(replicaA);
+    final Operator operatorB = new Operator(replicaB);
+    final Operator operatorC = new Operator(replicaC);
+    operatorA.recheck();
+
+    for (int i = 0; i < 4; i++) {
+      for (Operator operator : List.of(operatorB, operatorC, operatorA)) {
+        operator.recheck();
+        assertThat(getOverlap(operatorA, operatorB, operatorC), empty());
+      }
+    }
+
+    assertThat(operatorC.getManaged(), not(empty()));
+    assertThat(getAllManaged(operatorA, operatorB, operatorC), containsInAnyOrder(DOMAIN_NAMESPACES.toArray()));
+  }
+
+  private void defineDomainNamespaces() {
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+    HelmAccessStub.defineVariable(OPERATOR_DOMAIN_NAMESPACES, String.join(",", DOMAIN_NAMESPACES));
+    DOMAIN_NAMESPACES.forEach(ns -> testSupport.defineResources(createNamespace(ns)));
+  }
+
+  private V1Namespace createNamespace(String name) {
+    return new V1Namespace().metadata(new V1ObjectMeta().name(name));
+  }
+
+  private Set<String> getOverlap(Operator... operators) {
+    final Set<String> seen = new HashSet<>();
+    final Set<String> overlap = new HashSet<>();
+    for (Operator operator : operators) {
+      operator.getManaged().stream().filter(ns -> !seen.add(ns)).forEach(overlap::add);
+    }
+    return overlap;
+  }
+
+  private List<String> getAllManaged(Operator... operators) {
+    final List<String> result = new ArrayList<>();
+    for (Operator operator : operators) {
+      result.addAll(operator.getManaged());
+    }
+    return result;
+  }
+
+  private class Operator {
+    private final NamespaceShards shards;
+    private final DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+
+    Operator(NamespaceShards shards) {
+      this.shards = shards;
+    }
+
+    void recheck() throws NoSuchFieldException {
+      final Memento memento = StaticStubSupport.install(NamespaceShards.class, "instance", shards);
+      try {
+        testSupport.withClearPacket().runSteps(Step.chain(
+            shards.createRenewStep(domainProcessor),
+            new DomainRecheck(domainProcessor, domainNamespaces).readExistingNamespaces()));
+      } finally {
+        memento.revert();
+      }
+    }
+
+    List<String> getManaged() {
+      return new ArrayList<>(domainNamespaces.getNamespaces());
+    }
+  }
+}
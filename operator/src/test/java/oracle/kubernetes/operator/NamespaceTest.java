@@ -3,12 +3,17 @@
 
 package oracle.kubernetes.operator;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -19,7 +24,9 @@ import com.meterware.simplestub.Stub;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.HelmAccessStub;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -28,8 +35,12 @@ import oracle.kubernetes.operator.helpers.OnConflictRetryStrategyStub;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainConditionType;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,7 +57,10 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 import static oracle.kubernetes.operator.helpers.HelmAccess.OPERATOR_DOMAIN_NAMESPACES;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_STARTUP_CONCURRENCY;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -235,6 +249,104 @@ public class NamespaceTest {
     assertThat(domainNamespaces.isStarting(namespace), is(true));
   }
 
+  @Test
+  void whenStartingNamespaces_startThoseWithMostRecentlyChangedDomainsFirst() {
+    dp.defineDomainChangedAt(ADDITIONAL_NS1, SystemClock.now().minusSeconds(100));
+    dp.defineDomainChangedAt(ADDITIONAL_NS2, SystemClock.now());
+
+    assertThat(new DomainRecheck(dp, domainNamespaces).prioritize(List.of(NS, ADDITIONAL_NS1, ADDITIONAL_NS2)),
+        contains(ADDITIONAL_NS2, ADDITIONAL_NS1, NS));
+  }
+
+  @Test
+  void whenStartingNamespacesBeforeDomainsAreKnown_startThoseWithMostRecentlyChangedListedDomainsFirst() {
+    final Set<String> startOrder = new LinkedHashSet<>();
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+    defineNamespaces(NS);
+    defineNamespaceWithDomainChangedAt(ADDITIONAL_NS1, SystemClock.now().minusSeconds(100));
+    defineNamespaceWithDomainChangedAt(ADDITIONAL_NS2, SystemClock.now());
+
+    testSupport.runSteps(new DomainRecheck(dp, createRecordingDomainNamespaces(startOrder))
+        .createStartNamespacesStep(List.of(NS, ADDITIONAL_NS1, ADDITIONAL_NS2)));
+
+    assertThat(startOrder, contains(ADDITIONAL_NS2, ADDITIONAL_NS1, NS));
+  }
+
+  @Test
+  void whenStartingNamespacesAndDomainsCannotBeListed_startAllInOriginalOrder() {
+    final Set<String> startOrder = new LinkedHashSet<>();
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+    defineNamespaces(NS);
+    defineNamespaceWithDomainChangedAt(ADDITIONAL_NS1, SystemClock.now());
+    testSupport.failOnList(DOMAIN, ADDITIONAL_NS1, HTTP_FORBIDDEN);
+
+    testSupport.runSteps(new DomainRecheck(dp, createRecordingDomainNamespaces(startOrder))
+        .createStartNamespacesStep(List.of(NS, ADDITIONAL_NS1)));
+
+    assertThat(startOrder, contains(NS, ADDITIONAL_NS1));
+  }
+
+  private void defineNamespaceWithDomainChangedAt(String ns, OffsetDateTime time) {
+    final DomainCondition condition = new DomainCondition(DomainConditionType.AVAILABLE).withStatus(true);
+    condition.setLastTransitionTime(time);
+    testSupport.defineResources(
+        createNamespace(ns), createDomain(ns).withStatus(new DomainStatus().addCondition(condition)));
+  }
+
+  // Returns a domain namespaces object which records the namespaces in the order in which they are first started.
+  private DomainNamespaces createRecordingDomainNamespaces(Set<String> startOrder) {
+    return new DomainNamespaces(null) {
+      @Override
+      public boolean shouldStartNamespace(String ns) {
+        startOrder.add(ns);
+        return super.shouldStartNamespace(ns);
+      }
+    };
+  }
+
+  @Test
+  void whenNamespacesStarted_recordStartupDurations() {
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+    defineNamespaces(NS, ADDITIONAL_NS1);
+    specifyDomainNamespaces(NS, ADDITIONAL_NS1);
+    final double initialCount = getNamespaceStartupCount();
+
+    testSupport.runSteps(
+        new DomainRecheck(dp, domainNamespaces).createStartNamespacesStep(List.of(NS, ADDITIONAL_NS1)));
+
+    assertThat(getNamespaceStartupCount() - initialCount, equalTo(2.0));
+  }
+
+  @Test
+  void whenNamespacesAlreadyStarted_dontRecordStartupDurationsAgain() {
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+    defineNamespaces(NS);
+    specifyDomainNamespaces(NS);
+    testSupport.runSteps(new DomainRecheck(dp, domainNamespaces).createStartNamespacesStep(List.of(NS)));
+    final double initialCount = getNamespaceStartupCount();
+
+    testSupport.runSteps(new DomainRecheck(dp, domainNamespaces, true).createStartNamespacesStep(List.of(NS)));
+
+    assertThat(getNamespaceStartupCount(), equalTo(initialCount));
+  }
+
+  @Test
+  void whenNamespacesStartedConcurrently_startAllNamespaces() {
+    TuningParametersStub.setParameter(NAMESPACE_STARTUP_CONCURRENCY, "2");
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+    specifyDomainNamespaces(NS, ADDITIONAL_NS1, ADDITIONAL_NS2);
+
+    testSupport.runSteps(new DomainRecheck(dp, domainNamespaces)
+        .createStartNamespacesStep(List.of(NS, ADDITIONAL_NS1, ADDITIONAL_NS2)));
+
+    assertThat(domainNamespaces.getNamespaces(), containsInAnyOrder(NS, ADDITIONAL_NS1, ADDITIONAL_NS2));
+  }
+
+  private double getNamespaceStartupCount() {
+    return Optional.ofNullable(
+        CollectorRegistry.defaultRegistry.getSampleValue("wko_namespace_startup_duration_seconds_count")).orElse(0.0);
+  }
+
   @SuppressWarnings("SameParameterValue")
   private String getMessage(String pattern, String event, String ns) {
     return String.format(pattern, event, ns);
@@ -252,6 +364,21 @@ public class NamespaceTest {
   }
 
   abstract static class DomainProcessorStub implements DomainProcessor {
+    private final Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
+
+    void defineDomainChangedAt(String ns, OffsetDateTime time) {
+      final DomainCondition condition = new DomainCondition(DomainConditionType.AVAILABLE).withStatus(true);
+      condition.setLastTransitionTime(time);
+      final DomainResource domain = new DomainResource()
+          .withMetadata(new V1ObjectMeta().namespace(ns).name("uid-" + ns))
+          .withStatus(new DomainStatus().addCondition(condition));
+      domains.computeIfAbsent(ns, n -> new ConcurrentHashMap<>()).put("uid-" + ns, new DomainPresenceInfo(domain));
+    }
+
+    @Override
+    public Map<String, DomainPresenceInfo> getDomainPresenceInfoMapForNS(String namespace) {
+      return domains.get(namespace);
+    }
   }
 
   abstract static class MainDelegateStub implements MainDelegate {
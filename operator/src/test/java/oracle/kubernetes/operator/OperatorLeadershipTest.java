@@ -0,0 +1,217 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Lease;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static oracle.kubernetes.operator.OperatorLeadership.LEASE_NAME;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.LEADER_FIRST_RECONCILE;
+import static oracle.kubernetes.operator.http.metrics.OperatorMetrics.OPERATOR_LEADER;
+import static oracle.kubernetes.operator.tuning.TuningParameters.HOT_STANDBY_ENABLED;
+import static oracle.kubernetes.operator.tuning.TuningParameters.LEADER_LEASE_DURATION_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_SHARDING_ENABLED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class OperatorLeadershipTest {
+
+  private static final int LEASE_DURATION = 10;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<String> transitions = new ArrayList<>();
+  private final OperatorLeadership replicaA = new OperatorLeadership("replica-a");
+  private final OperatorLeadership replicaB = new OperatorLeadership("replica-b");
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParametersStub.setParameter(HOT_STANDBY_ENABLED, "true");
+    TuningParametersStub.setParameter(LEADER_LEASE_DURATION_SECONDS, Integer.toString(LEASE_DURATION));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private void elect(OperatorLeadership... replicas) {
+    for (OperatorLeadership replica : replicas) {
+      final String name = replica == replicaA ? "a" : "b";
+      testSupport.runSteps(replica.createElectionStep(
+          () -> transitions.add(name + " elected"), () -> transitions.add(name + " lost")));
+    }
+  }
+
+  private V1Lease getLease() {
+    return testSupport.getResourceWithName(LEASE, LEASE_NAME);
+  }
+
+  private String getHolder() {
+    return getLease().getSpec().getHolderIdentity();
+  }
+
+  @Test
+  void whenHotStandbyDisabled_everyReplicaIsLeader() {
+    TuningParametersStub.setParameter(HOT_STANDBY_ENABLED, "false");
+
+    elect(replicaA, replicaB);
+
+    assertThat(replicaA.isLeader(), is(true));
+    assertThat(replicaB.isLeader(), is(true));
+    assertThat(testSupport.getResources(LEASE), empty());
+  }
+
+  @Test
+  void whenNamespaceShardingEnabled_hotStandbyIsDisabled() {
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "true");
+
+    assertThat(replicaA.isEnabled(), is(false));
+  }
+
+  @Test
+  void whenNoLeaseExists_firstReplicaCreatesItAndBecomesLeader() {
+    elect(replicaA);
+
+    assertThat(replicaA.isLeader(), is(true));
+    assertThat(getHolder(), equalTo("replica-a"));
+    assertThat(getLease().getSpec().getLeaseDurationSeconds(), equalTo(LEASE_DURATION));
+    assertThat(transitions, contains("a elected"));
+    assertThat(OPERATOR_LEADER.get(), equalTo(1.0));
+  }
+
+  @Test
+  void whenLeaseHeldByAnotherReplica_standBy() {
+    elect(replicaA, replicaB);
+
+    assertThat(replicaB.isLeader(), is(false));
+    assertThat(getHolder(), equalTo("replica-a"));
+    assertThat(transitions, contains("a elected"));
+  }
+
+  @Test
+  void whenLeaderRenews_leaseRenewTimeAdvances() {
+    elect(replicaA);
+    SystemClockTestSupport.increment(3);
+
+    elect(replicaA);
+
+    assertThat(getLease().getSpec().getRenewTime(), equalTo(SystemClockTestSupport.getTestStartTime().plusSeconds(3)));
+    assertThat(transitions, contains("a elected"));
+  }
+
+  @Test
+  void whileLeaderKeepsRenewing_standbyDoesNotTakeOver() {
+    elect(replicaA, replicaB);
+    for (int i = 0; i < 5; i++) {
+      SystemClockTestSupport.increment(LEASE_DURATION / 2);
+      elect(replicaA, replicaB);
+    }
+
+    assertThat(replicaB.isLeader(), is(false));
+    assertThat(getHolder(), equalTo("replica-a"));
+  }
+
+  @Test
+  void beforeLeaseExpires_standbyDoesNotTakeOver() {
+    elect(replicaA, replicaB);
+    SystemClockTestSupport.increment(LEASE_DURATION - 1);
+
+    elect(replicaB);
+
+    assertThat(replicaB.isLeader(), is(false));
+  }
+
+  @Test
+  void whenLeaseNotRenewedForItsDuration_standbyTakesOver() {
+    elect(replicaA, replicaB);
+    SystemClockTestSupport.increment(LEASE_DURATION);
+
+    elect(replicaB);
+
+    assertThat(replicaB.isLeader(), is(true));
+    assertThat(getHolder(), equalTo("replica-b"));
+    assertThat(getLease().getSpec().getLeaseTransitions(), equalTo(1));
+    assertThat(transitions, contains("a elected", "b elected"));
+  }
+
+  @Test
+  void afterStandbyTakesOver_formerLeaderGivesUpLeadership() {
+    elect(replicaA, replicaB);
+    SystemClockTestSupport.increment(LEASE_DURATION);
+    elect(replicaB);
+
+    elect(replicaA);
+
+    assertThat(replicaA.isLeader(), is(false));
+    assertThat(transitions, contains("a elected", "b elected", "a lost"));
+  }
+
+  @Test
+  void whenLeaderReleasesLease_standbyTakesOverAtOnce() {
+    elect(replicaA, replicaB);
+
+    testSupport.runSteps(replicaA.createReleaseStep());
+    elect(replicaB);
+
+    assertThat(replicaB.isLeader(), is(true));
+    assertThat(getHolder(), equalTo("replica-b"));
+  }
+
+  @Test
+  void whenStandby_releaseStepIsNull() {
+    elect(replicaA, replicaB);
+
+    assertThat(replicaB.createReleaseStep(), nullValue());
+  }
+
+  @Test
+  void whenLeaderCannotRenewForLeaseDuration_giveUpLeadership() {
+    elect(replicaA);
+
+    SystemClockTestSupport.increment(LEASE_DURATION / 2);
+    testSupport.failOnReplace(LEASE, LEASE_NAME, null, HTTP_FORBIDDEN);
+    elect(replicaA);
+    assertThat(replicaA.isLeader(), is(true));
+
+    SystemClockTestSupport.increment(LEASE_DURATION);
+    testSupport.failOnReplace(LEASE, LEASE_NAME, null, HTTP_FORBIDDEN);
+    elect(replicaA);
+    assertThat(replicaA.isLeader(), is(false));
+    assertThat(transitions, contains("a elected", "a lost"));
+  }
+
+  @Test
+  void afterElection_recordTimeToFirstReconcileOnce() {
+    elect(replicaA);
+    SystemClockTestSupport.increment(4);
+    replicaA.recordReconciled();
+    SystemClockTestSupport.increment(4);
+    replicaA.recordReconciled();
+
+    assertThat(LEADER_FIRST_RECONCILE.get(), equalTo(4.0));
+  }
+}
@@ -10,6 +10,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
@@ -44,6 +45,7 @@ import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -137,6 +139,18 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
         is(2));
   }
 
+  @Test
+  void createDomainStatusReaderStep_recordsNamesOfServersWhoseHealthIsToBeRead() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(packet.<Set<String>>getValue(ProcessingConstants.SERVERS_HEALTH_TO_READ),
+        containsInAnyOrder("server1", "server2"));
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, String> getServerStates(Packet packet) {
     return (Map<String, String>) packet.get(SERVER_STATE_MAP);
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 
@@ -17,6 +18,7 @@ import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watch.Response;
@@ -99,11 +101,13 @@ public class StubWatchFactory implements WatchApiFactory {
    * @param apiGroup group
    * @param apiVersion version
    * @param resourcePlural plural
+   * @param clientSelector client selector
    * @return the watch api
    */
   public <A extends KubernetesObject, L extends KubernetesListObject>
       WatchApi<A> create(Class<A> apiTypeClass, Class<L> apiListTypeClass,
-                     String apiGroup, String apiVersion, String resourcePlural) {
+                     String apiGroup, String apiVersion, String resourcePlural,
+                     UnaryOperator<ApiClient> clientSelector) {
     return new WatchApi<A>() {
       @Override
       public Watchable<A> watch(ListOptions listOptions) throws ApiException {
@@ -0,0 +1,97 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class MetadataOnlyTest {
+
+  private final ApiClient client = new ApiClient().setBasePath("https://kubernetes:6443");
+  private final ChainStub chain = createStub(ChainStub.class, createRequest());
+
+  @Nonnull
+  private Request createRequest() {
+    return new Request.Builder()
+          .url("http://localhost:1234")
+          .addHeader("Accept", "application/json")
+          .build();
+  }
+
+  @Test
+  void metadataOnlyClient_usesBasePathOfOriginalClient() {
+    assertThat(MetadataOnly.OBJECTS.apply(client).getBasePath(), equalTo("https://kubernetes:6443"));
+  }
+
+  @Test
+  void whenAppliedToSameClient_returnSameMetadataOnlyClient() {
+    assertThat(MetadataOnly.OBJECTS.apply(client), sameInstance(MetadataOnly.OBJECTS.apply(client)));
+  }
+
+  @Test
+  void metadataOnlyClient_isNotOriginalClient() {
+    assertThat(MetadataOnly.OBJECTS.apply(client), not(sameInstance(client)));
+  }
+
+  @Test
+  void objectsClient_requestsPartialObjectMetadata() throws IOException {
+    final Response response = getAddedInterceptor(MetadataOnly.OBJECTS.apply(client)).intercept(chain);
+
+    assertThat(response.header("Accept"), containsString("as=PartialObjectMetadata;"));
+  }
+
+  @Test
+  void listsClient_requestsPartialObjectMetadataList() throws IOException {
+    final Response response = getAddedInterceptor(MetadataOnly.LISTS.apply(client)).intercept(chain);
+
+    assertThat(response.header("Accept"), containsString("as=PartialObjectMetadataList;"));
+  }
+
+  private Interceptor getAddedInterceptor(ApiClient metadataOnlyClient) {
+    final List<Interceptor> interceptors = metadataOnlyClient.getHttpClient().interceptors();
+    return interceptors.get(interceptors.size() - 1);
+  }
+
+  abstract static class ChainStub implements Interceptor.Chain {
+    private final Request request;
+
+    ChainStub(Request request) {
+      this.request = request;
+    }
+
+    @Nonnull
+    @Override
+    public Response proceed(@Nonnull Request request) {
+      return new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_2)
+            .addHeader("Accept", Optional.ofNullable(request.header("Accept")).orElse(""))
+            .code(200)
+            .message("None")
+            .build();
+    }
+
+    @Nonnull
+    @Override
+    public Request request() {
+      return request;
+    }
+  }
+}
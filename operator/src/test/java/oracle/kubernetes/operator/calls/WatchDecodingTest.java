@@ -0,0 +1,171 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.SELECTIVE_WATCH_DECODING_ENABLED;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class WatchDecodingTest {
+
+  private static final String POD_EVENT = """
+        {"type":"MODIFIED","object":{"apiVersion":"v1","kind":"Pod",
+        "metadata":{"name":"%s","namespace":"ns1","resourceVersion":"%d",
+          "labels":{"weblogic.domainUID":"domain1","weblogic.serverName":"%s"},
+          "managedFields":[{"manager":"weblogic-operator","operation":"Apply","apiVersion":"v1",
+            "fieldsType":"FieldsV1","fieldsV1":{"f:metadata":{"f:labels":{"f:weblogic.domainUID":{}}}}},
+            {"manager":"kubelet","operation":"Update","apiVersion":"v1","subresource":"status"}]},
+        "spec":{"containers":[{"name":"weblogic-server","image":"container-registry.oracle.com/wls:14.1.1.0"}]},
+        "status":{"phase":"Running","conditions":[{"type":"Ready","status":"True"}]}}}
+        """;
+
+  private static final String JOB_EVENT = """
+        {"type":"MODIFIED","object":{"apiVersion":"batch/v1","kind":"Job",
+        "metadata":{"name":"domain1-introspector","namespace":"ns1"},
+        "spec":{"activeDeadlineSeconds":120,"backoffLimit":0,
+          "template":{"metadata":{"labels":{"job-name":"domain1-introspector"}},
+            "spec":{"containers":[{"name":"domain1-introspector","image":"wls:14.1.1.0",
+              "env":[{"name":"DOMAIN_UID","value":"domain1"}]}]}}},
+        "status":{"conditions":[{"type":"Complete","status":"True"}]}}}
+        """;
+
+  private static final String ERROR_EVENT = """
+        {"type":"ERROR","object":{"kind":"Status","apiVersion":"v1","status":"Failure",
+        "message":"too old resource version","reason":"Expired","code":410}}
+        """;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final JSON json = new JSON();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    json.setGson(WatchDecoding.createGson(json.getGson()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private static Type watchType(Class<?> resourceType) {
+    return TypeToken.getParameterized(Watch.Response.class, resourceType).getType();
+  }
+
+  private Watch.Response<V1Pod> decodePodEvent(String podName, int resourceVersion) {
+    return json.deserialize(POD_EVENT.formatted(podName, resourceVersion, podName), watchType(V1Pod.class));
+  }
+
+  private Watch.Response<V1Job> decodeJobEvent() {
+    return json.deserialize(JOB_EVENT, watchType(V1Job.class));
+  }
+
+  private V1Pod decodePod(String podName) {
+    final String event = POD_EVENT.formatted(podName, 1, podName);
+    final String object = event.substring(event.indexOf("{\"apiVersion\""), event.lastIndexOf('}'));
+    return json.deserialize(object, V1Pod.class);
+  }
+
+  @Test
+  void whenPodEventDecoded_skipManagedFields() {
+    assertThat(decodePodEvent("ms1", 1).object.getMetadata().getManagedFields(), nullValue());
+  }
+
+  @Test
+  void whenPodEventDecoded_readFieldsUsedByOperator() {
+    final Watch.Response<V1Pod> event = decodePodEvent("ms1", 7);
+
+    assertThat(event.type, equalTo("MODIFIED"));
+    assertThat(event.object.getMetadata().getResourceVersion(), equalTo("7"));
+    assertThat(event.object.getMetadata().getLabels().get("weblogic.serverName"), equalTo("ms1"));
+    assertThat(event.object.getSpec().getContainers().get(0).getImage(),
+          equalTo("container-registry.oracle.com/wls:14.1.1.0"));
+    assertThat(event.object.getStatus().getConditions().get(0).getStatus(), equalTo("True"));
+  }
+
+  @Test
+  void whenPodReadOutsideOfWatch_includeManagedFields() {
+    assertThat(decodePod("ms1").getMetadata().getManagedFields(), hasSize(2));
+  }
+
+  @Test
+  void whenJobEventDecoded_skipPodTemplate() {
+    assertThat(decodeJobEvent().object.getSpec().getTemplate(), nullValue());
+  }
+
+  @Test
+  void whenJobEventDecoded_readStatusAndDeadline() {
+    final V1Job job = decodeJobEvent().object;
+
+    assertThat(job.getSpec().getActiveDeadlineSeconds(), equalTo(120L));
+    assertThat(job.getStatus().getConditions().get(0).getType(), equalTo("Complete"));
+  }
+
+  @Test
+  void whenErrorEventDecoded_readStatus() {
+    final Watch.Response<V1Status> event = json.deserialize(ERROR_EVENT, watchType(V1Status.class));
+
+    assertThat(event.object.getCode(), equalTo(410));
+  }
+
+  @Test
+  void repeatedStringsInSuccessiveEvents_areShared() {
+    final V1Pod pod1 = decodePodEvent("ms1", 1).object;
+    final V1Pod pod2 = decodePodEvent("ms2", 2).object;
+
+    assertThat(pod2.getMetadata().getNamespace(), sameInstance(pod1.getMetadata().getNamespace()));
+    assertThat(pod2.getSpec().getContainers().get(0).getImage(),
+          sameInstance(pod1.getSpec().getContainers().get(0).getImage()));
+    assertThat(getLabelKey(pod2), sameInstance(getLabelKey(pod1)));
+  }
+
+  private String getLabelKey(V1Pod pod) {
+    return pod.getMetadata().getLabels().keySet().stream()
+          .filter("weblogic.domainUID"::equals).findFirst().orElseThrow();
+  }
+
+  @Test
+  void whenInstalled_clientDecodesWatchEventsSelectively() {
+    final ApiClient client = new ApiClient();
+
+    WatchDecoding.install(client);
+
+    final Watch.Response<V1Pod> event
+          = client.getJSON().deserialize(POD_EVENT.formatted("ms1", 1, "ms1"), watchType(V1Pod.class));
+    assertThat(event.object.getMetadata().getManagedFields(), nullValue());
+  }
+
+  @Test
+  void whenDisabled_clientDecodesWatchEventsCompletely() {
+    TuningParametersStub.setParameter(SELECTIVE_WATCH_DECODING_ENABLED, "false");
+    final ApiClient client = new ApiClient();
+
+    WatchDecoding.install(client);
+
+    final Watch.Response<V1Pod> event
+          = client.getJSON().deserialize(POD_EVENT.formatted("ms1", 1, "ms1"), watchType(V1Pod.class));
+    assertThat(event.object.getMetadata().getManagedFields(), notNullValue());
+  }
+}
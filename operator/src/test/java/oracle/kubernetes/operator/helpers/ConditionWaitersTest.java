@@ -0,0 +1,204 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nonnull;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.ConditionWaiters.DELETED;
+import static oracle.kubernetes.operator.helpers.ConditionWaiters.PODS;
+import static oracle.kubernetes.operator.helpers.ConditionWaiters.POD_READY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class ConditionWaitersTest {
+
+  private static final String NS = "namespace";
+  private static final String POD_NAME = "uid1-server1";
+  private static final String WAIT_DURATION_COUNT = "wko_resource_wait_duration_seconds_count";
+  private static final String[] WAIT_LABELS = {"kind", "condition", "outcome"};
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(POD_NAME));
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(TuningParameters.RESOURCE_WAIT_TIMEOUT_SECONDS, "60");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void onPlatformThread_awaitReturnsCurrentStateWithoutWaiting() {
+    assertThat(PODS.await(NS, POD_NAME, DELETED, () -> false), is(false));
+    assertThat(PODS.await(NS, POD_NAME, DELETED, () -> true), is(true));
+  }
+
+  @Test
+  void whenNoWaiters_notifyReportsNothingResumed() {
+    assertThat(PODS.notifyWaiters("DELETED", pod), is(false));
+  }
+
+  @Test
+  void onVirtualThread_whenConditionAlreadySatisfied_returnWithoutWaiting() throws Exception {
+    assertThat(awaitOnVirtualThread(DELETED, () -> true).get(5, TimeUnit.SECONDS), is(true));
+    assertThat(PODS.getNumWaiters(NS, POD_NAME), equalTo(0));
+  }
+
+  @Test
+  void onVirtualThread_whenEventSatisfiesCondition_wakeWaiter() throws Exception {
+    CompletableFuture<Boolean> result = awaitOnVirtualThread(DELETED, () -> false);
+    waitForWaiter();
+
+    assertThat(PODS.notifyWaiters("DELETED", pod), is(true));
+    assertThat(result.get(5, TimeUnit.SECONDS), is(true));
+    assertThat(PODS.getNumWaiters(NS, POD_NAME), equalTo(0));
+  }
+
+  @Test
+  void whenEventDoesNotSatisfyCondition_waiterContinuesWaiting() throws Exception {
+    CompletableFuture<Boolean> result = awaitOnVirtualThread(POD_READY, () -> false);
+    waitForWaiter();
+
+    assertThat(PODS.notifyWaiters("MODIFIED", pod), is(false));
+    assertThat(result.isDone(), is(false));
+
+    PODS.notifyWaiters("MODIFIED", withReadyCondition(pod));
+    assertThat(result.get(5, TimeUnit.SECONDS), is(true));
+  }
+
+  private V1Pod withReadyCondition(V1Pod pod) {
+    return pod.status(new V1PodStatus().phase("Running")
+        .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+  }
+
+  @Test
+  void whenWaiterWoken_recordWaitDuration() throws Exception {
+    double before = getWaitCount("deleted", "notified");
+    CompletableFuture<Boolean> result = awaitOnVirtualThread(DELETED, () -> false);
+    waitForWaiter();
+
+    PODS.notifyWaiters("DELETED", pod);
+    result.get(5, TimeUnit.SECONDS);
+
+    assertThat(getWaitCount("deleted", "notified"), equalTo(before + 1));
+  }
+
+  @Test
+  void whenNoEventBeforeTimeout_reportConditionNotSatisfied() throws Exception {
+    TuningParametersStub.setParameter(TuningParameters.RESOURCE_WAIT_TIMEOUT_SECONDS, "1");
+    double before = getWaitCount("deleted", "timeout");
+
+    assertThat(awaitOnVirtualThread(DELETED, () -> false).get(5, TimeUnit.SECONDS), is(false));
+    assertThat(getWaitCount("deleted", "timeout"), equalTo(before + 1));
+  }
+
+  @Test
+  void whenTimeoutIsZero_doNotWait() throws Exception {
+    TuningParametersStub.setParameter(TuningParameters.RESOURCE_WAIT_TIMEOUT_SECONDS, "0");
+
+    assertThat(awaitOnVirtualThread(DELETED, () -> false).get(5, TimeUnit.SECONDS), is(false));
+  }
+
+  @Test
+  void byDefault_doNotWait() throws Exception {
+    TuningParametersStub.setParameter(TuningParameters.RESOURCE_WAIT_TIMEOUT_SECONDS, null);
+
+    assertThat(awaitOnVirtualThread(DELETED, () -> false).get(5, TimeUnit.SECONDS), is(false));
+  }
+
+  @Test
+  void whenWaitingFiberCancelled_endWaitWithConditionNotSatisfied() throws Exception {
+    CompletableFuture<Boolean> result = new CompletableFuture<>();
+    Fiber fiber = new Fiber((ScheduledExecutorService) null, new AwaitDeletedStep(result), new Packet());
+    Thread.ofVirtual().start(fiber);
+    waitForWaiter();
+
+    fiber.cancel();
+
+    assertThat(result.get(5, TimeUnit.SECONDS), is(false));
+    assertThat(PODS.getNumWaiters(NS, POD_NAME), equalTo(0));
+  }
+
+  private static class AwaitDeletedStep extends Step {
+    private final CompletableFuture<Boolean> result;
+
+    AwaitDeletedStep(CompletableFuture<Boolean> result) {
+      this.result = result;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      result.complete(PODS.await(NS, POD_NAME, DELETED, () -> false));
+      return doEnd(packet);
+    }
+  }
+
+  @Test
+  void onVirtualThread_runForkJoinStepsConcurrently() throws Exception {
+    CompletableFuture<Integer> result = new CompletableFuture<>();
+    Thread.ofVirtual().start(() -> result.complete(ConditionWaiters.getForkJoinConcurrency(3)));
+
+    assertThat(result.get(5, TimeUnit.SECONDS), equalTo(3));
+  }
+
+  @Test
+  void onPlatformThread_runForkJoinStepsOneAtATime() {
+    assertThat(ConditionWaiters.getForkJoinConcurrency(3), equalTo(1));
+  }
+
+  @Test
+  void whenTimeoutIsZero_runForkJoinStepsOneAtATime() throws Exception {
+    TuningParametersStub.setParameter(TuningParameters.RESOURCE_WAIT_TIMEOUT_SECONDS, "0");
+    CompletableFuture<Integer> result = new CompletableFuture<>();
+    Thread.ofVirtual().start(() -> result.complete(ConditionWaiters.getForkJoinConcurrency(3)));
+
+    assertThat(result.get(5, TimeUnit.SECONDS), equalTo(1));
+  }
+
+  private CompletableFuture<Boolean> awaitOnVirtualThread(
+      ConditionWaiters.Condition<? super V1Pod> condition, BooleanSupplier isSatisfied) {
+    CompletableFuture<Boolean> result = new CompletableFuture<>();
+    Thread.ofVirtual().start(() -> result.complete(PODS.await(NS, POD_NAME, condition, isSatisfied)));
+    return result;
+  }
+
+  private void waitForWaiter() throws InterruptedException {
+    for (int i = 0; i < 500 && PODS.getNumWaiters(NS, POD_NAME) == 0; i++) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+  }
+
+  private double getWaitCount(String condition, String outcome) {
+    return Objects.requireNonNullElse(CollectorRegistry.defaultRegistry.getSampleValue(
+        WAIT_DURATION_COUNT, WAIT_LABELS, new String[] {"pod", condition, outcome}), 0.0);
+  }
+}
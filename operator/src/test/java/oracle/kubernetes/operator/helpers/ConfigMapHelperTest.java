@@ -15,28 +15,23 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
-import oracle.kubernetes.operator.work.Packet;
-import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.common.logging.MessageKeys.CM_CREATED;
 import static oracle.kubernetes.common.logging.MessageKeys.CM_EXISTS;
 import static oracle.kubernetes.common.logging.MessageKeys.CM_REPLACED;
 import static oracle.kubernetes.common.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
-import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.notNullValue;
-import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class ConfigMapHelperTest {
   private static final String DOMAIN_NS = "namespace";
@@ -46,10 +41,10 @@ class ConfigMapHelperTest {
   private static final SemanticVersion PRODUCT_VERSION_FUTURE = new SemanticVersion(3, 1, 0);
 
   private final V1ConfigMap defaultConfigMap = defineConfigMap(PRODUCT_VERSION);
-  private final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleHandlerMemento;
 
 
   private V1ConfigMap defineConfigMap(SemanticVersion productVersion) {
@@ -73,7 +68,7 @@ class ConfigMapHelperTest {
   @BeforeEach
   public void setUp() throws Exception {
     mementos.add(
-        TestUtils.silenceOperatorLogger()
+        consoleHandlerMemento = TestUtils.silenceOperatorLogger()
             .collectLogMessages(logRecords, CM_CREATED, CM_EXISTS, CM_REPLACED)
             .withLogLevel(Level.FINE));
     mementos.add(TuningParametersStub.install());
@@ -88,11 +83,10 @@ class ConfigMapHelperTest {
   }
 
   @Test
-  void whenUnableToReadConfigMap_reportFailure() {
-    testSupport.failOnResource(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME, DOMAIN_NS, 401);
+  void whenUnableToApplyConfigMap_reportFailure() {
+    testSupport.failOnApply(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME, DOMAIN_NS, 401);
 
-    Step scriptConfigMapStep = ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, null);
-    testSupport.runSteps(scriptConfigMapStep);
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, null));
 
     testSupport.verifyCompletionThrowable(ApiException.class);
   }
@@ -106,43 +100,54 @@ class ConfigMapHelperTest {
   }
 
   @Test
-  void whenNoConfigMap_retryOnFailure() {
-    testSupport.addRetryStrategy(retryStrategy);
-    testSupport.failOnCreate(CONFIG_MAP, DOMAIN_NS, 401);
+  void whenMatchingConfigMapListed_logThatItExists() {
+    defineListedConfigMap(defaultConfigMap);
 
-    Step scriptConfigMapStep = ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, null);
-    testSupport.runSteps(scriptConfigMapStep);
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
 
-    testSupport.verifyCompletionThrowable(ApiException.class);
-    assertThat(retryStrategy.getConflictStep(), sameInstance(scriptConfigMapStep));
+    assertThat(logRecords, containsFine(CM_EXISTS));
   }
 
   @Test
-  void whenMatchingConfigMapExists_addToPacket() {
-    testSupport.defineResources(defaultConfigMap);
+  void whenMatchingConfigMapAlreadyApplied_dontApplyAgain() {
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+    logRecords.clear();
 
-    Packet packet = testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
 
-    assertThat(logRecords, containsFine(CM_EXISTS));
-    assertThat(packet, hasEntry(SCRIPT_CONFIG_MAP, defaultConfigMap));
+    assertThat(testSupport.getCallCounts().get(CONFIG_MAP + ".apply"), equalTo(1));
   }
 
   @Test
   void whenExistingConfigMapHasOldVersion_replaceIt() {
-    testSupport.defineResources(defineConfigMap(PRODUCT_VERSION_OLD));
+    defineListedConfigMap(defineConfigMap(PRODUCT_VERSION_OLD));
 
     testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
 
     assertThat(logRecords, containsInfo(CM_REPLACED));
+    assertThat(getScriptConfigMap().getMetadata().getLabels(),
+        hasEntry(LabelConstants.OPERATOR_VERSION, PRODUCT_VERSION.toString()));
   }
 
   @Test
-  void whenExistingConfigMapHasFutureVersion_dontReplaceIt() {
-    assertDoesNotThrow(() -> {
-      testSupport.defineResources(defineConfigMap(PRODUCT_VERSION_FUTURE));
+  void whenExistingConfigMapHasFutureVersion_applyCurrentVersion() {
+    consoleHandlerMemento.ignoreMessage(CM_REPLACED);
+    defineListedConfigMap(defineConfigMap(PRODUCT_VERSION_FUTURE));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(getScriptConfigMap().getMetadata().getLabels(),
+        hasEntry(LabelConstants.OPERATOR_VERSION, PRODUCT_VERSION.toString()));
+  }
+
+  private void defineListedConfigMap(V1ConfigMap configMap) {
+    configMap.getMetadata().setResourceVersion("1");
+    testSupport.defineResources(configMap);
+    ServerSideApply.getInstance().onListed(CONFIG_MAP, List.of(configMap.getMetadata()));
+  }
 
-      testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
-    });
+  private V1ConfigMap getScriptConfigMap() {
+    return testSupport.getResourceWithName(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME);
   }
 
 }
@@ -19,6 +19,7 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionVersion;
 import io.kubernetes.client.openapi.models.V1JSONSchemaProps;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Yaml;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.Namespaces;
@@ -29,6 +30,7 @@ import oracle.kubernetes.operator.utils.InMemoryFileSystem;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -518,6 +520,61 @@ class CrdHelperTest extends CrdHelperTestBase {
     assertThat(fileSystem.getContents("/cluster-crd.yaml"), notNullValue());
   }
 
+  @Test
+  void whenCrdSchemaResourceMainCalledWithNoArguments_illegalArgumentExceptionThrown() {
+    Assertions.assertThrows(IllegalArgumentException.class, CrdSchemaResource::main);
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = TestSubject.class)
+  void precomputedSchemaResource_matchesGeneratedSchema(TestSubject testSubject) {
+    final CrdHelper.CrdContext context = testSubject.createCrdContext();
+    final V1JSONSchemaProps generatedSchema = context.generateSchemaResource().getSchema();
+
+    final CrdSchemaResource resource = CrdSchemaResource.load(context.getPrefix()).orElseThrow();
+
+    assertThat(resource.getSchema(), equalTo(generatedSchema));
+    assertThat(resource.getHash(), equalTo(DigestUtils.sha256Hex(Yaml.dump(generatedSchema))));
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = TestSubject.class)
+  void whenPrecomputedSchemaResourcePresent_crdUsesItsHash(TestSubject testSubject) {
+    final CrdHelper.CrdContext context = testSubject.createCrdContext();
+
+    final V1CustomResourceDefinition crd = context.createModel(PRODUCT_VERSION, null);
+
+    assertThat(AnnotationHelper.getHash(crd),
+        equalTo(CrdSchemaResource.load(context.getPrefix()).orElseThrow().getHash()));
+  }
+
+  @Test
+  void whenPrecomputedSchemaResourceMissing_generateSchema() {
+    final CrdHelper.CrdContext context = new CrdHelper.ClusterCrdContext() {
+      @Override
+      protected String getPrefix() {
+        return "missing-crd";
+      }
+    };
+
+    final V1CustomResourceDefinition crd = context.createModel(PRODUCT_VERSION, null);
+
+    assertThat(getPropertiesType(crd, "spec", "clusterName"), equalTo("string"));
+    assertThat(AnnotationHelper.getHash(crd), equalTo(AnnotationHelper.createHash(getProperties(crd, new String[0]))));
+  }
+
+  @Test
+  void crdModelIsNotCreatedUntilNeeded() {
+    final CrdHelper.CrdContext context = new CrdHelper.ClusterCrdContext() {
+      @Override
+      V1CustomResourceDefinition createModel(SemanticVersion productVersion, Certificates certificates) {
+        throw new AssertionError("model should not be created");
+      }
+    };
+
+    assertThat(context.verifyCrd(terminalStep), notNullValue());
+  }
+
   @Test
   void testCrdCreationExceptionWhenWritingCrd() throws NoSuchFieldException {
     fileSystem.throwExceptionOnGetPath("/crd.yaml");
@@ -0,0 +1,143 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.SecretHelper.PASSWORD_KEY;
+import static oracle.kubernetes.operator.helpers.SecretHelper.USERNAME_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class CredentialsCacheTest {
+
+  private static final String NS = "namespace";
+  private static final String SECRET_NAME = "secret-name";
+
+  private final CredentialsCache cache = new CredentialsCache();
+  private final V1Secret secret = createSecret("1", "user", "password");
+
+  private V1Secret createSecret(String resourceVersion, String userName, String password) {
+    return new V1Secret()
+        .metadata(new V1ObjectMeta().namespace(NS).name(SECRET_NAME).resourceVersion(resourceVersion))
+        .data(Map.of(USERNAME_KEY, bytes(userName), PASSWORD_KEY, bytes(password)));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private AuthorizationSource cacheCredentials(V1Secret secret) {
+    return cache.put(NS, SECRET_NAME, secret, secret.getData().get(USERNAME_KEY), secret.getData().get(PASSWORD_KEY));
+  }
+
+  private static String expectedHeader(String userName, String password) {
+    return "Basic " + Base64.getEncoder().encodeToString(bytes(userName + ":" + password));
+  }
+
+  @Test
+  void whenCredentialsCached_returnThemWithPrecomputedHeader() {
+    AuthorizationSource credentials = cacheCredentials(secret);
+
+    assertThat(cache.get(NS, SECRET_NAME), sameInstance(credentials));
+    assertThat(credentials.createBasicAuthorizationString(), equalTo(expectedHeader("user", "password")));
+  }
+
+  @Test
+  void cachedCredentials_areCopiesOfTheSecretData() {
+    AuthorizationSource credentials = cacheCredentials(secret);
+
+    assertThat(credentials.getPassword(), not(sameInstance(secret.getData().get(PASSWORD_KEY))));
+    assertThat(credentials.getPassword(), equalTo(bytes("password")));
+  }
+
+  @Test
+  void whenCredentialsNotCached_returnNull() {
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  void whenCredentialsFail_evictAndZeroThem() {
+    AuthorizationSource credentials = cacheCredentials(secret);
+
+    credentials.onFailure();
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+    assertThat(credentials.getPassword(), equalTo(new byte[bytes("password").length]));
+  }
+
+  @Test
+  void whenSecretDeleted_evictCredentials() {
+    cacheCredentials(secret);
+
+    cache.onWatchEvent("DELETED", secret);
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  void whenSecretModified_evictAndZeroCredentials() {
+    AuthorizationSource original = cacheCredentials(secret);
+
+    cache.onWatchEvent("MODIFIED", createSecret("2", "admin", "changed"));
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+    assertThat(original.getUserName(), equalTo(new byte[bytes("user").length]));
+  }
+
+  @Test
+  void whenSecretEventHasSameResourceVersion_keepCachedCredentials() {
+    AuthorizationSource original = cacheCredentials(secret);
+
+    cache.onWatchEvent("MODIFIED", createSecret("1", "user", "password"));
+
+    assertThat(cache.get(NS, SECRET_NAME), sameInstance(original));
+  }
+
+  @Test
+  void whenMetadataOnlyEventReportsSecretModified_evictCredentials() {
+    cacheCredentials(secret);
+
+    cache.onWatchEvent("MODIFIED", new V1Secret()
+        .metadata(new V1ObjectMeta().namespace(NS).name(SECRET_NAME).resourceVersion("2")));
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  void whenUncachedSecretAdded_ignoreIt() {
+    cache.onWatchEvent("ADDED", secret);
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  void whenNamespaceEvicted_removeItsCredentials() {
+    cacheCredentials(secret);
+
+    cache.evictNamespace(NS);
+
+    assertThat(cache.get(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  void whenReplacedCredentialsFail_doNotEvictTheirReplacement() {
+    AuthorizationSource original = cacheCredentials(secret);
+    cacheCredentials(createSecret("2", "user", "password"));
+
+    original.onFailure();
+
+    assertThat(cache.get(NS, SECRET_NAME), notNullValue());
+  }
+}
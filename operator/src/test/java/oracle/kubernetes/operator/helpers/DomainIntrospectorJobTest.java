@@ -3,7 +3,10 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,6 +17,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.IntStream;
@@ -22,12 +26,15 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
 import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
 import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
 import io.kubernetes.client.openapi.models.V1ContainerStatus;
@@ -58,6 +65,8 @@ import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.KubernetesExec;
+import oracle.kubernetes.operator.utils.KubernetesExecFactory;
 import oracle.kubernetes.operator.watcher.JobWatcher;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -89,6 +98,7 @@ import org.junit.jupiter.api.Test;
 import org.yaml.snakeyaml.Yaml;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.common.AuxiliaryImageConstants.AUXILIARY_IMAGE_DEFAULT_INIT_CONTAINER_COMMAND;
 import static oracle.kubernetes.common.AuxiliaryImageConstants.AUXILIARY_IMAGE_INIT_CONTAINER_NAME_PREFIX;
@@ -118,6 +128,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED_MARKER;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_FAILED;
+import static oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority.ROUTINE;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
 import static oracle.kubernetes.operator.helpers.Matchers.hasEnvVar;
 import static oracle.kubernetes.operator.helpers.Matchers.hasLegacyAuxiliaryImageInitContainer;
@@ -138,6 +149,8 @@ import static oracle.kubernetes.operator.helpers.StepContextConstants.OPSS_WALLE
 import static oracle.kubernetes.operator.helpers.StepContextConstants.SECRETS_VOLUME;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.WDTCONFIGMAP_MOUNT_PATH;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DOMAIN_PRESENCE_RECHECK_INTERVAL_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTION_MAX_CONCURRENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_POD_POOL_MAX_SIZE;
 import static oracle.kubernetes.weblogic.domain.model.AuxiliaryImage.AUXILIARY_IMAGE_DEFAULT_SOURCE_WDT_INSTALL_HOME;
 import static oracle.kubernetes.weblogic.domain.model.AuxiliaryImage.AUXILIARY_IMAGE_INTERNAL_VOLUME_NAME;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
@@ -202,6 +215,7 @@ class DomainIntrospectorJobTest extends DomainTestUtils {
   private final SchemaConversionUtils schemaConversionUtils = new SchemaConversionUtils();
 
   private boolean jobDeleted;
+  private final IntrospectorExecFactoryStub execFactory = new IntrospectorExecFactoryStub();
 
   public DomainIntrospectorJobTest() {
   }
@@ -1816,6 +1830,227 @@ class DomainIntrospectorJobTest extends DomainTestUtils {
                     .mountPath(DEFAULT_LEGACY_AUXILIARY_IMAGE_MOUNT_PATH)));
   }
 
+  @Test
+  void whenPodPoolEnabledAndNoWarmPodAvailable_createJob() throws Exception {
+    enableIntrospectorPodPool();
+    establishWlsDomainWithCluster("cluster-1");
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
+  @Test
+  void afterJobIntrospection_createWarmPod() throws Exception {
+    enableIntrospectorPodPool();
+
+    runInitialIntrospection();
+
+    assertThat(getWarmPods(), hasSize(1));
+  }
+
+  @Test
+  void warmPod_runsWaitingCommandInIntrospectorContainer() throws Exception {
+    enableIntrospectorPodPool();
+
+    runInitialIntrospection();
+
+    assertThat(getWarmPods().get(0).getSpec().getContainers().get(0).getCommand(), equalTo(List.of("sleep", "600")));
+  }
+
+  @Test
+  void whenWarmPodRunning_introspectWithoutCreatingJob() throws Exception {
+    enableIntrospectorPodPool();
+    runInitialIntrospection();
+    markWarmPodsRunning();
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(logRecords, not(containsInfo(getJobCreatedMessageKey())));
+    assertThat(execFactory.execCount, equalTo(1));
+  }
+
+  @Test
+  void afterWarmPodIntrospection_replaceUsedPod() throws Exception {
+    enableIntrospectorPodPool();
+    runInitialIntrospection();
+    final String usedPodName = getName(getWarmPods().get(0));
+    markWarmPodsRunning();
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(getWarmPods(), hasSize(1));
+    assertThat(getName(getWarmPods().get(0)), not(equalTo(usedPodName)));
+  }
+
+  @Test
+  void afterWarmPodIntrospection_domainTopologyIsAvailable() throws Exception {
+    enableIntrospectorPodPool();
+    runInitialIntrospection();
+    markWarmPodsRunning();
+
+    Packet packet = testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(packet.get(DOMAIN_TOPOLOGY), notNullValue());
+  }
+
+  @Test
+  void whenWarmPodIntrospectionFails_fallBackToJob() throws Exception {
+    enableIntrospectorPodPool();
+    runInitialIntrospection();
+    markWarmPodsRunning();
+    execFactory.output = SEVERE_MESSAGE;
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
+  @Test
+  void whenWarmPodNotYetRunning_createJobAndKeepPod() throws Exception {
+    enableIntrospectorPodPool();
+    runInitialIntrospection();
+    final String warmPodName = getName(getWarmPods().get(0));
+    getWarmPods().forEach(pod -> pod.setStatus(new V1PodStatus().phase("Pending")));
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+    assertThat(execFactory.execCount, equalTo(0));
+    assertThat(getWarmPods().stream().map(this::getName).toList(), hasItem(warmPodName));
+  }
+
+  // Runs a job-based introspection, which leaves a warm pod for the next one.
+  @Test
+  void whenIntrospectionLimitReached_doNotCreateJob() throws Exception {
+    establishWlsDomainWithCluster("cluster-1");
+    occupyOnlyIntrospectionSlot();
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(logRecords, not(containsInfo(getJobCreatedMessageKey())));
+  }
+
+  @Test
+  void whenIntrospectionLimitReached_reportQueuePositionInDomainStatus() throws Exception {
+    establishWlsDomainWithCluster("cluster-1");
+    occupyOnlyIntrospectionSlot();
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(getUpdatedDomain().getStatus().getIntrospectionQueuePosition(), equalTo(1));
+  }
+
+  @Test
+  void afterQueuedIntrospectionAdmitted_createJobAndClearQueuePosition() throws Exception {
+    establishWlsDomainWithCluster("cluster-1");
+    final IntrospectionScheduler scheduler = occupyOnlyIntrospectionSlot();
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    scheduler.release(NS, "other-domain");
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+    assertThat(getUpdatedDomain().getStatus().getIntrospectionQueuePosition(), nullValue());
+  }
+
+  @Test
+  void afterIntrospectionJobDeleted_releaseItsSlot() throws Exception {
+    final IntrospectionScheduler scheduler = new IntrospectionScheduler();
+    mementos.add(StaticStubSupport.install(IntrospectionScheduler.class, "instance", scheduler));
+    TuningParametersStub.setParameter(INTROSPECTION_MAX_CONCURRENT, "1");
+
+    runInitialIntrospection();
+
+    assertThat(scheduler.getNumRunning(), equalTo(0));
+  }
+
+  private IntrospectionScheduler occupyOnlyIntrospectionSlot() throws NoSuchFieldException {
+    final IntrospectionScheduler scheduler = new IntrospectionScheduler();
+    mementos.add(StaticStubSupport.install(IntrospectionScheduler.class, "instance", scheduler));
+    TuningParametersStub.setParameter(INTROSPECTION_MAX_CONCURRENT, "1");
+    scheduler.tryAdmit(new IntrospectionScheduler.Request(NS, "other-domain", ROUTINE, null, 120));
+    return scheduler;
+  }
+
+  private void runInitialIntrospection() throws JsonProcessingException {
+    establishWlsDomainWithCluster("cluster-1");
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+    logRecords.clear();
+  }
+
+  private void enableIntrospectorPodPool() throws Exception {
+    mementos.add(StaticStubSupport.install(IntrospectorPodPool.class, "instance", new IntrospectorPodPool()));
+    mementos.add(StaticStubSupport.install(JobHelper.class, "execFactory", execFactory));
+    TuningParametersStub.setParameter(INTROSPECTOR_POD_POOL_MAX_SIZE, "1");
+    execFactory.output = IntrospectionTestUtils.getIntrospectResult(createDomainConfig("cluster-1"));
+  }
+
+  private List<V1Pod> getWarmPods() {
+    return testSupport.<V1Pod>getResources(KubernetesTestSupport.POD).stream()
+        .filter(pod -> pod.getMetadata().getLabels().containsKey(LabelConstants.INTROSPECTOR_POOL_LABEL))
+        .filter(pod -> pod.getMetadata().getDeletionTimestamp() == null)
+        .toList();
+  }
+
+  private String getName(V1Pod pod) {
+    return pod.getMetadata().getName();
+  }
+
+  private void markWarmPodsRunning() {
+    getWarmPods().forEach(pod -> pod.setStatus(new V1PodStatus().phase("Running").addContainerStatusesItem(
+        new V1ContainerStatus().name(pod.getSpec().getContainers().get(0).getName())
+            .state(new V1ContainerState().running(new V1ContainerStateRunning())))));
+  }
+
+  static class IntrospectorExecFactoryStub implements KubernetesExecFactory {
+    private String output;
+    private int execCount;
+
+    @Override
+    public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
+      return new KubernetesExec() {
+        @Override
+        public Process exec(String... command) {
+          execCount++;
+          return createStub(ProcessStub.class, output);
+        }
+      };
+    }
+  }
+
+  abstract static class ProcessStub extends Process {
+    private final String output;
+
+    ProcessStub(String output) {
+      this.output = output;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) {
+      return true;
+    }
+
+    @Override
+    public int exitValue() {
+      return 0;
+    }
+
+    @Override
+    public void destroy() {
+      // no-op
+    }
+  }
+
   private String getDomainHome() {
     return "/shared/domains/" + UID;
   }
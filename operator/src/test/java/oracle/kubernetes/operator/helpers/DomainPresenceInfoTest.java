@@ -1,15 +1,19 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.Stub;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
@@ -20,16 +24,20 @@ import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ManagedServer;
 import org.hamcrest.core.Is;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_IMAGE;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.tuning.TuningParameters.SELECTIVE_WATCH_DECODING_ENABLED;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -39,6 +47,8 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class DomainPresenceInfoTest {
@@ -53,6 +63,12 @@ class DomainPresenceInfoTest {
   private static final String NAMESPACE = "ns";
   private static final String DOMAIN_UID = "domain";
   private final DomainPresenceInfo info = new DomainPresenceInfo(NAMESPACE, DOMAIN_UID);
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
 
   private static DomainPresenceInfo createDomainPresenceInfo(DomainResource domain) {
     return new DomainPresenceInfo(domain);
@@ -163,6 +179,44 @@ class DomainPresenceInfoTest {
     assertThat(info.getServerPod("myserver"), sameInstance(pod));
   }
 
+  @Test
+  void afterServerPodDefined_managedFieldsAreNotRetained() {
+    info.setServerPod("myserver", new V1Pod().metadata(new V1ObjectMeta()
+          .name("myserver").addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubelet"))));
+
+    assertThat(info.getServerPod("myserver").getMetadata().getManagedFields(), nullValue());
+  }
+
+  @Test
+  void afterServerPodSetFromEvent_decodedEventIsNotCompactedAgain() {
+    info.setServerPodFromEvent("myserver", new V1Pod().metadata(new V1ObjectMeta()
+          .name("myserver").addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubelet"))));
+
+    assertThat(info.getServerPod("myserver").getMetadata().getManagedFields(), hasSize(1));
+  }
+
+  @Test
+  void whenSelectiveWatchDecodingDisabled_serverPodSetFromEventIsCompacted() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(SELECTIVE_WATCH_DECODING_ENABLED, "false");
+
+    info.setServerPodFromEvent("myserver", new V1Pod().metadata(new V1ObjectMeta()
+          .name("myserver").addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubelet"))));
+
+    assertThat(info.getServerPod("myserver").getMetadata().getManagedFields(), nullValue());
+  }
+
+  @Test
+  void whenSelectiveWatchDecodingDisabled_serverServiceSetFromEventIsCompacted() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(SELECTIVE_WATCH_DECODING_ENABLED, "false");
+
+    info.setServerServiceFromEvent("myserver", new V1Service().metadata(new V1ObjectMeta()
+          .name("myserver").addManagedFieldsItem(new V1ManagedFieldsEntry().manager("weblogic-operator"))));
+
+    assertThat(info.getServerService("myserver").getMetadata().getManagedFields(), nullValue());
+  }
+
   @Test
   void whenNoneDefined_getPodDisruptionBudgetReturnsNull() {
     assertThat(info.getPodDisruptionBudget("cluster"), nullValue());
@@ -363,4 +417,142 @@ class DomainPresenceInfoTest {
     assertThat(labels.get(labelKey), equalTo(labelValue));
   }
 
+  @Test
+  void whenDomainUnchanged_reuseEffectiveServerSpec() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+
+    assertThat(info.getServer("ms1", CLUSTER_1), sameInstance(info.getServer("ms1", CLUSTER_1)));
+  }
+
+  @Test
+  void whenDomainUnchanged_reuseEffectiveClusterSpec() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(info, CLUSTER_1);
+
+    assertThat(info.getCluster(CLUSTER_1), sameInstance(info.getCluster(CLUSTER_1)));
+  }
+
+  @Test
+  void whenServerInDifferentCluster_computeSeparateEffectiveServerSpec() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+
+    assertThat(info.getServer("ms1", CLUSTER_1), not(sameInstance(info.getServer("ms1", CLUSTER_2))));
+  }
+
+  @Test
+  void whenTopologyMovesServerToAnotherCluster_effectiveServerSpecUsesThatClusterResource() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    info.addClusterResource(createClusterResourceWithRestartVersion(CLUSTER_1, "1"));
+    info.addClusterResource(createClusterResourceWithRestartVersion(CLUSTER_2, "2"));
+    info.getServer("ms1", CLUSTER_1);
+
+    assertThat(info.getServer("ms1", CLUSTER_2).getClusterRestartVersion(), equalTo("2"));
+  }
+
+  private ClusterResource createClusterResourceWithRestartVersion(String clusterName, String restartVersion) {
+    final ClusterResource resource = createClusterResource(clusterName);
+    resource.getSpec().setRestartVersion(restartVersion);
+    return resource;
+  }
+
+  @Test
+  void whenDomainReplaced_recomputeEffectiveServerSpec() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    final EffectiveServerSpec original = info.getServer("ms1", CLUSTER_1);
+
+    info.setDomain(createDomainWithServerRestartVersion("ms1", "2"));
+
+    assertThat(info.getServer("ms1", CLUSTER_1), not(sameInstance(original)));
+    assertThat(info.getServer("ms1", CLUSTER_1).getServerRestartVersion(), equalTo("2"));
+  }
+
+  @Test
+  void whenDomainGenerationChanges_recomputeEffectiveServerSpec() {
+    final DomainResource domain = createDomain(NAMESPACE, DOMAIN_UID);
+    domain.getMetadata().setGeneration(1L);
+    final DomainPresenceInfo info = createDomainPresenceInfo(domain);
+    final EffectiveServerSpec original = info.getServer("ms1", CLUSTER_1);
+
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(info.getServer("ms1", CLUSTER_1), not(sameInstance(original)));
+  }
+
+  @Test
+  void whenClusterResourceReplaced_recomputeEffectiveServerSpec() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(info, CLUSTER_1);
+    final EffectiveServerSpec original = info.getServer("ms1", CLUSTER_1);
+
+    createAndAddClusterResourceToDomainPresenceInfo(info, CLUSTER_1);
+
+    assertThat(info.getServer("ms1", CLUSTER_1), not(sameInstance(original)));
+  }
+
+  @Test
+  void whenClusterResourceVersionChanges_recomputeEffectiveClusterSpec() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    final ClusterResource cluster = createClusterResource(CLUSTER_1);
+    cluster.setMetadata(new V1ObjectMeta().resourceVersion("1"));
+    info.addClusterResource(cluster);
+    final EffectiveClusterSpec original = info.getCluster(CLUSTER_1);
+
+    cluster.getMetadata().setResourceVersion("2");
+
+    assertThat(info.getCluster(CLUSTER_1), not(sameInstance(original)));
+  }
+
+  @Test
+  void afterSetReplicaCount_returnUpdatedReplicaCount() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(info, CLUSTER_1);
+    info.getReplicaCount(CLUSTER_1);
+
+    info.setReplicaCount(CLUSTER_1, 5);
+
+    assertThat(info.getReplicaCount(CLUSTER_1), equalTo(5));
+  }
+
+  @Test
+  void afterInvalidateEffectiveConfiguration_recomputeEffectiveServerSpec() {
+    final DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    final EffectiveServerSpec original = info.getServer("ms1", CLUSTER_1);
+
+    info.invalidateEffectiveConfiguration();
+
+    assertThat(info.getServer("ms1", CLUSTER_1), not(sameInstance(original)));
+  }
+
+  @Test
+  void withManyServers_eachEffectiveServerSpecIsComputedOnceAndReflectsItsConfiguration() {
+    final DomainResource domain = createDomain(NAMESPACE, DOMAIN_UID);
+    IntStream.range(0, 500).forEach(i -> addManagedServer(domain, "ms" + i, Integer.toString(i)));
+    final DomainPresenceInfo info = createDomainPresenceInfo(domain);
+    createAndAddClusterResourceToDomainPresenceInfo(info, CLUSTER_1);
+
+    final Map<String, EffectiveServerSpec> first = getServerSpecs(info, 500);
+    final Map<String, EffectiveServerSpec> second = getServerSpecs(info, 500);
+
+    first.forEach((name, spec) -> assertThat(second.get(name), sameInstance(spec)));
+    assertThat(second.get("ms321").getServerRestartVersion(), equalTo("321"));
+  }
+
+  private DomainResource createDomainWithServerRestartVersion(String serverName, String restartVersion) {
+    final DomainResource domain = createDomain(NAMESPACE, DOMAIN_UID);
+    addManagedServer(domain, serverName, restartVersion);
+    return domain;
+  }
+
+  private void addManagedServer(DomainResource domain, String serverName, String restartVersion) {
+    final ManagedServer server = new ManagedServer().withServerName(serverName);
+    server.setRestartVersion(restartVersion);
+    domain.getSpec().getManagedServers().add(server);
+  }
+
+  private Map<String, EffectiveServerSpec> getServerSpecs(DomainPresenceInfo info, int numServers) {
+    final Map<String, EffectiveServerSpec> result = new HashMap<>();
+    IntStream.range(0, numServers).mapToObj(i -> "ms" + i)
+        .forEach(name -> result.put(name, info.getServer(name, CLUSTER_1)));
+    return result;
+  }
 }
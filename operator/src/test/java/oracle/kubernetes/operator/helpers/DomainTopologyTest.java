@@ -1,22 +1,32 @@
-// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDynamicServersConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.tuning.TuningParameters.DOMAIN_TOPOLOGY_CACHE_SIZE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DomainTopologyTest {
@@ -147,6 +157,19 @@ class DomainTopologyTest {
           validationErrors:
           """;
 
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(DomainTopologyCache.class, "instance", new DomainTopologyCache()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
   @Test
   void parseDomainTopologyYaml() {
     DomainTopology domainTopology =
@@ -338,4 +361,74 @@ class DomainTopologyTest {
     assertFalse(domainTopology.getValidationErrors().isEmpty());
     assertFalse(domainTopology.getDomainValid());
   }
-}
\ No newline at end of file
+
+  @Test
+  void whenTopologyCacheDisabled_parseTopologyEachTime() {
+    assertNotSame(DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY),
+        DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY));
+    assertEquals(0, DomainTopologyCache.getInstance().size());
+  }
+
+  @Test
+  void whenTopologyCacheEnabled_reuseParsedTopology() {
+    TuningParametersStub.setParameter(DOMAIN_TOPOLOGY_CACHE_SIZE, "10");
+
+    assertSame(DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY),
+        DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY));
+  }
+
+  @Test
+  void whenTopologyCacheEnabled_parseDifferentTopologiesSeparately() {
+    TuningParametersStub.setParameter(DOMAIN_TOPOLOGY_CACHE_SIZE, "10");
+
+    DomainTopology topology = DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY);
+    DomainTopology dynamicTopology = DomainTopology.parseDomainTopologyYaml(DYNAMIC_SERVER_TOPOLOGY);
+
+    assertEquals("cluster-1-template", Objects.requireNonNull(dynamicTopology).getDomain().getServerTemplates()
+        .get(0).getName());
+    assertNotSame(topology, dynamicTopology);
+  }
+
+  @Test
+  void whenTopologyCacheFull_discardLeastRecentlyUsedTopology() {
+    TuningParametersStub.setParameter(DOMAIN_TOPOLOGY_CACHE_SIZE, "2");
+    DomainTopology topology = DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY);
+    DomainTopology.parseDomainTopologyYaml(DYNAMIC_SERVER_TOPOLOGY);
+    DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY);
+
+    DomainTopology.parseDomainTopologyYaml(INVALID_TOPOLOGY);
+
+    assertEquals(2, DomainTopologyCache.getInstance().size());
+    assertSame(topology, DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY));
+  }
+
+  @Test
+  void whenCachedTopologyInvalid_reportValidationErrorsEachTime() {
+    TuningParametersStub.setParameter(DOMAIN_TOPOLOGY_CACHE_SIZE, "10");
+    List<String> reported = new ArrayList<>();
+
+    DomainTopology.parseDomainTopologyYaml(INVALID_TOPOLOGY, reported::addAll);
+    DomainTopology.parseDomainTopologyYaml(INVALID_TOPOLOGY, reported::addAll);
+
+    assertEquals(2, reported.size());
+  }
+
+  @Test
+  void whenTopologyCacheEnabled_recordHitsAndMisses() {
+    TuningParametersStub.setParameter(DOMAIN_TOPOLOGY_CACHE_SIZE, "10");
+    double hits = getCacheRequests("hit");
+    double misses = getCacheRequests("miss");
+
+    DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY);
+    DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY);
+    DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY);
+
+    assertEquals(2.0, getCacheRequests("hit") - hits);
+    assertEquals(1.0, getCacheRequests("miss") - misses);
+  }
+
+  private double getCacheRequests(String result) {
+    return Objects.requireNonNullElse(CollectorRegistry.defaultRegistry.getSampleValue(
+        "wko_topology_cache_requests_total", new String[] {"result"}, new String[] {result}), 0.0);
+  }
+}
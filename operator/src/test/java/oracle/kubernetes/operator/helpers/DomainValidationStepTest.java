@@ -18,9 +18,11 @@ import javax.annotation.Nonnull;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
 import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.work.Step;
@@ -261,11 +263,34 @@ class DomainValidationStepTest {
   }
 
   @Test
-  void whenDomainValidationStepsCalled_withSecretInMultiChunks_packetContainsAllSecrets() {
+  void whenDomainValidationStepsCalled_withSecretInMultiChunks_packetContainsOnlyReferencedSecret() {
+    domain.getSpec().withWebLogicCredentialsSecret(
+        new V1LocalObjectReference().name(TEST_SECRET_PREFIX + MULTI_CHUNKS_FIRST_NUM_IN_SECOND_CHUNK));
     createSecrets(MULTI_CHUNKS_LAST_NUM);
     testSupport.runSteps(domainValidationSteps);
 
-    assertThat(getNumMatchingSecrets(), is((long) MULTI_CHUNKS_LAST_NUM));
+    assertThat(getNumMatchingSecrets(), is(1L));
+  }
+
+  @Test
+  void whenReferencedSecretIsIndexed_runNextStepWithoutReadingIt() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1LocalObjectReference().name("name"));
+    ResourceNameIndex.getInstance().indexSecrets(NS, new V1SecretList().addItemsItem(createSecret("name")));
+
+    testSupport.runSteps(domainValidationSteps);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenIndexedSecretDeleted_dontRunNextStep() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1LocalObjectReference().name("name"));
+    ResourceNameIndex.getInstance().indexSecrets(NS, new V1SecretList().addItemsItem(createSecret("name")));
+    ResourceNameIndex.getInstance().onSecretWatchEvent("DELETED", createSecret("name"));
+
+    testSupport.runSteps(domainValidationSteps);
+
+    assertThat(terminalStep.wasRun(), is(false));
   }
 
   private long getNumMatchingSecrets() {
@@ -325,11 +350,28 @@ class DomainValidationStepTest {
   }
 
   @Test
-  void whenDomainValidationStepsCalled_withConfigMapInMultiChunks_packetContainsAllConfigMaps() {
+  void whenDomainValidationStepsCalled_withConfigMapInMultiChunks_packetContainsOnlyReferencedConfigMap() {
+    domain.getSpec().setConfiguration(new Configuration().withModel(
+        new Model().withConfigMap(TEST_CONFIGMAP_PREFIX + MULTI_CHUNKS_FIRST_NUM_IN_SECOND_CHUNK)));
     createConfigMaps(MULTI_CHUNKS_LAST_NUM);
     testSupport.runSteps(domainValidationSteps);
 
-    assertThat(getNumMatchingConfigMaps(), equalTo((long) MULTI_CHUNKS_LAST_NUM));
+    assertThat(getNumMatchingConfigMaps(), equalTo(1L));
+  }
+
+  @Test
+  void whenReferencedConfigMapIsIndexed_runNextStepWithoutReadingIt() {
+    domain.getSpec()
+        .withWebLogicCredentialsSecret(new V1LocalObjectReference().name("name"))
+        .setConfiguration(new Configuration().withModel(
+            new Model().withConfigMap("model-cm").withRuntimeEncryptionSecret("name")));
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
+    ResourceNameIndex.getInstance().indexConfigMaps(NS, new V1ConfigMapList().addItemsItem(
+        new V1ConfigMap().metadata(new V1ObjectMeta().name("model-cm").namespace(NS))));
+
+    testSupport.runSteps(domainValidationSteps);
+
+    assertThat(terminalStep.wasRun(), is(true));
   }
 
   private long getNumMatchingConfigMaps() {
@@ -0,0 +1,216 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.EventAggregator.DeferredRepeats;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.EventConstants.EVENT_NORMAL;
+import static oracle.kubernetes.operator.EventConstants.EVENT_WARNING;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_AGGREGATION_WINDOW_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_WRITE_LIMIT_PER_SECOND;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+class EventAggregatorTest {
+
+  private static final String NS = "namespace";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final EventAggregator aggregator = new EventAggregator();
+  private final CoreV1Event event1 = createEvent("event1", EVENT_NORMAL);
+  private final CoreV1Event event2 = createEvent("event2", EVENT_NORMAL);
+  private final CoreV1Event warning = createEvent("warning", EVENT_WARNING);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void byDefault_repeatsAreNotDeferred() {
+    aggregator.recordWrite(event1);
+
+    assertThat(aggregator.deferRepeat(event1), is(false));
+  }
+
+  @Test
+  void whenWindowDefined_repeatWithinWindowIsDeferred() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    SystemClockTestSupport.increment(5);
+
+    assertThat(aggregator.deferRepeat(event1), is(true));
+  }
+
+  @Test
+  void whenWindowDefined_repeatAfterWindowIsNotDeferred() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    SystemClockTestSupport.increment(10);
+
+    assertThat(aggregator.deferRepeat(event1), is(false));
+  }
+
+  @Test
+  void whenWindowDefined_repeatOfOtherEventIsNotDeferred() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+
+    assertThat(aggregator.deferRepeat(event2), is(false));
+  }
+
+  @Test
+  void recordWrite_returnsAndClearsNumberOfDeferredRepeats() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    aggregator.deferRepeat(event1);
+    aggregator.deferRepeat(event1);
+    SystemClockTestSupport.increment(10);
+
+    assertThat(aggregator.recordWrite(event1), equalTo(2));
+    assertThat(aggregator.getPendingRepeats(event1), equalTo(0));
+  }
+
+  @Test
+  void whenWriteLimitReached_normalRepeatIsDeferred() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "2");
+    aggregator.recordWrite(event1);
+    aggregator.recordWrite(event2);
+
+    assertThat(aggregator.deferRepeat(event1), is(true));
+    assertThat(aggregator.getPendingRepeats(event1), equalTo(1));
+  }
+
+  @Test
+  void whenWriteLimitReached_warningRepeatIsNotDeferred() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "2");
+    aggregator.recordWrite(event1);
+    aggregator.recordWrite(warning);
+
+    assertThat(aggregator.deferRepeat(warning), is(false));
+  }
+
+  @Test
+  void whenWriteLimitNotReached_normalRepeatIsNotDeferred() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "2");
+    aggregator.recordWrite(event1);
+
+    assertThat(aggregator.deferRepeat(event1), is(false));
+  }
+
+  @Test
+  void afterOneSecond_earlierWritesDoNotCountTowardLimit() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "2");
+    aggregator.recordWrite(event1);
+    aggregator.recordWrite(event2);
+    SystemClockTestSupport.increment(1);
+
+    assertThat(aggregator.deferRepeat(event1), is(false));
+  }
+
+  @Test
+  void numberOfTrackedEventsIsBounded() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    for (int i = 0; i < EventAggregator.MAX_TRACKED_EVENTS; i++) {
+      aggregator.recordWrite(createEvent("other" + i, EVENT_NORMAL));
+    }
+
+    assertThat(aggregator.deferRepeat(event1), is(false));
+  }
+
+  @Test
+  void whileWindowOpen_deferredRepeatsAreNotDue() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    aggregator.deferRepeat(event1);
+    SystemClockTestSupport.increment(9);
+
+    assertThat(aggregator.takeDueRepeats(), empty());
+  }
+
+  @Test
+  void afterWindowExpires_deferredRepeatsAreDue() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    aggregator.deferRepeat(event1);
+    SystemClockTestSupport.increment(5);
+    aggregator.deferRepeat(event1);
+    SystemClockTestSupport.increment(5);
+
+    assertThat(aggregator.takeDueRepeats(),
+        contains(new DeferredRepeats(event1, 2, SystemClockTestSupport.getTestStartTime().plusSeconds(5))));
+  }
+
+  @Test
+  void afterDueRepeatsTaken_theyAreNotDueAgain() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    aggregator.deferRepeat(event1);
+    SystemClockTestSupport.increment(10);
+    aggregator.takeDueRepeats();
+
+    assertThat(aggregator.takeDueRepeats(), empty());
+    assertThat(aggregator.getPendingRepeats(event1), equalTo(0));
+  }
+
+  @Test
+  void whileWriteLimitReached_normalDeferredRepeatsAreNotDue() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "2");
+    aggregator.recordWrite(event1);
+    aggregator.recordWrite(event2);
+    aggregator.deferRepeat(event1);
+
+    assertThat(aggregator.takeDueRepeats(), empty());
+  }
+
+  @Test
+  void afterWriteLimitEases_normalDeferredRepeatsAreDue() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "2");
+    aggregator.recordWrite(event1);
+    aggregator.recordWrite(event2);
+    aggregator.deferRepeat(event1);
+    SystemClockTestSupport.increment(1);
+
+    assertThat(aggregator.takeDueRepeats(), hasSize(1));
+  }
+
+  @Test
+  void whenTrackedEventEvicted_itsDeferredRepeatsAreDue() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "10");
+    aggregator.recordWrite(event1);
+    aggregator.deferRepeat(event1);
+    for (int i = 0; i < EventAggregator.MAX_TRACKED_EVENTS; i++) {
+      aggregator.recordWrite(createEvent("other" + i, EVENT_NORMAL));
+    }
+
+    assertThat(aggregator.takeDueRepeats(),
+        contains(new DeferredRepeats(event1, 1, SystemClockTestSupport.getTestStartTime())));
+  }
+
+  private static CoreV1Event createEvent(String name, String type) {
+    return new CoreV1Event().metadata(new V1ObjectMeta().namespace(NS).name(name)).type(type);
+  }
+}
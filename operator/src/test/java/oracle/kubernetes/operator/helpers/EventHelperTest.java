@@ -32,6 +32,7 @@ import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainFailureReason;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -130,7 +131,10 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.POD_CYCLE
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.START_MANAGING_NAMESPACE;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANAGING_NAMESPACE;
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
+import static oracle.kubernetes.operator.helpers.EventHelper.createFlushDeferredRepeatsStep;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_AGGREGATION_WINDOW_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_WRITE_LIMIT_PER_SECOND;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -170,6 +174,7 @@ class EventHelperTest {
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", nsEventObjects));
     mementos.add(TuningParametersStub.install());
     mementos.add(HelmAccessStub.install());
+    mementos.add(StaticStubSupport.install(EventAggregator.class, "instance", new EventAggregator()));
 
     testSupport.addToPacket(JOB_POD, new V1Pod().metadata(new V1ObjectMeta().name(jobPodName)));
     testSupport.addDomainPresenceInfo(info);
@@ -370,6 +375,100 @@ class EventHelperTest {
         containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 2), is(true));
   }
 
+  @Test
+  void whenAggregationWindowDefined_repeatWithinWindowIsNotWritten() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "60");
+    presenceInfoMap.put(NS, Map.of(UID, info));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    dispatchAddedEventWatches();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    presenceInfoMap.remove(NS);
+    assertThat("Found DOMAIN_CHANGED event with count 1",
+        containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 1), is(true));
+  }
+
+  @Test
+  void whenAggregationWindowElapsed_nextRepeatIncludesDeferredRepeats() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "60");
+    presenceInfoMap.put(NS, Map.of(UID, info));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    dispatchAddedEventWatches();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    SystemClockTestSupport.increment(60);
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    presenceInfoMap.remove(NS);
+    assertThat("Found DOMAIN_CHANGED event with count 4",
+        containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 4), is(true));
+  }
+
+  @Test
+  void whenAggregationWindowElapsed_repeatUpdatesLastTimestamp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "60");
+    presenceInfoMap.put(NS, Map.of(UID, info));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    dispatchAddedEventWatches();
+
+    SystemClockTestSupport.increment(90);
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    presenceInfoMap.remove(NS);
+    CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT);
+    assertThat(event.getLastTimestamp(), equalTo(SystemClockTestSupport.getTestStartTime().plusSeconds(90)));
+  }
+
+  @Test
+  void whenAggregationWindowExpiresWithoutRepeat_flushWritesDeferredRepeats() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "60");
+    presenceInfoMap.put(NS, Map.of(UID, info));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    dispatchAddedEventWatches();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    SystemClockTestSupport.increment(10);
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    SystemClockTestSupport.increment(50);
+    testSupport.runSteps(createFlushDeferredRepeatsStep(EventAggregator.getInstance().takeDueRepeats()));
+
+    presenceInfoMap.remove(NS);
+    CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT);
+    assertThat(event.getCount(), equalTo(3));
+    assertThat(event.getLastTimestamp(), equalTo(SystemClockTestSupport.getTestStartTime().plusSeconds(10)));
+  }
+
+  @Test
+  void whenEventWriteLimitReached_normalRepeatIsNotWritten() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "1");
+    presenceInfoMap.put(NS, Map.of(UID, info));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    dispatchAddedEventWatches();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    presenceInfoMap.remove(NS);
+    assertThat("Found DOMAIN_CHANGED event with count 1",
+        containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 1), is(true));
+  }
+
+  @Test
+  void whenEventWriteLimitReached_warningRepeatIsWritten() {
+    TuningParametersStub.setParameter(EVENT_WRITE_LIMIT_PER_SECOND, "1");
+    testSupport.runSteps(createTopologyMismatchFailureSteps("Test failure", null));
+    dispatchAddedEventWatches();
+
+    testSupport.runSteps(createTopologyMismatchFailureSteps("Test failure", null));
+
+    assertThat(testSupport, hasEvent(DOMAIN_FAILED_EVENT).inNamespace(NS).withCount(2));
+  }
+
   @Test
   void whenMakeRightCalled_withDeletedEventData_domainDeletedEventCreated() {
     processor.dispatchDomainWatch(new Watch.Response<>("DELETED", domain));
@@ -700,7 +799,7 @@ class EventHelperTest {
     dispatchAddedEventWatches();
 
     CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), NAMESPACE_WATCHING_STOPPED_EVENT);
-    testSupport.failOnReplace(EVENT, EventTestUtils.getName(event), NS, HTTP_NOT_FOUND);
+    testSupport.failOnPatch(EVENT, EventTestUtils.getName(event), NS, HTTP_NOT_FOUND);
 
     testSupport.runSteps(createEventStep(
         new EventData(NAMESPACE_WATCHING_STOPPED).namespace(NS).resourceName(NS)));
@@ -725,7 +824,7 @@ class EventHelperTest {
 
     CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), NAMESPACE_WATCHING_STOPPED_EVENT);
     dispatchAddedEventWatches();
-    testSupport.failOnReplace(EVENT, EventTestUtils.getName(event), NS, HTTP_FORBIDDEN);
+    testSupport.failOnPatch(EVENT, EventTestUtils.getName(event), NS, HTTP_FORBIDDEN);
 
     testSupport.runSteps(Step.chain(createEventStep(new EventData(NAMESPACE_WATCHING_STOPPED))));
 
@@ -740,7 +839,7 @@ class EventHelperTest {
 
     CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), NAMESPACE_WATCHING_STOPPED_EVENT);
     dispatchAddedEventWatches();
-    testSupport.failOnReplace(EVENT, EventTestUtils.getName(event), NS, HTTP_FORBIDDEN);
+    testSupport.failOnPatch(EVENT, EventTestUtils.getName(event), NS, HTTP_FORBIDDEN);
 
     testSupport.runSteps(Step.chain(createEventStep(new EventData(NAMESPACE_WATCHING_STOPPED))));
 
@@ -838,7 +937,7 @@ class EventHelperTest {
     dispatchAddedEventWatches();
 
     CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), STOP_MANAGING_NAMESPACE_EVENT);
-    testSupport.failOnReplace(EVENT, EventTestUtils.getName(event), OP_NS, HTTP_NOT_FOUND);
+    testSupport.failOnPatch(EVENT, EventTestUtils.getName(event), OP_NS, HTTP_NOT_FOUND);
 
     testSupport.runSteps(step);
 
@@ -854,7 +953,7 @@ class EventHelperTest {
     dispatchAddedEventWatches();
 
     CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), STOP_MANAGING_NAMESPACE_EVENT);
-    testSupport.failOnReplace(EVENT, EventTestUtils.getName(event), NS, HTTP_FORBIDDEN);
+    testSupport.failOnPatch(EVENT, EventTestUtils.getName(event), NS, HTTP_FORBIDDEN);
 
     testSupport.runSteps(eventStep);
 
@@ -871,7 +970,7 @@ class EventHelperTest {
     dispatchAddedEventWatches();
 
     CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), NAMESPACE_WATCHING_STOPPED_EVENT);
-    testSupport.failOnReplace(EVENT, EventTestUtils.getName(event), NS, HTTP_CONFLICT);
+    testSupport.failOnPatch(EVENT, EventTestUtils.getName(event), NS, HTTP_CONFLICT);
 
     testSupport.runSteps(eventStep);
 
@@ -992,7 +1091,7 @@ class EventHelperTest {
     dispatchAddedEventWatches();
 
     CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), CLUSTER_AVAILABLE_EVENT);
-    testSupport.failOnReplace(EVENT, EventTestUtils.getName(event), NS, HTTP_CONFLICT);
+    testSupport.failOnPatch(EVENT, EventTestUtils.getName(event), NS, HTTP_CONFLICT);
 
     testSupport.runSteps(eventStep);
 
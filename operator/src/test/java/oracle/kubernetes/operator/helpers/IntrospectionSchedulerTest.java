@@ -0,0 +1,224 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler.Admission;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler.Request;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority.NEW_OR_FAILED;
+import static oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority.ROUTINE;
+import static oracle.kubernetes.operator.helpers.IntrospectionScheduler.Priority.UPDATE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTION_MAX_CONCURRENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTION_MAX_CONCURRENT_PER_NODE;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class IntrospectionSchedulerTest {
+
+  private static final String NS = "namespace";
+  private static final long DEADLINE_SECONDS = 600;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final IntrospectionScheduler scheduler = new IntrospectionScheduler();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Request request(String domainUid, Priority priority) {
+    return request(domainUid, priority, null);
+  }
+
+  private Request request(String domainUid, Priority priority, String nodeName) {
+    return new Request(NS, domainUid, priority, nodeName, DEADLINE_SECONDS);
+  }
+
+  private Admission tryAdmit(String domainUid, Priority priority) {
+    return scheduler.tryAdmit(request(domainUid, priority));
+  }
+
+  private void limitConcurrency(int maxConcurrent) {
+    TuningParametersStub.setParameter(INTROSPECTION_MAX_CONCURRENT, Integer.toString(maxConcurrent));
+  }
+
+  @Test
+  void byDefault_admitAllIntrospections() {
+    for (int i = 0; i < 50; i++) {
+      assertThat(tryAdmit("domain" + i, ROUTINE).admitted(), is(true));
+    }
+
+    assertThat(scheduler.getNumRunning(), equalTo(50));
+  }
+
+  @Test
+  void whenGlobalLimitReached_queueIntrospectionsInOrder() {
+    limitConcurrency(2);
+    tryAdmit("domain1", ROUTINE);
+    tryAdmit("domain2", ROUTINE);
+
+    assertThat(tryAdmit("domain3", ROUTINE), equalTo(new Admission(false, 1, null)));
+    assertThat(tryAdmit("domain4", ROUTINE), equalTo(new Admission(false, 2, null)));
+    assertThat(scheduler.getQueueLength(), equalTo(2));
+  }
+
+  @Test
+  void whenDomainAlreadyAdmitted_admitItAgain() {
+    limitConcurrency(1);
+    tryAdmit("domain1", ROUTINE);
+
+    assertThat(tryAdmit("domain1", ROUTINE).admitted(), is(true));
+    assertThat(scheduler.getNumRunning(), equalTo(1));
+  }
+
+  @Test
+  void afterRelease_admitFirstQueuedIntrospection() {
+    limitConcurrency(1);
+    tryAdmit("domain1", ROUTINE);
+    tryAdmit("domain2", ROUTINE);
+    tryAdmit("domain3", ROUTINE);
+
+    scheduler.release(NS, "domain1");
+
+    assertThat(tryAdmit("domain3", ROUTINE).admitted(), is(false));
+    assertThat(tryAdmit("domain2", ROUTINE).admitted(), is(true));
+  }
+
+  @Test
+  void newAndFailedDomains_areAdmittedBeforeUpdates_whichAreAdmittedBeforeRoutineIntrospections() {
+    limitConcurrency(1);
+    tryAdmit("running", ROUTINE);
+    tryAdmit("routine", ROUTINE);
+    SystemClockTestSupport.increment();
+    tryAdmit("update", UPDATE);
+    SystemClockTestSupport.increment();
+
+    assertThat(tryAdmit("new", NEW_OR_FAILED).position(), equalTo(1));
+    assertThat(tryAdmit("update", UPDATE).position(), equalTo(2));
+    assertThat(tryAdmit("routine", ROUTINE).position(), equalTo(3));
+  }
+
+  @Test
+  void whenQueuedDomainAsksWithMoreUrgentPriority_moveItAhead() {
+    limitConcurrency(1);
+    tryAdmit("running", ROUTINE);
+    tryAdmit("domain1", UPDATE);
+    tryAdmit("domain2", ROUTINE);
+
+    assertThat(tryAdmit("domain2", NEW_OR_FAILED).position(), equalTo(1));
+    assertThat(tryAdmit("domain2", ROUTINE).position(), equalTo(1));
+  }
+
+  @Test
+  void whenQueuedDomainAsksAgain_keepItsPlace() {
+    limitConcurrency(1);
+    tryAdmit("running", ROUTINE);
+    tryAdmit("domain1", ROUTINE);
+    SystemClockTestSupport.increment();
+    tryAdmit("domain2", ROUTINE);
+    SystemClockTestSupport.increment();
+
+    assertThat(tryAdmit("domain1", ROUTINE).position(), equalTo(1));
+  }
+
+  @Test
+  void whenPerNodeLimitReached_queueOnlyIntrospectionsOnSameNode() {
+    TuningParametersStub.setParameter(INTROSPECTION_MAX_CONCURRENT_PER_NODE, "1");
+    scheduler.tryAdmit(request("domain1", ROUTINE, "node1"));
+
+    assertThat(scheduler.tryAdmit(request("domain2", ROUTINE, "node1")).admitted(), is(false));
+    assertThat(scheduler.tryAdmit(request("domain3", ROUTINE, "node2")).admitted(), is(true));
+    assertThat(scheduler.tryAdmit(request("domain4", ROUTINE)).admitted(), is(true));
+  }
+
+  @Test
+  void whenQueuedIntrospectionBlockedOnlyByItsNode_admitLaterIntrospectionOnOtherNode() {
+    limitConcurrency(2);
+    TuningParametersStub.setParameter(INTROSPECTION_MAX_CONCURRENT_PER_NODE, "1");
+    scheduler.tryAdmit(request("domain1", ROUTINE, "node1"));
+    scheduler.tryAdmit(request("domain2", ROUTINE, "node1"));
+
+    assertThat(scheduler.tryAdmit(request("domain3", ROUTINE, "node2")).admitted(), is(true));
+  }
+
+  @Test
+  void whenQueuedIntrospectionsAheadCouldStart_leaveRoomForThem() {
+    limitConcurrency(2);
+    TuningParametersStub.setParameter(INTROSPECTION_MAX_CONCURRENT_PER_NODE, "1");
+    scheduler.tryAdmit(request("domain1", ROUTINE, "node1"));
+    scheduler.tryAdmit(request("domain2", ROUTINE, "node1"));
+    scheduler.tryAdmit(request("domain3", ROUTINE, "node2"));
+    scheduler.release(NS, "domain1");
+
+    assertThat(scheduler.tryAdmit(request("domain4", ROUTINE, "node3")).admitted(), is(false));
+  }
+
+  @Test
+  void whenJobDeadlinePassesWithoutRelease_freeItsSlot() {
+    limitConcurrency(1);
+    tryAdmit("domain1", ROUTINE);
+
+    SystemClockTestSupport.increment(DEADLINE_SECONDS + 60);
+    assertThat(tryAdmit("domain2", ROUTINE).admitted(), is(false));
+
+    SystemClockTestSupport.increment();
+    assertThat(tryAdmit("domain2", ROUTINE).admitted(), is(true));
+  }
+
+  @Test
+  void whenQueuedDomainDoesNotAskAgain_dropItsPlace() {
+    limitConcurrency(1);
+    tryAdmit("running", ROUTINE);
+    tryAdmit("domain1", ROUTINE);
+    SystemClockTestSupport.increment(10);
+    tryAdmit("domain2", ROUTINE);
+
+    SystemClockTestSupport.increment(295);
+
+    assertThat(tryAdmit("domain2", ROUTINE).position(), equalTo(1));
+    assertThat(scheduler.getQueueLength(), equalTo(1));
+  }
+
+  @Test
+  void afterIntrospectionFinishes_estimateWaitFromItsDuration() {
+    limitConcurrency(2);
+    tryAdmit("domain1", ROUTINE);
+    tryAdmit("domain2", ROUTINE);
+    SystemClockTestSupport.increment(30);
+    scheduler.release(NS, "domain1");
+    tryAdmit("domain3", ROUTINE);
+
+    assertThat(tryAdmit("domain4", ROUTINE), equalTo(new Admission(false, 1, 30)));
+    assertThat(tryAdmit("domain5", ROUTINE), equalTo(new Admission(false, 2, 30)));
+    assertThat(tryAdmit("domain6", ROUTINE), equalTo(new Admission(false, 3, 60)));
+  }
+
+  @Test
+  void whenUnknownDomainReleased_ignoreIt() {
+    limitConcurrency(1);
+    tryAdmit("domain1", ROUTINE);
+
+    scheduler.release(NS, "domain2");
+
+    assertThat(scheduler.getNumRunning(), equalTo(1));
+    assertThat(tryAdmit("domain3", ROUTINE).admitted(), is(false));
+  }
+}
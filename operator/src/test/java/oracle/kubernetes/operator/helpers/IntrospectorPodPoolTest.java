@@ -0,0 +1,185 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.IntrospectorPodPool.WarmPod;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_POD_POOL_IDLE_TIMEOUT_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_POD_POOL_MAX_SIZE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class IntrospectorPodPoolTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final String KEY1 = IntrospectorPodPool.createKey(NS, "hash1");
+  private static final String KEY2 = IntrospectorPodPool.createKey(NS, "hash2");
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final IntrospectorPodPool pool = new IntrospectorPodPool();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParametersStub.setParameter(INTROSPECTOR_POD_POOL_MAX_SIZE, "2");
+    TuningParametersStub.setParameter(INTROSPECTOR_POD_POOL_IDLE_TIMEOUT_SECONDS, "600");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenMaxSizeIsZero_poolIsDisabled() {
+    TuningParametersStub.setParameter(INTROSPECTOR_POD_POOL_MAX_SIZE, "0");
+
+    assertThat(IntrospectorPodPool.isEnabled(), is(false));
+  }
+
+  @Test
+  void whenMaxSizeIsPositive_poolIsEnabled() {
+    assertThat(IntrospectorPodPool.isEnabled(), is(true));
+  }
+
+  @Test
+  void whenNoPodsAdded_acquireReturnsNull() {
+    assertThat(pool.acquire(KEY1, 120), nullValue());
+  }
+
+  @Test
+  void afterPodAdded_acquireWithSameKeyReturnsIt() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+
+    assertThat(pool.acquire(KEY1, 120).podName(), equalTo("pod1"));
+  }
+
+  @Test
+  void afterPodAdded_acquireWithDifferentKeyReturnsNull() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+
+    assertThat(pool.acquire(KEY2, 120), nullValue());
+  }
+
+  @Test
+  void afterPodAcquired_itIsNoLongerAvailable() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    pool.acquire(KEY1, 120);
+
+    assertThat(pool.acquire(KEY1, 120), nullValue());
+  }
+
+  @Test
+  void whenMultiplePodsAdded_acquireReturnsNewest() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    SystemClockTestSupport.increment(10);
+    pool.add(createWarmPod(KEY1, "pod2"));
+
+    assertThat(pool.acquire(KEY1, 120).podName(), equalTo("pod2"));
+  }
+
+  @Test
+  void whenPodWouldExpireBeforeIntrospectionCompletes_acquireReturnsNull() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    SystemClockTestSupport.increment(500);
+
+    assertThat(pool.acquire(KEY1, 120), nullValue());
+  }
+
+  @Test
+  void whenPodWouldExpireBeforeIntrospectionCompletes_itIsDiscarded() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    SystemClockTestSupport.increment(500);
+    pool.acquire(KEY1, 120);
+
+    assertThat(pool.getIdleCount(KEY1), equalTo(0));
+  }
+
+  @Test
+  void whenPoolHasFewerThanMaxPods_hasCapacity() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+
+    assertThat(pool.hasCapacity(KEY1), is(true));
+  }
+
+  @Test
+  void whenPoolHasMaxPods_hasNoCapacity() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    pool.add(createWarmPod(KEY1, "pod2"));
+
+    assertThat(pool.hasCapacity(KEY1), is(false));
+  }
+
+  @Test
+  void capacityIsComputedPerKey() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    pool.add(createWarmPod(KEY1, "pod2"));
+
+    assertThat(pool.hasCapacity(KEY2), is(true));
+  }
+
+  @Test
+  void afterPodAdded_itIsTracked() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+
+    assertThat(pool.isTracked(NS, "pod1"), is(true));
+    assertThat(pool.isTracked(NS, "pod2"), is(false));
+  }
+
+  @Test
+  void releaseObsolete_returnsPodsWithOtherKeys() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    pool.add(createWarmPod(KEY2, "pod2"));
+
+    assertThat(pool.releaseObsolete(NS, UID, KEY2), contains("pod1"));
+    assertThat(pool.isTracked(NS, "pod1"), is(false));
+    assertThat(pool.isTracked(NS, "pod2"), is(true));
+  }
+
+  @Test
+  void releaseObsolete_returnsExpiredPods() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    SystemClockTestSupport.increment(600);
+
+    assertThat(pool.releaseObsolete(NS, UID, KEY1), contains("pod1"));
+  }
+
+  @Test
+  void releaseObsolete_ignoresPodsForOtherDomains() {
+    pool.add(new WarmPod(KEY1, NS, "domain2", "pod1"));
+
+    assertThat(pool.releaseObsolete(NS, UID, KEY2), empty());
+  }
+
+  @Test
+  void releaseAll_returnsAllPodsForDomain() {
+    pool.add(createWarmPod(KEY1, "pod1"));
+    pool.add(createWarmPod(KEY2, "pod2"));
+    pool.add(new WarmPod(KEY1, NS, "domain2", "pod3"));
+
+    assertThat(pool.releaseAll(NS, UID), containsInAnyOrder("pod1", "pod2"));
+    assertThat(pool.isTracked(NS, "pod3"), is(true));
+  }
+
+  private WarmPod createWarmPod(String key, String podName) {
+    return new WarmPod(key, NS, UID, podName);
+  }
+}
@@ -576,11 +576,14 @@ class JobHelperTest extends DomainValidationTestBase {
     data.put(FLUENTD_CONFIG_DATA_NAME, "<fakedata/>");
     V1ObjectMeta metaData = new V1ObjectMeta()
           .name(UID + FLUENTD_CONFIGMAP_NAME_SUFFIX)
-          .namespace(domainPresenceInfo.getNamespace());
+          .namespace(domainPresenceInfo.getNamespace())
+          .resourceVersion("1")
+          .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
     V1ConfigMap configMap = new V1ConfigMap()
           .metadata(metaData)
           .data(data);
     testSupport.defineResources(configMap);
+    listConfigMaps();
 
     configureDomain().withFluentdConfiguration(false, "dummy-cred",
           null, null, null);
@@ -589,6 +592,24 @@ class JobHelperTest extends DomainValidationTestBase {
     assertThat(logRecords, containsInfo(FLUENTD_CONFIGMAP_REPLACED));
   }
 
+  @Test
+  void whenFluentdConfigmapAlreadyUpToDate_dontReportItReplaced() {
+    configureDomain().withFluentdConfiguration(false, "dummy-cred",
+          null, null, null);
+    testSupport.runSteps(ConfigMapHelper.createOrReplaceFluentdConfigMapStep());
+    logRecords.clear();
+    ServerSideApply.getInstance().evictNamespace(domainPresenceInfo.getNamespace());
+    listConfigMaps();
+
+    testSupport.runSteps(ConfigMapHelper.createOrReplaceFluentdConfigMapStep());
+    assertThat(logRecords, empty());
+  }
+
+  private void listConfigMaps() {
+    ServerSideApply.getInstance().onListed(CONFIG_MAP,
+          testSupport.<V1ConfigMap>getResources(CONFIG_MAP).stream().map(V1ConfigMap::getMetadata).toList());
+  }
+
   private static final String EMPTY_DATA_HOME = "";
 
   @Test
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -41,6 +42,8 @@ import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
@@ -103,6 +106,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -131,6 +135,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private AfterCallAction afterCallAction;
   private long resourceVersion;
   private int numCalls;
+  private final Map<String, Integer> callCounts = new TreeMap<>();
   private boolean addCreationTimestamp;
   private EmptyResponse emptyResponse;
   private VersionInfo versionInfo = TEST_VERSION_INFO;
@@ -157,6 +162,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, DomainResource.class, this::createDomainList).withStatusSubresource();
     supportNamespaced(EVENT, CoreV1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class, this::createLeaseList);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, RequestBuilder.StringObject.class);
     supportNamespaced(PODDISRUPTIONBUDGET, V1PodDisruptionBudget.class, this::createPodDisruptionBudgetList);
@@ -173,6 +179,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
                 RequestBuilder.class, "kubernetesApiFactory", new KubernetesApiFactoryImpl()));
         mementos.add(StaticStubSupport.install(
                 ResponseStep.class, "retryStrategyFactory", new RetryStrategyFactoryImpl()));
+        mementos.add(StaticStubSupport.install(CredentialsCache.class, "instance", new CredentialsCache()));
+        mementos.add(StaticStubSupport.install(ResourceNameIndex.class, "instance", new ResourceNameIndex()));
+        mementos.add(StaticStubSupport.install(ServerSideApply.class, "instance", new ServerSideApply()));
       }
 
       @Override
@@ -252,6 +261,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new V1ServiceList().metadata(createListMeta()).items(items);
   }
 
+  private V1LeaseList createLeaseList(List<V1Lease> items) {
+    return new V1LeaseList().metadata(createListMeta()).items(items);
+  }
+
   private V1PodDisruptionBudgetList createPodDisruptionBudgetList(List<V1PodDisruptionBudget> items) {
     return new V1PodDisruptionBudgetList().metadata(createListMeta()).items(items);
   }
@@ -299,6 +312,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
    */
   public void clearNumCalls() {
     numCalls = 0;
+    callCounts.clear();
   }
 
   /**
@@ -309,6 +323,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return numCalls;
   }
 
+  /**
+   * Returns the number of calls made to Kubernetes for each resource type and operation,
+   * keyed by resource type and operation separated by a period, for example "Pod.create".
+   */
+  public Map<String, Integer> getCallCounts() {
+    return new TreeMap<>(callCounts);
+  }
+
   public void setAddCreationTimestamp(boolean addCreationTimestamp) {
     this.addCreationTimestamp = addCreationTimestamp;
   }
@@ -477,6 +499,46 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replace, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a patch operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatch(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patch, resourceType, name, namespace, httpStatus);
+  }
+
+  /**
+   * Specifies that a server-side apply operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnApply(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.apply, resourceType, name, namespace, httpStatus);
+  }
+
+  /**
+   * Specifies that a server-side apply operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param status the Kubernetes error status
+   * @param httpCode the HTTP return code
+   */
+  public void failOnApply(String resourceType, String name, String namespace, V1Status status, int httpCode) {
+    failure = new Failure(Operation.apply, resourceType, name, namespace, status, httpCode);
+  }
+
   /**
    * Specifies that a replace operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -637,6 +699,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    apply {
+      @Override
+      <T extends KubernetesType> KubernetesApiResponse<T> execute(CallContext<T> callContext,
+                                                                  DataRepository<T> dataRepository) {
+        return callContext.applyResource(dataRepository);
+      }
+    },
     getVersion {
       @Override
       @SuppressWarnings("unchecked")
@@ -837,7 +906,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
         public KubernetesApiResponse<A> patch(String name, String patchType, V1Patch patch,
                                               PatchOptions patchOptions) {
           return new CallContext<A>(
-              Operation.patch, getResourceName(apiTypeClass), null, name, patch)
+              selectPatchOperation(patchType), getResourceName(apiTypeClass), null, name, patch)
               .execute();
         }
 
@@ -845,7 +914,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
         public KubernetesApiResponse<A> patch(String namespace, String name, String patchType, V1Patch patch,
                                               PatchOptions patchOptions) {
           return new CallContext<A>(
-              Operation.patch, getResourceName(apiTypeClass), namespace, name, patch)
+              selectPatchOperation(patchType), getResourceName(apiTypeClass), namespace, name, patch)
               .execute();
         }
 
@@ -892,6 +961,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  private Operation selectPatchOperation(String patchType) {
+    return V1Patch.PATCH_FORMAT_APPLY_YAML.equals(patchType) ? Operation.apply : Operation.patch;
+  }
+
   private String getResourceName(Class<?> resourceType) {
     return dataTypes.get(resourceType);
   }
@@ -1186,6 +1259,26 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    // A server-side apply creates the resource if it is absent, and otherwise replaces it with the applied state.
+    // An apply which changes nothing leaves the resource version unchanged.
+    T applyResource(String name, String namespace, V1Patch body) {
+      T resource = new JSON().deserialize(body.getValue(), resourceType);
+      T current = data.get(name);
+      if (current == null) {
+        getMetadata(resource).setCreationTimestamp(SystemClock.now());
+        incrementResourceVersion(getMetadata(resource));
+        return createResource(namespace, resource);
+      }
+
+      getMetadata(resource).setCreationTimestamp(getMetadata(current).getCreationTimestamp());
+      getMetadata(resource).setResourceVersion(getMetadata(current).getResourceVersion());
+      if (resource.equals(current)) {
+        return current;
+      }
+      incrementResourceVersion(getMetadata(resource));
+      return replaceResource(name, resource);
+    }
+
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
     }
@@ -1351,6 +1444,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T applyResource(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).applyResource(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
@@ -1440,6 +1538,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
         }
 
         numCalls++;
+        callCounts.merge(resourceType + "." + operation.name(), 1, Integer::sum);
         return operation.execute(this, selectRepository(resourceType));
       } finally {
         if (afterCallAction != null && afterCallAction.matches(resourceType, operation.name())) {
@@ -1506,6 +1605,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
     }
 
+    private <T extends KubernetesType> KubernetesApiResponse<T> applyResource(DataRepository<T> dataRepository) {
+      return new KubernetesApiResponse<>(dataRepository.applyResource(requestName, requestNamespace, patch));
+    }
+
     private <T extends KubernetesType> KubernetesApiResponse<T> listResources(Integer limit, String cont,
                                                                               DataRepository<T> dataRepository) {
       return new KubernetesApiResponse<>(
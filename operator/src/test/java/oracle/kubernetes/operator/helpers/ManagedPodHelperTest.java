@@ -160,6 +160,7 @@ class ManagedPodHelperTest extends PodHelperTestBase {
   void whenPodNeedsToRoll_addRollAnnotation() {
     initializeExistingPod();
     configureServer().withRestartVersion("123");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     assertThat(getCreatedPod().getMetadata().getAnnotations(), hasEntry(TO_BE_ROLLED_LABEL, "true"));
   }
@@ -0,0 +1,136 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class ObjectCompactionTest {
+
+  private static final String NAMESPACE = "ns1";
+  private static final String IMAGE = "container-registry.oracle.com/middleware/weblogic:14.1.1.0";
+
+  // Creates a pod whose strings are distinct instances, as they would be if each pod were read separately.
+  private V1Pod createPod(String name) {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta()
+                .name(name)
+                .namespace(copy(NAMESPACE))
+                .putLabelsItem(copy("weblogic.domainUID"), copy("domain1"))
+                .putLabelsItem(copy("weblogic.serverName"), name)
+                .addManagedFieldsItem(new V1ManagedFieldsEntry().manager("weblogic-operator")))
+          .spec(new V1PodSpec()
+                .containers(new ArrayList<>(List.of(new V1Container()
+                      .name(copy("weblogic-server"))
+                      .image(copy(IMAGE))
+                      .env(new ArrayList<>(List.of(new V1EnvVar().name(copy("DOMAIN_HOME")).value(copy("/u01/d1")))))
+                      .args(new ArrayList<>(List.of(copy("startServer.sh"))))))));
+  }
+
+  @SuppressWarnings("StringOperationCanBeSimplified")
+  private static String copy(String value) {
+    return new String(value);
+  }
+
+  private static V1Container getContainer(V1Pod pod) {
+    return pod.getSpec().getContainers().get(0);
+  }
+
+  private static String getLabelKey(V1Pod pod, String key) {
+    return pod.getMetadata().getLabels().keySet().stream().filter(key::equals).findFirst().orElseThrow();
+  }
+
+  @Test
+  void afterCompaction_podIsSameInstance() {
+    final V1Pod pod = createPod("ms1");
+
+    assertThat(ObjectCompaction.compact(pod), sameInstance(pod));
+  }
+
+  @Test
+  void afterCompaction_managedFieldsAreDropped() {
+    assertThat(ObjectCompaction.compact(createPod("ms1")).getMetadata().getManagedFields(), nullValue());
+  }
+
+  @Test
+  void afterCompaction_podsShareEqualFieldValues() {
+    final V1Pod pod1 = ObjectCompaction.compact(createPod("ms1"));
+    final V1Pod pod2 = ObjectCompaction.compact(createPod("ms2"));
+
+    assertThat(pod2.getMetadata().getNamespace(), sameInstance(pod1.getMetadata().getNamespace()));
+    assertThat(getContainer(pod2).getImage(), sameInstance(getContainer(pod1).getImage()));
+  }
+
+  @Test
+  void afterCompaction_podsShareEqualStringsInListsOfObjects() {
+    final V1Pod pod1 = ObjectCompaction.compact(createPod("ms1"));
+    final V1Pod pod2 = ObjectCompaction.compact(createPod("ms2"));
+
+    assertThat(getContainer(pod2).getEnv().get(0).getValue(),
+          sameInstance(getContainer(pod1).getEnv().get(0).getValue()));
+    assertThat(getContainer(pod2).getArgs().get(0), sameInstance(getContainer(pod1).getArgs().get(0)));
+  }
+
+  @Test
+  void afterCompaction_podsShareLabelKeysAndValues() {
+    final V1Pod pod1 = ObjectCompaction.compact(createPod("ms1"));
+    final V1Pod pod2 = ObjectCompaction.compact(createPod("ms2"));
+
+    assertThat(getLabelKey(pod2, "weblogic.domainUID"), sameInstance(getLabelKey(pod1, "weblogic.domainUID")));
+    assertThat(pod2.getMetadata().getLabels().get("weblogic.domainUID"),
+          sameInstance(pod1.getMetadata().getLabels().get("weblogic.domainUID")));
+  }
+
+  @Test
+  void afterCompaction_labelOrderIsUnchanged() {
+    final V1Pod pod = createPod("ms1");
+    final List<String> keys = new ArrayList<>(pod.getMetadata().getLabels().keySet());
+
+    ObjectCompaction.compact(pod);
+
+    assertThat(new ArrayList<>(pod.getMetadata().getLabels().keySet()), equalTo(keys));
+  }
+
+  @Test
+  void afterCompaction_podsDoNotShareSubObjects() {
+    final V1Pod pod1 = ObjectCompaction.compact(createPod("ms1"));
+    final V1Pod pod2 = ObjectCompaction.compact(createPod("ms2"));
+
+    assertThat(getContainer(pod2).getEnv().get(0), not(sameInstance(getContainer(pod1).getEnv().get(0))));
+  }
+
+  @Test
+  void whenListsAndMapsAreUnmodifiable_compactTheRest() {
+    final V1Pod pod = new V1Pod()
+          .metadata(new V1ObjectMeta().namespace(copy(NAMESPACE)).annotations(Map.of("a", "b")))
+          .spec(new V1PodSpec().containers(List.of(new V1Container().name("c").image(copy(IMAGE)))));
+    ObjectCompaction.compact(createPod("ms1"));
+
+    ObjectCompaction.compact(pod);
+
+    assertThat(pod.getMetadata().getNamespace(), sameInstance(StringInterner.intern(NAMESPACE)));
+    assertThat(pod.getMetadata().getAnnotations().keySet(), contains("a"));
+  }
+
+  @Test
+  void whenObjectIsNull_returnNull() {
+    assertThat(ObjectCompaction.compact(null), nullValue());
+  }
+}
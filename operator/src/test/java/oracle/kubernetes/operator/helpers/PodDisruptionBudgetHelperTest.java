@@ -36,9 +36,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_PDB_CREATED;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_PDB_EXISTS;
+import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_PDB_PATCHED;
 import static oracle.kubernetes.common.logging.MessageKeys.KUBERNETES_EVENT_ERROR;
 import static oracle.kubernetes.common.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
@@ -47,6 +47,7 @@ import static oracle.kubernetes.operator.EventTestUtils.getExpectedEventMessage;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_BAD_REQUEST;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_CONFLICT;
+import static oracle.kubernetes.operator.KubernetesConstants.POD_DISRUPTION_BUDGET;
 import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_FAILED;
@@ -75,10 +76,10 @@ class PodDisruptionBudgetHelperTest {
   private static final String[] MESSAGE_KEYS = {
     CLUSTER_PDB_EXISTS,
     CLUSTER_PDB_CREATED,
+    CLUSTER_PDB_PATCHED,
   };
   private static final TerminalStep terminalStep = new TerminalStep();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
-  private final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
   private final List<LogRecord> logRecords = new ArrayList<>();
   private TestUtils.ConsoleHandlerMemento consoleHandlerMemento;
 
@@ -202,11 +203,9 @@ class PodDisruptionBudgetHelperTest {
   }
 
   @Test
-  void onFailedRunWithConflictAndNoExistingPDB_createItOnRetry() {
+  void onRunWithConflictAndNoExistingPDB_createIt() {
     consoleHandlerMemento.ignoreMessage(getPdbCreateLogMessage());
-    retryStrategy.setNumRetriesLeft(1);
-    testSupport.addRetryStrategy(retryStrategy);
-    testSupport.failOnCreate(PODDISRUPTIONBUDGET, NS, HTTP_CONFLICT);
+    testSupport.failOnApply(PODDISRUPTIONBUDGET, getPdbName(), NS, HTTP_CONFLICT);
 
     runPodDisruptionBudgetHelper();
 
@@ -216,14 +215,10 @@ class PodDisruptionBudgetHelperTest {
   }
 
   @Test
-  void onFailedRunWithConflictAndExistingPDB_retryAndUpdateCache() {
+  void onRunWithConflictAndExistingPDB_updateCache() {
     consoleHandlerMemento.ignoreMessage(getPdbExistsLogMessage());
-    V1PodDisruptionBudget existingPdb = createPDBModel(testSupport.getPacket());
-    existingPdb.getMetadata().setNamespace(NS);
-    retryStrategy.setNumRetriesLeft(1);
-    testSupport.addRetryStrategy(retryStrategy);
-    testSupport.failOnCreate(PODDISRUPTIONBUDGET, NS, HTTP_CONFLICT);
-    testSupport.defineResources(existingPdb);
+    defineListedPodDisruptionBudget(createPDBModel(testSupport.getPacket()));
+    testSupport.failOnApply(PODDISRUPTIONBUDGET, getPdbName(), NS, HTTP_CONFLICT);
 
     runPodDisruptionBudgetHelper();
 
@@ -232,23 +227,37 @@ class PodDisruptionBudgetHelperTest {
             is(podDisruptionBudgetWithName(getPdbName())));
   }
 
+  @Test
+  void whenListedPodDisruptionBudgetHasOldMinAvailable_patchIt() {
+    V1PodDisruptionBudget existingPdb = createPDBModel(testSupport.getPacket());
+    defineListedPodDisruptionBudget(existingPdb);
+    recordPodDisruptionBudget(domainPresenceInfo, existingPdb);
+    configureCluster(getTestCluster()).withReplicas(3).withMaxUnavailable(1);
+
+    runPodDisruptionBudgetHelper();
+
+    assertThat(logRecords, containsFine(getPdbPatchedLogMessage()));
+    assertThat(getRecordedPodDisruptionBudget(domainPresenceInfo).getSpec().getMinAvailable().getIntValue(),
+            equalTo(MIN_REPLICA_VALUE));
+  }
+
   @Test
   void whenPodDisruptionBudgetCreationFailsDueToUnprocessableEntityFailure_reportInDomainStatus() {
     testSupport.defineResources(domainPresenceInfo.getDomain());
-    testSupport.failOnCreate(PODDISRUPTIONBUDGET, NS, new V1Status()
+    testSupport.failOnApply(PODDISRUPTIONBUDGET, getPdbName(), NS, new V1Status()
             .reason("FieldValueNotFound")
             .message("Test this failure"), HTTP_BAD_REQUEST);
 
     runPodDisruptionBudgetHelper();
 
     assertThat(getDomain(), hasStatus().withReason(KUBERNETES)
-            .withMessageContaining("create", PODDISRUPTIONBUDGET.toLowerCase(), NS, "Test this failure"));
+            .withMessageContaining("patch", PODDISRUPTIONBUDGET.toLowerCase(), NS, "Test this failure"));
   }
 
   @Test
   void whenPodDisruptionBudgetCreationFailsDueToUnprocessableEntityFailure_generateFailedEvent() {
     testSupport.defineResources(domainPresenceInfo.getDomain());
-    testSupport.failOnCreate(PODDISRUPTIONBUDGET, NS, new V1Status()
+    testSupport.failOnApply(PODDISRUPTIONBUDGET, getPdbName(), NS, new V1Status()
         .reason("FieldValueNotFound")
         .message("Test this failure"), HTTP_BAD_REQUEST);
 
@@ -264,7 +273,7 @@ class PodDisruptionBudgetHelperTest {
   @Test
   void whenPodDisruptionBudgetCreationFailsDueToUnprocessableEntityFailure_abortFiber() {
     testSupport.defineResources(domainPresenceInfo.getDomain());
-    testSupport.failOnCreate(PODDISRUPTIONBUDGET, NS, new V1Status()
+    testSupport.failOnApply(PODDISRUPTIONBUDGET, getPdbName(), NS, new V1Status()
             .reason("FieldValueNotFound")
             .message("Test this failure"), HTTP_BAD_REQUEST);
 
@@ -273,8 +282,14 @@ class PodDisruptionBudgetHelperTest {
     assertThat(terminalStep.wasRun(), is(false));
   }
 
+  private void defineListedPodDisruptionBudget(V1PodDisruptionBudget pdb) {
+    pdb.getMetadata().setResourceVersion("1");
+    testSupport.defineResources(pdb);
+    ServerSideApply.getInstance().onListed(POD_DISRUPTION_BUDGET, List.of(pdb.getMetadata()));
+  }
+
   public V1PodDisruptionBudget createPDBModel(Packet packet) {
-    return new PodDisruptionBudgetHelper.PodDisruptionBudgetContext(null, packet)
+    return new PodDisruptionBudgetHelper.PodDisruptionBudgetContext(packet)
             .createModel();
   }
 
@@ -320,6 +335,10 @@ class PodDisruptionBudgetHelperTest {
     return CLUSTER_PDB_EXISTS;
   }
 
+  public String getPdbPatchedLogMessage() {
+    return CLUSTER_PDB_PATCHED;
+  }
+
   public void recordPodDisruptionBudget(DomainPresenceInfo info, V1PodDisruptionBudget pdb) {
     info.setPodDisruptionBudget(getTestCluster(), pdb);
   }
@@ -1963,6 +1963,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
   void whenPodLacksExpectedCustomerLabel_addIt() {
     initializeExistingPod();
     configurator.withPodLabel("customer.label", "value");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     V1Pod patchedPod = getPatchedPod();
 
@@ -1973,6 +1974,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
   void whenPodLacksExpectedCustomerAnnotations_addIt() {
     initializeExistingPod();
     configurator.withPodAnnotation("customer.annotation", "value");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     V1Pod patchedPod = getPatchedPod();
 
@@ -2004,6 +2006,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withPodLabel("expected.label", "value").withRequestRequirement("widgets", "10");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2041,6 +2044,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withPodSecurityContext(new V1PodSecurityContext().runAsGroup(12345L));
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2050,6 +2054,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withNodeSelector("key", "value");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2064,6 +2069,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withContainerSecurityContext(new V1SecurityContext().runAsGroup(9876L));
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2073,6 +2079,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withDefaultLivenessProbeSettings(8, 7, 6);
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2082,6 +2089,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withDefaultReadinessProbeSettings(5, 4, 3);
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2091,6 +2099,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withRequestRequirement("resource", "5");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2105,6 +2114,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withLimitRequirement("limit", "7");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2142,6 +2152,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureServer().withAdditionalVolume("dummy", "/dummy");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2160,6 +2171,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureServer().withAdditionalVolumeMount("dummy", "/dummy");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
@@ -2196,6 +2208,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureServer().withRestartVersion("123");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
 
     verifyPodReplaced();
   }
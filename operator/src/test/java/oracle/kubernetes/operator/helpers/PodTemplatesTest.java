@@ -0,0 +1,162 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_PRESENCE_INFO;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.ENVVARS;
+import static oracle.kubernetes.operator.ProcessingConstants.POD_TEMPLATES;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class PodTemplatesTest {
+
+  private static final String ADMIN_SERVER = "admin-server";
+  private static final String CLUSTER = "cluster-1";
+  private static final int LISTEN_PORT = 8001;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DomainResource domain = createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final PodTemplates templates = new PodTemplates();
+  private final WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("base_domain");
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+
+    configSupport.addWlsServer(ADMIN_SERVER, 7001);
+    configSupport.setAdminServerName(ADMIN_SERVER);
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(info, CLUSTER);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void defineServers(String... serverNames) {
+    configSupport.addWlsCluster(CLUSTER, LISTEN_PORT, serverNames);
+  }
+
+  private V1Pod createFullModel(String serverName) {
+    return PodHelper.createManagedServerPodModel(createServerPacket(serverName));
+  }
+
+  private V1Pod createSharedModel(String serverName) {
+    final Packet packet = createServerPacket(serverName);
+    packet.put(POD_TEMPLATES, templates);
+    return PodHelper.createManagedServerPodModel(packet);
+  }
+
+  private Packet createServerPacket(String serverName) {
+    final WlsDomainConfig domainConfig = configSupport.createDomainConfig();
+    final Packet packet = new Packet();
+    packet.put(DOMAIN_PRESENCE_INFO, info);
+    packet.put(DOMAIN_TOPOLOGY, domainConfig);
+    packet.put(CLUSTER_NAME, CLUSTER);
+    packet.put(SERVER_NAME, serverName);
+    packet.put(SERVER_SCAN, configSupport.getWlsServer(CLUSTER, serverName));
+    packet.put(ENVVARS, info.getServer(serverName, CLUSTER).getEnvironmentVariables());
+    return packet;
+  }
+
+  private void assertSharedModelsMatchFullModels(String... serverNames) {
+    defineServers(serverNames);
+
+    for (String serverName : serverNames) {
+      assertThat(serverName, createSharedModel(serverName), equalTo(createFullModel(serverName)));
+    }
+  }
+
+  @Test
+  void whenServersShareCluster_derivedModelsMatchFullModels() {
+    assertSharedModelsMatchFullModels("ms1", "ms2", "ms3");
+  }
+
+  @Test
+  void whenServersShareCluster_useOneTemplate() {
+    defineServers("ms1", "ms2", "ms3");
+
+    createSharedModel("ms1");
+    createSharedModel("ms2");
+    createSharedModel("ms3");
+
+    assertThat(templates.getNumTemplates(), equalTo(1));
+  }
+
+  @Test
+  void whenServerNamesAreNotLegalDnsNames_derivedModelsMatchFullModels() {
+    assertSharedModelsMatchFullModels("Managed_Server1", "Managed_Server2");
+  }
+
+  @Test
+  void whenServerNamesWouldBeReadAsOtherYamlTypes_derivedModelsMatchFullModels() {
+    assertSharedModelsMatchFullModels("ms1", "true", "123", "1e3");
+  }
+
+  @Test
+  void whenFoldedEnvironmentValueRefersToServerName_derivedModelsMatchFullModels() {
+    DomainConfiguratorFactory.forDomain(domain)
+          .withEnvironmentVariable("JAVA_OPTIONS",
+                "-Dweblogic.Name=$(SERVER_NAME) -Dweblogic.StdoutDebugEnabled=false "
+                      + "-Dweblogic.security.SSL.ignoreHostnameVerification=true -Dlog=/logs/$(SERVER_NAME).log");
+
+    assertSharedModelsMatchFullModels("ms1", "ms2", "managed server 3");
+  }
+
+  @Test
+  void whenServerIsConfiguredIndividually_itsModelMatchesFullModel() {
+    DomainConfiguratorFactory.forDomain(domain).configureServer("ms2").withEnvironmentVariable("SPECIAL", "yes");
+
+    assertSharedModelsMatchFullModels("ms1", "ms2", "ms3");
+  }
+
+  @Test
+  void whenServersHaveDifferentPorts_useSeparateTemplates() {
+    defineServers("ms1", "ms2");
+    configSupport.getWlsCluster(CLUSTER).addServerConfig(new WlsServerConfig("ms3", "ms3", LISTEN_PORT + 1));
+
+    assertThat(createSharedModel("ms2"), equalTo(createFullModel("ms2")));
+    assertThat(createSharedModel("ms3"), equalTo(createFullModel("ms3")));
+    assertThat(templates.getNumTemplates(), equalTo(2));
+  }
+
+  @Test
+  void derivedModelsDoNotShareListsWithEachOther() {
+    defineServers("ms1", "ms2", "ms3");
+
+    final V1Pod pod2 = createSharedModel("ms2");
+    final V1Pod pod3 = createSharedModel("ms3");
+
+    assertThat(pod3.getSpec().getContainers(), not(sameInstance(pod2.getSpec().getContainers())));
+    assertThat(pod3.getSpec().getContainers().get(0).getEnv(),
+          not(sameInstance(pod2.getSpec().getContainers().get(0).getEnv())));
+    assertThat(pod3.getMetadata().getLabels(), not(sameInstance(pod2.getMetadata().getLabels())));
+  }
+}
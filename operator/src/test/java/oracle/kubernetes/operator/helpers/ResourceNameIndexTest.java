@@ -0,0 +1,145 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ResourceNameIndexTest {
+
+  private static final String NS = "namespace";
+  private static final String OTHER_NS = "other";
+
+  private final ResourceNameIndex index = new ResourceNameIndex();
+
+  private static V1Secret createSecret(String namespace, String name) {
+    return new V1Secret().metadata(new V1ObjectMeta().namespace(namespace).name(name));
+  }
+
+  private static V1ConfigMap createConfigMap(String namespace, String name) {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().namespace(namespace).name(name));
+  }
+
+  private static V1ListMeta continuedListMeta(String resourceVersion) {
+    return new V1ListMeta().resourceVersion(resourceVersion)._continue("next-" + resourceVersion);
+  }
+
+  private static V1ListMeta finalListMeta(String resourceVersion) {
+    return new V1ListMeta().resourceVersion(resourceVersion);
+  }
+
+  @Test
+  void whenSecretsListed_indexTheirNames() {
+    index.indexSecrets(NS, new V1SecretList().addItemsItem(createSecret(NS, "a")).addItemsItem(createSecret(NS, "b")));
+
+    assertThat(index.hasSecret(NS, "a"), is(true));
+    assertThat(index.hasSecret(NS, "b"), is(true));
+    assertThat(index.hasSecret(NS, "c"), is(false));
+  }
+
+  @Test
+  void whenListReturnedInParts_indexNamesFromAllParts() {
+    index.indexSecrets(NS, new V1SecretList().metadata(continuedListMeta("1")).addItemsItem(createSecret(NS, "a")));
+    index.indexSecrets(NS, new V1SecretList().metadata(finalListMeta("1")).addItemsItem(createSecret(NS, "b")));
+
+    assertThat(index.hasSecret(NS, "a"), is(true));
+    assertThat(index.hasSecret(NS, "b"), is(true));
+  }
+
+  @Test
+  void whenNamespaceListedAgain_dropNamesNoLongerListed() {
+    index.indexSecrets(NS, new V1SecretList().metadata(finalListMeta("1"))
+        .addItemsItem(createSecret(NS, "a")).addItemsItem(createSecret(NS, "b")));
+
+    index.indexSecrets(NS, new V1SecretList().metadata(finalListMeta("2")).addItemsItem(createSecret(NS, "b")));
+
+    assertThat(index.hasSecret(NS, "a"), is(false));
+    assertThat(index.hasSecret(NS, "b"), is(true));
+  }
+
+  @Test
+  void whenNamespaceListedAgainInParts_dropNamesNoLongerListed() {
+    index.indexConfigMaps(NS, new V1ConfigMapList().metadata(finalListMeta("1"))
+        .addItemsItem(createConfigMap(NS, "a")).addItemsItem(createConfigMap(NS, "b")));
+
+    index.indexConfigMaps(NS, new V1ConfigMapList().metadata(continuedListMeta("2"))
+        .addItemsItem(createConfigMap(NS, "b")));
+    index.indexConfigMaps(NS, new V1ConfigMapList().metadata(finalListMeta("2"))
+        .addItemsItem(createConfigMap(NS, "c")));
+
+    assertThat(index.hasConfigMap(NS, "a"), is(false));
+    assertThat(index.hasConfigMap(NS, "b"), is(true));
+    assertThat(index.hasConfigMap(NS, "c"), is(true));
+  }
+
+  @Test
+  void whenNewListStartsBeforePreviousListCompleted_replaceNamesFromPreviousList() {
+    index.indexSecrets(NS, new V1SecretList().metadata(continuedListMeta("1")).addItemsItem(createSecret(NS, "a")));
+
+    index.indexSecrets(NS, new V1SecretList().metadata(finalListMeta("2")).addItemsItem(createSecret(NS, "b")));
+
+    assertThat(index.hasSecret(NS, "a"), is(false));
+    assertThat(index.hasSecret(NS, "b"), is(true));
+  }
+
+  @Test
+  void indexedNames_areSpecificToNamespace() {
+    index.indexSecrets(NS, new V1SecretList().addItemsItem(createSecret(NS, "a")));
+
+    assertThat(index.hasSecret(OTHER_NS, "a"), is(false));
+  }
+
+  @Test
+  void secretAndConfigMapNames_areIndexedSeparately() {
+    index.indexSecrets(NS, new V1SecretList().addItemsItem(createSecret(NS, "a")));
+    index.indexConfigMaps(NS, new V1ConfigMapList().addItemsItem(createConfigMap(NS, "b")));
+
+    assertThat(index.hasConfigMap(NS, "a"), is(false));
+    assertThat(index.hasSecret(NS, "b"), is(false));
+  }
+
+  @Test
+  void whenSecretAdded_indexIt() {
+    index.indexSecrets(NS, new V1SecretList());
+
+    index.onSecretWatchEvent("ADDED", createSecret(NS, "a"));
+
+    assertThat(index.hasSecret(NS, "a"), is(true));
+  }
+
+  @Test
+  void whenConfigMapDeleted_removeItFromIndex() {
+    index.indexConfigMaps(NS, new V1ConfigMapList().addItemsItem(createConfigMap(NS, "a")));
+
+    index.onConfigMapWatchEvent("DELETED", createConfigMap(NS, "a"));
+
+    assertThat(index.hasConfigMap(NS, "a"), is(false));
+  }
+
+  @Test
+  void whenEventForUnlistedNamespace_ignoreIt() {
+    index.onSecretWatchEvent("ADDED", createSecret(OTHER_NS, "a"));
+
+    assertThat(index.hasSecret(OTHER_NS, "a"), is(false));
+  }
+
+  @Test
+  void whenNamespaceEvicted_removeItsNames() {
+    index.indexSecrets(NS, new V1SecretList().addItemsItem(createSecret(NS, "a")));
+    index.indexConfigMaps(NS, new V1ConfigMapList().addItemsItem(createConfigMap(NS, "b")));
+
+    index.evictNamespace(NS);
+
+    assertThat(index.hasSecret(NS, "a"), is(false));
+    assertThat(index.hasConfigMap(NS, "b"), is(false));
+  }
+}
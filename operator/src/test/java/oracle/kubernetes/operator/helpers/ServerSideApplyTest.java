@@ -0,0 +1,192 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.helpers.ServerSideApply.Outcome;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_CONFLICT;
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static oracle.kubernetes.operator.helpers.ServerSideApply.Outcome.CREATED;
+import static oracle.kubernetes.operator.helpers.ServerSideApply.Outcome.UNCHANGED;
+import static oracle.kubernetes.operator.helpers.ServerSideApply.Outcome.UPDATED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+
+class ServerSideApplyTest {
+
+  private static final String NS = "namespace";
+  private static final String NAME = "applied-cm";
+  private static final String APPLY_CALLS = CONFIG_MAP + ".apply";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Outcome> appliedResults = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private V1ConfigMap createConfigMap(String value) {
+    return new V1ConfigMap().apiVersion("v1").kind("ConfigMap")
+        .metadata(createMetadata())
+        .data(Map.of("key", value));
+  }
+
+  private V1ObjectMeta createMetadata() {
+    return new V1ObjectMeta().namespace(NS).name(NAME).putLabelsItem(CREATEDBYOPERATOR_LABEL, "true");
+  }
+
+  private void listConfigMaps() {
+    ServerSideApply.getInstance().onListed(CONFIG_MAP, List.of(getConfigMap().getMetadata()));
+  }
+
+  private void apply(V1ConfigMap desired) {
+    testSupport.runSteps(ServerSideApply.getInstance().createApplyStep(
+        RequestBuilder.CM, desired, (configMap, outcome) -> appliedResults.add(outcome), null));
+  }
+
+  private V1ConfigMap getConfigMap() {
+    return testSupport.getResourceWithName(CONFIG_MAP, NAME);
+  }
+
+  private int getApplyCount() {
+    return testSupport.getCallCounts().getOrDefault(APPLY_CALLS, 0);
+  }
+
+  @Test
+  void whenResourceAbsent_applyCreatesIt() {
+    apply(createConfigMap("value"));
+
+    assertThat(getConfigMap().getData(), hasEntry("key", "value"));
+    assertThat(appliedResults, contains(CREATED));
+  }
+
+  @Test
+  void whenResourceExists_applyUpdatesIt() {
+    testSupport.defineResources(createConfigMap("old").metadata(createMetadata().resourceVersion("1")));
+    listConfigMaps();
+
+    apply(createConfigMap("new"));
+
+    assertThat(getConfigMap().getData(), hasEntry("key", "new"));
+    assertThat(appliedResults, contains(UPDATED));
+  }
+
+  @Test
+  void whenListedResourceAlreadyInDesiredState_reportItUnchanged() {
+    apply(createConfigMap("value"));
+    ServerSideApply.getInstance().evictNamespace(NS);
+    listConfigMaps();
+
+    apply(createConfigMap("value"));
+
+    assertThat(getApplyCount(), equalTo(2));
+    assertThat(appliedResults, contains(CREATED, UNCHANGED));
+  }
+
+  @Test
+  void whenWatchReportsResourceAdded_reportLaterApplyAsUpdate() {
+    testSupport.defineResources(createConfigMap("old").metadata(createMetadata().resourceVersion("1")));
+    ServerSideApply.getInstance().onWatchEvent(CONFIG_MAP, "ADDED", getConfigMap().getMetadata());
+
+    apply(createConfigMap("new"));
+
+    assertThat(appliedResults, contains(UPDATED));
+  }
+
+  @Test
+  void whenSameStateAppliedAgain_skipRequest() {
+    apply(createConfigMap("value"));
+    apply(createConfigMap("value"));
+
+    assertThat(getApplyCount(), equalTo(1));
+    assertThat(appliedResults, contains(CREATED));
+  }
+
+  @Test
+  void whenDesiredStateChanges_applyIt() {
+    apply(createConfigMap("value"));
+    apply(createConfigMap("changed"));
+
+    assertThat(getApplyCount(), equalTo(2));
+    assertThat(getConfigMap().getData(), hasEntry("key", "changed"));
+  }
+
+  @Test
+  void whenWatchReportsResourceChangedElsewhere_applyAgain() {
+    apply(createConfigMap("value"));
+
+    ServerSideApply.getInstance().onWatchEvent(CONFIG_MAP, "MODIFIED",
+        new V1ObjectMeta().namespace(NS).name(NAME).resourceVersion("changed-elsewhere"));
+    apply(createConfigMap("value"));
+
+    assertThat(getApplyCount(), equalTo(2));
+    assertThat(appliedResults, contains(CREATED, UPDATED));
+  }
+
+  @Test
+  void whenWatchReportsAppliedResourceVersion_stillSkipRequest() {
+    apply(createConfigMap("value"));
+
+    ServerSideApply.getInstance().onWatchEvent(CONFIG_MAP, "MODIFIED", getConfigMap().getMetadata());
+    apply(createConfigMap("value"));
+
+    assertThat(getApplyCount(), equalTo(1));
+  }
+
+  @Test
+  void whenWatchReportsResourceDeleted_applyAgain() {
+    apply(createConfigMap("value"));
+
+    ServerSideApply.getInstance().onWatchEvent(CONFIG_MAP, "DELETED", getConfigMap().getMetadata());
+    apply(createConfigMap("value"));
+
+    assertThat(getApplyCount(), equalTo(2));
+  }
+
+  @Test
+  void whenNamespaceEvicted_applyAgain() {
+    apply(createConfigMap("value"));
+
+    ServerSideApply.getInstance().evictNamespace(NS);
+    apply(createConfigMap("value"));
+
+    assertThat(getApplyCount(), equalTo(2));
+  }
+
+  @Test
+  void whenApplyConflictsWithAnotherFieldManager_forceIt() {
+    testSupport.failOnApply(CONFIG_MAP, NAME, NS, HTTP_CONFLICT);
+
+    apply(createConfigMap("value"));
+
+    assertThat(getConfigMap().getData(), hasEntry("key", "value"));
+    assertThat(appliedResults, contains(CREATED));
+  }
+}
@@ -560,18 +560,22 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
 
   private void configureNewLabel() {
     testFacade.configureService(domainPresenceInfo, configureDomain()).withServiceLabel("newLabel", "value");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
   }
 
   private void changeConfiguredLabel() {
     testFacade.configureService(domainPresenceInfo, configureDomain()).withServiceLabel(OLD_LABEL, "newValue");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
   }
 
   private void configureNewAnnotation() {
     testFacade.configureService(domainPresenceInfo, configureDomain()).withServiceAnnotation("newAnnotation", "value");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
   }
 
   private void changeConfiguredAnnotation() {
     testFacade.configureService(domainPresenceInfo, configureDomain()).withServiceLabel(OLD_ANNOTATION, "newValue");
+    domainPresenceInfo.invalidateEffectiveConfiguration();
   }
 
   private void changeConfiguredListenPort() {
@@ -0,0 +1,37 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.concurrent.ExecutorService;
+
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class MetricsServerTest {
+
+  private static final int PORT = 9002;
+
+  private final MetricsServer server = new MetricsServer(PORT);
+
+  @AfterEach
+  void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  void whenServerStarted_processRequestsOnVirtualThreads() throws Exception {
+    server.start();
+
+    assertThat(getWorkerThreadPool().submit(() -> Thread.currentThread().isVirtual()).get(), is(true));
+  }
+
+  private ExecutorService getWorkerThreadPool() {
+    final NetworkListener listener = server.getMetricsHttpServer().getListeners().iterator().next();
+    return listener.getTransport().getWorkerThreadPool();
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -15,6 +16,7 @@ import java.util.stream.Stream;
 
 import com.google.gson.Gson;
 import io.kubernetes.client.openapi.models.V1ScaleSpec;
+import io.prometheus.client.CollectorRegistry;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.MediaType;
@@ -99,6 +101,21 @@ class OperatorRestTest extends RestTestBase {
     assertThat(result, hasJsonPath("$.items[0].links[?(@.rel=='self')].href", withValues(V1_HREF)));
   }
 
+  @Test
+  void afterRequest_recordProcessingTimeForEndpoint() {
+    final double requests = getTimedRequests("VersionsResource.get");
+
+    getJsonResponse(OPERATOR_HREF);
+
+    assertThat(getTimedRequests("VersionsResource.get"), equalTo(requests + 1));
+  }
+
+  private double getTimedRequests(String endpoint) {
+    return Objects.requireNonNullElse(CollectorRegistry.defaultRegistry.getSampleValue(
+        "wko_http_request_duration_seconds_count",
+        new String[] {"server", "endpoint"}, new String[] {"rest", endpoint}), 0.0);
+  }
+
   @Test
   @SuppressWarnings("rawtypes")
   void v1EndPoint_returnsVersionAndLinks() {
@@ -0,0 +1,250 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.prometheus.client.CollectorRegistry;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestLimitFilterTest {
+
+  private static final String SERVER = "limitTest";
+  private static final int MAX_IN_FLIGHT = 2;
+  private static final int MAX_WAIT_SECONDS = 1;
+
+  private final RequestLimitFilter filter = new RequestLimitFilter(SERVER, MAX_IN_FLIGHT, MAX_WAIT_SECONDS);
+  private final ContainerResponseContext response = createStrictStub(ContainerResponseContext.class);
+
+  @Test
+  void whenBelowLimit_processRequest() {
+    final RequestContextStub request = startRequest();
+
+    assertThat(request.abortResponse, nullValue());
+  }
+
+  @Test
+  void whenAtLimit_rejectRequestAsServiceUnavailable() {
+    startRequest();
+    startRequest();
+
+    final RequestContextStub request = startRequest();
+
+    assertThat(request.abortResponse.getStatus(), equalTo(Response.Status.SERVICE_UNAVAILABLE.getStatusCode()));
+    assertThat(request.abortResponse.getHeaderString(HttpHeaders.RETRY_AFTER), notNullValue());
+  }
+
+  @Test
+  void whenRequestRejected_recordRejection() {
+    final double rejections = getMetric("wko_http_requests_rejected_total");
+    startRequest();
+    startRequest();
+
+    startRequest();
+
+    assertThat(getMetric("wko_http_requests_rejected_total"), equalTo(rejections + 1));
+  }
+
+  @Test
+  void afterRequestCompletes_processAnotherRequest() {
+    final RequestContextStub first = startRequest();
+    startRequest();
+    filter.filter(first, response);
+
+    final RequestContextStub request = startRequest();
+
+    assertThat(request.abortResponse, nullValue());
+  }
+
+  @Test
+  void whileProcessingRequests_recordNumberInFlight() {
+    final double inFlight = getMetric("wko_http_requests_in_flight");
+    final RequestContextStub first = startRequest();
+    startRequest();
+    filter.filter(first, response);
+
+    assertThat(getMetric("wko_http_requests_in_flight"), equalTo(inFlight + 1));
+  }
+
+  @Test
+  void afterRequestCompletes_recordProcessingTime() {
+    final double requests = getTimedRequests();
+
+    filter.filter(startRequest(), response);
+
+    assertThat(getTimedRequests(), equalTo(requests + 1));
+  }
+
+  @Test
+  void whenNoLimitConfigured_neverRejectRequests() {
+    final RequestLimitFilter unlimitedFilter = new RequestLimitFilter(SERVER + "Unlimited", 0, MAX_WAIT_SECONDS);
+    for (int i = 0; i < 10; i++) {
+      unlimitedFilter.filter(createStrictStub(RequestContextStub.class));
+    }
+
+    final RequestContextStub request = createStrictStub(RequestContextStub.class);
+    unlimitedFilter.filter(request);
+
+    assertThat(request.abortResponse, nullValue());
+  }
+
+  @Nested
+  class WhenProcessingFails extends JerseyTest {
+
+    @Override
+    protected Application configure() {
+      return new ResourceConfig(ThrowingResource.class)
+          .register(new RequestLimitFilter(SERVER + "Failing", 1, MAX_WAIT_SECONDS))
+          .register(new FailingResponseFilter());
+    }
+
+    @Override
+    protected TestContainerFactory getTestContainerFactory() {
+      return new InMemoryTestContainerFactory();
+    }
+
+    @BeforeEach
+    void startServer() throws Exception {
+      setUp();
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+      tearDown();
+    }
+
+    @Test
+    void afterResourceThrows_processAnotherRequest() {
+      for (int i = 0; i < 3; i++) {
+        assertThrows(ProcessingException.class, () -> target("throw").request().get());
+      }
+
+      assertThat(target("ok").request().get().getStatus(), equalTo(Response.Status.OK.getStatusCode()));
+    }
+
+    @Test
+    void afterResponseFilterThrows_processAnotherRequest() {
+      for (int i = 0; i < 3; i++) {
+        assertThrows(RuntimeException.class, () -> target("fail-response").request().get());
+      }
+
+      assertThat(target("ok").request().get().getStatus(), equalTo(Response.Status.OK.getStatusCode()));
+    }
+
+    @Test
+    void afterRequestsComplete_noneRemainInFlight() {
+      target("ok").request().get();
+      assertThrows(ProcessingException.class, () -> target("throw").request().get());
+      assertThrows(RuntimeException.class, () -> target("fail-response").request().get());
+
+      assertThat(getMetric("wko_http_requests_in_flight", SERVER + "Failing"), equalTo(0.0));
+    }
+  }
+
+  // Runs before the request limit filter, and so prevents its response filtering.
+  @jakarta.annotation.Priority(Priorities.USER + 1000)
+  public static class FailingResponseFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext req, ContainerResponseContext res) {
+      if (req.getUriInfo().getPath().equals("fail-response")) {
+        throw new IllegalStateException("response filter failed");
+      }
+    }
+  }
+
+  @Path("/")
+  public static class ThrowingResource {
+
+    @GET
+    @Path("throw")
+    public String fail() {
+      throw new IllegalStateException("unmapped");
+    }
+
+    @GET
+    @Path("fail-response")
+    public String failResponse() {
+      return "failing";
+    }
+
+    @GET
+    @Path("ok")
+    public String succeed() {
+      return "ok";
+    }
+  }
+
+  private RequestContextStub startRequest() {
+    final RequestContextStub request = createStrictStub(RequestContextStub.class);
+    filter.filter(request);
+    return request;
+  }
+
+  private static double getMetric(String name) {
+    return getMetric(name, SERVER);
+  }
+
+  private static double getMetric(String name, String server) {
+    return Objects.requireNonNullElse(CollectorRegistry.defaultRegistry.getSampleValue(
+        name, new String[] {"server"}, new String[] {server}), 0.0);
+  }
+
+  private double getTimedRequests() {
+    return Objects.requireNonNullElse(CollectorRegistry.defaultRegistry.getSampleValue(
+        "wko_http_request_duration_seconds_count",
+        new String[] {"server", "endpoint"}, new String[] {SERVER, "unmatched"}), 0.0);
+  }
+
+  abstract static class RequestContextStub implements ContainerRequestContext {
+    private final Map<String, Object> properties = new HashMap<>();
+    private Response abortResponse;
+
+    @Override
+    public Object getProperty(String name) {
+      return properties.get(name);
+    }
+
+    @Override
+    public void setProperty(String name, Object object) {
+      properties.put(name, object);
+    }
+
+    @Override
+    public void removeProperty(String name) {
+      properties.remove(name);
+    }
+
+    @Override
+    public void abortWith(Response response) {
+      abortResponse = response;
+    }
+  }
+}
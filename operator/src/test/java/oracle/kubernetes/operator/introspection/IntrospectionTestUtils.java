@@ -119,7 +119,12 @@ public class IntrospectionTestUtils {
           .addConditionsItem(new V1JobCondition().type("Complete").status("True"));
   }
 
-  private static String getIntrospectResult(WlsDomainConfig domainConfig) throws JsonProcessingException {
+  /**
+   * Returns output similar to that produced by the introspector for the specified configuration.
+   * @param domainConfig the domain configuration used as a basis for the output
+   * @throws JsonProcessingException if unable to convert the configuration to YAML.
+   */
+  public static String getIntrospectResult(WlsDomainConfig domainConfig) throws JsonProcessingException {
     return String.format(INTROSPECT_RESULT, createTopologyYaml(domainConfig));
   }
 
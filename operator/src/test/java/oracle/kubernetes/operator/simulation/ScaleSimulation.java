@@ -0,0 +1,34 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs a scale simulation sized by system properties and writes its report. This class is not matched by
+ * the unit test includes, and is run only by the "scale-simulation" profile, for example:
+ *
+ * <pre>
+ *   mvn -pl operator test -Pscale-simulation -Dsimulation.namespaces=50 -Dsimulation.domainsPerNamespace=10
+ * </pre>
+ *
+ * <p>The report is written to the file named by the "simulation.report" property,
+ * by default target/scale-simulation-report.json.
+ */
+class ScaleSimulation {
+
+  static final String REPORT_PROPERTY = SimulationParameters.PROPERTY_PREFIX + "report";
+  static final String DEFAULT_REPORT = "target/scale-simulation-report.json";
+
+  @Test
+  void runSimulation() throws Exception {
+    try (ScaleSimulator simulator = new ScaleSimulator(SimulationParameters.fromSystemProperties())) {
+      final SimulationReport report = simulator.run();
+      report.write(Path.of(System.getProperty(REPORT_PROPERTY, DEFAULT_REPORT)));
+      System.out.println(report.toJson());
+    }
+  }
+}
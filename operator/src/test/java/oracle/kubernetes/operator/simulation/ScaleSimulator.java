@@ -0,0 +1,312 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.DomainProcessorDelegateStub;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.DomainProcessorTestSupport;
+import oracle.kubernetes.operator.KubernetesExecFactoryFake;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.http.rest.ScanCacheStub;
+import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static oracle.kubernetes.operator.LabelConstants.JOBNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.OK_RESPONSE;
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.createExpectedRequest;
+
+/**
+ * Simulates an operator managing many domains, using the in-memory Kubernetes API of {@link KubernetesTestSupport}.
+ * It generates the namespaces, domains, clusters and introspection results described by a set of
+ * {@link SimulationParameters}, delivers the domains to the domain processor as watch events, and then
+ * delivers a stream of pod and domain watch events chosen at random. It reports the Kubernetes calls made,
+ * the time taken by each make-right and pod event, and the heap and CPU used.
+ *
+ * <p>Each simulator installs process-wide test stubs when created, and must be closed to remove them.
+ */
+public class ScaleSimulator implements AutoCloseable {
+
+  private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+  private static final String ADMIN_NAME = "admin-server";
+  private static final String WLS_DOMAIN_NAME = "base_domain";
+  private static final int ADMIN_PORT = 7001;
+  private static final int MANAGED_SERVER_PORT = 8001;
+  private static final int CLOCK_STEP_SECONDS = 10;
+
+  private final SimulationParameters parameters;
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
+  private final DomainProcessorImpl processor
+      = new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(testSupport));
+  private final List<DomainResource> domains = new ArrayList<>();
+  private final List<Long> makeRightNanos = new ArrayList<>();
+  private final List<Long> podEventNanos = new ArrayList<>();
+  private final Random random;
+  private long clockSeconds;
+
+  /**
+   * Creates a simulator, installing the test stubs needed to run the domain processor in memory.
+   * @param parameters the size and activity of the simulated environment
+   * @throws NoSuchFieldException if unable to install a stub
+   */
+  public ScaleSimulator(SimulationParameters parameters) throws NoSuchFieldException {
+    this.parameters = parameters;
+    this.random = new Random(parameters.seed());
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(httpSupport.install());
+    mementos.add(new KubernetesExecFactoryFake().install());
+    mementos.add(new DomainProcessorTestSupport().install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(InMemoryCertificates.install());
+    mementos.add(UnitTestHash.install());
+    mementos.add(ScanCacheStub.install());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(NoopWatcherStarter.install());
+  }
+
+  @Override
+  public void close() {
+    mementos.forEach(Memento::revert);
+  }
+
+  /**
+   * Runs the simulation and returns its measurements.
+   * @throws JsonProcessingException if unable to create a simulated introspection result
+   */
+  public SimulationReport run() throws JsonProcessingException {
+    defineEnvironment();
+    testSupport.clearNumCalls();
+
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final long heapBefore = getUsedHeap();
+    // the simulated operator runs its fibers on the calling thread, so this includes all of its processing
+    final long cpuBefore = threads.getCurrentThreadCpuTime();
+    final int fibersBefore = testSupport.getNumItemsRun();
+    final long start = System.nanoTime();
+
+    domains.forEach(domain -> timeMakeRight(() -> dispatchDomain(ADDED, domain)));
+    for (int i = 0; i < parameters.podEvents(); i++) {
+      dispatchRandomPodEvent();
+    }
+    for (int i = 0; i < parameters.domainUpdates(); i++) {
+      updateRandomDomain();
+    }
+
+    final SimulationReport report = new SimulationReport(parameters);
+    report.setElapsedNanos(System.nanoTime() - start);
+    report.setCpuNanos(threads.getCurrentThreadCpuTime() - cpuBefore);
+    report.setFibersRun(testSupport.getNumItemsRun() - fibersBefore);
+    report.setHeap(heapBefore, getUsedHeap());
+    report.setApiCalls(testSupport.getCallCounts());
+    report.setServerPods(getServerPods().size());
+    report.setMakeRight(SimulationReport.Latency.fromNanos(makeRightNanos));
+    report.setPodEvents(SimulationReport.Latency.fromNanos(podEventNanos));
+    return report;
+  }
+
+  private static long getUsedHeap() {
+    System.gc();
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private void timeMakeRight(Runnable action) {
+    makeRightNanos.add(time(action));
+  }
+
+  // Runs the action, and then advances the simulated clock so that any steps it scheduled or requeued also run.
+  private long time(Runnable action) {
+    final long start = System.nanoTime();
+    action.run();
+    clockSeconds += CLOCK_STEP_SECONDS;
+    testSupport.setTime(clockSeconds, TimeUnit.SECONDS);
+    return System.nanoTime() - start;
+  }
+
+  private void defineEnvironment() throws JsonProcessingException {
+    for (int n = 1; n <= parameters.namespaces(); n++) {
+      final String namespace = "ns" + n;
+      testSupport.defineResources(createSecret(namespace));
+      for (int d = 1; d <= parameters.domainsPerNamespace(); d++) {
+        defineDomain(namespace, namespace + "-domain" + d);
+      }
+    }
+
+    // registered last, so that they apply only to resources created by the operator
+    testSupport.doOnCreate(POD, p -> markReady((V1Pod) p));
+    testSupport.doOnCreate(JOB, job -> ((V1Job) job).setStatus(IntrospectionTestUtils.createCompletedStatus()));
+  }
+
+  private V1Secret createSecret(String namespace) {
+    return new V1Secret().metadata(new V1ObjectMeta().name(DomainProcessorTestSetup.SECRET_NAME).namespace(namespace))
+        .putDataItem("username", "user".getBytes())
+        .putDataItem("password", "password".getBytes());
+  }
+
+  private void defineDomain(String namespace, String uid) throws JsonProcessingException {
+    final DomainResource domain = createDomain(namespace, uid, 1L);
+    for (int c = 1; c <= parameters.clustersPerDomain(); c++) {
+      final ClusterResource cluster = createCluster(namespace, uid, getClusterName(c));
+      testSupport.defineResources(cluster);
+      processor.dispatchClusterWatch(new Watch.Response<>(ADDED, cluster));
+    }
+    defineIntrospectionResult(namespace, uid);
+    defineHealthResponses(namespace, uid);
+    testSupport.defineResources(domain);
+    domains.add(domain);
+  }
+
+  private DomainResource createDomain(String namespace, String uid, long generation) {
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain(uid, generation);
+    domain.getMetadata().namespace(namespace);
+    for (int c = 1; c <= parameters.clustersPerDomain(); c++) {
+      domain.getSpec().withCluster(new V1LocalObjectReference().name(getClusterResourceName(uid, getClusterName(c))));
+    }
+    return domain;
+  }
+
+  private static String getClusterName(int index) {
+    return "cluster-" + index;
+  }
+
+  private static String getClusterResourceName(String uid, String clusterName) {
+    return uid + "-" + clusterName;
+  }
+
+  private ClusterResource createCluster(String namespace, String uid, String clusterName) {
+    return new ClusterResource()
+        .withMetadata(new V1ObjectMeta().name(getClusterResourceName(uid, clusterName)).namespace(namespace)
+            .generation(1L).resourceVersion("1"))
+        .spec(new ClusterSpec().withClusterName(clusterName).withReplicas(parameters.serversPerCluster()));
+  }
+
+  private void defineIntrospectionResult(String namespace, String uid) throws JsonProcessingException {
+    final String jobName = LegalNames.toJobIntrospectorName(uid);
+    testSupport.definePodLog(jobName, namespace, IntrospectionTestUtils.getIntrospectResult(createDomainConfig()));
+    testSupport.defineResources(
+        new V1Pod()
+            .metadata(new V1ObjectMeta().putLabelsItem(JOBNAME_LABEL, jobName).name(jobName).namespace(namespace))
+            .status(new V1PodStatus().addContainerStatusesItem(new V1ContainerStatus().name("introspector")
+                .state(new V1ContainerState().terminated(new V1ContainerStateTerminated().exitCode(0))))));
+  }
+
+  // every server reports itself healthy when the operator reads its state
+  private void defineHealthResponses(String namespace, String uid) {
+    defineHealthResponse(namespace, uid, ADMIN_NAME, ADMIN_PORT);
+    for (int c = 1; c <= parameters.clustersPerDomain(); c++) {
+      for (int s = 1; s <= parameters.serversPerCluster(); s++) {
+        defineHealthResponse(namespace, uid, getManagedServerName(c, s), MANAGED_SERVER_PORT);
+      }
+    }
+  }
+
+  private void defineHealthResponse(String namespace, String uid, String serverName, int port) {
+    final String host = LegalNames.toServerServiceName(uid, serverName) + "." + namespace + ".svc";
+    httpSupport.defineResponse(createExpectedRequest("http://" + host + ":" + port),
+        createStub(HttpResponseStub.class, HTTP_OK, OK_RESPONSE));
+  }
+
+  private static String getManagedServerName(int clusterIndex, int serverIndex) {
+    return getClusterName(clusterIndex) + "-managed-server" + serverIndex;
+  }
+
+  private WlsDomainConfig createDomainConfig() {
+    final WlsDomainConfig domainConfig = new WlsDomainConfig(WLS_DOMAIN_NAME)
+        .withAdminServer(ADMIN_NAME, "admin-host", ADMIN_PORT);
+    for (int c = 1; c <= parameters.clustersPerDomain(); c++) {
+      final WlsClusterConfig clusterConfig = new WlsClusterConfig(getClusterName(c));
+      for (int s = 1; s <= parameters.serversPerCluster(); s++) {
+        final String serverName = getManagedServerName(c, s);
+        clusterConfig.addServerConfig(new WlsServerConfig(serverName, serverName + "-host", MANAGED_SERVER_PORT));
+      }
+      domainConfig.withCluster(clusterConfig);
+    }
+    return domainConfig;
+  }
+
+  private void markReady(V1Pod pod) {
+    pod.status(new V1PodStatus().phase("Running").addConditionsItem(createReadyCondition(true)));
+  }
+
+  private V1PodCondition createReadyCondition(boolean ready) {
+    return new V1PodCondition().type("Ready").status(ready ? "True" : "False");
+  }
+
+  private void dispatchDomain(String eventType, DomainResource domain) {
+    processor.dispatchDomainWatch(new Watch.Response<>(eventType, domain));
+  }
+
+  private List<V1Pod> getServerPods() {
+    return testSupport.<V1Pod>getResources(POD).stream()
+        .filter(pod -> getLabels(pod).containsKey(SERVERNAME_LABEL))
+        .toList();
+  }
+
+  private Map<String, String> getLabels(V1Pod pod) {
+    return pod.getMetadata().getLabels() == null ? Map.of() : pod.getMetadata().getLabels();
+  }
+
+  private void dispatchRandomPodEvent() {
+    final List<V1Pod> pods = getServerPods();
+    if (!pods.isEmpty()) {
+      final V1Pod pod = pods.get(random.nextInt(pods.size()));
+      pod.getStatus().setConditions(new ArrayList<>(List.of(createReadyCondition(random.nextBoolean()))));
+      podEventNanos.add(time(() -> processor.dispatchPodWatch(new Watch.Response<>(MODIFIED, pod))));
+    }
+  }
+
+  private void updateRandomDomain() {
+    final int index = random.nextInt(domains.size());
+    final DomainResource current = domains.get(index);
+    final DomainResource updated = createDomain(
+        current.getNamespace(), current.getDomainUid(), current.getMetadata().getGeneration() + 1);
+    domains.set(index, updated);
+    testSupport.deleteResources(current);
+    testSupport.defineResources(updated);
+    timeMakeRight(() -> dispatchDomain(MODIFIED, updated));
+  }
+}
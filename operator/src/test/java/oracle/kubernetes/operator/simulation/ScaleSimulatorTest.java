@@ -0,0 +1,59 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+
+class ScaleSimulatorTest {
+
+  private static final SimulationParameters parameters = SimulationParameters.small();
+  private static SimulationReport report;
+
+  // the simulation is repeatable but slow, so it is run once for all the tests
+  @BeforeAll
+  static void runSimulation() throws Exception {
+    try (ScaleSimulator simulator = new ScaleSimulator(parameters)) {
+      report = simulator.run();
+    }
+  }
+
+  @Test
+  void afterSimulation_allServerPodsCreated() {
+    assertThat(report.getServerPods(), equalTo(parameters.totalServerPods()));
+  }
+
+  @Test
+  void simulationReportsKubernetesCallsByResourceAndOperation() {
+    assertThat(report.getApiCalls(), hasEntry("Pod.create", parameters.totalServerPods()));
+    assertThat(report.getApiCalls(), hasEntry("Job.create", parameters.totalDomains()));
+    assertThat(report.getApiCalls(), hasKey("Domain.replaceStatus"));
+  }
+
+  @Test
+  void simulationTimesEachMakeRightAndPodEvent() {
+    assertThat(report.getMakeRight().count(), equalTo(parameters.totalDomains() + parameters.domainUpdates()));
+    assertThat(report.getPodEvents().count(), equalTo(parameters.podEvents()));
+  }
+
+  @Test
+  void simulationCountsFibers() {
+    assertThat(report.getFibersRun(), greaterThan(0));
+  }
+
+  @Test
+  void reportCanBeReadFromJson() {
+    SimulationReport copy = SimulationReport.fromJson(report.toJson());
+
+    assertThat(copy.getParameters(), equalTo(parameters));
+    assertThat(copy.getApiCalls(), equalTo(report.getApiCalls()));
+    assertThat(copy.getMakeRight(), equalTo(report.getMakeRight()));
+  }
+}
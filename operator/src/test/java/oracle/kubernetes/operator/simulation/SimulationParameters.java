@@ -0,0 +1,62 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+/**
+ * The size and activity of a simulated operator environment.
+ *
+ * @param namespaces the number of domain namespaces
+ * @param domainsPerNamespace the number of domains in each namespace
+ * @param clustersPerDomain the number of WebLogic clusters in each domain
+ * @param serversPerCluster the number of managed servers configured, and started, in each cluster
+ * @param podEvents the number of pod watch events, each toggling the readiness of a random server pod
+ * @param domainUpdates the number of domain resource updates, each of which triggers a make-right
+ * @param seed the seed for the random choices of pods and domains, so that runs may be repeated
+ */
+public record SimulationParameters(
+    int namespaces,
+    int domainsPerNamespace,
+    int clustersPerDomain,
+    int serversPerCluster,
+    int podEvents,
+    int domainUpdates,
+    long seed) {
+
+  static final String PROPERTY_PREFIX = "simulation.";
+
+  /**
+   * Returns parameters for a small simulation, suitable for verifying the harness itself.
+   */
+  public static SimulationParameters small() {
+    return new SimulationParameters(2, 2, 1, 2, 10, 2, 1L);
+  }
+
+  /**
+   * Returns parameters read from system properties named "simulation." followed by the name of each parameter,
+   * for example "simulation.namespaces". Parameters without a property take their values from {@link #small()}.
+   */
+  public static SimulationParameters fromSystemProperties() {
+    final SimulationParameters defaults = small();
+    return new SimulationParameters(
+        getInt("namespaces", defaults.namespaces()),
+        getInt("domainsPerNamespace", defaults.domainsPerNamespace()),
+        getInt("clustersPerDomain", defaults.clustersPerDomain()),
+        getInt("serversPerCluster", defaults.serversPerCluster()),
+        getInt("podEvents", defaults.podEvents()),
+        getInt("domainUpdates", defaults.domainUpdates()),
+        Long.getLong(PROPERTY_PREFIX + "seed", defaults.seed()));
+  }
+
+  private static int getInt(String name, int defaultValue) {
+    return Integer.getInteger(PROPERTY_PREFIX + name, defaultValue);
+  }
+
+  int totalDomains() {
+    return namespaces * domainsPerNamespace;
+  }
+
+  int totalServerPods() {
+    return totalDomains() * (1 + clustersPerDomain * serversPerCluster);
+  }
+}
@@ -0,0 +1,171 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * The measurements from a scale simulation, written as JSON so that runs against different operator
+ * versions may be compared mechanically.
+ */
+public class SimulationReport {
+
+  private final SimulationParameters parameters;
+  private final Map<String, Integer> apiCalls = new TreeMap<>();
+  private int totalApiCalls;
+  private int serverPods;
+  private int fibersRun;
+  private Latency makeRight;
+  private Latency podEvents;
+  private double elapsedSeconds;
+  private double cpuSeconds;
+  private long heapUsedBytes;
+  private long heapGrowthBytes;
+
+  SimulationReport(SimulationParameters parameters) {
+    this.parameters = parameters;
+  }
+
+  /**
+   * Percentiles of the times taken by a kind of operation, in milliseconds.
+   *
+   * @param count the number of operations measured
+   * @param p50 the median time
+   * @param p90 the 90th percentile time
+   * @param p99 the 99th percentile time
+   * @param max the longest time
+   */
+  public record Latency(int count, double p50, double p90, double p99, double max) {
+
+    static Latency fromNanos(List<Long> durations) {
+      if (durations.isEmpty()) {
+        return new Latency(0, 0, 0, 0, 0);
+      }
+
+      List<Long> sorted = new ArrayList<>(durations);
+      Collections.sort(sorted);
+      return new Latency(sorted.size(),
+          percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), toMillis(sorted.getLast()));
+    }
+
+    private static double percentile(List<Long> sorted, int percentile) {
+      final int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+      return toMillis(sorted.get(Math.max(0, index)));
+    }
+
+    private static double toMillis(long nanos) {
+      return nanos / 1_000_000.0;
+    }
+  }
+
+  public SimulationParameters getParameters() {
+    return parameters;
+  }
+
+  public Map<String, Integer> getApiCalls() {
+    return Collections.unmodifiableMap(apiCalls);
+  }
+
+  public int getTotalApiCalls() {
+    return totalApiCalls;
+  }
+
+  public int getServerPods() {
+    return serverPods;
+  }
+
+  public int getFibersRun() {
+    return fibersRun;
+  }
+
+  public Latency getMakeRight() {
+    return makeRight;
+  }
+
+  public Latency getPodEvents() {
+    return podEvents;
+  }
+
+  public double getElapsedSeconds() {
+    return elapsedSeconds;
+  }
+
+  public double getCpuSeconds() {
+    return cpuSeconds;
+  }
+
+  public long getHeapUsedBytes() {
+    return heapUsedBytes;
+  }
+
+  public long getHeapGrowthBytes() {
+    return heapGrowthBytes;
+  }
+
+  void setApiCalls(Map<String, Integer> apiCalls) {
+    this.apiCalls.putAll(apiCalls);
+    this.totalApiCalls = apiCalls.values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  void setServerPods(int serverPods) {
+    this.serverPods = serverPods;
+  }
+
+  void setFibersRun(int fibersRun) {
+    this.fibersRun = fibersRun;
+  }
+
+  void setMakeRight(Latency makeRight) {
+    this.makeRight = makeRight;
+  }
+
+  void setPodEvents(Latency podEvents) {
+    this.podEvents = podEvents;
+  }
+
+  void setElapsedNanos(long elapsedNanos) {
+    this.elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+  }
+
+  void setCpuNanos(long cpuNanos) {
+    this.cpuSeconds = cpuNanos / 1_000_000_000.0;
+  }
+
+  void setHeap(long heapBefore, long heapAfter) {
+    this.heapUsedBytes = heapAfter;
+    this.heapGrowthBytes = heapAfter - heapBefore;
+  }
+
+  public String toJson() {
+    return createGson().toJson(this);
+  }
+
+  static SimulationReport fromJson(String json) {
+    return createGson().fromJson(json, SimulationReport.class);
+  }
+
+  private static Gson createGson() {
+    return new GsonBuilder().setPrettyPrinting().create();
+  }
+
+  /**
+   * Writes this report as JSON to the specified file, creating its parent directories if needed.
+   * @param path the file to write
+   * @throws IOException if unable to write the file
+   */
+  public void write(Path path) throws IOException {
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    Files.writeString(path, toJson());
+  }
+}
@@ -1,15 +1,17 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,9 +30,11 @@ import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.utils.InMemoryFileSystem;
+import oracle.kubernetes.operator.utils.SelfSignedCertUtils;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
 import org.hamcrest.Matchers;
 import org.hamcrest.junit.MatcherAssert;
 import org.junit.jupiter.api.AfterEach;
@@ -167,6 +171,30 @@ class InitializeWebhookIdentityStepTest {
         equalTo("/deployment/webhook-identity/webhookKey"));
   }
 
+  @Test
+  void whenWebhookIdentityInFileSystemIsNearExpiry_createNewIdentity() throws Exception {
+    inMemoryFileSystem.defineFile("/deployment/secrets/webhookCert", createEncodedCertificate(10));
+    inMemoryFileSystem.defineFile("/deployment/secrets/webhookKey", "xyz");
+
+    Certificates certificates = new Certificates(delegate);
+
+    testSupport.runSteps(initializeWebhookIdentityStep);
+
+    MatcherAssert.assertThat(getEvents(testSupport), Matchers.empty());
+    MatcherAssert.assertThat(certificates.getWebhookCertificateData(), Matchers.notNullValue());
+  }
+
+  private String createEncodedCertificate(int validityDays) throws Exception {
+    KeyPair keyPair = SelfSignedCertUtils.createKeyPair(SelfSignedCertUtils.EC);
+    X509Certificate cert = SelfSignedCertUtils.generateCertificate(WEBHOOK_CERTIFICATE, keyPair,
+        SelfSignedCertUtils.getSignatureAlgorithm(keyPair), "weblogic-webhook", validityDays);
+    StringWriter writer = new StringWriter();
+    try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+      pemWriter.writeObject(cert);
+    }
+    return Base64.getEncoder().encodeToString(writer.toString().getBytes());
+  }
+
   private V1ObjectMeta createSecretMetadata() {
     return new V1ObjectMeta().name(WEBHOOK_SECRETS).namespace(DEFAULT_NAMESPACE);
   }
@@ -1,11 +1,14 @@
-// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,9 +19,15 @@ import javax.annotation.Nonnull;
 
 import com.meterware.httpunit.Base64;
 import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceBuilder;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.AuthorizationSource;
+import oracle.kubernetes.operator.helpers.CredentialsCache;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
@@ -42,19 +51,25 @@ import org.junit.jupiter.api.Test;
 import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.common.logging.MessageKeys.WLS_HEALTH_READ_FAILED;
 import static oracle.kubernetes.common.logging.MessageKeys.WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_HEALTH_TO_READ;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SECRET;
 import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.OK_RESPONSE;
 import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.createExpectedRequest;
 import static oracle.kubernetes.operator.steps.ReadHealthStep.OVERALL_HEALTH_FOR_SERVER_OVERLOADED;
 import static oracle.kubernetes.operator.steps.ReadHealthStep.OVERALL_HEALTH_NOT_AVAILABLE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.READ_HEALTH_FROM_ADMIN_SERVER;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
@@ -74,6 +89,27 @@ class ReadHealthStepTest {
   private static final String DYNAMIC_MANAGED_SERVER1 = "dyn-managed-server1";
   private static final String DYNAMIC_MANAGED_SERVER2 = "dyn-managed-server2";
 
+  private static final String DOMAIN_HEALTH_RESPONSE = """
+      {
+        "serverRuntimes": {
+          "items": [
+            {
+              "name": "admin-server",
+              "state": "RUNNING",
+              "overallHealthState": { "state": "ok", "subsystemName": null, "symptoms": [] },
+              "activationTime": 1556807389000
+            },
+            {
+              "name": "managed-server1",
+              "state": "RUNNING",
+              "overallHealthState": { "state": "warn", "subsystemName": "jms", "symptoms": ["slow"] },
+              "activationTime": 1556807389000
+            }
+          ]
+        }
+      }
+      """;
+
   private static final ClassCastException CLASSCAST_EXCEPTION = new ClassCastException("");
   private final List<LogRecord> logRecords = new ArrayList<>();
   private final List<Memento> mementos = new ArrayList<>();
@@ -365,40 +401,147 @@ class ReadHealthStepTest {
   }
 
   @Test
-  void whenAuthorizedToReadHealth_verifySecretSet() {
+  void whenAuthorizedToReadHealth_verifyCredentialsCached() {
     selectServer(MANAGED_SERVER1);
 
     defineResponse(200, OK_RESPONSE, "http://127.0.0.1:8001");
 
     testSupport.runSteps(readHealthStep);
 
-    assertThat(info.getWebLogicCredentialsSecret(), is(notNullValue()));
+    assertThat(getCachedCredentials(), is(notNullValue()));
+  }
+
+  private AuthorizationSource getCachedCredentials() {
+    return CredentialsCache.getInstance().get(NS, SECRET_NAME);
   }
 
   @Test
-  void whenAuthorizedToReadHealthAndThenWait_verifySecretCleared() {
+  void whenAuthorizedToReadHealthAndThenSecretDeleted_verifyCredentialsEvicted() {
     selectServer(MANAGED_SERVER1);
 
     defineResponse(200, OK_RESPONSE, "http://127.0.0.1:8001");
 
     testSupport.runSteps(readHealthStep);
 
-    assertThat(info.getWebLogicCredentialsSecret(), is(notNullValue()));
+    assertThat(getCachedCredentials(), is(notNullValue()));
 
-    SystemClockTestSupport.increment(180);
+    CredentialsCache.getInstance().onWatchEvent("DELETED", testSupport.getResourceWithName(SECRET, SECRET_NAME));
 
-    assertThat(info.getWebLogicCredentialsSecret(), is(nullValue()));
+    assertThat(getCachedCredentials(), is(nullValue()));
   }
 
   @Test
-  void whenNotAuthorizedToReadHealth_verifySecretCleared() {
+  void whenNotAuthorizedToReadHealth_verifyCredentialsEvicted() {
     selectServer(MANAGED_SERVER1);
 
     defineResponse(403, "", "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
 
     testSupport.runSteps(readHealthStep);
 
-    assertThat(info.getWebLogicCredentialsSecret(), is(nullValue()));
+    assertThat(getCachedCredentials(), is(nullValue()));
+  }
+
+  @Test
+  void whenReadHealthFromAdminServer_recordHealthOfAllReportedServers() {
+    defineReadyAdminServer();
+    defineDomainResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerHealthMap(packet).get(ADMIN_NAME).getOverallHealth(), equalTo("ok"));
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("warn"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+  }
+
+  private void defineReadyAdminServer() {
+    TuningParametersStub.setParameter(READ_HEALTH_FROM_ADMIN_SERVER, "true");
+    info.setAdminServerName(ADMIN_NAME);
+    info.setServerService(ADMIN_NAME, createService(ADMIN_NAME));
+    info.setServerPod(ADMIN_NAME, new V1Pod().metadata(new V1ObjectMeta().name(ADMIN_NAME))
+        .status(new V1PodStatus().phase("Running")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))));
+  }
+
+  private void defineDomainResponse(int status, String body) {
+    httpSupport.defineResponse(
+        HttpRequest.newBuilder()
+            .uri(URI.create("http://" + ADMIN_NAME + ".Test.svc:3456/management/weblogic/latest/domainRuntime/search"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(),
+        createStub(HttpResponseStub.class, status, body));
+  }
+
+  @Test
+  void whenReadHealthFromAdminServer_decrementRemainingServersForEachReported() {
+    defineServersToRead(ADMIN_NAME, MANAGED_SERVER1, "managed-server2");
+    defineReadyAdminServer();
+    defineDomainResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getRemainingServersToRead(packet), equalTo(1));
+  }
+
+  @Test
+  void whenReadHealthFromAdminServer_doNotDecrementRemainingServersForServerNotCounted() {
+    defineServersToRead(MANAGED_SERVER1, "managed-server2");
+    defineReadyAdminServer();
+    defineDomainResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getRemainingServersToRead(packet), equalTo(1));
+  }
+
+  private void defineServersToRead(String... serverNames) {
+    testSupport.addToPacket(REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(serverNames.length));
+    testSupport.addToPacket(SERVERS_HEALTH_TO_READ, new HashSet<>(Arrays.asList(serverNames)));
+  }
+
+  @Test
+  void whenReadHealthFromAdminServer_sendSingleRequestWithCredentials() {
+    defineReadyAdminServer();
+    defineDomainResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(httpSupport.getLastRequest().uri().getPath(),
+        equalTo("/management/weblogic/latest/domainRuntime/search"));
+    assertThat(hasAuthenticationCredentials(httpSupport.getLastRequest()), is(true));
+  }
+
+  @Test
+  void whenReadHealthFromAdminServerNotEnabled_dontSendRequest() {
+    defineReadyAdminServer();
+    TuningParametersStub.setParameter(READ_HEALTH_FROM_ADMIN_SERVER, "false");
+    defineDomainResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(httpSupport.getHandledRequests(), empty());
+    assertThat(getServerHealthMap(packet).isEmpty(), is(true));
+  }
+
+  @Test
+  void whenAdminServerNotReady_dontReadHealthFromIt() {
+    defineReadyAdminServer();
+    info.setServerPod(ADMIN_NAME, new V1Pod().metadata(new V1ObjectMeta().name(ADMIN_NAME)));
+    defineDomainResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(httpSupport.getHandledRequests(), empty());
+  }
+
+  @Test
+  void whenReadHealthFromAdminServerFails_recordNoHealth() {
+    defineReadyAdminServer();
+    defineDomainResponse(500, "");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerHealthMap(packet).isEmpty(), is(true));
+    assertThat(getRemainingServersToRead(packet), equalTo(1));
   }
 
   private void defineExpectedURLInResponse(String protocol, int port) {
@@ -6,8 +6,9 @@ package oracle.kubernetes.operator.steps;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -23,6 +24,7 @@ import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.ConditionWaiters;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerShutdownInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -47,6 +49,7 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.tuning.TuningParameters.RESOURCE_WAIT_TIMEOUT_SECONDS;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
@@ -95,7 +98,7 @@ class ServerDownIteratorStepTest {
   private final V1Pod managedPod3 = defineManagedPod(MS3);
   private final V1Pod managedPod4 = defineManagedPod(MS4);
 
-  private final Collection<String> deletedPodNames = new HashSet<>();
+  private final Collection<String> deletedPodNames = ConcurrentHashMap.newKeySet();
 
   private static WlsDomainConfig createDomainConfig() {
     WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER);
@@ -238,6 +241,39 @@ class ServerDownIteratorStepTest {
     assertThat(serverPodsDeleted(), containsInAnyOrder(UID_MS1, UID_MS2));
   }
 
+  @Test
+  void whenWaitingForPodsToBeDeleted_clusteredServersShutdownConcurrently() throws Exception {
+    TuningParametersStub.setParameter(RESOURCE_WAIT_TIMEOUT_SECONDS, "10");
+    domainPresenceInfo = createDomainPresenceInfoWithServers(MS1, MS2);
+    configureCluster(CLUSTER).withMaxConcurrentShutdown(2).withReplicas(1);
+    addWlsCluster(CLUSTER, PORT, MS1, MS2);
+    testSupport.addDomainPresenceInfo(domainPresenceInfo);
+    createShutdownInfos()
+            .forClusteredServers(CLUSTER, MS1, MS2);
+
+    Thread shutdownThread = Thread.ofVirtual().start(this::shutdown);
+    waitForPodDeletions(2);
+    Collection<String> deletedBeforeAnyWaitEnded = List.copyOf(serverPodsDeleted());
+    reportPodsDeleted(MS1, MS2);
+    shutdownThread.join(TimeUnit.SECONDS.toMillis(20));
+
+    assertThat(deletedBeforeAnyWaitEnded, containsInAnyOrder(UID_MS1, UID_MS2));
+  }
+
+  private void waitForPodDeletions(int count) throws InterruptedException {
+    for (int i = 0; i < 300 && serverPodsDeleted().size() < count; i++) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+  }
+
+  private void reportPodsDeleted(String... serverNames) {
+    for (String serverName : serverNames) {
+      V1Pod pod = domainPresenceInfo.getServerPod(serverName);
+      domainPresenceInfo.setServerPod(serverName, null);
+      Optional.ofNullable(pod).ifPresent(p -> ConditionWaiters.PODS.notifyWaiters("DELETED", p));
+    }
+  }
+
   @Test
   void withConcurrencyOf0_clusteredServersShutdownConcurrently() {
     domainPresenceInfo = createDomainPresenceInfoWithServers(MS1, MS2);
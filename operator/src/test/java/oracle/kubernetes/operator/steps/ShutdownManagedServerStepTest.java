@@ -26,6 +26,7 @@ import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ShutdownType;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
+import oracle.kubernetes.operator.helpers.CredentialsCache;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
@@ -56,6 +57,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.SERVER_SHUTDOWN_REST_
 import static oracle.kubernetes.common.logging.MessageKeys.SERVER_SHUTDOWN_REST_THROWABLE;
 import static oracle.kubernetes.common.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
@@ -218,18 +220,18 @@ class ShutdownManagedServerStepTest {
   }
 
   @Test
-  void whenAuthorizedToInvokeShutdown_verifySecretSet() {
+  void whenAuthorizedToInvokeShutdown_verifyCredentialsCached() {
     selectServer(CONFIGURED_MANAGED_SERVER1, configuredServerService);
 
     defineResponse(200, "http://test-domain-conf-managed-server1.namespace.svc:7001");
 
     // Validate not set before running steps
-    assertThat(info.getWebLogicCredentialsSecret(), is(nullValue()));
+    assertThat(CredentialsCache.getInstance().get(NS, SECRET_NAME), is(nullValue()));
 
     testSupport.runSteps(shutdownConfiguredManagedServer);
 
     // Validate is set after running steps
-    assertThat(info.getWebLogicCredentialsSecret(), is(notNullValue()));
+    assertThat(CredentialsCache.getInstance().get(NS, SECRET_NAME), is(notNullValue()));
     assertThat(logRecords, containsFine(SERVER_SHUTDOWN_REST_SUCCESS));
   }
 
@@ -0,0 +1,101 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.Base64;
+import javax.net.ssl.KeyManager;
+
+import io.kubernetes.client.util.SSLUtils;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.EC;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.RSA;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.createKeyPair;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.generateCertificate;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.getSignatureAlgorithm;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.isNearExpiry;
+import static oracle.kubernetes.operator.utils.SelfSignedCertUtils.toPemObject;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+class SelfSignedCertUtilsTest {
+
+  private static final String COMMON_NAME = "weblogic-operator";
+
+  @Test
+  void whenEcAlgorithmSelected_createEcKeyPair() throws Exception {
+    KeyPair keyPair = createKeyPair(EC);
+
+    assertThat(keyPair.getPrivate(), instanceOf(ECPrivateKey.class));
+    assertThat(getSignatureAlgorithm(keyPair), equalTo("SHA256withECDSA"));
+  }
+
+  @Test
+  void whenRsaAlgorithmSelected_createRsaKeyPair() throws Exception {
+    KeyPair keyPair = createKeyPair(RSA);
+
+    assertThat(keyPair.getPrivate(), instanceOf(RSAPrivateKey.class));
+    assertThat(getSignatureAlgorithm(keyPair), equalTo("SHA256withRSA"));
+  }
+
+  @Test
+  void ecIdentity_canBeLoadedAsServerKeyManager() throws Exception {
+    KeyPair keyPair = createKeyPair(EC);
+    X509Certificate cert = createCertificate(keyPair, 3650);
+
+    KeyManager[] keyManagers = SSLUtils.keyManagers(
+        toPem(cert).getBytes(StandardCharsets.UTF_8),
+        toPem(toPemObject(keyPair.getPrivate())).getBytes(StandardCharsets.UTF_8),
+        "", "", null, null);
+
+    assertThat(keyManagers, arrayWithSize(1));
+  }
+
+  @Test
+  void whenCertificateExpiresWithinRenewalPeriod_reportNearExpiry() throws Exception {
+    X509Certificate cert = createCertificate(createKeyPair(EC), 10);
+
+    assertThat(isNearExpiry(toEncodedPem(cert)), is(true));
+  }
+
+  @Test
+  void whenCertificateExpiresAfterRenewalPeriod_doNotReportNearExpiry() throws Exception {
+    X509Certificate cert = createCertificate(createKeyPair(EC), 3650);
+
+    assertThat(isNearExpiry(toEncodedPem(cert)), is(false));
+  }
+
+  @Test
+  void whenCertificateCannotBeParsed_doNotReportNearExpiry() {
+    assertThat(isNearExpiry("xyz"), is(false));
+  }
+
+  private X509Certificate createCertificate(KeyPair keyPair, int validityDays) throws Exception {
+    return generateCertificate("internalOperatorCert", keyPair, getSignatureAlgorithm(keyPair), COMMON_NAME,
+        validityDays);
+  }
+
+  private static String toEncodedPem(X509Certificate cert) throws IOException {
+    return Base64.getEncoder().encodeToString(toPem(cert).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String toPem(Object object) throws IOException {
+    StringWriter writer = new StringWriter();
+    try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+      pemWriter.writeObject(object);
+    }
+    return writer.toString();
+  }
+}
@@ -0,0 +1,122 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DynamicServerConfigListTest {
+
+  private static final int LARGE_CLUSTER_SIZE = 10_000;
+  private final WlsServerConfig template = new WlsServerConfig("template1", "host-${id}", null, 7001, 7002, null, null);
+
+  private DynamicServerConfigList createList(int size) {
+    return new DynamicServerConfigList("ms", size, template, "cluster1", "domain1", true);
+  }
+
+  @Test
+  void listContainsServersInIndexOrder() {
+    assertThat(createList(3).stream().map(WlsServerConfig::getName).toList(), contains("ms1", "ms2", "ms3"));
+  }
+
+  @Test
+  void derivedServerMatchesEagerlyCreatedServer() {
+    assertThat(createList(LARGE_CLUSTER_SIZE).get(4_999),
+        equalTo(WlsDynamicServerConfig.create("ms5000", 5000, "cluster1", "domain1", true, template)));
+  }
+
+  @Test
+  void whenServerRequestedTwice_returnSameInstance() {
+    DynamicServerConfigList list = createList(LARGE_CLUSTER_SIZE);
+
+    assertThat(list.get(17), sameInstance(list.get(17)));
+  }
+
+  @Test
+  void whenServerEvictedFromCache_deriveItAgain() {
+    DynamicServerConfigList list = createList(LARGE_CLUSTER_SIZE);
+    WlsServerConfig first = list.get(0);
+
+    list.get(DynamicServerConfigList.maxCachedConfigs);
+
+    assertThat(list.get(0), not(sameInstance(first)));
+    assertThat(list.get(0), equalTo(first));
+  }
+
+  @Test
+  void lookupServerByName() {
+    assertThat(createList(LARGE_CLUSTER_SIZE).getServerConfig("ms9876").getListenPort(), equalTo(7001 + 9876));
+  }
+
+  @Test
+  void whenNameOutsideCluster_lookupReturnsNull() {
+    DynamicServerConfigList list = createList(LARGE_CLUSTER_SIZE);
+
+    assertThat(list.getServerConfig("ms0"), nullValue());
+    assertThat(list.getServerConfig("ms10001"), nullValue());
+    assertThat(list.getServerConfig("ms01"), nullValue());
+    assertThat(list.getServerConfig("ms1a"), nullValue());
+    assertThat(list.getServerConfig("other1"), nullValue());
+  }
+
+  @Test
+  void listIsImmutable() {
+    DynamicServerConfigList list = createList(2);
+
+    assertThrows(UnsupportedOperationException.class, () -> list.add(template));
+  }
+
+  @Test
+  void listEqualsEagerlyCreatedList() {
+    List<WlsServerConfig> eager = WlsDynamicServersConfig.createServerConfigsFromTemplate(
+        List.of("ms1", "ms2", "ms3"), template, "cluster1", "domain1", true);
+
+    assertThat(createList(3), equalTo(eager));
+  }
+
+  @Test
+  void whenDynamicServersRegeneratedWithSameValues_keepExistingList() {
+    WlsDynamicServersConfig config = new WlsDynamicServersConfig(
+        LARGE_CLUSTER_SIZE, LARGE_CLUSTER_SIZE, 0, "ms", true, null, template, null);
+    config.generateDynamicServerConfigs(template, "cluster1", "domain1");
+    List<WlsServerConfig> servers = config.getServerConfigs();
+
+    config.generateDynamicServerConfigs(template, "cluster1", "domain1");
+
+    assertThat(config.getServerConfigs(), sameInstance(servers));
+  }
+
+  @Test
+  void whenClusterSizeChanges_regenerateList() {
+    WlsDynamicServersConfig config = new WlsDynamicServersConfig(
+        2, LARGE_CLUSTER_SIZE, 0, "ms", true, null, template, null);
+    config.generateDynamicServerConfigs(template, "cluster1", "domain1");
+
+    config.setDynamicClusterSize(3);
+    config.generateDynamicServerConfigs(template, "cluster1", "domain1");
+
+    assertThat(config.getServerConfigs().size(), is(3));
+  }
+
+  @Test
+  void clusterLooksUpDynamicServerWithoutListingServers() {
+    WlsDynamicServersConfig config = new WlsDynamicServersConfig(
+        LARGE_CLUSTER_SIZE, LARGE_CLUSTER_SIZE, 0, "ms", true, null, template, null);
+    config.generateDynamicServerConfigs(template, "cluster1", "domain1");
+    WlsClusterConfig cluster = new WlsClusterConfig("cluster1", config);
+
+    assertThat(cluster.containsServer("ms10000"), is(true));
+    assertThat(cluster.containsServer("ms10001"), is(false));
+  }
+}
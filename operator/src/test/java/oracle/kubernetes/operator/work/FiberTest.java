@@ -5,12 +5,16 @@ package oracle.kubernetes.operator.work;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -23,8 +27,12 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.common.logging.MessageKeys.DUMP_BREADCRUMBS;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class FiberTest {
@@ -37,6 +45,9 @@ class FiberTest {
 
   private final List<Step> stepList = new ArrayList<>();
   private final List<Throwable> throwableList = new ArrayList<>();
+  private final List<Step> completedChildren = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger maxRunning = new AtomicInteger();
 
   private final Step step1 = new BasicStep(1);
   private final Step step2 = new BasicStep(2);
@@ -107,6 +118,69 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenChildStepsRunConcurrently_runAllStepsBeforeSynchronizationStep() {
+    runSteps(new ConcurrentForkStep(step3, 4, 2));
+
+    assertThat(completedChildren, hasSize(4));
+    assertThat(stepList, contains(step3));
+  }
+
+  @Test
+  void whenChildStepsRunConcurrently_runNoMoreThanMaximumAtOnce() {
+    runSteps(new ConcurrentForkStep(step3, 4, 2));
+
+    assertThat(maxRunning.get(), equalTo(2));
+  }
+
+  @Test
+  void whenConcurrentChildStepThrowsException_captureThrowable() {
+    runSteps(new ConcurrentForkStep(step3, 2, 2, error));
+
+    assertThat(throwableList, contains(instanceOf(RuntimeException.class)));
+  }
+
+  @Test
+  void whenConcurrentChildStepThrowsException_dontRunSynchronizationStep() {
+    runSteps(new ConcurrentForkStep(step3, 2, 2, error));
+
+    assertThat(stepList, not(hasItem(step3)));
+  }
+
+  @Test
+  void whenFiberCancelled_runCancelActions() {
+    Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(), step1, packet);
+    AtomicInteger numRun = new AtomicInteger();
+    fiber.whenCancelled(numRun::incrementAndGet);
+
+    fiber.cancel();
+    fiber.cancel();
+
+    assertThat(numRun.get(), equalTo(1));
+  }
+
+  @Test
+  void whenFiberAlreadyCancelled_runCancelActionAtOnce() {
+    Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(), step1, packet);
+    AtomicInteger numRun = new AtomicInteger();
+    fiber.cancel();
+
+    fiber.whenCancelled(numRun::incrementAndGet);
+
+    assertThat(numRun.get(), equalTo(1));
+  }
+
+  @Test
+  void whenCancelActionWithdrawn_dontRunIt() {
+    Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(), step1, packet);
+    AtomicInteger numRun = new AtomicInteger();
+    fiber.whenCancelled(numRun::incrementAndGet).cancel();
+
+    fiber.cancel();
+
+    assertThat(numRun.get(), equalTo(0));
+  }
+
   static class BasicStep extends Step {
 
     private final Integer stepNum;
@@ -178,6 +252,60 @@ class FiberTest {
     }
   }
 
+  // Runs the specified number of child steps, allowing the specified number at a time, followed by any extra steps.
+  class ConcurrentForkStep extends Step {
+    private final int numChildren;
+    private final int maxConcurrency;
+    private final Step[] extraSteps;
+    private final CountDownLatch allowedConcurrently;
+
+    ConcurrentForkStep(Step next, int numChildren, int maxConcurrency, Step... extraSteps) {
+      super(next);
+      this.numChildren = numChildren;
+      this.maxConcurrency = maxConcurrency;
+      this.extraSteps = extraSteps;
+      this.allowedConcurrently = new CountDownLatch(maxConcurrency);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      List<Fiber.StepAndPacket> children = new ArrayList<>();
+      IntStream.range(0, numChildren).forEach(i -> children.add(createChild(packet)));
+      Arrays.stream(extraSteps).forEach(s -> children.add(new Fiber.StepAndPacket(s, packet.copy())));
+      return doForkJoin(getNext(), packet, children, maxConcurrency);
+    }
+
+    private Fiber.StepAndPacket createChild(Packet packet) {
+      return new Fiber.StepAndPacket(new ConcurrentChildStep(allowedConcurrently), packet.copy());
+    }
+  }
+
+  // Waits until the maximum number of steps are running at once before completing, and records that.
+  class ConcurrentChildStep extends Step {
+    private final CountDownLatch allowedConcurrently;
+
+    ConcurrentChildStep(CountDownLatch allowedConcurrently) {
+      this.allowedConcurrently = allowedConcurrently;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        allowedConcurrently.countDown();
+        if (!allowedConcurrently.await(5, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Child steps did not run concurrently");
+        }
+      } catch (InterruptedException e) {
+        return doTerminate(e, packet);
+      } finally {
+        running.decrementAndGet();
+      }
+      completedChildren.add(this);
+      return doNext(packet);
+    }
+  }
+
   class CompletionCallbackImpl implements Fiber.CompletionCallback {
     boolean completed;
 
@@ -0,0 +1,166 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VirtualScheduledExecutorServiceTest {
+
+  private final VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void scheduledCallable_returnsResultAfterDelay() throws Exception {
+    final long start = System.nanoTime();
+    ScheduledFuture<String> future = executor.schedule(() -> "done", 50, MILLISECONDS);
+
+    assertThat(future.get(5, SECONDS), equalTo("done"));
+    assertThat(System.nanoTime() - start, greaterThanOrEqualTo(MILLISECONDS.toNanos(50)));
+    assertThat(future.isDone(), is(true));
+  }
+
+  @Test
+  void whenScheduledTaskFails_reportFailure() {
+    ScheduledFuture<?> future = executor.schedule(() -> {
+      throw new IllegalStateException("failed");
+    }, 0, MILLISECONDS);
+
+    assertThrows(ExecutionException.class, () -> future.get(5, SECONDS));
+  }
+
+  @Test
+  void tasksRunInOrderOfTriggerTime() throws Exception {
+    final StringBuffer order = new StringBuffer();
+    final CountDownLatch done = new CountDownLatch(3);
+    executor.schedule(() -> append(order, "c", done), 60, MILLISECONDS);
+    executor.schedule(() -> append(order, "a", done), 20, MILLISECONDS);
+    executor.schedule(() -> append(order, "b", done), 40, MILLISECONDS);
+
+    assertThat(done.await(5, SECONDS), is(true));
+    assertThat(order.toString(), equalTo("abc"));
+  }
+
+  private void append(StringBuffer order, String value, CountDownLatch done) {
+    order.append(value);
+    done.countDown();
+  }
+
+  @Test
+  void whenTaskCancelled_dontRunIt() throws Exception {
+    final AtomicInteger runs = new AtomicInteger();
+    ScheduledFuture<?> cancelled = executor.schedule(runs::incrementAndGet, 20, MILLISECONDS);
+    ScheduledFuture<?> later = executor.schedule(() -> { }, 60, MILLISECONDS);
+
+    assertThat(cancelled.cancel(false), is(true));
+    later.get(5, SECONDS);
+
+    assertThat(runs.get(), equalTo(0));
+    assertThat(cancelled.isCancelled(), is(true));
+    assertThrows(CancellationException.class, cancelled::get);
+  }
+
+  @Test
+  void whenMostPendingTasksCancelled_purgeThem() {
+    ScheduledFuture<?>[] futures = new ScheduledFuture<?>[2000];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] = executor.schedule(() -> { }, 1, SECONDS);
+    }
+
+    for (ScheduledFuture<?> future : futures) {
+      future.cancel(false);
+    }
+
+    assertThat(executor.getPendingTaskCount(), lessThan(futures.length));
+  }
+
+  @Test
+  void whenRunningTasksCancelled_dontCountThemTowardPurge() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1000);
+    final CountDownLatch release = new CountDownLatch(1);
+    ScheduledFuture<?>[] running = new ScheduledFuture<?>[1000];
+    for (int i = 0; i < running.length; i++) {
+      running[i] = executor.schedule(() -> awaitRelease(started, release), 0, MILLISECONDS);
+    }
+    assertThat(started.await(5, SECONDS), is(true));
+    for (ScheduledFuture<?> future : running) {
+      future.cancel(false);
+    }
+
+    ScheduledFuture<?>[] pending = new ScheduledFuture<?>[1100];
+    for (int i = 0; i < pending.length; i++) {
+      pending[i] = executor.schedule(() -> { }, 1, SECONDS);
+    }
+    for (int i = 0; i < 600; i++) {
+      pending[i].cancel(false);
+    }
+    release.countDown();
+
+    assertThat(executor.getPendingTaskCount(), equalTo(pending.length));
+  }
+
+  private Object awaitRelease(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+    started.countDown();
+    return release.await(5, SECONDS);
+  }
+
+  @Test
+  void taskWithFixedDelay_runsRepeatedlyUntilCancelled() throws Exception {
+    final CountDownLatch runs = new CountDownLatch(3);
+    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(runs::countDown, 0, 10, MILLISECONDS);
+
+    assertThat(runs.await(5, SECONDS), is(true));
+    future.cancel(false);
+    assertThat(future.isCancelled(), is(true));
+  }
+
+  @Test
+  void whenPeriodicTaskFails_continueRunningIt() throws Exception {
+    final CountDownLatch runs = new CountDownLatch(3);
+    executor.scheduleAtFixedRate(() -> {
+      runs.countDown();
+      throw new IllegalStateException("failed");
+    }, 0, 10, MILLISECONDS);
+
+    assertThat(runs.await(5, SECONDS), is(true));
+  }
+
+  @Test
+  void whenWaitingForPendingTask_timeOut() {
+    ScheduledFuture<?> future = executor.schedule(() -> { }, 1, SECONDS);
+
+    assertThrows(TimeoutException.class, () -> future.get(10, MILLISECONDS));
+  }
+
+  @Test
+  void afterShutdown_cancelPendingTasksAndRejectNewOnes() {
+    ScheduledFuture<?> future = executor.schedule(() -> { }, 1, SECONDS);
+
+    executor.shutdown();
+
+    assertThat(future.isCancelled(), is(true));
+    assertThrows(RejectedExecutionException.class, () -> executor.schedule(() -> { }, 1, SECONDS));
+  }
+}